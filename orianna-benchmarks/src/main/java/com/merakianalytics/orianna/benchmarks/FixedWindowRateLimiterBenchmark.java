@@ -0,0 +1,60 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.orianna.datapipeline.common.rates.FixedWindowRateLimiter;
+
+/**
+ * Measures the bookkeeping cost of acquiring and releasing a permit. The window is a day long and has more permits than a measurement iteration can use, so
+ * threads only ever contend on the limiter's locks and never actually wait for a window to reset.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedWindowRateLimiterBenchmark {
+    private FixedWindowRateLimiter limiter;
+
+    @Benchmark
+    @Threads(8)
+    public void acquireReleaseContended() throws InterruptedException {
+        limiter.acquire();
+        limiter.release();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void acquireReleaseUncontended() throws InterruptedException {
+        limiter.acquire();
+        limiter.release();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void callContended() throws InterruptedException {
+        limiter.call(new Runnable() {
+            @Override
+            public void run() {}
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        limiter = new FixedWindowRateLimiter(Integer.MAX_VALUE, 1, TimeUnit.DAYS);
+    }
+}
@@ -0,0 +1,131 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.io.ByteStreams;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.dto.DataObject;
+
+/**
+ * Recorded Riot API payloads used by the benchmarks. The JSON files are the raw response bodies, exactly as the API sends them. Static data payloads are
+ * additionally stamped with the platform/version/locale/includedData values that the RiotAPI static data source would have set before handing them to the
+ * rest of the pipeline.
+ */
+public abstract class Fixtures {
+    public static final String CHAMPION_MASTERIES = "champion-masteries.json";
+    public static final String CHAMPION_STATUSES = "champion-statuses.json";
+    public static final String CHAMPIONS = "champions.json";
+    public static final String CURRENT_GAME = "current-game.json";
+    public static final String FEATURED_GAMES = "featured-games.json";
+    public static final Set<String> INCLUDED_DATA = Collections.emptySet();
+    public static final String ITEMS = "items.json";
+    public static final String LANGUAGE_STRINGS = "language-strings.json";
+    public static final String LANGUAGES = "languages.json";
+    public static final String LEAGUE = "league.json";
+    public static final String LOCALE = "en_US";
+    public static final String MAPS = "maps.json";
+    public static final String MASTERIES = "masteries.json";
+    public static final String MATCH = "match.json";
+    public static final String MATCHLIST = "matchlist.json";
+    public static final String PATCHES = "patches.json";
+    public static final Platform PLATFORM = Platform.NORTH_AMERICA;
+    public static final String POSITIONS = "positions.json";
+    public static final String PROFILE_ICONS = "profile-icons.json";
+    public static final String REALM = "realm.json";
+    public static final String REFORGED_RUNES = "reforged-runes.json";
+    public static final String RUNES = "runes.json";
+    public static final String SHARD_DATA = "shard-data.json";
+    public static final String SUMMONER = "summoner.json";
+    public static final String SUMMONER_SPELLS = "summoner-spells.json";
+    public static final String TIMELINE = "timeline.json";
+    public static final String TOURNAMENT_MATCHES = "tournament-matches.json";
+    public static final String VERSION = "8.15.1";
+    public static final String VERSIONS = "versions.json";
+
+    private static void invokeIfUnset(final Object object, final String property, final Class<?> type, final Object value) {
+        try {
+            final Method getter = object.getClass().getMethod("get" + property);
+            final Method setter = object.getClass().getMethod("set" + property, type);
+            if(getter.invoke(object) == null) {
+                setter.invoke(object, value);
+            }
+        } catch(final NoSuchMethodException e) {
+            // Nothing to stamp
+        } catch(final ReflectiveOperationException e) {
+            throw new OriannaException("Failed to stamp " + property + " on " + object.getClass().getCanonicalName() + "!", e);
+        }
+    }
+
+    public static byte[] bytes(final String name) {
+        try(InputStream input = Fixtures.class.getResourceAsStream("fixtures/" + name)) {
+            if(input == null) {
+                throw new OriannaException("No fixture named " + name + "!");
+            }
+            return ByteStreams.toByteArray(input);
+        } catch(final IOException e) {
+            throw new OriannaException("Failed to read fixture " + name + "!", e);
+        }
+    }
+
+    public static String json(final String name) {
+        return new String(bytes(name), StandardCharsets.UTF_8);
+    }
+
+    public static <T extends DataObject> T load(final Class<T> type, final String name) {
+        final T object = DataObject.fromJSON(type, json(name));
+        stamp(object, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+        return object;
+    }
+
+    private static void stamp(final Object object, final Set<Object> visited) {
+        if(object == null || !visited.add(object)) {
+            return;
+        }
+
+        if(object instanceof Collection) {
+            for(final Object element : (Collection<?>)object) {
+                stamp(element, visited);
+            }
+        } else if(object instanceof Map) {
+            for(final Object value : ((Map<?, ?>)object).values()) {
+                stamp(value, visited);
+            }
+        }
+
+        if(!(object instanceof DataObject)) {
+            return;
+        }
+
+        if(object.getClass().getPackage().getName().endsWith(".staticdata")) {
+            invokeIfUnset(object, "Platform", String.class, PLATFORM.getTag());
+            invokeIfUnset(object, "Version", String.class, VERSION);
+            invokeIfUnset(object, "Locale", String.class, LOCALE);
+            invokeIfUnset(object, "IncludedData", Set.class, INCLUDED_DATA);
+        }
+
+        for(Class<?> clazz = object.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for(final Field field : clazz.getDeclaredFields()) {
+                if(Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    stamp(field.get(object), visited);
+                } catch(final IllegalAccessException e) {
+                    throw new OriannaException("Failed to walk " + field + "!", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
+import com.merakianalytics.orianna.datapipeline.InMemoryCache;
+import com.merakianalytics.orianna.types.core.match.Match;
+import com.merakianalytics.orianna.types.core.staticdata.Champion;
+import com.merakianalytics.orianna.types.data.staticdata.Champions;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryCacheBenchmark {
+    private InMemoryCache cache;
+    private Champion champion;
+    private Map<String, Object> championQuery;
+    private List<Champion> champions;
+    private Map<String, Object> championsQuery;
+    private Match match;
+    private Map<String, Object> matchQuery;
+
+    @Benchmark
+    public Champion getChampion() {
+        return cache.getChampion(championQuery, null);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Champion getChampionContended() {
+        return cache.getChampion(championQuery, null);
+    }
+
+    @Benchmark
+    public void getManyChampion(final Blackhole blackhole) {
+        try(CloseableIterator<Champion> iterator = cache.getManyChampion(championsQuery, null)) {
+            while(iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public Match getMatch() {
+        return cache.getMatch(matchQuery, null);
+    }
+
+    @Benchmark
+    public void putChampion() {
+        cache.putChampion(champion, null);
+    }
+
+    @Benchmark
+    public void putMatch() {
+        cache.putMatch(match, null);
+    }
+
+    @Setup
+    public void setup() {
+        final TransformerSamples samples = new TransformerSamples();
+        final Champions data = samples.transform(Fixtures.load(ChampionList.class, Fixtures.CHAMPIONS), Champions.class);
+        champions = new ArrayList<>(data.size());
+        final List<Integer> ids = new ArrayList<>(data.size());
+        for(final com.merakianalytics.orianna.types.data.staticdata.Champion item : data) {
+            final Champion.ChampionData coreData = new Champion.ChampionData();
+            coreData.setChampion(item);
+            champions.add(new Champion(coreData));
+            ids.add(item.getId());
+        }
+        champion = champions.get(0);
+        match = new Match(samples.transform(Fixtures.load(com.merakianalytics.orianna.types.dto.match.Match.class, Fixtures.MATCH),
+            com.merakianalytics.orianna.types.data.match.Match.class));
+
+        cache = new InMemoryCache();
+        for(final Champion item : champions) {
+            cache.putChampion(item, null);
+        }
+        cache.putMatch(match, null);
+
+        championQuery = ImmutableMap.<String, Object> builder().put("platform", Fixtures.PLATFORM).put("version", Fixtures.VERSION)
+            .put("locale", Fixtures.LOCALE).put("includedData", Fixtures.INCLUDED_DATA).put("id", champion.getId()).build();
+        championsQuery = ImmutableMap.<String, Object> builder().put("platform", Fixtures.PLATFORM).put("version", Fixtures.VERSION)
+            .put("locale", Fixtures.LOCALE).put("includedData", Fixtures.INCLUDED_DATA).put("ids", ids).build();
+        matchQuery = ImmutableMap.<String, Object> of("platform", Fixtures.PLATFORM, "matchId", match.getId());
+    }
+}
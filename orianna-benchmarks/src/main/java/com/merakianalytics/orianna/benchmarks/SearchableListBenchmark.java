@@ -0,0 +1,72 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.orianna.types.core.searchable.SearchableList;
+import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
+import com.merakianalytics.orianna.types.core.staticdata.Champion;
+import com.merakianalytics.orianna.types.data.staticdata.Champions;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+
+/**
+ * SearchableList.find scans the list and checks every {@link com.merakianalytics.orianna.types.core.searchable.Searchable} getter of each element, so the
+ * queries here all target the last champion in the list. Lookups by id aren't covered: Champion.getId is searchable by int.class, which a boxed query never
+ * matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchableListBenchmark {
+    private SearchableList<Champion> champions;
+    private String key;
+    private String name;
+
+    @Benchmark
+    public Champion findByKey() {
+        return champions.find(key);
+    }
+
+    @Benchmark
+    public Champion findByName() {
+        return champions.find(name);
+    }
+
+    @Benchmark
+    public Champion findMissing() {
+        return champions.find("NotAChampion");
+    }
+
+    @Setup
+    public void setup() {
+        final Champions data = new TransformerSamples().transform(Fixtures.load(ChampionList.class, Fixtures.CHAMPIONS), Champions.class);
+        final List<Champion> list = new ArrayList<>(data.size());
+        for(final com.merakianalytics.orianna.types.data.staticdata.Champion item : data) {
+            final Champion.ChampionData coreData = new Champion.ChampionData();
+            coreData.setChampion(item);
+            final Champion champion = new Champion(coreData);
+            champion.markAsGhostLoaded(Champion.CHAMPION_LOAD_GROUP);
+            list.add(champion);
+        }
+        champions = SearchableLists.unmodifiableFrom(list);
+
+        final com.merakianalytics.orianna.types.data.staticdata.Champion last = data.get(data.size() - 1);
+        key = last.getKey();
+        name = last.getName();
+    }
+}
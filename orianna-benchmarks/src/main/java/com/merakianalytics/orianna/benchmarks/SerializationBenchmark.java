@@ -0,0 +1,76 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.orianna.types.dto.DataObject;
+import com.merakianalytics.orianna.types.dto.match.Match;
+import com.merakianalytics.orianna.types.dto.match.MatchTimeline;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    public static enum Payload {
+        CHAMPION_LIST(ChampionList.class, Fixtures.CHAMPIONS),
+        MATCH(Match.class, Fixtures.MATCH),
+        TIMELINE(MatchTimeline.class, Fixtures.TIMELINE);
+
+        private final String fixture;
+        private final Class<? extends DataObject> type;
+
+        private Payload(final Class<? extends DataObject> type, final String fixture) {
+            this.type = type;
+            this.fixture = fixture;
+        }
+    }
+
+    private byte[] bytes;
+    private String json;
+    private DataObject object;
+
+    @Param
+    public Payload payload;
+
+    @Benchmark
+    public DataObject fromBytes() {
+        return DataObject.fromBytes(payload.type, bytes);
+    }
+
+    @Benchmark
+    public DataObject fromJSON() {
+        return DataObject.fromJSON(payload.type, json);
+    }
+
+    @Setup
+    public void setup() {
+        json = Fixtures.json(payload.fixture);
+        object = DataObject.fromJSON(payload.type, json);
+        bytes = object.toBytes();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return object.toBytes();
+    }
+
+    @Benchmark
+    public String toJSON() {
+        return object.toJSON();
+    }
+}
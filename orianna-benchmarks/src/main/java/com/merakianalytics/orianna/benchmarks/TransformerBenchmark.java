@@ -0,0 +1,163 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merakianalytics.datapipelines.PipelineContext;
+import com.merakianalytics.datapipelines.transformers.DataTransformer;
+
+/**
+ * Times every {@link com.merakianalytics.datapipelines.transformers.Transform} in MatchTransformer and StaticDataTransformer on inputs derived from the
+ * recorded payloads. See {@link TransformerSamples} for how the inputs are found.
+ *
+ * StaticDataTransformer:data.staticdata.ReforgedRunes-&gt;dto.staticdata.ReforgedRuneTree isn't listed because it currently recurses into itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransformerBenchmark {
+    private PipelineContext context;
+    private Object input;
+    private Method method;
+    private DataTransformer transformer;
+
+    @Param({
+        "MatchTransformer:data.match.Event->dto.match.MatchEvent",
+        "MatchTransformer:data.match.Frame->dto.match.MatchFrame",
+        "MatchTransformer:data.match.Match->dto.match.Match",
+        "MatchTransformer:data.match.MatchList->dto.match.Matchlist",
+        "MatchTransformer:data.match.MatchReference->dto.match.MatchReference",
+        "MatchTransformer:data.match.Participant->dto.match.Participant",
+        "MatchTransformer:data.match.Participant->dto.match.Player",
+        "MatchTransformer:data.match.ParticipantFrame->dto.match.MatchParticipantFrame",
+        "MatchTransformer:data.match.ParticipantStats->dto.match.ParticipantStats",
+        "MatchTransformer:data.match.ParticipantTimeline->dto.match.ParticipantTimeline",
+        "MatchTransformer:data.match.Position->dto.match.MatchPosition",
+        "MatchTransformer:data.match.Team->dto.match.TeamStats",
+        "MatchTransformer:data.match.Timeline->dto.match.MatchTimeline",
+        "MatchTransformer:data.match.TournamentMatches->dto.match.TournamentMatches",
+        "MatchTransformer:dto.match.Match->data.match.Match",
+        "MatchTransformer:dto.match.MatchEvent->data.match.Event",
+        "MatchTransformer:dto.match.MatchFrame->data.match.Frame",
+        "MatchTransformer:dto.match.MatchParticipantFrame->data.match.ParticipantFrame",
+        "MatchTransformer:dto.match.MatchPosition->data.match.Position",
+        "MatchTransformer:dto.match.MatchReference->data.match.MatchReference",
+        "MatchTransformer:dto.match.MatchTimeline->data.match.Timeline",
+        "MatchTransformer:dto.match.Matchlist->data.match.MatchList",
+        "MatchTransformer:dto.match.Participant->data.match.Participant",
+        "MatchTransformer:dto.match.ParticipantStats->data.match.ParticipantStats",
+        "MatchTransformer:dto.match.ParticipantTimeline->data.match.ParticipantTimeline",
+        "MatchTransformer:dto.match.Player->data.match.Participant",
+        "MatchTransformer:dto.match.TeamStats->data.match.Team",
+        "MatchTransformer:dto.match.TournamentMatches->data.match.TournamentMatches",
+        "StaticDataTransformer:data.staticdata.Champion->dto.staticdata.Champion",
+        "StaticDataTransformer:data.staticdata.ChampionSpell->dto.staticdata.ChampionSpell",
+        "StaticDataTransformer:data.staticdata.ChampionStats->dto.staticdata.Stats",
+        "StaticDataTransformer:data.staticdata.Champions->dto.staticdata.ChampionList",
+        "StaticDataTransformer:data.staticdata.Image->dto.staticdata.Image",
+        "StaticDataTransformer:data.staticdata.Item->dto.staticdata.Item",
+        "StaticDataTransformer:data.staticdata.ItemGroup->dto.staticdata.Group",
+        "StaticDataTransformer:data.staticdata.ItemSet->dto.staticdata.Block",
+        "StaticDataTransformer:data.staticdata.ItemStats->dto.staticdata.InventoryDataStats",
+        "StaticDataTransformer:data.staticdata.ItemTree->dto.staticdata.ItemTree",
+        "StaticDataTransformer:data.staticdata.Items->dto.staticdata.ItemList",
+        "StaticDataTransformer:data.staticdata.LanguageStrings->dto.staticdata.LanguageStrings",
+        "StaticDataTransformer:data.staticdata.Languages->dto.staticdata.Languages",
+        "StaticDataTransformer:data.staticdata.Map->dto.staticdata.MapDetails",
+        "StaticDataTransformer:data.staticdata.Maps->dto.staticdata.MapData",
+        "StaticDataTransformer:data.staticdata.Masteries->dto.staticdata.MasteryList",
+        "StaticDataTransformer:data.staticdata.Mastery->dto.staticdata.Mastery",
+        "StaticDataTransformer:data.staticdata.MasteryTree->dto.staticdata.MasteryTree",
+        "StaticDataTransformer:data.staticdata.MasteryTreeItem->dto.staticdata.MasteryTreeItem",
+        "StaticDataTransformer:data.staticdata.MasteryTreeTier->dto.staticdata.MasteryTreeList",
+        "StaticDataTransformer:data.staticdata.Passive->dto.staticdata.Passive",
+        "StaticDataTransformer:data.staticdata.Patch->dto.staticdata.Patch",
+        "StaticDataTransformer:data.staticdata.Patches->dto.staticdata.Patches",
+        "StaticDataTransformer:data.staticdata.ProfileIcon->dto.staticdata.ProfileIconDetails",
+        "StaticDataTransformer:data.staticdata.ProfileIcons->dto.staticdata.ProfileIconData",
+        "StaticDataTransformer:data.staticdata.Realm->dto.staticdata.Realm",
+        "StaticDataTransformer:data.staticdata.RecommendedItems->dto.staticdata.Recommended",
+        "StaticDataTransformer:data.staticdata.ReforgedRune->dto.staticdata.ReforgedRune",
+        "StaticDataTransformer:data.staticdata.ReforgedRunePath->dto.staticdata.ReforgedRunePath",
+        "StaticDataTransformer:data.staticdata.ReforgedRuneSlot->dto.staticdata.ReforgedRuneSlot",
+        "StaticDataTransformer:data.staticdata.ReforgedRuneTree->dto.staticdata.ReforgedRuneTree",
+        "StaticDataTransformer:data.staticdata.Rune->dto.staticdata.Rune",
+        "StaticDataTransformer:data.staticdata.RuneStats->dto.staticdata.RuneStats",
+        "StaticDataTransformer:data.staticdata.Runes->dto.staticdata.RuneList",
+        "StaticDataTransformer:data.staticdata.Skin->dto.staticdata.Skin",
+        "StaticDataTransformer:data.staticdata.SpellVariables->dto.staticdata.SpellVars",
+        "StaticDataTransformer:data.staticdata.SummonerSpell->dto.staticdata.SummonerSpell",
+        "StaticDataTransformer:data.staticdata.SummonerSpells->dto.staticdata.SummonerSpellList",
+        "StaticDataTransformer:data.staticdata.Versions->dto.staticdata.Versions",
+        "StaticDataTransformer:dto.staticdata.Block->data.staticdata.ItemSet",
+        "StaticDataTransformer:dto.staticdata.Champion->data.staticdata.Champion",
+        "StaticDataTransformer:dto.staticdata.ChampionList->data.staticdata.Champions",
+        "StaticDataTransformer:dto.staticdata.ChampionSpell->data.staticdata.ChampionSpell",
+        "StaticDataTransformer:dto.staticdata.Group->data.staticdata.ItemGroup",
+        "StaticDataTransformer:dto.staticdata.Image->data.staticdata.Image",
+        "StaticDataTransformer:dto.staticdata.InventoryDataStats->data.staticdata.ItemStats",
+        "StaticDataTransformer:dto.staticdata.Item->data.staticdata.Item",
+        "StaticDataTransformer:dto.staticdata.ItemList->data.staticdata.Items",
+        "StaticDataTransformer:dto.staticdata.ItemTree->data.staticdata.ItemTree",
+        "StaticDataTransformer:dto.staticdata.LanguageStrings->data.staticdata.LanguageStrings",
+        "StaticDataTransformer:dto.staticdata.Languages->data.staticdata.Languages",
+        "StaticDataTransformer:dto.staticdata.MapData->data.staticdata.Maps",
+        "StaticDataTransformer:dto.staticdata.MapDetails->data.staticdata.Map",
+        "StaticDataTransformer:dto.staticdata.Mastery->data.staticdata.Mastery",
+        "StaticDataTransformer:dto.staticdata.MasteryList->data.staticdata.Masteries",
+        "StaticDataTransformer:dto.staticdata.MasteryTree->data.staticdata.MasteryTree",
+        "StaticDataTransformer:dto.staticdata.MasteryTreeItem->data.staticdata.MasteryTreeItem",
+        "StaticDataTransformer:dto.staticdata.MasteryTreeList->data.staticdata.MasteryTreeTier",
+        "StaticDataTransformer:dto.staticdata.Passive->data.staticdata.Passive",
+        "StaticDataTransformer:dto.staticdata.Patch->data.staticdata.Patch",
+        "StaticDataTransformer:dto.staticdata.Patches->data.staticdata.Patches",
+        "StaticDataTransformer:dto.staticdata.ProfileIconData->data.staticdata.ProfileIcons",
+        "StaticDataTransformer:dto.staticdata.ProfileIconDetails->data.staticdata.ProfileIcon",
+        "StaticDataTransformer:dto.staticdata.Realm->data.staticdata.Realm",
+        "StaticDataTransformer:dto.staticdata.Recommended->data.staticdata.RecommendedItems",
+        "StaticDataTransformer:dto.staticdata.ReforgedRune->data.staticdata.ReforgedRune",
+        "StaticDataTransformer:dto.staticdata.ReforgedRunePath->data.staticdata.ReforgedRunePath",
+        "StaticDataTransformer:dto.staticdata.ReforgedRuneSlot->data.staticdata.ReforgedRuneSlot",
+        "StaticDataTransformer:dto.staticdata.ReforgedRuneTree->data.staticdata.ReforgedRuneTree",
+        "StaticDataTransformer:dto.staticdata.ReforgedRuneTree->data.staticdata.ReforgedRunes",
+        "StaticDataTransformer:dto.staticdata.Rune->data.staticdata.Rune",
+        "StaticDataTransformer:dto.staticdata.RuneList->data.staticdata.Runes",
+        "StaticDataTransformer:dto.staticdata.RuneStats->data.staticdata.RuneStats",
+        "StaticDataTransformer:dto.staticdata.Skin->data.staticdata.Skin",
+        "StaticDataTransformer:dto.staticdata.SpellVars->data.staticdata.SpellVariables",
+        "StaticDataTransformer:dto.staticdata.Stats->data.staticdata.ChampionStats",
+        "StaticDataTransformer:dto.staticdata.SummonerSpell->data.staticdata.SummonerSpell",
+        "StaticDataTransformer:dto.staticdata.SummonerSpellList->data.staticdata.SummonerSpells",
+        "StaticDataTransformer:dto.staticdata.Versions->data.staticdata.Versions"
+    })
+    public String transform;
+
+    @Setup
+    public void setup() {
+        final TransformerSamples samples = new TransformerSamples();
+        input = samples.getInput(transform);
+        context = samples.newContext(transform);
+        method = samples.getMethod(transform);
+        transformer = samples.getTransformer(transform);
+    }
+
+    @Benchmark
+    public Object apply() throws ReflectiveOperationException {
+        return method.invoke(transformer, input, context);
+    }
+}
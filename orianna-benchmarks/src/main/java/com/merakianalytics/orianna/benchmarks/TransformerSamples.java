@@ -0,0 +1,319 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.joda.time.Duration;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.datapipelines.DataPipeline;
+import com.merakianalytics.datapipelines.PipelineContext;
+import com.merakianalytics.datapipelines.PipelineElement;
+import com.merakianalytics.datapipelines.sources.AbstractDataSource;
+import com.merakianalytics.datapipelines.sources.Get;
+import com.merakianalytics.datapipelines.transformers.DataTransformer;
+import com.merakianalytics.datapipelines.transformers.Transform;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.MatchTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.StaticDataTransformer;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.data.match.Participant;
+import com.merakianalytics.orianna.types.data.staticdata.ReforgedRune;
+import com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes;
+import com.merakianalytics.orianna.types.dto.DataObject;
+import com.merakianalytics.orianna.types.dto.match.Match;
+import com.merakianalytics.orianna.types.dto.match.MatchTimeline;
+import com.merakianalytics.orianna.types.dto.match.Matchlist;
+import com.merakianalytics.orianna.types.dto.match.TournamentMatches;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+import com.merakianalytics.orianna.types.dto.staticdata.ItemList;
+import com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings;
+import com.merakianalytics.orianna.types.dto.staticdata.Languages;
+import com.merakianalytics.orianna.types.dto.staticdata.MapData;
+import com.merakianalytics.orianna.types.dto.staticdata.MasteryList;
+import com.merakianalytics.orianna.types.dto.staticdata.Patches;
+import com.merakianalytics.orianna.types.dto.staticdata.ProfileIconData;
+import com.merakianalytics.orianna.types.dto.staticdata.Realm;
+import com.merakianalytics.orianna.types.dto.staticdata.ReforgedRuneTree;
+import com.merakianalytics.orianna.types.dto.staticdata.RuneList;
+import com.merakianalytics.orianna.types.dto.staticdata.SummonerSpellList;
+import com.merakianalytics.orianna.types.dto.staticdata.Versions;
+
+/**
+ * Finds a realistic input for every {@link Transform} method of the benchmarked transformers.
+ *
+ * The recorded payloads are walked to collect one instance of every type they contain, then every transform that accepts one of the collected types is
+ * applied and its output is walked in turn, until no new types show up. This way the data-to-dto transforms get inputs which were produced by the dto-to-data
+ * transforms from real payloads, just like they would be in a running pipeline.
+ */
+public class TransformerSamples {
+    public static class ContextCapture extends AbstractDataSource {
+        private PipelineContext context;
+
+        @Get(ContextToken.class)
+        public ContextToken get(final Map<String, Object> query, final PipelineContext context) {
+            this.context = context;
+            return new ContextToken();
+        }
+    }
+
+    public static class ContextToken {}
+
+    private static final String DATA_PACKAGE = "com.merakianalytics.orianna.types.data.";
+    private static final String TYPES_PACKAGE = "com.merakianalytics.orianna.types.";
+
+    /**
+     * @param method
+     *        a {@link Transform} method
+     * @return an identifier for the transform which is stable across runs, e.g. MatchTransformer:dto.match.Match-&gt;data.match.Match
+     */
+    public static String id(final Method method) {
+        final Transform transform = method.getAnnotation(Transform.class);
+        return method.getDeclaringClass().getSimpleName() + ":" + shortName(transform.from()) + "->" + shortName(transform.to());
+    }
+
+    private static String shortName(final Class<?> clazz) {
+        final String name = clazz.getCanonicalName();
+        return name.startsWith(TYPES_PACKAGE) ? name.substring(TYPES_PACKAGE.length()) : name;
+    }
+
+    private final Map<String, Object> dataContext = new HashMap<>();
+    private final Map<String, Object> dtoContext = new HashMap<>();
+    private final Map<String, Throwable> failures = new HashMap<>();
+    private final Map<String, Method> methods = new LinkedHashMap<>();
+    private final Map<Class<?>, Object> samples = new HashMap<>();
+    private final Map<Class<?>, DataTransformer> transformers = new HashMap<>();
+
+    public TransformerSamples() {
+        for(final DataTransformer transformer : new DataTransformer[] {new MatchTransformer(), new StaticDataTransformer()}) {
+            transformers.put(transformer.getClass(), transformer);
+            final List<Method> declared = new ArrayList<>();
+            for(final Method method : transformer.getClass().getMethods()) {
+                if(method.isAnnotationPresent(Transform.class)) {
+                    declared.add(method);
+                }
+            }
+            Collections.sort(declared, new Comparator<Method>() {
+                @Override
+                public int compare(final Method one, final Method two) {
+                    return id(one).compareTo(id(two));
+                }
+            });
+            for(final Method method : declared) {
+                methods.put(id(method), method);
+            }
+        }
+
+        final Match match = Fixtures.load(Match.class, Fixtures.MATCH);
+        final ChampionList champions = Fixtures.load(ChampionList.class, Fixtures.CHAMPIONS);
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for(final DataObject payload : new DataObject[] {
+            match,
+            champions,
+            Fixtures.load(MatchTimeline.class, Fixtures.TIMELINE),
+            Fixtures.load(Matchlist.class, Fixtures.MATCHLIST),
+            Fixtures.load(TournamentMatches.class, Fixtures.TOURNAMENT_MATCHES),
+            Fixtures.load(ItemList.class, Fixtures.ITEMS),
+            Fixtures.load(SummonerSpellList.class, Fixtures.SUMMONER_SPELLS),
+            Fixtures.load(RuneList.class, Fixtures.RUNES),
+            Fixtures.load(MasteryList.class, Fixtures.MASTERIES),
+            Fixtures.load(ReforgedRuneTree.class, Fixtures.REFORGED_RUNES),
+            Fixtures.load(MapData.class, Fixtures.MAPS),
+            Fixtures.load(ProfileIconData.class, Fixtures.PROFILE_ICONS),
+            Fixtures.load(Realm.class, Fixtures.REALM),
+            Fixtures.load(Versions.class, Fixtures.VERSIONS),
+            Fixtures.load(Languages.class, Fixtures.LANGUAGES),
+            Fixtures.load(LanguageStrings.class, Fixtures.LANGUAGE_STRINGS),
+            Fixtures.load(Patches.class, Fixtures.PATCHES)
+        }) {
+            collect(payload, visited);
+        }
+
+        // Values which the enclosing transforms would have put into the context before delegating to the nested ones
+        for(final Map<String, Object> context : Arrays.asList(dtoContext, dataContext)) {
+            context.put("platform", Fixtures.PLATFORM.getTag());
+            context.put("version", Fixtures.VERSION);
+            context.put("locale", Fixtures.LOCALE);
+            context.put("participant", match.getParticipants().get(0));
+            context.put("player", match.getParticipantIdentities().get(0).getPlayer());
+            context.put("participantId", match.getParticipants().get(0).getParticipantId());
+            context.put("key", champions.getData().values().iterator().next().getKey());
+        }
+        dtoContext.put("duration", match.getGameDuration());
+        dataContext.put("duration", Duration.standardSeconds(match.getGameDuration()));
+
+        boolean changed = true;
+        while(changed) {
+            changed = false;
+            for(final Method method : methods.values()) {
+                final String id = id(method);
+                final Object input = samples.get(method.getParameterTypes()[0]);
+                if(input == null || failures.containsKey(id) || samples.containsKey(method.getReturnType())) {
+                    continue;
+                }
+
+                try {
+                    collect(apply(id, input, newContext(id)), visited);
+                    changed = true;
+                } catch(final OriannaException e) {
+                    failures.put(id, e.getCause());
+                }
+            }
+
+            final ReforgedRunes runes = (ReforgedRunes)samples.get(ReforgedRunes.class);
+            if(runes != null && !dataContext.containsKey("runes")) {
+                final Map<Integer, ReforgedRune> byId = new HashMap<>();
+                for(final ReforgedRune rune : runes) {
+                    byId.put(rune.getId(), rune);
+                }
+                dataContext.put("runes", byId);
+                changed = true;
+            }
+
+            final Participant participant = (Participant)samples.get(Participant.class);
+            if(participant != null && !dataContext.containsKey("items")) {
+                dataContext.put("lane", participant.getLane());
+                dataContext.put("role", participant.getRole());
+                dataContext.put("items", participant.getItems());
+                dataContext.put("runeStats", participant.getRuneStats());
+                dataContext.put("primaryRunePath", participant.getPrimaryRunePath());
+                dataContext.put("secondaryRunePath", participant.getSecondaryRunePath());
+                changed = true;
+            }
+        }
+    }
+
+    public Object apply(final String id, final Object input, final PipelineContext context) {
+        final Method method = getMethod(id);
+        try {
+            return method.invoke(transformers.get(method.getDeclaringClass()), input, context);
+        } catch(final InvocationTargetException e) {
+            throw new OriannaException("Transform " + id + " failed on its sample input!", e.getCause());
+        } catch(final IllegalAccessException e) {
+            throw new OriannaException("Couldn't invoke transform " + id + "!", e);
+        }
+    }
+
+    /**
+     * @param item
+     *        the item to transform
+     * @param to
+     *        the type to transform it to
+     * @return the item, transformed by whichever benchmarked transformer handles that conversion
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T transform(final Object item, final Class<T> to) {
+        for(final Method method : methods.values()) {
+            final Transform transform = method.getAnnotation(Transform.class);
+            if(transform.from() == item.getClass() && transform.to() == to) {
+                final String id = id(method);
+                return (T)apply(id, item, newContext(id));
+            }
+        }
+        throw new OriannaException("No transform from " + item.getClass().getCanonicalName() + " to " + to.getCanonicalName() + "!");
+    }
+
+    private void collect(final Object object, final Set<Object> visited) {
+        if(object == null || !visited.add(object)) {
+            return;
+        }
+
+        if(object instanceof Collection) {
+            for(final Object element : (Collection<?>)object) {
+                collect(element, visited);
+            }
+        } else if(object instanceof Map) {
+            for(final Object value : ((Map<?, ?>)object).values()) {
+                collect(value, visited);
+            }
+        }
+
+        if(!object.getClass().getName().startsWith(TYPES_PACKAGE)) {
+            return;
+        }
+
+        if(!samples.containsKey(object.getClass())) {
+            samples.put(object.getClass(), object);
+        }
+
+        for(Class<?> clazz = object.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for(final Field field : clazz.getDeclaredFields()) {
+                if(Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    collect(field.get(object), visited);
+                } catch(final IllegalAccessException e) {
+                    throw new OriannaException("Failed to walk " + field + "!", e);
+                }
+            }
+        }
+    }
+
+    public Object getInput(final String id) {
+        final Method method = getMethod(id);
+        if(failures.containsKey(id)) {
+            throw new OriannaException("Transform " + id + " failed on the input found in the recorded payloads!", failures.get(id));
+        }
+        final Object input = samples.get(method.getParameterTypes()[0]);
+        if(input == null) {
+            throw new OriannaException("None of the recorded payloads contain a " + method.getParameterTypes()[0].getCanonicalName() + " for " + id + "!");
+        }
+        return input;
+    }
+
+    public Method getMethod(final String id) {
+        final Method method = methods.get(id);
+        if(method == null) {
+            throw new OriannaException("No transform with id " + id + "!");
+        }
+        return method;
+    }
+
+    public DataTransformer getTransformer(final String id) {
+        return transformers.get(getMethod(id).getDeclaringClass());
+    }
+
+    public Set<String> getTransformIds() {
+        return Collections.unmodifiableSet(methods.keySet());
+    }
+
+    /**
+     * PipelineContext is only ever handed out by a running pipeline, so grab one from a pipeline that has a single source which records it.
+     *
+     * @return a context to use when calling the transform
+     */
+    protected PipelineContext newContext() {
+        final ContextCapture capture = new ContextCapture();
+        final DataPipeline pipeline = new DataPipeline(Collections.<DataTransformer> emptySet(), Collections.<PipelineElement> singletonList(capture));
+        pipeline.get(ContextToken.class, ImmutableMap.<String, Object> of());
+        return capture.context;
+    }
+
+    /**
+     * @param id
+     *        the transform id
+     * @return a context to use when calling the transform, filled with whatever the enclosing transforms would have put into it
+     */
+    public PipelineContext newContext(final String id) {
+        final PipelineContext context = newContext();
+        final Map<String, Object> values = getMethod(id).getParameterTypes()[0].getName().startsWith(DATA_PACKAGE) ? dataContext : dtoContext;
+        for(final Map.Entry<String, Object> entry : values.entrySet()) {
+            context.put(entry.getKey(), entry.getValue());
+        }
+        return context;
+    }
+}
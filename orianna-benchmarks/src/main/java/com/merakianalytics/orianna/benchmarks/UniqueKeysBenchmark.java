@@ -0,0 +1,89 @@
+package com.merakianalytics.orianna.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.types.UniqueKeys;
+import com.merakianalytics.orianna.types.core.match.Match;
+import com.merakianalytics.orianna.types.core.staticdata.Champion;
+import com.merakianalytics.orianna.types.data.staticdata.Champions;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniqueKeysBenchmark {
+    private Champion champion;
+    private Map<String, Object> championQuery;
+    private Map<String, Object> championsQuery;
+    private Match match;
+    private Map<String, Object> matchQuery;
+
+    @Benchmark
+    public UniqueKeys.Key[] forChampion() {
+        return UniqueKeys.forChampion(champion);
+    }
+
+    @Benchmark
+    public UniqueKeys.Key forChampionQuery() {
+        return UniqueKeys.forChampionQuery(championQuery);
+    }
+
+    @Benchmark
+    public void forManyChampionQuery(final Blackhole blackhole) {
+        final Iterator<UniqueKeys.Key> keys = UniqueKeys.forManyChampionQuery(championsQuery);
+        while(keys.hasNext()) {
+            blackhole.consume(keys.next());
+        }
+    }
+
+    @Benchmark
+    public UniqueKeys.Key forMatch() {
+        return UniqueKeys.forMatch(match);
+    }
+
+    @Benchmark
+    public UniqueKeys.Key forMatchQuery() {
+        return UniqueKeys.forMatchQuery(matchQuery);
+    }
+
+    @Setup
+    public void setup() {
+        final TransformerSamples samples = new TransformerSamples();
+        final Champions champions = samples.transform(Fixtures.load(ChampionList.class, Fixtures.CHAMPIONS), Champions.class);
+        final List<Integer> ids = new ArrayList<>(champions.size());
+        for(final com.merakianalytics.orianna.types.data.staticdata.Champion data : champions) {
+            ids.add(data.getId());
+        }
+        final Champion.ChampionData data = new Champion.ChampionData();
+        data.setChampion(champions.get(0));
+        champion = new Champion(data);
+        match = new Match(samples.transform(Fixtures.load(com.merakianalytics.orianna.types.dto.match.Match.class, Fixtures.MATCH),
+            com.merakianalytics.orianna.types.data.match.Match.class));
+
+        championQuery = ImmutableMap.<String, Object> builder().put("platform", Fixtures.PLATFORM).put("version", Fixtures.VERSION)
+            .put("locale", Fixtures.LOCALE).put("includedData", Fixtures.INCLUDED_DATA).put("id", champions.get(0).getId()).build();
+        championsQuery = ImmutableMap.<String, Object> builder().put("platform", Fixtures.PLATFORM).put("version", Fixtures.VERSION)
+            .put("locale", Fixtures.LOCALE).put("includedData", Fixtures.INCLUDED_DATA).put("ids", ids).build();
+        matchQuery = ImmutableMap.<String, Object> of("platform", Fixtures.PLATFORM, "matchId", match.getId());
+    }
+}
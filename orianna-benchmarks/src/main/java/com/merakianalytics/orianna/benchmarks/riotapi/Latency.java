@@ -0,0 +1,97 @@
+package com.merakianalytics.orianna.benchmarks.riotapi;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A distribution of server-side response delays for {@link MockRiotAPI}.
+ */
+public abstract class Latency {
+    private static final double Z_99 = 2.3263478740408408;
+
+    public static Latency fixed(final long delay, final TimeUnit unit) {
+        final long micros = unit.toMicros(delay);
+        return new Latency() {
+            @Override
+            public long nextMicros(final Random random) {
+                return micros;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed(" + micros / 1000.0 + "ms)";
+            }
+        };
+    }
+
+    /**
+     * Most real API latencies are log-normally distributed: a tight body around the median with a long tail. The distribution is parameterized by its median
+     * and 99th percentile, which is what a latency dashboard reports.
+     */
+    public static Latency logNormal(final long median, final long p99, final TimeUnit unit) {
+        if(p99 < median) {
+            throw new IllegalArgumentException("p99 must be at least the median!");
+        }
+        final double mu = Math.log(unit.toMicros(median));
+        final double sigma = median == 0 ? 0.0 : Math.log((double)p99 / median) / Z_99;
+        return new Latency() {
+            @Override
+            public long nextMicros(final Random random) {
+                return (long)Math.exp(mu + sigma * random.nextGaussian());
+            }
+
+            @Override
+            public String toString() {
+                return "logNormal(median=" + Math.exp(mu) / 1000.0 + "ms, p99=" + Math.exp(mu + sigma * Z_99) / 1000.0 + "ms)";
+            }
+        };
+    }
+
+    public static Latency none() {
+        return fixed(0, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Parses a latency specification in milliseconds: "none", "fixed:50", "uniform:20-80", or "lognormal:40-250" (median-p99).
+     */
+    public static Latency parse(final String spec) {
+        final String[] parts = spec.trim().toLowerCase().split(":", 2);
+        switch(parts[0]) {
+            case "none":
+                return none();
+            case "fixed":
+                return fixed(Long.parseLong(parts[1]), TimeUnit.MILLISECONDS);
+            case "uniform": {
+                final String[] range = parts[1].split("-");
+                return uniform(Long.parseLong(range[0]), Long.parseLong(range[1]), TimeUnit.MILLISECONDS);
+            }
+            case "lognormal": {
+                final String[] range = parts[1].split("-");
+                return logNormal(Long.parseLong(range[0]), Long.parseLong(range[1]), TimeUnit.MILLISECONDS);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution \"" + spec + "\"!");
+        }
+    }
+
+    public static Latency uniform(final long min, final long max, final TimeUnit unit) {
+        if(max < min) {
+            throw new IllegalArgumentException("max must be at least min!");
+        }
+        final long minMicros = unit.toMicros(min);
+        final long spread = unit.toMicros(max) - minMicros;
+        return new Latency() {
+            @Override
+            public long nextMicros(final Random random) {
+                return minMicros + (long)(random.nextDouble() * spread);
+            }
+
+            @Override
+            public String toString() {
+                return "uniform(" + minMicros / 1000.0 + "ms-" + (minMicros + spread) / 1000.0 + "ms)";
+            }
+        };
+    }
+
+    public abstract long nextMicros(Random random);
+}
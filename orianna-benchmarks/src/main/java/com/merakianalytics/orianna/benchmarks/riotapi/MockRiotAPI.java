@@ -0,0 +1,674 @@
+package com.merakianalytics.orianna.benchmarks.riotapi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.merakianalytics.orianna.benchmarks.Fixtures;
+import com.merakianalytics.orianna.datapipeline.common.HTTPClient;
+import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPI;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An in-process stand-in for the Riot API, backed by the benchmark fixtures. It serves every endpoint the {@link RiotAPI} services call, sends the same rate
+ * limit headers the real API does, enforces those limits with 429s and Retry-After, and can inject 429/500/503 responses and response latency.
+ *
+ * Point a {@link RiotAPI} at it with {@link #newRiotAPIConfiguration()}.
+ */
+public class MockRiotAPI implements AutoCloseable {
+    static class Bucket {
+        private final String limits;
+        private final Window[] windows;
+
+        public Bucket(final String limits) {
+            this.limits = limits;
+            final String[] parts = limits.split(",");
+            windows = new Window[parts.length];
+            for(int i = 0; i < parts.length; i++) {
+                final String[] limit = parts[i].split(":");
+                windows[i] = new Window(Integer.parseInt(limit[0]), TimeUnit.SECONDS.toMillis(Long.parseLong(limit[1])));
+            }
+        }
+
+        /**
+         * @return how long until the request would have been allowed, in milliseconds, or 0 if it was
+         */
+        public synchronized long acquire(final long now, final boolean enforce) {
+            long retryAfter = 0L;
+            for(final Window window : windows) {
+                if(now >= window.start + window.duration) {
+                    window.start = now;
+                    window.count = 0;
+                }
+                if(window.count >= window.limit) {
+                    retryAfter = Math.max(retryAfter, window.start + window.duration - now);
+                }
+            }
+
+            if(retryAfter > 0L && enforce) {
+                return retryAfter;
+            }
+
+            for(final Window window : windows) {
+                window.count += 1;
+            }
+            return 0L;
+        }
+
+        public synchronized String counts() {
+            final StringBuilder sb = new StringBuilder();
+            for(final Window window : windows) {
+                if(sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(window.count).append(':').append(window.duration / 1000L);
+            }
+            return sb.toString();
+        }
+    }
+
+    public static class Configuration {
+        private static final String DEFAULT_APPLICATION_RATE_LIMIT = "500:10,30000:600";
+        private static final boolean DEFAULT_ENFORCE_RATE_LIMITS = true;
+        private static final double DEFAULT_HTTP_429_RATE = 0.0;
+        private static final double DEFAULT_HTTP_500_RATE = 0.0;
+        private static final double DEFAULT_HTTP_503_RATE = 0.0;
+        private static final Latency DEFAULT_LATENCY = Latency.none();
+        private static final String DEFAULT_METHOD_RATE_LIMIT = "2000:10";
+        private static final int DEFAULT_PORT = 0;
+        private static final long DEFAULT_RETRY_AFTER = 1;
+        private static final int DEFAULT_THREADS = 64;
+
+        private String applicationRateLimit = DEFAULT_APPLICATION_RATE_LIMIT;
+        private boolean enforceRateLimits = DEFAULT_ENFORCE_RATE_LIMITS;
+        private double http429Rate = DEFAULT_HTTP_429_RATE;
+        private double http500Rate = DEFAULT_HTTP_500_RATE;
+        private double http503Rate = DEFAULT_HTTP_503_RATE;
+        private Latency latency = DEFAULT_LATENCY;
+        private String methodRateLimit = DEFAULT_METHOD_RATE_LIMIT;
+        private int port = DEFAULT_PORT;
+        private long retryAfter = DEFAULT_RETRY_AFTER;
+        private int threads = DEFAULT_THREADS;
+
+        /**
+         * @return the applicationRateLimit, in the X-App-Rate-Limit header format
+         */
+        public String getApplicationRateLimit() {
+            return applicationRateLimit;
+        }
+
+        /**
+         * @return the fraction of requests which are answered with an injected 429
+         */
+        public double getHttp429Rate() {
+            return http429Rate;
+        }
+
+        /**
+         * @return the fraction of requests which are answered with an injected 500
+         */
+        public double getHttp500Rate() {
+            return http500Rate;
+        }
+
+        /**
+         * @return the fraction of requests which are answered with an injected 503
+         */
+        public double getHttp503Rate() {
+            return http503Rate;
+        }
+
+        /**
+         * @return the latency
+         */
+        public Latency getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return the methodRateLimit, in the X-Method-Rate-Limit header format. Each endpoint gets its own limit.
+         */
+        public String getMethodRateLimit() {
+            return methodRateLimit;
+        }
+
+        /**
+         * @return the port, or 0 to pick a free one
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * @return the Retry-After value sent with injected 429s, in seconds
+         */
+        public long getRetryAfter() {
+            return retryAfter;
+        }
+
+        /**
+         * @return the threads
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * @return whether requests over the rate limits get a 429
+         */
+        public boolean isEnforceRateLimits() {
+            return enforceRateLimits;
+        }
+
+        /**
+         * @param applicationRateLimit
+         *        the applicationRateLimit to set
+         */
+        public void setApplicationRateLimit(final String applicationRateLimit) {
+            this.applicationRateLimit = applicationRateLimit;
+        }
+
+        /**
+         * @param enforceRateLimits
+         *        the enforceRateLimits to set
+         */
+        public void setEnforceRateLimits(final boolean enforceRateLimits) {
+            this.enforceRateLimits = enforceRateLimits;
+        }
+
+        /**
+         * @param http429Rate
+         *        the http429Rate to set
+         */
+        public void setHttp429Rate(final double http429Rate) {
+            this.http429Rate = http429Rate;
+        }
+
+        /**
+         * @param http500Rate
+         *        the http500Rate to set
+         */
+        public void setHttp500Rate(final double http500Rate) {
+            this.http500Rate = http500Rate;
+        }
+
+        /**
+         * @param http503Rate
+         *        the http503Rate to set
+         */
+        public void setHttp503Rate(final double http503Rate) {
+            this.http503Rate = http503Rate;
+        }
+
+        /**
+         * @param latency
+         *        the latency to set
+         */
+        public void setLatency(final Latency latency) {
+            this.latency = latency;
+        }
+
+        /**
+         * @param methodRateLimit
+         *        the methodRateLimit to set
+         */
+        public void setMethodRateLimit(final String methodRateLimit) {
+            this.methodRateLimit = methodRateLimit;
+        }
+
+        /**
+         * @param port
+         *        the port to set
+         */
+        public void setPort(final int port) {
+            this.port = port;
+        }
+
+        /**
+         * @param retryAfter
+         *        the retryAfter to set
+         */
+        public void setRetryAfter(final long retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+
+        /**
+         * @param threads
+         *        the threads to set
+         */
+        public void setThreads(final int threads) {
+            this.threads = threads;
+        }
+    }
+
+    private static interface Responder {
+        /**
+         * @return the response body, or null for a 404
+         */
+        public byte[] respond(Matcher path, Map<String, String> parameters);
+    }
+
+    private static class Route {
+        private final String name;
+        private final Pattern pattern;
+        private final Responder responder;
+
+        public Route(final String name, final Responder responder) {
+            this.name = name;
+            pattern = Pattern.compile(name.replaceAll("\\{[^}]+\\}", "([^/]+)"));
+            this.responder = responder;
+        }
+    }
+
+    private static class Window {
+        private int count;
+        private final long duration;
+        private final int limit;
+        private long start;
+
+        public Window(final int limit, final long duration) {
+            this.limit = limit;
+            this.duration = duration;
+        }
+    }
+
+    private static final String API_KEY = "RGAPI-00000000-0000-0000-0000-000000000000";
+    private static final String JSON_CONTENT_TYPE = "application/json;charset=utf-8";
+    private static final Logger LOGGER = LoggerFactory.getLogger(MockRiotAPI.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Responder constant(final byte[] body) {
+        return new Responder() {
+            @Override
+            public byte[] respond(final Matcher path, final Map<String, String> parameters) {
+                return body;
+            }
+        };
+    }
+
+    private static Responder constant(final String fixture) {
+        return constant(Fixtures.bytes(fixture));
+    }
+
+    private static byte[] error(final int status, final String message) {
+        return ("{\"status\":{\"message\":\"" + message + "\",\"status_code\":" + status + "}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, byte[]> index(final Iterator<JsonNode> elements, final String idField) {
+        final Map<String, byte[]> index = new HashMap<>();
+        while(elements.hasNext()) {
+            final JsonNode element = elements.next();
+            index.put(element.get(idField).asText(), toBytes(element));
+        }
+        return index;
+    }
+
+    private static Responder indexed(final Map<String, byte[]> index, final int group) {
+        return new Responder() {
+            @Override
+            public byte[] respond(final Matcher path, final Map<String, String> parameters) {
+                return index.get(path.group(group));
+            }
+        };
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Configuration config = new Configuration();
+        config.setPort(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+        if(args.length > 1) {
+            config.setLatency(Latency.parse(args[1]));
+        }
+
+        final MockRiotAPI server = new MockRiotAPI(config);
+        server.start();
+        System.out.println("Mock Riot API listening on http://" + server.getHost() + ":" + server.getPort() + "/ with " + config.getLatency() + " latency");
+        Thread.currentThread().join();
+    }
+
+    private static Map<String, String> parameters(final String query) {
+        if(query == null || query.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> parameters = new HashMap<>();
+        for(final String pair : query.split("&")) {
+            final int split = pair.indexOf('=');
+            try {
+                if(split < 0) {
+                    parameters.put(URLDecoder.decode(pair, "UTF-8"), "");
+                } else {
+                    parameters.put(URLDecoder.decode(pair.substring(0, split), "UTF-8"), URLDecoder.decode(pair.substring(split + 1), "UTF-8"));
+                }
+            } catch(final IOException e) {
+                throw new OriannaException("UTF-8 isn't supported!", e);
+            }
+        }
+        return parameters;
+    }
+
+    private static JsonNode read(final String fixture) {
+        try {
+            return MAPPER.readTree(Fixtures.bytes(fixture));
+        } catch(final IOException e) {
+            throw new OriannaException("Failed to parse fixture " + fixture + "!", e);
+        }
+    }
+
+    private static byte[] toBytes(final JsonNode node) {
+        try {
+            return MAPPER.writeValueAsBytes(node);
+        } catch(final IOException e) {
+            throw new OriannaException("Failed to serialize fixture!", e);
+        }
+    }
+
+    private final Bucket applicationBucket;
+    private final Configuration config;
+    private final Map<String, Bucket> methodBuckets = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> responseCounts = new ConcurrentHashMap<>();
+    private final List<Route> routes;
+    private ExecutorService executor;
+    private HttpServer server;
+
+    public MockRiotAPI() {
+        this(new Configuration());
+    }
+
+    public MockRiotAPI(final Configuration config) {
+        this.config = config;
+        applicationBucket = new Bucket(config.getApplicationRateLimit());
+        routes = routes();
+    }
+
+    @Override
+    public void close() {
+        if(server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private void count(final int status) {
+        AtomicLong count = responseCounts.get(status);
+        if(count == null) {
+            responseCounts.putIfAbsent(status, new AtomicLong());
+            count = responseCounts.get(status);
+        }
+        count.incrementAndGet();
+    }
+
+    public String getHost() {
+        return server.getAddress().getAddress().getHostAddress();
+    }
+
+    private Bucket getMethodBucket(final String name) {
+        Bucket bucket = methodBuckets.get(name);
+        if(bucket == null) {
+            methodBuckets.putIfAbsent(name, new Bucket(config.getMethodRateLimit()));
+            bucket = methodBuckets.get(name);
+        }
+        return bucket;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return the number of responses sent so far, by status code
+     */
+    public SortedMap<Integer, Long> getResponseCounts() {
+        final SortedMap<Integer, Long> counts = new TreeMap<>();
+        for(final Map.Entry<Integer, AtomicLong> entry : responseCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final long delay = config.getLatency().nextMicros(ThreadLocalRandom.current());
+            if(delay > 0L) {
+                TimeUnit.MICROSECONDS.sleep(delay);
+            }
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, error(503, "Service unavailable"));
+            return;
+        }
+
+        if(!"GET".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, error(405, "Method not allowed"));
+            return;
+        }
+
+        if(exchange.getRequestHeaders().getFirst("X-Riot-Token") == null) {
+            respond(exchange, 401, error(401, "Unauthorized"));
+            return;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        while(path.startsWith("/")) {
+            path = path.substring(1);
+        }
+
+        Route route = null;
+        Matcher matcher = null;
+        for(final Route candidate : routes) {
+            matcher = candidate.pattern.matcher(path);
+            if(matcher.matches()) {
+                route = candidate;
+                break;
+            }
+        }
+
+        if(route == null) {
+            respond(exchange, 404, error(404, "Not found"));
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final Bucket methodBucket = getMethodBucket(route.name);
+        final long applicationRetryAfter = applicationBucket.acquire(now, config.isEnforceRateLimits());
+        final long methodRetryAfter = applicationRetryAfter > 0L ? 0L : methodBucket.acquire(now, config.isEnforceRateLimits());
+
+        exchange.getResponseHeaders().set("X-App-Rate-Limit", applicationBucket.limits);
+        exchange.getResponseHeaders().set("X-App-Rate-Limit-Count", applicationBucket.counts());
+        exchange.getResponseHeaders().set("X-Method-Rate-Limit", methodBucket.limits);
+        exchange.getResponseHeaders().set("X-Method-Rate-Limit-Count", methodBucket.counts());
+
+        if(applicationRetryAfter > 0L || methodRetryAfter > 0L) {
+            final long retryAfter = Math.max(applicationRetryAfter, methodRetryAfter);
+            exchange.getResponseHeaders().set("Retry-After", Long.toString((retryAfter + 999L) / 1000L));
+            exchange.getResponseHeaders().set("X-Rate-Limit-Type", applicationRetryAfter > 0L ? "application" : "method");
+            respond(exchange, 429, error(429, "Rate limit exceeded"));
+            return;
+        }
+
+        final double roll = ThreadLocalRandom.current().nextDouble();
+        if(roll < config.getHttp503Rate()) {
+            respond(exchange, 503, error(503, "Service unavailable"));
+            return;
+        } else if(roll < config.getHttp503Rate() + config.getHttp500Rate()) {
+            respond(exchange, 500, error(500, "Internal server error"));
+            return;
+        } else if(roll < config.getHttp503Rate() + config.getHttp500Rate() + config.getHttp429Rate()) {
+            exchange.getResponseHeaders().set("Retry-After", Long.toString(config.getRetryAfter()));
+            exchange.getResponseHeaders().set("X-Rate-Limit-Type", "method");
+            respond(exchange, 429, error(429, "Rate limit exceeded"));
+            return;
+        }
+
+        final byte[] body = route.responder.respond(matcher, parameters(exchange.getRequestURI().getRawQuery()));
+        if(body == null) {
+            respond(exchange, 404, error(404, "Data not found"));
+        } else {
+            respond(exchange, 200, body);
+        }
+    }
+
+    /**
+     * @return a {@link RiotAPI} configuration that sends every request to this server
+     */
+    public RiotAPI.Configuration newRiotAPIConfiguration() {
+        final HTTPClient.Configuration requests = new HTTPClient.Configuration();
+        requests.setScheme("http");
+        requests.setPort(getPort());
+
+        final RiotAPI.Configuration riotAPI = new RiotAPI.Configuration();
+        riotAPI.setApiKey(API_KEY);
+        riotAPI.setHost(getHost());
+        riotAPI.setRequests(requests);
+        return riotAPI;
+    }
+
+    public void resetResponseCounts() {
+        responseCounts.clear();
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try(OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+        count(status);
+    }
+
+    private List<Route> routes() {
+        final List<Route> routes = new ArrayList<>();
+
+        final JsonNode championStatuses = read(Fixtures.CHAMPION_STATUSES);
+        final ObjectNode freeToPlay = MAPPER.createObjectNode();
+        final ArrayNode freeChampions = freeToPlay.putArray("champions");
+        for(final JsonNode champion : championStatuses.get("champions")) {
+            if(champion.get("freeToPlay").asBoolean()) {
+                freeChampions.add(champion);
+            }
+        }
+        final byte[] allChampionStatuses = toBytes(championStatuses);
+        final byte[] freeChampionStatuses = toBytes(freeToPlay);
+        routes.add(new Route("lol/platform/v3/champions/{id}", indexed(index(championStatuses.get("champions").elements(), "id"), 1)));
+        routes.add(new Route("lol/platform/v3/champions", new Responder() {
+            @Override
+            public byte[] respond(final Matcher path, final Map<String, String> parameters) {
+                return Boolean.parseBoolean(parameters.get("freeToPlay")) ? freeChampionStatuses : allChampionStatuses;
+            }
+        }));
+
+        final JsonNode masteries = read(Fixtures.CHAMPION_MASTERIES);
+        int score = 0;
+        for(final JsonNode mastery : masteries) {
+            score += mastery.get("championLevel").asInt();
+        }
+        routes.add(new Route("lol/champion-mastery/v3/champion-masteries/by-summoner/{summonerId}/by-champion/{championId}",
+            indexed(index(masteries.elements(), "championId"), 2)));
+        routes.add(new Route("lol/champion-mastery/v3/champion-masteries/by-summoner/{summonerId}", constant(toBytes(masteries))));
+        routes.add(new Route("lol/champion-mastery/v3/scores/by-summoner/{summonerId}", constant(Integer.toString(score).getBytes(StandardCharsets.UTF_8))));
+
+        final Responder league = constant(Fixtures.LEAGUE);
+        routes.add(new Route("lol/league/v3/challengerleagues/by-queue/{queue}", league));
+        routes.add(new Route("lol/league/v3/masterleagues/by-queue/{queue}", league));
+        routes.add(new Route("lol/league/v3/leagues/{leagueId}", league));
+        routes.add(new Route("lol/league/v3/positions/by-summoner/{summonerId}", constant(Fixtures.POSITIONS)));
+
+        final Responder match = constant(Fixtures.MATCH);
+        final Responder matchlist = constant(Fixtures.MATCHLIST);
+        routes.add(new Route("lol/match/v3/matches/by-tournament-code/{tournamentCode}/ids", constant(Fixtures.TOURNAMENT_MATCHES)));
+        routes.add(new Route("lol/match/v3/matches/{matchId}/by-tournament-code/{tournamentCode}", match));
+        routes.add(new Route("lol/match/v3/matches/{matchId}", match));
+        routes.add(new Route("lol/match/v3/matchlists/by-account/{accountId}/recent", matchlist));
+        routes.add(new Route("lol/match/v3/matchlists/by-account/{accountId}", matchlist));
+        routes.add(new Route("lol/match/v3/timelines/by-match/{matchId}", constant(Fixtures.TIMELINE)));
+
+        routes.add(new Route("lol/spectator/v3/active-games/by-summoner/{summonerId}", constant(Fixtures.CURRENT_GAME)));
+        routes.add(new Route("lol/spectator/v3/featured-games", constant(Fixtures.FEATURED_GAMES)));
+
+        final String[][] staticDataLists = new String[][] {
+            {"champions", Fixtures.CHAMPIONS},
+            {"items", Fixtures.ITEMS},
+            {"masteries", Fixtures.MASTERIES},
+            {"runes", Fixtures.RUNES},
+            {"summoner-spells", Fixtures.SUMMONER_SPELLS}
+        };
+        for(final String[] list : staticDataLists) {
+            final JsonNode data = read(list[1]);
+            routes.add(new Route("lol/static-data/v3/" + list[0] + "/{id}", indexed(index(data.get("data").elements(), "id"), 1)));
+            routes.add(new Route("lol/static-data/v3/" + list[0], constant(toBytes(data))));
+        }
+        routes.add(new Route("lol/static-data/v3/languages", constant(Fixtures.LANGUAGES)));
+        routes.add(new Route("lol/static-data/v3/language-strings", constant(Fixtures.LANGUAGE_STRINGS)));
+        routes.add(new Route("lol/static-data/v3/maps", constant(Fixtures.MAPS)));
+        routes.add(new Route("lol/static-data/v3/profile-icons", constant(Fixtures.PROFILE_ICONS)));
+        routes.add(new Route("lol/static-data/v3/realms", constant(Fixtures.REALM)));
+        routes.add(new Route("lol/static-data/v3/versions", constant(Fixtures.VERSIONS)));
+
+        routes.add(new Route("lol/status/v3/shard-data", constant(Fixtures.SHARD_DATA)));
+
+        final Responder summoner = constant(Fixtures.SUMMONER);
+        routes.add(new Route("lol/summoner/v3/summoners/by-account/{accountId}", summoner));
+        routes.add(new Route("lol/summoner/v3/summoners/by-name/{summonerName}", summoner));
+        routes.add(new Route("lol/summoner/v3/summoners/{summonerId}", summoner));
+
+        routes.add(new Route("lol/platform/v3/third-party-code/by-summoner/{summonerId}",
+            constant("\"ORIANNA-BENCHMARKS\"".getBytes(StandardCharsets.UTF_8))));
+
+        return Collections.unmodifiableList(routes);
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.getPort()), 0);
+        } catch(final IOException e) {
+            LOGGER.error("Failed to start the mock Riot API!", e);
+            throw new OriannaException("Failed to start the mock Riot API on port " + config.getPort() + "!", e);
+        }
+
+        executor = Executors.newFixedThreadPool(config.getThreads());
+        server.setExecutor(executor);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                try {
+                    MockRiotAPI.this.handle(exchange);
+                } catch(final RuntimeException e) {
+                    LOGGER.error("Mock Riot API failed to handle " + exchange.getRequestURI() + "!", e);
+                    respond(exchange, 500, error(500, "Internal server error"));
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        server.start();
+    }
+}
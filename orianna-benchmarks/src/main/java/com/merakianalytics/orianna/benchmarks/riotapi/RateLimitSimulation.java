@@ -0,0 +1,528 @@
+package com.merakianalytics.orianna.benchmarks.riotapi;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.benchmarks.riotapi.MockRiotAPI.Bucket;
+import com.merakianalytics.orianna.datapipeline.common.rates.AbstractRateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.rates.MultiRateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.rates.Scheduler;
+import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPI;
+import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPIService.FailedRequestStrategy;
+import com.merakianalytics.orianna.types.common.OriannaException;
+
+/**
+ * Runs orianna's rate limiters against a simulated Riot API on a {@link VirtualScheduler}, so hours of traffic take milliseconds and give the same answer
+ * every time. Use it to tune limitingShare, the limiter type, and the failed request strategies without a production key or waiting out real windows.
+ *
+ * Each simulated caller behaves like a thread making requests through RiotAPIService. The first request to a method goes out unlimited to discover the rate
+ * limits, and the limiters are built from it the same way RiotAPIService builds them. After that, callers queue for permits in order, and 429s, 500s and
+ * 503s are handed to the configured {@link FailedRequestStrategy}, with backoffs taken on the virtual clock. The server enforces the same windows as
+ * {@link MockRiotAPI} and can inject the same failures. Requests arrive at the server halfway through their latency, so the client's and server's windows
+ * are skewed the way they are in practice.
+ *
+ * Run it from the shaded jar with java -cp target/benchmarks.jar com.merakianalytics.orianna.benchmarks.riotapi.RateLimitSimulation [options].
+ *
+ * Options are passed as --name=value:
+ * <ul>
+ * <li>threads: simulated callers (64)</li>
+ * <li>methods: distinct methods the callers are spread across, each with its own method limit (1)</li>
+ * <li>duration: simulated seconds (3600)</li>
+ * <li>latency: server latency, see {@link Latency#parse(String)} (lognormal:40-250)</li>
+ * <li>app-limit, method-limit: server rate limits in header format (500:10,30000:600 and 2000:10)</li>
+ * <li>http429, http500, http503: fraction of injected failures (0.0)</li>
+ * <li>retry-after: Retry-After for injected 429s, in seconds (1)</li>
+ * <li>limiting-share: comma-separated limitingShare values to simulate, one run each (1.0)</li>
+ * <li>http429-strategy, http500-strategy, http503-strategy: strategies as JSON, like in the orianna config (the RiotAPI defaults)</li>
+ * <li>seed: random seed for latencies and injected failures (0)</li>
+ * </ul>
+ */
+public class RateLimitSimulation {
+    private class Caller {
+        private int attemptCount;
+        private final Method method;
+        private long requestStart;
+        private long waitStart;
+
+        public Caller(final Method method) {
+            this.method = method;
+        }
+
+        private void attempt() {
+            attemptCount += 1;
+            waitStart = scheduler.currentTimeMicros();
+
+            if(method.limiter == null) {
+                if(method.discovering) {
+                    method.creating.add(this);
+                } else {
+                    method.discovering = true;
+                    send(null);
+                }
+            } else {
+                method.waiting.add(this);
+            }
+        }
+
+        private void backoff(final long delay, final TimeUnit unit) {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    attempt();
+                }
+            }, delay, unit);
+        }
+
+        private void complete(final boolean succeeded) {
+            if(succeeded) {
+                result.latencies.record((scheduler.currentTimeMicros() - requestStart) * 1000L);
+            } else {
+                result.failed += 1;
+            }
+            start();
+        }
+
+        private void onFailedRequest(final FailedRequestStrategy strategy, final Response response) {
+            final FailedRequestStrategy.Configuration config = strategy.getConfiguration();
+            switch(config.getType()) {
+                case RETRY_FROM_HEADERS:
+                    if(response.retryAfter <= 0L) {
+                        onFailedRequest(config.getBackupStrategy(), response);
+                    } else {
+                        method.limiter.limiter(response.limitType).restrictFor(response.retryAfter, TimeUnit.SECONDS);
+                        attempt();
+                    }
+                    break;
+                case EXPONENTIAL_BACKOFF:
+                    if(attemptCount > config.getMaxAttempts()) {
+                        onFailedRequest(config.getBackupStrategy(), response);
+                    } else {
+                        backoff((long)(config.getBackoff() * Math.pow(config.getBackoffFactor(), attemptCount - 1)), config.getBackoffUnit());
+                    }
+                    break;
+                case LINEAR_BACKOFF:
+                    if(attemptCount > config.getMaxAttempts()) {
+                        onFailedRequest(config.getBackupStrategy(), response);
+                    } else {
+                        backoff(config.getBackoff(), config.getBackoffUnit());
+                    }
+                    break;
+                case RETURN_NULL:
+                case THROW_EXCEPTION:
+                default:
+                    complete(false);
+                    break;
+            }
+        }
+
+        private void receive(final MultiRateLimiter limiter, final Response response, final long sent) {
+            if(limiter != null) {
+                limiter.release();
+            } else {
+                newRateLimiter(method, sent, scheduler.currentTimeMillis());
+            }
+
+            final Long count = result.responses.get(response.status);
+            result.responses.put(response.status, count == null ? 1L : count + 1L);
+
+            switch(response.status) {
+                case 200:
+                    complete(true);
+                    break;
+                case 429:
+                    final Long limited = result.rateLimited.get(response.limitType);
+                    result.rateLimited.put(response.limitType, limited == null ? 1L : limited + 1L);
+                    onFailedRequest(client.getHttp429Strategy(), response);
+                    break;
+                case 500:
+                    onFailedRequest(client.getHttp500Strategy(), response);
+                    break;
+                case 503:
+                    onFailedRequest(client.getHttp503Strategy(), response);
+                    break;
+                default:
+                    complete(false);
+                    break;
+            }
+        }
+
+        private void send(final MultiRateLimiter limiter) {
+            final long latency = server.getLatency().nextMicros(random);
+            final long sent = scheduler.currentTimeMillis();
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    final Response response = serve(method);
+                    scheduler.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            receive(limiter, response, sent);
+                        }
+                    }, latency - latency / 2L, TimeUnit.MICROSECONDS);
+                }
+            }, latency / 2L, TimeUnit.MICROSECONDS);
+        }
+
+        public void start() {
+            attemptCount = 1;
+            requestStart = scheduler.currentTimeMicros();
+            attempt();
+        }
+    }
+
+    private static class Histogram {
+        private long[] values = new long[1 << 16];
+        private int size;
+
+        public void record(final long nanos) {
+            if(size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        public long[] sorted() {
+            final long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private static class Method {
+        private final Bucket bucket;
+        private final Deque<Caller> creating = new ArrayDeque<>();
+        private boolean discovering = false;
+        private MultiRateLimiter limiter;
+        private final Deque<Caller> waiting = new ArrayDeque<>();
+
+        public Method(final String limits) {
+            bucket = new Bucket(limits);
+        }
+    }
+
+    private static class Response {
+        private final String limitType;
+        private final long retryAfter;
+        private final int status;
+
+        public Response(final int status) {
+            this(status, 0L, null);
+        }
+
+        public Response(final int status, final long retryAfter, final String limitType) {
+            this.status = status;
+            this.retryAfter = retryAfter;
+            this.limitType = limitType;
+        }
+    }
+
+    /**
+     * What a simulation run achieved. Times are in virtual milliseconds, except {@link #getWallTime()}.
+     */
+    public static class Result {
+        private long duration;
+        private int failed;
+        private final Histogram latencies = new Histogram();
+        private double limit;
+        private final Map<String, Long> rateLimited = new TreeMap<>();
+        private final Map<Integer, Long> responses = new TreeMap<>();
+        private final Histogram waits = new Histogram();
+        private long wallTime;
+
+        /**
+         * @return how many requests were given up on by their failed request strategy
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * @param percentile
+         *        the percentile, from 0 to 100
+         * @return that percentile of end-to-end request time, including retries, for requests that succeeded
+         */
+        public double getLatency(final double percentile) {
+            return ThroughputDriver.percentile(latencies.sorted(), percentile);
+        }
+
+        /**
+         * @return the most requests per second the server's limits allow
+         */
+        public double getLimit() {
+            return limit;
+        }
+
+        /**
+         * @return the 429s the server sent, by X-Rate-Limit-Type
+         */
+        public Map<String, Long> getRateLimited() {
+            return rateLimited;
+        }
+
+        /**
+         * @return the responses the server sent, by status code
+         */
+        public Map<Integer, Long> getResponses() {
+            return responses;
+        }
+
+        /**
+         * @return how many requests succeeded
+         */
+        public int getSucceeded() {
+            return latencies.size;
+        }
+
+        /**
+         * @return successful requests per virtual second
+         */
+        public double getThroughput() {
+            return latencies.size / (duration / 1000.0);
+        }
+
+        /**
+         * @param percentile
+         *        the percentile, from 0 to 100
+         * @return that percentile of the time callers spent waiting for a rate limiter permit
+         */
+        public double getWait(final double percentile) {
+            return ThroughputDriver.percentile(waits.sorted(), percentile);
+        }
+
+        /**
+         * @return how long the simulation took to run, in real milliseconds
+         */
+        public long getWallTime() {
+            return wallTime;
+        }
+
+        public void report() {
+            System.out.println(String.format("requests:   %d succeeded, %d failed", getSucceeded(), failed));
+            System.out.println(String.format("throughput: %.2f requests/s (%.1f%% of the %.2f requests/s the limits allow)", getThroughput(),
+                100.0 * getThroughput() / limit, limit));
+            System.out.println(String.format("wait:       p50 %.1fms, p90 %.1fms, p99 %.1fms, max %.1fms", getWait(50.0), getWait(90.0), getWait(99.0),
+                getWait(100.0)));
+            System.out.println(String.format("latency:    p50 %.1fms, p90 %.1fms, p99 %.1fms, max %.1fms", getLatency(50.0), getLatency(90.0),
+                getLatency(99.0), getLatency(100.0)));
+            System.out.println("429s:       " + rateLimited);
+            System.out.println("responses:  " + responses);
+            System.out.println(String.format("simulated %ds in %dms", duration / 1000L, wallTime));
+        }
+    }
+
+    private static double limit(final String limits) {
+        double limit = Double.MAX_VALUE;
+        for(final String window : limits.split(",")) {
+            final String[] parts = window.split(":");
+            limit = Math.min(limit, Double.parseDouble(parts[0]) / Double.parseDouble(parts[1]));
+        }
+        return limit;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> options = ThroughputDriver.options(args);
+        final int threads = Integer.parseInt(ThroughputDriver.option(options, "threads", "64"));
+        final int methods = Integer.parseInt(ThroughputDriver.option(options, "methods", "1"));
+        final long duration = Long.parseLong(ThroughputDriver.option(options, "duration", "3600"));
+        final long seed = Long.parseLong(ThroughputDriver.option(options, "seed", "0"));
+
+        final MockRiotAPI.Configuration server = new MockRiotAPI.Configuration();
+        server.setLatency(Latency.parse(ThroughputDriver.option(options, "latency", "lognormal:40-250")));
+        server.setApplicationRateLimit(ThroughputDriver.option(options, "app-limit", server.getApplicationRateLimit()));
+        server.setMethodRateLimit(ThroughputDriver.option(options, "method-limit", server.getMethodRateLimit()));
+        server.setHttp429Rate(Double.parseDouble(ThroughputDriver.option(options, "http429", "0.0")));
+        server.setHttp500Rate(Double.parseDouble(ThroughputDriver.option(options, "http500", "0.0")));
+        server.setHttp503Rate(Double.parseDouble(ThroughputDriver.option(options, "http503", "0.0")));
+        server.setRetryAfter(Long.parseLong(ThroughputDriver.option(options, "retry-after", "1")));
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final RiotAPI.Configuration client = new RiotAPI.Configuration();
+        if(options.containsKey("http429-strategy")) {
+            client.setHttp429Strategy(mapper.readValue(options.get("http429-strategy"), FailedRequestStrategy.class));
+        }
+        if(options.containsKey("http500-strategy")) {
+            client.setHttp500Strategy(mapper.readValue(options.get("http500-strategy"), FailedRequestStrategy.class));
+        }
+        if(options.containsKey("http503-strategy")) {
+            client.setHttp503Strategy(mapper.readValue(options.get("http503-strategy"), FailedRequestStrategy.class));
+        }
+
+        System.out.println("Server latency " + server.getLatency() + ", app limit " + server.getApplicationRateLimit() + ", method limit "
+            + server.getMethodRateLimit() + ", " + threads + " callers across " + methods + " methods, " + duration + "s");
+        for(final String share : ThroughputDriver.option(options, "limiting-share", "1.0").split(",")) {
+            client.setLimitingShare(Double.parseDouble(share));
+            System.out.println();
+            System.out.println("limitingShare " + client.getLimitingShare() + ":");
+            new RateLimitSimulation(client, server, threads, methods, seed).run(duration, TimeUnit.SECONDS).report();
+        }
+    }
+
+    private MultiRateLimiter application;
+    private final Bucket applicationBucket;
+    private final List<Caller> callers;
+    private final RiotAPI.Configuration client;
+    private final List<Method> methods;
+    private final Random random;
+    private final Result result = new Result();
+    private final VirtualScheduler scheduler = new VirtualScheduler(0L);
+    private final MockRiotAPI.Configuration server;
+
+    /**
+     * Each simulation can only be run once.
+     *
+     * @param client
+     *        the limitingShare, limitingType and failed request strategies to simulate
+     * @param server
+     *        the rate limits, latency and injected failures to simulate
+     * @param threads
+     *        how many callers to simulate
+     * @param methods
+     *        how many methods to spread the callers across
+     * @param seed
+     *        the random seed for latencies and injected failures
+     */
+    public RateLimitSimulation(final RiotAPI.Configuration client, final MockRiotAPI.Configuration server, final int threads, final int methods,
+        final long seed) {
+        this.client = client;
+        this.server = server;
+        random = new Random(seed);
+        applicationBucket = new Bucket(server.getApplicationRateLimit());
+
+        this.methods = new ArrayList<>(methods);
+        for(int i = 0; i < methods; i++) {
+            this.methods.add(new Method(server.getMethodRateLimit()));
+        }
+
+        callers = new ArrayList<>(threads);
+        for(int i = 0; i < threads; i++) {
+            callers.add(new Caller(this.methods.get(i % methods)));
+        }
+    }
+
+    private void admit() {
+        for(final Method method : methods) {
+            while(!method.waiting.isEmpty()) {
+                final RateLimiter.ReservedPermit permit;
+                try {
+                    permit = method.limiter.reserve(0L, TimeUnit.MILLISECONDS);
+                } catch(final InterruptedException e) {
+                    throw new OriannaException("Simulation was interrupted!", e);
+                }
+                if(permit == null) {
+                    // Permits are handed out in order, so nobody else waiting on this method can get one either
+                    break;
+                }
+                permit.acquire();
+
+                final Caller caller = method.waiting.poll();
+                result.waits.record((scheduler.currentTimeMicros() - caller.waitStart) * 1000L);
+                caller.send(method.limiter);
+            }
+        }
+    }
+
+    private MultiRateLimiter newRateLimiter(final String limits, final long windowLowerBound, final long windowUpperBound) {
+        final Map<String, AbstractRateLimiter> limiters = new HashMap<>();
+        for(final String limit : limits.split(",")) {
+            final String[] parts = limit.split(":");
+            final long epoch = Long.parseLong(parts[1]);
+            final int permits = (int)(Double.parseDouble(parts[0]) * client.getLimitingShare());
+            try {
+                final AbstractRateLimiter limiter = client.getLimitingType().getLimiterClass().getConstructor(int.class, long.class, TimeUnit.class,
+                    Scheduler.class).newInstance(permits, epoch, TimeUnit.SECONDS, scheduler);
+                final long windowLockoutIn = Math.max(0, TimeUnit.SECONDS.toMillis(epoch) + windowLowerBound - scheduler.currentTimeMillis());
+                limiter.restrict(windowLockoutIn, TimeUnit.MILLISECONDS, windowUpperBound - windowLowerBound, TimeUnit.MILLISECONDS);
+                limiters.put(parts[1], limiter);
+            } catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
+                | SecurityException e) {
+                throw new OriannaException("Failed to instantiate " + client.getLimitingType() + " Rate Limiter!", e);
+            }
+        }
+        return new MultiRateLimiter(limiters, scheduler);
+    }
+
+    /**
+     * Builds the limiters for a method from its discovery request, the same way RiotAPIService does
+     */
+    private void newRateLimiter(final Method method, final long windowLowerBound, final long windowUpperBound) {
+        if(application == null) {
+            application = newRateLimiter(server.getApplicationRateLimit(), windowLowerBound, windowUpperBound);
+        }
+        method.limiter = new MultiRateLimiter(ImmutableMap.of("application", application, "method",
+            newRateLimiter(server.getMethodRateLimit(), windowLowerBound, windowUpperBound)), scheduler);
+
+        // RiotAPIService takes and returns a permit right away to start the limiters' windows
+        final RateLimiter.ReservedPermit permit;
+        try {
+            permit = method.limiter.reserve(0L, TimeUnit.MILLISECONDS);
+        } catch(final InterruptedException e) {
+            throw new OriannaException("Simulation was interrupted!", e);
+        }
+        if(permit != null) {
+            permit.acquire();
+            method.limiter.release();
+        }
+
+        method.discovering = false;
+        method.waiting.addAll(method.creating);
+        method.creating.clear();
+    }
+
+    /**
+     * @param duration
+     *        how much virtual time to simulate
+     * @param unit
+     *        the unit of duration
+     * @return the result
+     */
+    public Result run(final long duration, final TimeUnit unit) {
+        final long wallStart = System.nanoTime();
+        final long end = scheduler.currentTimeMicros() + unit.toMicros(duration);
+
+        for(final Caller caller : callers) {
+            caller.start();
+        }
+        admit();
+
+        while(scheduler.nextTimeMicros() <= end && scheduler.runNext()) {
+            admit();
+        }
+
+        result.limit = Math.min(limit(server.getApplicationRateLimit()), methods.size() * limit(server.getMethodRateLimit()));
+        result.duration = unit.toMillis(duration);
+        result.wallTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallStart);
+        return result;
+    }
+
+    private Response serve(final Method method) {
+        final long now = scheduler.currentTimeMillis();
+        final long applicationRetryAfter = applicationBucket.acquire(now, server.isEnforceRateLimits());
+        final long methodRetryAfter = applicationRetryAfter > 0L ? 0L : method.bucket.acquire(now, server.isEnforceRateLimits());
+        if(applicationRetryAfter > 0L || methodRetryAfter > 0L) {
+            final long retryAfter = Math.max(applicationRetryAfter, methodRetryAfter);
+            return new Response(429, (retryAfter + 999L) / 1000L, applicationRetryAfter > 0L ? "application" : "method");
+        }
+
+        final double roll = random.nextDouble();
+        if(roll < server.getHttp503Rate()) {
+            return new Response(503);
+        } else if(roll < server.getHttp503Rate() + server.getHttp500Rate()) {
+            return new Response(500);
+        } else if(roll < server.getHttp503Rate() + server.getHttp500Rate() + server.getHttp429Rate()) {
+            return new Response(429, server.getRetryAfter(), "method");
+        }
+        return new Response(200);
+    }
+}
@@ -0,0 +1,253 @@
+package com.merakianalytics.orianna.benchmarks.riotapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.merakianalytics.datapipelines.DataPipeline;
+import com.merakianalytics.orianna.datapipeline.PipelineConfiguration;
+import com.merakianalytics.orianna.datapipeline.PipelineConfiguration.PipelineElementConfiguration;
+import com.merakianalytics.orianna.datapipeline.PipelineConfiguration.TransformerConfiguration;
+import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPI;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ChampionMasteryTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ChampionTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.LeagueTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.MatchTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.SpectatorTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.StaticDataTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.StatusTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.SummonerTransformer;
+import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ThirdPartyCodeTransformer;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.data.champion.ChampionStatuses;
+import com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries;
+import com.merakianalytics.orianna.types.data.league.LeaguePositions;
+import com.merakianalytics.orianna.types.data.match.Match;
+import com.merakianalytics.orianna.types.data.match.MatchList;
+import com.merakianalytics.orianna.types.data.match.Timeline;
+import com.merakianalytics.orianna.types.data.spectator.CurrentMatch;
+import com.merakianalytics.orianna.types.data.spectator.FeaturedMatches;
+import com.merakianalytics.orianna.types.data.status.ShardStatus;
+import com.merakianalytics.orianna.types.data.summoner.Summoner;
+
+/**
+ * Drives a request mix through a full {@link DataPipeline} (the dto to data transformers and a {@link RiotAPI} source, with no caching) against a
+ * {@link MockRiotAPI}, and reports end-to-end throughput and latency percentiles.
+ *
+ * Run it from the shaded jar with java -cp target/benchmarks.jar com.merakianalytics.orianna.benchmarks.riotapi.ThroughputDriver [options].
+ *
+ * Options are passed as --name=value:
+ * <ul>
+ * <li>threads: concurrent callers (16)</li>
+ * <li>warmup, duration: seconds (5, 30)</li>
+ * <li>latency: server latency, see {@link Latency#parse(String)} (none)</li>
+ * <li>app-limit, method-limit: server rate limits in header format (500:10,30000:600 and 2000:10)</li>
+ * <li>enforce-limits: whether the server 429s requests over its limits (true)</li>
+ * <li>http429, http500, http503: fraction of injected failures (0.0)</li>
+ * </ul>
+ */
+public class ThroughputDriver {
+    private static class Recorder {
+        private int errors;
+        private long[] latencies = new long[1 << 16];
+        private int size;
+
+        public void record(final long nanos) {
+            if(size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+    }
+
+    private static class Request {
+        private final Map<String, Object> query;
+        private final Class<?> type;
+
+        public Request(final Class<?> type, final Map<String, Object> query) {
+            this.type = type;
+            this.query = query;
+        }
+    }
+
+    private static final long ACCOUNT_ID = 284268641L;
+    private static final long MATCH_ID = 2835418470L;
+    private static final Platform PLATFORM = Platform.NORTH_AMERICA;
+    private static final long SUMMONER_ID = 29934327L;
+    private static final String SUMMONER_NAME = "Summoner73467";
+
+    public static void main(final String[] args) throws InterruptedException {
+        if(System.getProperty("org.slf4j.simpleLogger.defaultLogLevel") == null) {
+            // RiotAPIService logs every request at info, which would dominate the measurement
+            System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "off");
+        }
+
+        final Map<String, String> options = options(args);
+        final int threads = Integer.parseInt(option(options, "threads", "16"));
+        final long warmup = Long.parseLong(option(options, "warmup", "5"));
+        final long duration = Long.parseLong(option(options, "duration", "30"));
+
+        final MockRiotAPI.Configuration config = new MockRiotAPI.Configuration();
+        config.setLatency(Latency.parse(option(options, "latency", "none")));
+        config.setApplicationRateLimit(option(options, "app-limit", config.getApplicationRateLimit()));
+        config.setMethodRateLimit(option(options, "method-limit", config.getMethodRateLimit()));
+        config.setEnforceRateLimits(Boolean.parseBoolean(option(options, "enforce-limits", "true")));
+        config.setHttp429Rate(Double.parseDouble(option(options, "http429", "0.0")));
+        config.setHttp500Rate(Double.parseDouble(option(options, "http500", "0.0")));
+        config.setHttp503Rate(Double.parseDouble(option(options, "http503", "0.0")));
+        config.setThreads(Math.max(config.getThreads(), threads * 2));
+
+        try(MockRiotAPI server = new MockRiotAPI(config)) {
+            server.start();
+            final DataPipeline pipeline = newPipeline(server.newRiotAPIConfiguration());
+
+            System.out.println("Server latency " + config.getLatency() + ", app limit " + config.getApplicationRateLimit() + ", method limit "
+                + config.getMethodRateLimit() + ", " + threads + " threads");
+            System.out.println("Warming up for " + warmup + "s...");
+            run(pipeline, threads, TimeUnit.SECONDS.toNanos(warmup));
+            server.resetResponseCounts();
+
+            System.out.println("Measuring for " + duration + "s...");
+            final long start = System.nanoTime();
+            final List<Recorder> recorders = run(pipeline, threads, TimeUnit.SECONDS.toNanos(duration));
+            final long elapsed = System.nanoTime() - start;
+            report(recorders, elapsed, server.getResponseCounts());
+        }
+    }
+
+    private static DataPipeline newPipeline(final RiotAPI.Configuration riotAPI) {
+        final PipelineConfiguration config = new PipelineConfiguration();
+        config.setTransformers(ImmutableSet.of(
+            TransformerConfiguration.defaultConfiguration(ChampionMasteryTransformer.class),
+            TransformerConfiguration.defaultConfiguration(ChampionTransformer.class),
+            TransformerConfiguration.defaultConfiguration(LeagueTransformer.class),
+            TransformerConfiguration.defaultConfiguration(MatchTransformer.class),
+            TransformerConfiguration.defaultConfiguration(SpectatorTransformer.class),
+            TransformerConfiguration.defaultConfiguration(StaticDataTransformer.class),
+            TransformerConfiguration.defaultConfiguration(StatusTransformer.class),
+            TransformerConfiguration.defaultConfiguration(SummonerTransformer.class),
+            TransformerConfiguration.defaultConfiguration(ThirdPartyCodeTransformer.class)));
+
+        final PipelineElementConfiguration element = PipelineElementConfiguration.defaultConfiguration(RiotAPI.class);
+        element.setConfig(new ObjectMapper().setSerializationInclusion(Include.NON_DEFAULT).valueToTree(riotAPI));
+        config.setElements(ImmutableList.of(element));
+
+        return PipelineConfiguration.toPipeline(config);
+    }
+
+    static String option(final Map<String, String> options, final String name, final String defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    static Map<String, String> options(final String[] args) {
+        final ImmutableMap.Builder<String, String> options = ImmutableMap.builder();
+        for(final String arg : args) {
+            if(!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got \"" + arg + "\"!");
+            }
+            final int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options.build();
+    }
+
+    static double percentile(final long[] sorted, final double percentile) {
+        if(sorted.length == 0) {
+            return 0.0;
+        }
+        final int index = (int)Math.min(sorted.length - 1, Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void report(final List<Recorder> recorders, final long elapsed, final Map<Integer, Long> responseCounts) {
+        int total = 0;
+        int errors = 0;
+        for(final Recorder recorder : recorders) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+
+        final long[] latencies = new long[total];
+        int offset = 0;
+        for(final Recorder recorder : recorders) {
+            System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(latencies);
+
+        final double seconds = elapsed / 1_000_000_000.0;
+        System.out.println();
+        System.out.println(String.format("requests:   %d (%d failed)", total, errors));
+        System.out.println(String.format("throughput: %.1f requests/s", total / seconds));
+        System.out.println(String.format("latency:    p50 %.3fms, p90 %.3fms, p99 %.3fms, p99.9 %.3fms, max %.3fms", percentile(latencies, 50.0),
+            percentile(latencies, 90.0), percentile(latencies, 99.0), percentile(latencies, 99.9), percentile(latencies, 100.0)));
+        System.out.println("responses:  " + responseCounts);
+    }
+
+    private static List<Recorder> run(final DataPipeline pipeline, final int threads, final long duration) throws InterruptedException {
+        final Request[] mix = workload();
+        final long deadline = System.nanoTime() + duration;
+        final CountDownLatch done = new CountDownLatch(threads);
+        final List<Recorder> recorders = new ArrayList<>(threads);
+
+        for(int i = 0; i < threads; i++) {
+            final Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            final int first = i;
+            final Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for(int next = first; System.nanoTime() < deadline; next++) {
+                            final Request request = mix[next % mix.length];
+                            final long start = System.nanoTime();
+                            try {
+                                if(pipeline.get(request.type, request.query) == null) {
+                                    recorder.errors += 1;
+                                }
+                            } catch(final RuntimeException e) {
+                                recorder.errors += 1;
+                            }
+                            recorder.record(System.nanoTime() - start);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, "throughput-driver-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        done.await();
+        return recorders;
+    }
+
+    /**
+     * A request mix weighted roughly like a match history crawler: mostly matches and timelines, with the summoner lookups that lead to them.
+     */
+    private static Request[] workload() {
+        final Request match = new Request(Match.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "matchId", MATCH_ID));
+        final Request timeline = new Request(Timeline.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "matchId", MATCH_ID));
+        final Request matchList = new Request(MatchList.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "accountId", ACCOUNT_ID));
+        final Request summoner = new Request(Summoner.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "name", SUMMONER_NAME));
+        final Request masteries = new Request(ChampionMasteries.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "summonerId", SUMMONER_ID));
+        final Request positions = new Request(LeaguePositions.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "summonerId", SUMMONER_ID));
+        final Request currentMatch = new Request(CurrentMatch.class, ImmutableMap.<String, Object> of("platform", PLATFORM, "summonerId", SUMMONER_ID));
+        final Request featured = new Request(FeaturedMatches.class, ImmutableMap.<String, Object> of("platform", PLATFORM));
+        final Request status = new Request(ShardStatus.class, ImmutableMap.<String, Object> of("platform", PLATFORM));
+        final Request champions = new Request(ChampionStatuses.class, ImmutableMap.<String, Object> of("platform", PLATFORM));
+
+        return new Request[] {match, timeline, summoner, match, matchList, match, timeline, masteries, match, positions, summoner, match, matchList,
+            currentMatch, match, timeline, featured, match, status, champions};
+    }
+}
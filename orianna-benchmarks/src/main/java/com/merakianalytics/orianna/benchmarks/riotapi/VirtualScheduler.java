@@ -0,0 +1,99 @@
+package com.merakianalytics.orianna.benchmarks.riotapi;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.merakianalytics.orianna.datapipeline.common.rates.Scheduler;
+
+/**
+ * A {@link Scheduler} whose clock only moves when the next task is run. Time is kept in microseconds, and tasks scheduled for the same instant run in the
+ * order they were scheduled, so a simulation driven by it is fully deterministic.
+ *
+ * It isn't thread-safe: everything that touches it, including the rate limiters it's given to, has to run on the thread calling {@link #runNext()}.
+ */
+public class VirtualScheduler extends Scheduler {
+    private static class Event implements Comparable<Event>, Task {
+        private boolean cancelled = false;
+        private final long sequence;
+        private final Runnable task;
+        private final long time;
+
+        public Event(final long time, final long sequence, final Runnable task) {
+            this.time = time;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public int compareTo(final Event other) {
+            if(time != other.time) {
+                return time < other.time ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : sequence == other.sequence ? 0 : 1;
+        }
+    }
+
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long now;
+    private long sequence = 0L;
+
+    /**
+     * @param start
+     *        the time to start the clock at, in milliseconds since the epoch
+     */
+    public VirtualScheduler(final long start) {
+        now = TimeUnit.MILLISECONDS.toMicros(start);
+    }
+
+    public long currentTimeMicros() {
+        return now;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now / 1000L;
+    }
+
+    /**
+     * @return when the next task will run, in microseconds, or {@link Long#MAX_VALUE} if nothing is scheduled
+     */
+    public long nextTimeMicros() {
+        Event next = events.peek();
+        while(next != null && next.cancelled) {
+            events.poll();
+            next = events.peek();
+        }
+        return next == null ? Long.MAX_VALUE : next.time;
+    }
+
+    /**
+     * Advances the clock to the next scheduled task and runs it.
+     *
+     * @return whether there was a task to run
+     */
+    public boolean runNext() {
+        Event next = events.poll();
+        while(next != null && next.cancelled) {
+            next = events.poll();
+        }
+        if(next == null) {
+            return false;
+        }
+
+        now = Math.max(now, next.time);
+        next.task.run();
+        return true;
+    }
+
+    @Override
+    public Task schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final Event event = new Event(now + Math.max(0L, unit.toMicros(delay)), sequence++, task);
+        events.add(event);
+        return event;
+    }
+}
@@ -0,0 +1,432 @@
+package com.merakianalytics.orianna.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.merakianalytics.datapipelines.DataPipeline;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
+import com.merakianalytics.orianna.Orianna;
+import com.merakianalytics.orianna.datapipeline.common.QueryValidationException;
+import com.merakianalytics.orianna.datapipeline.common.TimeoutException;
+import com.merakianalytics.orianna.datapipeline.common.metrics.Metrics;
+import com.merakianalytics.orianna.datapipeline.proxy.ProxyDataSource;
+import com.merakianalytics.orianna.datapipeline.proxy.ProxyProtocol;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Priority;
+import com.merakianalytics.orianna.types.dto.DataObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Runs one Orianna pipeline for many processes. Each process puts a {@link ProxyDataSource} in its pipeline in place of the Riot API and CDN sources, and
+ * its DTO requests come here instead, so every process shares the key's rate limiters.
+ *
+ * Responses are kept in a cache shared by every client, and identical requests that arrive while one is already being fetched wait for that one instead of
+ * making their own. Not-found results are never cached.
+ *
+ * Run it with --config=path/to/orianna-config.json to load a pipeline configuration, plus any of --host, --port, --threads, --cache-capacity and
+ * --cache-expiration (in seconds).
+ */
+public class ProxyServer implements AutoCloseable {
+    public static class Configuration {
+        private static final long DEFAULT_CACHE_CAPACITY = 10000L;
+        private static final long DEFAULT_CACHE_EXPIRATION = 5L;
+        private static final TimeUnit DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.MINUTES;
+        private static final String DEFAULT_HOST = "localhost";
+        private static final int DEFAULT_PORT = 21810;
+        private static final int DEFAULT_THREADS = 32;
+
+        private long cacheCapacity = DEFAULT_CACHE_CAPACITY;
+        private long cacheExpiration = DEFAULT_CACHE_EXPIRATION;
+        private TimeUnit cacheExpirationUnit = DEFAULT_CACHE_EXPIRATION_UNIT;
+        private String host = DEFAULT_HOST;
+        private int port = DEFAULT_PORT;
+        private int threads = DEFAULT_THREADS;
+
+        /**
+         * @return the most responses to keep cached
+         */
+        public long getCacheCapacity() {
+            return cacheCapacity;
+        }
+
+        /**
+         * @return how long a response is cached for
+         */
+        public long getCacheExpiration() {
+            return cacheExpiration;
+        }
+
+        /**
+         * @return the cacheExpirationUnit
+         */
+        public TimeUnit getCacheExpirationUnit() {
+            return cacheExpirationUnit;
+        }
+
+        /**
+         * @return the host to listen on
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * @return the port to listen on
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * @return how many requests to handle at once. Requests waiting on the rate limiters hold a thread.
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * @param cacheCapacity
+         *        the most responses to keep cached
+         */
+        public void setCacheCapacity(final long cacheCapacity) {
+            this.cacheCapacity = cacheCapacity;
+        }
+
+        /**
+         * @param cacheExpiration
+         *        how long a response is cached for
+         */
+        public void setCacheExpiration(final long cacheExpiration) {
+            this.cacheExpiration = cacheExpiration;
+        }
+
+        /**
+         * @param cacheExpirationUnit
+         *        the cacheExpirationUnit to set
+         */
+        public void setCacheExpirationUnit(final TimeUnit cacheExpirationUnit) {
+            this.cacheExpirationUnit = cacheExpirationUnit;
+        }
+
+        /**
+         * @param host
+         *        the host to listen on
+         */
+        public void setHost(final String host) {
+            this.host = host;
+        }
+
+        /**
+         * @param port
+         *        the port to listen on
+         */
+        public void setPort(final int port) {
+            this.port = port;
+        }
+
+        /**
+         * @param threads
+         *        how many requests to handle at once
+         */
+        public void setThreads(final int threads) {
+            this.threads = threads;
+        }
+    }
+
+    private static final byte GET = 0;
+    private static final byte GET_MANY = 1;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyServer.class);
+    private static final byte[] NOT_FOUND = new byte[0];
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Map<String, String> options = options(args);
+        if(options.containsKey("config")) {
+            Orianna.loadConfiguration(new File(options.get("config")));
+        }
+
+        final Configuration config = new Configuration();
+        config.setHost(option(options, "host", config.getHost()));
+        config.setPort(Integer.parseInt(option(options, "port", Integer.toString(config.getPort()))));
+        config.setThreads(Integer.parseInt(option(options, "threads", Integer.toString(config.getThreads()))));
+        config.setCacheCapacity(Long.parseLong(option(options, "cache-capacity", Long.toString(config.getCacheCapacity()))));
+        if(options.containsKey("cache-expiration")) {
+            config.setCacheExpiration(Long.parseLong(options.get("cache-expiration")));
+            config.setCacheExpirationUnit(TimeUnit.SECONDS);
+        }
+
+        final ProxyServer server = new ProxyServer(config, Orianna.getSettings().getPipeline());
+        server.start();
+        LOGGER.info("Orianna proxy listening on " + config.getHost() + ":" + config.getPort());
+        Thread.currentThread().join();
+    }
+
+    private static String option(final Map<String, String> options, final String name, final String defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : value;
+    }
+
+    private static Map<String, String> options(final String[] args) {
+        final ImmutableMap.Builder<String, String> options = ImmutableMap.builder();
+        for(final String arg : args) {
+            if(!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got \"" + arg + "\"!");
+            }
+            final int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options.build();
+    }
+
+    private final Cache<ByteBuffer, byte[]> cache;
+    private final Configuration config;
+    private ExecutorService executor;
+    private final ConcurrentMap<ByteBuffer, ListenableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final DataPipeline pipeline;
+    private HttpServer server;
+
+    public ProxyServer(final Configuration config, final DataPipeline pipeline) {
+        this.config = config;
+        this.pipeline = pipeline;
+        cache = CacheBuilder.newBuilder().maximumSize(config.getCacheCapacity()).expireAfterWrite(config.getCacheExpiration(), config.getCacheExpirationUnit())
+            .recordStats().build();
+
+        Metrics.gauge("proxy.cache.size", new Supplier<Long>() {
+            @Override
+            public Long get() {
+                return cache.size();
+            }
+        });
+        Metrics.gauge("proxy.cache.hits", new Supplier<Long>() {
+            @Override
+            public Long get() {
+                return cache.stats().hitCount();
+            }
+        });
+        Metrics.gauge("proxy.cache.misses", new Supplier<Long>() {
+            @Override
+            public Long get() {
+                return cache.stats().missCount();
+            }
+        });
+        Metrics.gauge("proxy.inFlight", new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return inFlight.size();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if(server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private byte[] fetch(final byte operation, final ProxyProtocol.Request request) {
+        if(operation == GET) {
+            final DataObject result = pipeline.get(request.getType(), request.getQuery());
+            return result == null ? NOT_FOUND : result.toBytes();
+        }
+
+        final CloseableIterator<? extends DataObject> results = pipeline.getMany(request.getType(), request.getQuery());
+        if(results == null) {
+            return NOT_FOUND;
+        }
+        try {
+            return ProxyProtocol.encodeResults(results);
+        } finally {
+            results.close();
+        }
+    }
+
+    @SuppressWarnings("try")
+    private void handle(final HttpExchange exchange) throws IOException {
+        if(!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "Only POST is supported!".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        final String path = exchange.getRequestURI().getPath();
+        final byte operation;
+        if(ProxyProtocol.GET_PATH.equals(path)) {
+            operation = GET;
+        } else if(ProxyProtocol.GET_MANY_PATH.equals(path)) {
+            operation = GET_MANY;
+        } else {
+            respond(exchange, 404, ("Unknown path " + path + "!").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        final byte[] body;
+        try(InputStream input = exchange.getRequestBody()) {
+            body = ByteStreams.toByteArray(input);
+        }
+
+        final ProxyProtocol.Request request;
+        try {
+            request = ProxyProtocol.decodeRequest(body);
+        } catch(final QueryValidationException e) {
+            respond(exchange, 400, e.getMessage().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        Priority priority = Priority.NORMAL;
+        final String header = exchange.getRequestHeaders().getFirst(ProxyProtocol.PRIORITY_HEADER);
+        if(header != null) {
+            try {
+                priority = Priority.valueOf(header);
+            } catch(final IllegalArgumentException e) {
+                // Unknown priorities get the default
+            }
+        }
+
+        Deadline deadline = null;
+        final String remaining = exchange.getRequestHeaders().getFirst(ProxyProtocol.DEADLINE_HEADER);
+        if(remaining != null) {
+            try {
+                deadline = Deadline.after(Math.max(Long.parseLong(remaining), 0L), TimeUnit.MILLISECONDS);
+            } catch(final NumberFormatException e) {
+                // Malformed deadlines are ignored
+            }
+        }
+
+        // The client encodes queries canonically, so the operation and body identify the request
+        final ByteBuffer key = ByteBuffer.allocate(body.length + 1).put(operation).put(body);
+        key.flip();
+
+        final byte[] result;
+        try(Deadline.Scope deadlineScope = Deadline.enter(deadline); Priority.Scope priorityScope = Priority.enter(priority)) {
+            result = load(key, operation, request);
+        } catch(final RuntimeException e) {
+            if(e instanceof TimeoutException && ((TimeoutException)e).getType() == TimeoutException.Type.DEADLINE) {
+                respond(exchange, ProxyProtocol.DEADLINE_PASSED, e.getMessage().getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            LOGGER.error("Proxy request for " + request.getType().getName() + " failed!", e);
+            final String message = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            respond(exchange, 500, message.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        if(result == NOT_FOUND) {
+            respond(exchange, 404, NOT_FOUND);
+        } else {
+            respond(exchange, 200, result);
+        }
+    }
+
+    private byte[] load(final ByteBuffer key, final byte operation, final ProxyProtocol.Request request) {
+        byte[] result = cache.getIfPresent(key);
+        if(result != null) {
+            return result;
+        }
+
+        final SettableFuture<byte[]> future = SettableFuture.create();
+        final ListenableFuture<byte[]> existing = inFlight.putIfAbsent(key, future);
+        if(existing != null) {
+            final Deadline deadline = Deadline.current();
+            try {
+                if(deadline == null) {
+                    return Uninterruptibles.getUninterruptibly(existing);
+                }
+                return Uninterruptibles.getUninterruptibly(existing, deadline.remaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            } catch(final java.util.concurrent.TimeoutException e) {
+                throw new TimeoutException("Deadline passed waiting for the proxy request for " + request.getType().getName() + "!",
+                    TimeoutException.Type.DEADLINE);
+            } catch(final ExecutionException e) {
+                if(e.getCause() instanceof TimeoutException && ((TimeoutException)e.getCause()).getType() == TimeoutException.Type.DEADLINE
+                    && (deadline == null || !deadline.isExpired())) {
+                    // The request we waited on ran out of its own time, not ours
+                    return load(key, operation, request);
+                }
+                if(e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException)e.getCause();
+                }
+                throw new OriannaException("Proxy request for " + request.getType().getName() + " failed!", e.getCause());
+            }
+        }
+
+        try {
+            // It may have been cached between the first check and taking the in-flight slot
+            result = cache.getIfPresent(key);
+            if(result == null) {
+                result = fetch(operation, request);
+                if(result != NOT_FOUND) {
+                    cache.put(key, result);
+                }
+            }
+            future.set(result);
+            return result;
+        } catch(final RuntimeException | Error e) {
+            future.setException(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", status == 200 ? ProxyProtocol.CONTENT_TYPE : "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try(OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(config.getHost(), config.getPort()), 0);
+        } catch(final IOException e) {
+            LOGGER.error("Failed to start the orianna proxy!", e);
+            throw new OriannaException("Failed to start the orianna proxy on " + config.getHost() + ":" + config.getPort() + "!", e);
+        }
+
+        executor = Executors.newFixedThreadPool(config.getThreads(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-proxy-%d").build());
+        server.setExecutor(executor);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                try {
+                    ProxyServer.this.handle(exchange);
+                } catch(final RuntimeException e) {
+                    LOGGER.error("Orianna proxy failed to handle " + exchange.getRequestURI() + "!", e);
+                    respond(exchange, 500, "Internal server error".getBytes(StandardCharsets.UTF_8));
+                } finally {
+                    exchange.close();
+                }
+            }
+        });
+        server.start();
+    }
+}
@@ -2,10 +2,19 @@ package com.merakianalytics.orianna;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -15,6 +24,7 @@ import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
@@ -22,6 +32,13 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.io.CharSource;
 import com.google.common.io.Files;
 import com.google.common.io.Resources;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.merakianalytics.datapipelines.DataPipeline;
 import com.merakianalytics.orianna.datapipeline.DataDragon;
 import com.merakianalytics.orianna.datapipeline.GhostObjectSource;
@@ -31,7 +48,9 @@ import com.merakianalytics.orianna.datapipeline.MerakiAnalyticsCDN;
 import com.merakianalytics.orianna.datapipeline.PipelineConfiguration;
 import com.merakianalytics.orianna.datapipeline.PipelineConfiguration.PipelineElementConfiguration;
 import com.merakianalytics.orianna.datapipeline.PipelineConfiguration.TransformerConfiguration;
+import com.merakianalytics.orianna.datapipeline.common.RefreshingSupplier;
 import com.merakianalytics.orianna.datapipeline.common.expiration.ExpirationPeriod;
+import com.merakianalytics.orianna.datapipeline.common.metrics.Metrics;
 import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPI;
 import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ChampionMasteryTransformer;
 import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ChampionTransformer;
@@ -42,8 +61,10 @@ import com.merakianalytics.orianna.datapipeline.transformers.dtodata.StaticDataT
 import com.merakianalytics.orianna.datapipeline.transformers.dtodata.StatusTransformer;
 import com.merakianalytics.orianna.datapipeline.transformers.dtodata.SummonerTransformer;
 import com.merakianalytics.orianna.datapipeline.transformers.dtodata.ThirdPartyCodeTransformer;
+import com.merakianalytics.orianna.types.common.Deadline;
 import com.merakianalytics.orianna.types.common.OriannaException;
 import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.common.Priority;
 import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMasteries;
@@ -95,9 +116,20 @@ import com.merakianalytics.orianna.types.core.thirdpartycode.VerificationStrings
 
 public abstract class Orianna {
     public static class Configuration {
+        private static final int DEFAULT_ASYNC_THREADS = 0;
         private static final ExpirationPeriod DEFAULT_CURRENT_VERSION_EXPIRATION = ExpirationPeriod.create(6L, TimeUnit.HOURS);
+        private static final ExpirationPeriod DEFAULT_CURRENT_VERSION_REFRESH_AHEAD = ExpirationPeriod.create(10L, TimeUnit.MINUTES);
         private static final String DEFAULT_DEFAULT_LOCALE = null;
         private static final Platform DEFAULT_DEFAULT_PLATFORM = null;
+        private static final boolean DEFAULT_EXPORT_METRICS_TO_JMX = false;
+        private static final int DEFAULT_PUBLISHER_PARALLELISM = 8;
+        private static final boolean DEFAULT_REFRESH_STATIC_DATA_ON_VERSION_CHANGE = false;
+        private static final boolean DEFAULT_SERVE_STALE_CURRENT_VERSION = true;
+        private static final Set<String> DEFAULT_WARM_UP_LOCALES = ImmutableSet.of();
+        private static final Set<Platform> DEFAULT_WARM_UP_PLATFORMS = ImmutableSet.of();
+        private static final Set<String> DEFAULT_WARM_UP_TYPES = ImmutableSet.of(Champions.class.getCanonicalName(), Items.class.getCanonicalName(),
+            Maps.class.getCanonicalName(), ProfileIcons.class.getCanonicalName(), ReforgedRunes.class.getCanonicalName(),
+            SummonerSpells.class.getCanonicalName());
 
         private static PipelineConfiguration getDefaultPipeline() {
             final PipelineConfiguration config = new PipelineConfiguration();
@@ -126,10 +158,26 @@ public abstract class Orianna {
             return config;
         }
 
+        private int asyncThreads = DEFAULT_ASYNC_THREADS;
         private ExpirationPeriod currentVersionExpiration = DEFAULT_CURRENT_VERSION_EXPIRATION;
+        private ExpirationPeriod currentVersionRefreshAhead = DEFAULT_CURRENT_VERSION_REFRESH_AHEAD;
         private String defaultLocale = DEFAULT_DEFAULT_LOCALE;
         private Platform defaultPlatform = DEFAULT_DEFAULT_PLATFORM;
+        private boolean exportMetricsToJMX = DEFAULT_EXPORT_METRICS_TO_JMX;
         private PipelineConfiguration pipeline = getDefaultPipeline();
+        private int publisherParallelism = DEFAULT_PUBLISHER_PARALLELISM;
+        private boolean refreshStaticDataOnVersionChange = DEFAULT_REFRESH_STATIC_DATA_ON_VERSION_CHANGE;
+        private boolean serveStaleCurrentVersion = DEFAULT_SERVE_STALE_CURRENT_VERSION;
+        private Set<String> warmUpLocales = DEFAULT_WARM_UP_LOCALES;
+        private Set<Platform> warmUpPlatforms = DEFAULT_WARM_UP_PLATFORMS;
+        private Set<String> warmUpTypes = DEFAULT_WARM_UP_TYPES;
+
+        /**
+         * @return the asyncThreads
+         */
+        public int getAsyncThreads() {
+            return asyncThreads;
+        }
 
         /**
          * @return the currentVersionExpiration
@@ -138,6 +186,13 @@ public abstract class Orianna {
             return currentVersionExpiration;
         }
 
+        /**
+         * @return the currentVersionRefreshAhead
+         */
+        public ExpirationPeriod getCurrentVersionRefreshAhead() {
+            return currentVersionRefreshAhead;
+        }
+
         /**
          * @return the defaultLocale
          */
@@ -159,6 +214,63 @@ public abstract class Orianna {
             return pipeline;
         }
 
+        /**
+         * @return the publisherParallelism
+         */
+        public int getPublisherParallelism() {
+            return publisherParallelism;
+        }
+
+        /**
+         * @return the warmUpLocales
+         */
+        public Set<String> getWarmUpLocales() {
+            return warmUpLocales;
+        }
+
+        /**
+         * @return the warmUpPlatforms
+         */
+        public Set<Platform> getWarmUpPlatforms() {
+            return warmUpPlatforms;
+        }
+
+        /**
+         * @return the warmUpTypes
+         */
+        public Set<String> getWarmUpTypes() {
+            return warmUpTypes;
+        }
+
+        /**
+         * @return whether to publish the rate limiter and HTTP metrics from {@link Metrics#snapshot()} as an MBean
+         */
+        public boolean isExportMetricsToJMX() {
+            return exportMetricsToJMX;
+        }
+
+        /**
+         * @return the refreshStaticDataOnVersionChange
+         */
+        public boolean isRefreshStaticDataOnVersionChange() {
+            return refreshStaticDataOnVersionChange;
+        }
+
+        /**
+         * @return the serveStaleCurrentVersion
+         */
+        public boolean isServeStaleCurrentVersion() {
+            return serveStaleCurrentVersion;
+        }
+
+        /**
+         * @param asyncThreads
+         *        the asyncThreads to set
+         */
+        public void setAsyncThreads(final int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
         /**
          * @param currentVersionExpiration
          *        the currentVersionExpiration to set
@@ -167,6 +279,14 @@ public abstract class Orianna {
             this.currentVersionExpiration = currentVersionExpiration;
         }
 
+        /**
+         * @param currentVersionRefreshAhead
+         *        the currentVersionRefreshAhead to set
+         */
+        public void setCurrentVersionRefreshAhead(final ExpirationPeriod currentVersionRefreshAhead) {
+            this.currentVersionRefreshAhead = currentVersionRefreshAhead;
+        }
+
         /**
          * @param defaultLocale
          *        the defaultLocale to set
@@ -183,6 +303,14 @@ public abstract class Orianna {
             this.defaultPlatform = defaultPlatform;
         }
 
+        /**
+         * @param exportMetricsToJMX
+         *        whether to publish the rate limiter and HTTP metrics from {@link Metrics#snapshot()} as an MBean
+         */
+        public void setExportMetricsToJMX(final boolean exportMetricsToJMX) {
+            this.exportMetricsToJMX = exportMetricsToJMX;
+        }
+
         /**
          * @param pipeline
          *        the pipeline to set
@@ -190,18 +318,83 @@ public abstract class Orianna {
         public void setPipeline(final PipelineConfiguration pipeline) {
             this.pipeline = pipeline;
         }
+
+        /**
+         * @param publisherParallelism
+         *        the publisherParallelism to set
+         */
+        public void setPublisherParallelism(final int publisherParallelism) {
+            this.publisherParallelism = publisherParallelism;
+        }
+
+        /**
+         * @param refreshStaticDataOnVersionChange
+         *        the refreshStaticDataOnVersionChange to set
+         */
+        public void setRefreshStaticDataOnVersionChange(final boolean refreshStaticDataOnVersionChange) {
+            this.refreshStaticDataOnVersionChange = refreshStaticDataOnVersionChange;
+        }
+
+        /**
+         * @param serveStaleCurrentVersion
+         *        the serveStaleCurrentVersion to set
+         */
+        public void setServeStaleCurrentVersion(final boolean serveStaleCurrentVersion) {
+            this.serveStaleCurrentVersion = serveStaleCurrentVersion;
+        }
+
+        /**
+         * @param warmUpLocales
+         *        the warmUpLocales to set
+         */
+        public void setWarmUpLocales(final Set<String> warmUpLocales) {
+            this.warmUpLocales = warmUpLocales;
+        }
+
+        /**
+         * @param warmUpPlatforms
+         *        the warmUpPlatforms to set
+         */
+        public void setWarmUpPlatforms(final Set<Platform> warmUpPlatforms) {
+            this.warmUpPlatforms = warmUpPlatforms;
+        }
+
+        /**
+         * @param warmUpTypes
+         *        the warmUpTypes to set
+         */
+        public void setWarmUpTypes(final Set<String> warmUpTypes) {
+            this.warmUpTypes = warmUpTypes;
+        }
     }
 
     public static class Settings {
+        private Supplier<ListeningExecutorService> asyncExecutor;
         private final Configuration configuration;
         private final java.util.Map<Platform, Supplier<String>> currentVersion;
         private final Object currentVersionLock = new Object();
         private Supplier<DataPipeline> pipeline;
+        private ListenableFuture<Void> warmUp = Futures.immediateFuture(null);
 
         private Settings(final Configuration config) {
             pipeline = newPipelineSupplier();
             configuration = config;
             currentVersion = new ConcurrentHashMap<>();
+            asyncExecutor = newAsyncExecutorSupplier();
+            if(config.isExportMetricsToJMX()) {
+                Metrics.exportToJMX();
+            }
+        }
+
+        /**
+         * The executor getAsync and loadAsync run on. Unless one was set with {@link Orianna#setAsyncExecutor(ExecutorService)}, it's made from the
+         * configured asyncThreads: a fixed pool of that many threads if it's positive, and otherwise a new thread per task, using virtual threads if the JVM
+         * has them.
+         *
+         * @return the async executor
+         */
+        public ListeningExecutorService getAsyncExecutor() {
+            return asyncExecutor.get();
         }
 
         /**
@@ -244,6 +437,71 @@ public abstract class Orianna {
             return pipeline.get();
         }
 
+        /**
+         * @return the most items a publisher loads at once
+         */
+        public int getPublisherParallelism() {
+            return configuration.getPublisherParallelism();
+        }
+
+        /**
+         * @return a future that completes once the static data for the configured warmUpPlatforms has been loaded, or fails if any of it couldn't be. It's
+         *         already complete if no warm-up was configured.
+         */
+        public ListenableFuture<Void> getWarmUp() {
+            return warmUp;
+        }
+
+        private List<ListenableFuture<?>> loadStaticData(final Platform platform, final String version) {
+            final Set<String> locales = configuration.getWarmUpLocales().isEmpty() ? Collections.<String> singleton(null) : configuration.getWarmUpLocales();
+
+            final List<ListenableFuture<?>> loads = new ArrayList<>();
+            for(final String type : configuration.getWarmUpTypes()) {
+                for(final String locale : locales) {
+                    // A null locale gets the default one, just like an unset one
+                    if(Champions.class.getCanonicalName().equals(type)) {
+                        loads.add(Champions.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else if(Items.class.getCanonicalName().equals(type)) {
+                        loads.add(Items.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else if(Maps.class.getCanonicalName().equals(type)) {
+                        loads.add(Maps.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else if(ProfileIcons.class.getCanonicalName().equals(type)) {
+                        loads.add(ProfileIcons.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else if(ReforgedRunes.class.getCanonicalName().equals(type)) {
+                        loads.add(ReforgedRunes.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else if(SummonerSpells.class.getCanonicalName().equals(type)) {
+                        loads.add(SummonerSpells.withPlatform(platform).withVersion(version).withLocale(locale).getAsync());
+                    } else {
+                        LOGGER.error(type + " can't be warmed up!");
+                        throw new OriannaException(type + " can't be warmed up! Only " + Configuration.DEFAULT_WARM_UP_TYPES + " can be.");
+                    }
+                }
+            }
+            return loads;
+        }
+
+        private Supplier<ListeningExecutorService> newAsyncExecutorSupplier() {
+            return Suppliers.memoize(new Supplier<ListeningExecutorService>() {
+                @Override
+                public ListeningExecutorService get() {
+                    final ThreadFactory threads = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-async-%d").build();
+                    if(configuration.getAsyncThreads() > 0) {
+                        return MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(configuration.getAsyncThreads(), threads));
+                    }
+
+                    try {
+                        final Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                        return MoreExecutors.listeningDecorator((ExecutorService)virtual.invoke(null));
+                    } catch(final NoSuchMethodException e) {
+                        // No virtual threads on this JVM
+                    } catch(final ReflectiveOperationException e) {
+                        LOGGER.warn("Failed to create a virtual thread executor! Using platform threads for async requests instead.", e);
+                    }
+                    return MoreExecutors.listeningDecorator(Executors.newCachedThreadPool(threads));
+                }
+            });
+        }
+
         private Supplier<DataPipeline> newPipelineSupplier() {
             return Suppliers.memoize(new Supplier<DataPipeline>() {
                 @Override
@@ -264,12 +522,42 @@ public abstract class Orianna {
             if(configuration.getCurrentVersionExpiration().getPeriod() < 0) {
                 supplier = Suppliers.memoize(supplier);
             } else if(configuration.getCurrentVersionExpiration().getPeriod() > 0) {
-                supplier = Suppliers.memoizeWithExpiration(supplier, configuration.getCurrentVersionExpiration().getPeriod(),
-                    configuration.getCurrentVersionExpiration().getUnit());
+                final ExpirationPeriod expiration = configuration.getCurrentVersionExpiration();
+                final ExpirationPeriod refreshAhead = configuration.getCurrentVersionRefreshAhead();
+                supplier = new RefreshingSupplier<>(supplier, expiration.getUnit().toMillis(expiration.getPeriod()),
+                    refreshAhead.getUnit().toMillis(refreshAhead.getPeriod()), TimeUnit.MILLISECONDS, configuration.isServeStaleCurrentVersion(),
+                    new Supplier<Executor>() {
+                        @Override
+                        public Executor get() {
+                            return getAsyncExecutor();
+                        }
+                    }, new RefreshingSupplier.ChangeHook<String>() {
+                        @Override
+                        public void call(final String previous, final String current) {
+                            versionChanged(platform, previous, current);
+                        }
+                    });
             }
             return supplier;
         }
 
+        private void refreshStaticData(final Platform platform, final String version) {
+            Futures.addCallback(Futures.allAsList(loadStaticData(platform, version)), new FutureCallback<List<Object>>() {
+                @Override
+                public void onFailure(final Throwable error) {
+                    LOGGER.warn("Failed to refresh static data for " + platform + " version " + version + "! It will be loaded when it's first used instead.",
+                        error);
+                }
+
+                @Override
+                public void onSuccess(final List<Object> loaded) {}
+            }, MoreExecutors.directExecutor());
+        }
+
+        private void setAsyncExecutor(final ExecutorService executor) {
+            asyncExecutor = Suppliers.ofInstance(MoreExecutors.listeningDecorator(executor));
+        }
+
         private void setDefaultLocale(final String defaultLocale) {
             configuration.setDefaultLocale(defaultLocale);
         }
@@ -278,6 +566,60 @@ public abstract class Orianna {
             configuration.setDefaultPlatform(defaultPlatform);
         }
 
+        private void warmUp() {
+            if(configuration.getWarmUpPlatforms().isEmpty()) {
+                return;
+            }
+
+            final long start = System.currentTimeMillis();
+            final List<ListenableFuture<?>> loads = new ArrayList<>();
+            for(final Platform platform : configuration.getWarmUpPlatforms()) {
+                loads.add(Versions.withPlatform(platform).getAsync());
+
+                // The realm has to come first, since it picks the version everything else is loaded for
+                final ListenableFuture<String> version = getAsyncExecutor().submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return getCurrentVersion(platform);
+                    }
+                });
+                loads.add(Futures.transformAsync(version, new AsyncFunction<String, List<Object>>() {
+                    @Override
+                    public ListenableFuture<List<Object>> apply(final String current) {
+                        return Futures.allAsList(loadStaticData(platform, current));
+                    }
+                }, MoreExecutors.directExecutor()));
+            }
+
+            warmUp = Futures.transform(Futures.allAsList(loads), new Function<List<Object>, Void>() {
+                @Override
+                public Void apply(final List<Object> loaded) {
+                    LOGGER.info("Warmed up static data for " + configuration.getWarmUpPlatforms() + " in " + (System.currentTimeMillis() - start) + "ms.");
+                    return null;
+                }
+            }, MoreExecutors.directExecutor());
+            Futures.addCallback(warmUp, new FutureCallback<Void>() {
+                @Override
+                public void onFailure(final Throwable error) {
+                    LOGGER.warn("Failed to warm up static data for " + configuration.getWarmUpPlatforms() + "! It will be loaded when it's first used instead.",
+                        error);
+                }
+
+                @Override
+                public void onSuccess(final Void result) {}
+            }, MoreExecutors.directExecutor());
+        }
+
+        private void versionChanged(final Platform platform, final String previous, final String current) {
+            LOGGER.info("Current version for " + platform + " changed from " + previous + " to " + current + ".");
+            if(configuration.isRefreshStaticDataOnVersionChange()) {
+                refreshStaticData(platform, current);
+            }
+            for(final VersionChangeHook hook : VERSION_CHANGE_HOOKS) {
+                hook.call(platform, previous, current);
+            }
+        }
+
         private void setRiotAPIKey(final String key) {
             boolean changed = false;
             for(final PipelineElementConfiguration element : configuration.getPipeline().getElements()) {
@@ -294,10 +636,19 @@ public abstract class Orianna {
         }
     }
 
+    public static interface VersionChangeHook {
+        public void call(Platform platform, String previous, String current);
+    }
+
     private static final String CONFIGURATION_PATH_ENVIRONMENT_VARIABLE = "ORIANNA_CONFIGURATION_PATH";
     private static final Logger LOGGER = LoggerFactory.getLogger(Orianna.class);
+    private static final List<VersionChangeHook> VERSION_CHANGE_HOOKS = new CopyOnWriteArrayList<>();
     private static Settings settings = defaultSettings();
 
+    static {
+        settings.warmUp();
+    }
+
     public static League.SelectBuilder.SubBuilder challengerLeagueInQueue(final Queue queue) {
         return League.challengerInQueue(queue);
     }
@@ -556,6 +907,15 @@ public abstract class Orianna {
         return Versions.get();
     }
 
+    /**
+     * Services can wait on this before taking traffic, so the first requests for each warmed up platform don't pay for loading its static data.
+     *
+     * @return a future that completes once the configured static data warm-up has finished
+     */
+    public static ListenableFuture<Void> getWarmUp() {
+        return settings.getWarmUp();
+    }
+
     public static Item.Builder itemNamed(final String name) {
         return Item.named(name);
     }
@@ -658,6 +1018,7 @@ public abstract class Orianna {
 
     public static void loadConfiguration(final Configuration config) {
         settings = new Settings(config);
+        settings.warmUp();
     }
 
     public static void loadConfiguration(final File configJSON) {
@@ -872,6 +1233,17 @@ public abstract class Orianna {
         return ReforgedRune.withKey(key);
     }
 
+    /**
+     * Registers a hook that's called whenever the current version for a platform is refreshed and has changed, for example to reload anything that depends
+     * on it. It's called on the async executor.
+     *
+     * @param hook
+     *        the hook
+     */
+    public static void registerVersionChangeHook(final VersionChangeHook hook) {
+        VERSION_CHANGE_HOOKS.add(hook);
+    }
+
     public static Rune.Builder runeNamed(final String name) {
         return Rune.named(name);
     }
@@ -920,6 +1292,17 @@ public abstract class Orianna {
         return Rune.withId(id);
     }
 
+    /**
+     * Sets the executor getAsync and loadAsync run on, replacing the one made from the asyncThreads configuration. On JVMs with virtual threads,
+     * Executors.newVirtualThreadPerTaskExecutor() is a good fit, since every task spends most of its time waiting on requests.
+     *
+     * @param executor
+     *        the executor to use
+     */
+    public static void setAsyncExecutor(final ExecutorService executor) {
+        settings.setAsyncExecutor(executor);
+    }
+
     /**
      * Sets the default locale. The default locale will be used for locale-aware information from the Static Data API like champion names and descriptions.
      * The default locale starts null, and if it is set to null the default locale for the region/platform the data is from will be used.
@@ -1113,4 +1496,41 @@ public abstract class Orianna {
     public static Versions.Builder versionsWithRegion(final Region region) {
         return Versions.withRegion(region);
     }
+
+    /**
+     * Gives the requests this thread makes, and the async work it starts, a deadline until the returned scope is closed. Requests that can't be made before
+     * it fail with a {@link com.merakianalytics.orianna.datapipeline.common.TimeoutException} instead of waiting for a rate limiter permit.
+     *
+     * <pre>
+     * try(Deadline.Scope scope = Orianna.withDeadline(2, TimeUnit.SECONDS)) {
+     *     Orianna.summonerNamed(name).withPlatform(Platform.NORTH_AMERICA).get().getLevel();
+     * }
+     * </pre>
+     *
+     * @param time
+     *        how long from now the deadline is
+     * @param unit
+     *        the unit of time
+     * @return the scope
+     */
+    public static Deadline.Scope withDeadline(final long time, final TimeUnit unit) {
+        return Deadline.enter(Deadline.after(time, unit));
+    }
+
+    /**
+     * Sets the priority of the requests this thread makes, and the async work it starts, until the returned scope is closed.
+     *
+     * <pre>
+     * try(Priority.Scope scope = Orianna.withPriority(Priority.BULK)) {
+     *     Orianna.matchesWithIds(ids).withPlatform(Platform.NORTH_AMERICA).get();
+     * }
+     * </pre>
+     *
+     * @param priority
+     *        the priority
+     * @return the scope
+     */
+    public static Priority.Scope withPriority(final Priority priority) {
+        return Priority.enter(priority);
+    }
 }
@@ -1,12 +1,29 @@
 package com.merakianalytics.orianna.datapipeline;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.cache2k.Cache;
 import org.cache2k.Cache2kBuilder;
@@ -20,6 +37,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.merakianalytics.datapipelines.AbstractDataStore;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
@@ -28,13 +46,17 @@ import com.merakianalytics.datapipelines.sinks.Put;
 import com.merakianalytics.datapipelines.sinks.PutMany;
 import com.merakianalytics.datapipelines.sources.Get;
 import com.merakianalytics.datapipelines.sources.GetMany;
+import com.merakianalytics.orianna.datapipeline.common.OffHeapCache;
 import com.merakianalytics.orianna.datapipeline.common.expiration.ExpirationPeriod;
 import com.merakianalytics.orianna.types.UniqueKeys;
 import com.merakianalytics.orianna.types.common.OriannaException;
 import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Tier;
+import com.merakianalytics.orianna.types.core.GhostObject;
 import com.merakianalytics.orianna.types.core.GhostObject.ListProxy;
 import com.merakianalytics.orianna.types.core.GhostObject.LoadHook;
+import com.merakianalytics.orianna.types.core.OriannaObject;
+import com.merakianalytics.orianna.types.core.OriannaObjects;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMasteries;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMastery;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMasteryScore;
@@ -70,9 +92,11 @@ import com.merakianalytics.orianna.types.core.staticdata.Versions;
 import com.merakianalytics.orianna.types.core.status.ShardStatus;
 import com.merakianalytics.orianna.types.core.summoner.Summoner;
 import com.merakianalytics.orianna.types.core.thirdpartycode.VerificationString;
+import com.merakianalytics.orianna.types.data.CoreData;
 
-public class InMemoryCache extends AbstractDataStore {
+public class InMemoryCache extends AbstractDataStore implements AutoCloseable {
     public static class Configuration {
+        private static final long DEFAULT_ENTRY_CAPACITY = 2000L;
         private static final long DEFAULT_EXPIRATION_PERIOD_MAX = 6L;
         private static final TimeUnit DEFAULT_EXPIRATION_PERIOD_UNIT_MAX = TimeUnit.HOURS;
         private static final java.util.Map<String, ExpirationPeriod> DEFAULT_EXPIRATION_PERIODS = ImmutableMap.<String, ExpirationPeriod> builder()
@@ -113,8 +137,32 @@ public class InMemoryCache extends AbstractDataStore {
             .put(VerificationString.class.getCanonicalName(), ExpirationPeriod.create(3L, TimeUnit.MINUTES))
             .put(Versions.class.getCanonicalName(), ExpirationPeriod.create(6L, TimeUnit.HOURS))
             .build();
+        private static final java.util.Map<String, ExpirationPeriod> DEFAULT_NOT_FOUND_EXPIRATION_PERIODS = ImmutableMap.<String, ExpirationPeriod> builder()
+            .put(CurrentMatch.class.getCanonicalName(), ExpirationPeriod.create(30L, TimeUnit.SECONDS))
+            .put(Match.class.getCanonicalName(), ExpirationPeriod.create(5L, TimeUnit.MINUTES))
+            .put(Summoner.class.getCanonicalName(), ExpirationPeriod.create(5L, TimeUnit.MINUTES))
+            .put(VerificationString.class.getCanonicalName(), ExpirationPeriod.create(30L, TimeUnit.SECONDS))
+            .build();
+        private static final long DEFAULT_OFF_HEAP_CAPACITY = 0L;
+        private static final Set<String> DEFAULT_OFF_HEAP_TYPES = ImmutableSet.of(Match.class.getCanonicalName());
+        private static final long DEFAULT_SNAPSHOT_INTERVAL = 0L;
+        private static final TimeUnit DEFAULT_SNAPSHOT_INTERVAL_UNIT = TimeUnit.MINUTES;
 
+        private long entryCapacity = DEFAULT_ENTRY_CAPACITY;
         private java.util.Map<String, ExpirationPeriod> expirationPeriods = DEFAULT_EXPIRATION_PERIODS;
+        private java.util.Map<String, ExpirationPeriod> notFoundExpirationPeriods = DEFAULT_NOT_FOUND_EXPIRATION_PERIODS;
+        private long offHeapCapacity = DEFAULT_OFF_HEAP_CAPACITY;
+        private Set<String> offHeapTypes = DEFAULT_OFF_HEAP_TYPES;
+        private String snapshotFile;
+        private long snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+        private TimeUnit snapshotIntervalUnit = DEFAULT_SNAPSHOT_INTERVAL_UNIT;
+
+        /**
+         * @return the entryCapacity
+         */
+        public long getEntryCapacity() {
+            return entryCapacity;
+        }
 
         /**
          * @return the expirationPeriods
@@ -123,6 +171,56 @@ public class InMemoryCache extends AbstractDataStore {
             return expirationPeriods;
         }
 
+        /**
+         * @return the notFoundExpirationPeriods
+         */
+        public java.util.Map<String, ExpirationPeriod> getNotFoundExpirationPeriods() {
+            return notFoundExpirationPeriods;
+        }
+
+        /**
+         * @return the offHeapCapacity
+         */
+        public long getOffHeapCapacity() {
+            return offHeapCapacity;
+        }
+
+        /**
+         * @return the offHeapTypes
+         */
+        public Set<String> getOffHeapTypes() {
+            return offHeapTypes;
+        }
+
+        /**
+         * @return the snapshotFile
+         */
+        public String getSnapshotFile() {
+            return snapshotFile;
+        }
+
+        /**
+         * @return the snapshotInterval
+         */
+        public long getSnapshotInterval() {
+            return snapshotInterval;
+        }
+
+        /**
+         * @return the snapshotIntervalUnit
+         */
+        public TimeUnit getSnapshotIntervalUnit() {
+            return snapshotIntervalUnit;
+        }
+
+        /**
+         * @param entryCapacity
+         *        the entryCapacity to set
+         */
+        public void setEntryCapacity(final long entryCapacity) {
+            this.entryCapacity = entryCapacity;
+        }
+
         /**
          * @param expirationPeriods
          *        the expirationPeriods to set
@@ -130,11 +228,97 @@ public class InMemoryCache extends AbstractDataStore {
         public void setExpirationPeriods(final java.util.Map<String, ExpirationPeriod> expirationPeriods) {
             this.expirationPeriods = expirationPeriods;
         }
+
+        /**
+         * @param notFoundExpirationPeriods
+         *        the notFoundExpirationPeriods to set
+         */
+        public void setNotFoundExpirationPeriods(final java.util.Map<String, ExpirationPeriod> notFoundExpirationPeriods) {
+            this.notFoundExpirationPeriods = notFoundExpirationPeriods;
+        }
+
+        /**
+         * @param offHeapCapacity
+         *        the offHeapCapacity to set
+         */
+        public void setOffHeapCapacity(final long offHeapCapacity) {
+            this.offHeapCapacity = offHeapCapacity;
+        }
+
+        /**
+         * @param offHeapTypes
+         *        the offHeapTypes to set
+         */
+        public void setOffHeapTypes(final Set<String> offHeapTypes) {
+            this.offHeapTypes = offHeapTypes;
+        }
+
+        /**
+         * @param snapshotFile
+         *        the snapshotFile to set
+         */
+        public void setSnapshotFile(final String snapshotFile) {
+            this.snapshotFile = snapshotFile;
+        }
+
+        /**
+         * @param snapshotInterval
+         *        the snapshotInterval to set
+         */
+        public void setSnapshotInterval(final long snapshotInterval) {
+            this.snapshotInterval = snapshotInterval;
+        }
+
+        /**
+         * @param snapshotIntervalUnit
+         *        the snapshotIntervalUnit to set
+         */
+        public void setSnapshotIntervalUnit(final TimeUnit snapshotIntervalUnit) {
+            this.snapshotIntervalUnit = snapshotIntervalUnit;
+        }
     }
 
-    private class Policy implements ExpiryPolicy<Integer, Object> {
+    private class NotFoundHook implements LoadHook {
+        private final UniqueKeys.Key key;
+        private final GhostObject<?> object;
+
+        public NotFoundHook(final UniqueKeys.Key key, final GhostObject<?> object) {
+            this.key = key;
+            this.object = object;
+        }
+
         @Override
-        public long calculateExpiryTime(final Integer key, final Object value, final long loadTime, final CacheEntry<Integer, Object> oldEntry) {
+        public void call() {
+            if(object.isLoaded()) {
+                notFound(key, object);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final NotFoundHook other = (NotFoundHook)obj;
+            return getOuter() == other.getOuter() && key.equals(other.key) && object == other.object;
+        }
+
+        private InMemoryCache getOuter() {
+            return InMemoryCache.this;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+    private class Policy implements ExpiryPolicy<UniqueKeys.Key, Object> {
+        @Override
+        public long calculateExpiryTime(final UniqueKeys.Key key, final Object value, final long loadTime, final CacheEntry<UniqueKeys.Key, Object> oldEntry) {
             final Long period = expirationPeriods.get(value.getClass());
             if(period != null && period > 0L) {
                 return loadTime + period.longValue();
@@ -144,122 +328,249 @@ public class InMemoryCache extends AbstractDataStore {
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryCache.class);
+    private static final int SNAPSHOT_MAGIC = 0x4F494D43; // "OIMC"
+    // The cache currently writing to each snapshot file. A cache made for a file that's taken replaces the one before it.
+    private static final ConcurrentMap<File, InMemoryCache> SNAPSHOT_OWNERS = new ConcurrentHashMap<>();
+    private static final int SNAPSHOT_VERSION = 1;
     private static final Set<Tier> UNIQUE_TIERS = ImmutableSet.of(Tier.CHALLENGER, Tier.MASTER);
-    private final Cache<Integer, Object> cache;
+    private final Cache<UniqueKeys.Key, Object> cache;
     private final java.util.Map<Class<?>, Long> expirationPeriods;
+    // Entries whose expiration was carried over from an earlier copy instead of set by the policy. Only kept while snapshots are on.
+    private final ConcurrentMap<UniqueKeys.Key, Long> explicitExpirations = new ConcurrentHashMap<>();
+    // Shorter periods for ghost objects that loaded but turned out not to exist
+    private final java.util.Map<Class<?>, Long> notFoundExpirationPeriods;
+    private final OffHeapCache offHeap;
+    private final Set<Class<?>> offHeapTypes;
+    private Thread shutdownHook;
+    private final File snapshotFile;
+    private ScheduledExecutorService snapshotTimer;
 
     public InMemoryCache() {
         this(new Configuration());
     }
 
     public InMemoryCache(final Configuration config) {
-        final java.util.Map<Class<?>, Long> periods = new HashMap<>();
+        expirationPeriods = toMillis(config.getExpirationPeriods());
+        notFoundExpirationPeriods = toMillis(config.getNotFoundExpirationPeriods());
+        for(final Class<?> clazz : notFoundExpirationPeriods.keySet()) {
+            if(!GhostObject.class.isAssignableFrom(clazz)) {
+                LOGGER.error(clazz.getName() + " can't have a not found expiration period!");
+                throw new OriannaException(clazz.getName() + " can't have a not found expiration period! Only ghost objects can be not found.");
+            }
+        }
+
+        if(config.getOffHeapCapacity() > 0L) {
+            final Set<Class<?>> types = new HashSet<>();
+            for(final String className : config.getOffHeapTypes()) {
+                final Class<?> clazz;
+                try {
+                    clazz = Class.forName(className);
+                } catch(final ClassNotFoundException e) {
+                    LOGGER.error("Couldn't find class by name " + className + "!", e);
+                    throw new OriannaException("Couldn't find class by name " + className + "!", e);
+                }
+                if(!OriannaObjects.canRebuild(clazz)) {
+                    LOGGER.error(className + " can't be stored off-heap!");
+                    throw new OriannaException(className + " can't be stored off-heap! Only core types that aren't list or map proxies can be.");
+                }
+                types.add(clazz);
+            }
+            offHeap = new OffHeapCache(config.getOffHeapCapacity());
+            offHeapTypes = Collections.unmodifiableSet(types);
+        } else {
+            offHeap = null;
+            offHeapTypes = Collections.emptySet();
+        }
+
+        snapshotFile = config.getSnapshotFile() == null ? null : new File(config.getSnapshotFile());
 
-        for(final String className : config.getExpirationPeriods().keySet()) {
+        // Snapshots work out how long each entry has left from when it was last modified
+        cache = new Cache2kBuilder<UniqueKeys.Key, Object>() {}.entryCapacity(config.getEntryCapacity()).disableLastModificationTime(snapshotFile == null)
+            .disableStatistics(true).expiryPolicy(new Policy()).keepDataAfterExpired(false).permitNullValues(false).storeByReference(true).build();
+
+        if(snapshotFile != null) {
+            // e.g. the cache of a pipeline that was rebuilt after setRiotAPIKey. It hands over what it has before this one reads the file.
+            final InMemoryCache previous = SNAPSHOT_OWNERS.put(snapshotFile.getAbsoluteFile(), this);
+            if(previous != null) {
+                try {
+                    previous.snapshot();
+                } catch(final OriannaException e) {
+                    // Already logged, and this cache starts from the last snapshot that was written instead
+                }
+                previous.close();
+            }
+            restore();
+
+            final Runnable snapshot = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        snapshot();
+                    } catch(final OriannaException e) {
+                        // Already logged, and the next snapshot will try again
+                    }
+                }
+            };
+            shutdownHook = new Thread(snapshot, "orianna-cache-snapshot");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+            if(config.getSnapshotInterval() > 0L) {
+                snapshotTimer = Executors
+                    .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-cache-snapshot-timer").build());
+                snapshotTimer.scheduleWithFixedDelay(snapshot, config.getSnapshotInterval(), config.getSnapshotInterval(), config.getSnapshotIntervalUnit());
+            }
+        }
+    }
+
+    /**
+     * Stops snapshotting this cache, both on the timer and on shutdown. It doesn't take a final snapshot, so call {@link #snapshot()} first to keep what's
+     * in it. The cache itself keeps working.
+     */
+    @Override
+    public synchronized void close() {
+        if(snapshotTimer != null) {
+            snapshotTimer.shutdownNow();
+            snapshotTimer = null;
+        }
+        if(shutdownHook != null) {
             try {
-                final Class<?> clazz = Class.forName(className);
-                final ExpirationPeriod period = config.getExpirationPeriods().get(className);
-                periods.put(clazz, period.getUnit().toMillis(period.getPeriod()));
-            } catch(final ClassNotFoundException e) {
-                LOGGER.error("Couldn't find class by name " + className + "!", e);
-                throw new OriannaException("Couldn't find class by name " + className + "!", e);
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch(final IllegalStateException e) {
+                // Already shutting down, so the hook is running or about to
             }
+            shutdownHook = null;
+        }
+        if(snapshotFile != null) {
+            SNAPSHOT_OWNERS.remove(snapshotFile.getAbsoluteFile(), this);
         }
+    }
 
-        expirationPeriods = Collections.unmodifiableMap(periods);
+    private boolean containsKey(final UniqueKeys.Key key) {
+        return cache.containsKey(key) || offHeap != null && offHeap.containsKey(key);
+    }
 
-        cache = new Cache2kBuilder<Integer, Object>() {}.disableLastModificationTime(true).disableStatistics(true).expiryPolicy(new Policy())
-            .keepDataAfterExpired(false).permitNullValues(false).storeByReference(true).build();
+    private long expiration(final UniqueKeys.Key key, final Object value, final long lastModification) {
+        final Long explicit = explicitExpirations.get(key);
+        if(explicit != null) {
+            return explicit.longValue();
+        }
+
+        final Long period = expirationPeriods.get(value.getClass());
+        return period != null && period > 0L ? lastModification + period.longValue() : ExpiryTimeValues.ETERNAL;
+    }
+
+    private void expireAt(final UniqueKeys.Key key, final long expiration) {
+        cache.expireAt(key, expiration);
+        if(snapshotFile != null) {
+            explicitExpirations.put(key, expiration);
+        }
+    }
+
+    private Object get(final UniqueKeys.Key key) {
+        final Object value = cache.get(key);
+        if(value != null || offHeap == null) {
+            return value;
+        }
+
+        final Object rebuilt = offHeap.get(key);
+        if(rebuilt != null) {
+            // Straight into the object tier, keeping the expiration it was first stored with
+            final long expiration = offHeap.getExpiration(key);
+            cache.put(key, rebuilt);
+            if(expiration != 0L) {
+                expireAt(key, expiration);
+            }
+        }
+        return rebuilt;
     }
 
     @Get(Champion.class)
     public Champion getChampion(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionQuery(query);
-        return (Champion)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forChampionQuery(query);
+        return (Champion)get(key);
     }
 
     @Get(ChampionMasteries.class)
     public ChampionMasteries getChampionMasteries(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMasteriesQuery(query);
-        return (ChampionMasteries)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMasteriesQuery(query);
+        return (ChampionMasteries)get(key);
     }
 
     @Get(ChampionMastery.class)
     public ChampionMastery getChampionMastery(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMasteryQuery(query);
-        return (ChampionMastery)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMasteryQuery(query);
+        return (ChampionMastery)get(key);
     }
 
     @Get(ChampionMasteryScore.class)
     public ChampionMasteryScore getChampionMasteryScore(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMasteryScoreQuery(query);
-        return (ChampionMasteryScore)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMasteryScoreQuery(query);
+        return (ChampionMasteryScore)get(key);
     }
 
     @Get(Champions.class)
     public Champions getChampions(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionsQuery(query);
-        return (Champions)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forChampionsQuery(query);
+        return (Champions)get(key);
     }
 
     @Get(CurrentMatch.class)
     public CurrentMatch getCurrentMatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forCurrentMatchQuery(query);
-        return (CurrentMatch)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forCurrentMatchQuery(query);
+        return (CurrentMatch)get(key);
     }
 
     @Get(FeaturedMatches.class)
     public FeaturedMatches getFeaturedMatches(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forFeaturedMatchesQuery(query);
-        return (FeaturedMatches)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forFeaturedMatchesQuery(query);
+        return (FeaturedMatches)get(key);
     }
 
     @Get(Item.class)
     public Item getItem(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forItemQuery(query);
-        return (Item)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forItemQuery(query);
+        return (Item)get(key);
     }
 
     @Get(Items.class)
     public Items getItems(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forItemsQuery(query);
-        return (Items)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forItemsQuery(query);
+        return (Items)get(key);
     }
 
     @Get(Languages.class)
     public Languages getLanguages(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forLanguagesQuery(query);
-        return (Languages)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forLanguagesQuery(query);
+        return (Languages)get(key);
     }
 
     @Get(LanguageStrings.class)
     public LanguageStrings getLanguageStrings(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forLanguageStringsQuery(query);
-        return (LanguageStrings)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forLanguageStringsQuery(query);
+        return (LanguageStrings)get(key);
     }
 
     @Get(League.class)
     public League getLeague(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forLeagueQuery(query);
-        return (League)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forLeagueQuery(query);
+        return (League)get(key);
     }
 
     @Get(LeaguePositions.class)
     public LeaguePositions getLeaguePositions(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forLeaguePositionsQuery(query);
-        return (LeaguePositions)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forLeaguePositionsQuery(query);
+        return (LeaguePositions)get(key);
     }
 
     @GetMany(Champion.class)
     public CloseableIterator<Champion> getManyChampion(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyChampionQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyChampionQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Champion>() {
             @Override
             public boolean hasNext() {
@@ -268,8 +579,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Champion next() {
-                final int key = iterator.next();
-                return (Champion)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Champion)get(key);
             }
 
             @Override
@@ -281,14 +592,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ChampionMasteries.class)
     public CloseableIterator<ChampionMasteries> getManyChampionMasteries(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteriesQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteriesQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ChampionMasteries>() {
             @Override
             public boolean hasNext() {
@@ -297,8 +608,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ChampionMasteries next() {
-                final int key = iterator.next();
-                return (ChampionMasteries)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ChampionMasteries)get(key);
             }
 
             @Override
@@ -310,14 +621,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ChampionMastery.class)
     public CloseableIterator<ChampionMastery> getManyChampionMastery(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteryQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteryQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ChampionMastery>() {
             @Override
             public boolean hasNext() {
@@ -326,8 +637,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ChampionMastery next() {
-                final int key = iterator.next();
-                return (ChampionMastery)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ChampionMastery)get(key);
             }
 
             @Override
@@ -339,14 +650,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ChampionMasteryScore.class)
     public CloseableIterator<ChampionMasteryScore> getManyChampionMasteryScore(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteryScoreQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyChampionMasteryScoreQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ChampionMasteryScore>() {
             @Override
             public boolean hasNext() {
@@ -355,8 +666,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ChampionMasteryScore next() {
-                final int key = iterator.next();
-                return (ChampionMasteryScore)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ChampionMasteryScore)get(key);
             }
 
             @Override
@@ -368,14 +679,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(CurrentMatch.class)
     public CloseableIterator<CurrentMatch> getManyCurrentMatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyCurrentMatchQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyCurrentMatchQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<CurrentMatch>() {
             @Override
             public boolean hasNext() {
@@ -384,8 +695,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public CurrentMatch next() {
-                final int key = iterator.next();
-                return (CurrentMatch)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (CurrentMatch)get(key);
             }
 
             @Override
@@ -397,14 +708,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(FeaturedMatches.class)
     public CloseableIterator<FeaturedMatches> getManyFeaturedMatches(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyFeaturedMatchesQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyFeaturedMatchesQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<FeaturedMatches>() {
             @Override
             public boolean hasNext() {
@@ -413,8 +724,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public FeaturedMatches next() {
-                final int key = iterator.next();
-                return (FeaturedMatches)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (FeaturedMatches)get(key);
             }
 
             @Override
@@ -426,14 +737,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Item.class)
     public CloseableIterator<Item> getManyItem(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyItemQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyItemQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Item>() {
             @Override
             public boolean hasNext() {
@@ -442,8 +753,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Item next() {
-                final int key = iterator.next();
-                return (Item)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Item)get(key);
             }
 
             @Override
@@ -455,14 +766,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(League.class)
     public CloseableIterator<League> getManyLeague(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyLeagueQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyLeagueQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<League>() {
             @Override
             public boolean hasNext() {
@@ -471,8 +782,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public League next() {
-                final int key = iterator.next();
-                return (League)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (League)get(key);
             }
 
             @Override
@@ -484,14 +795,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(LeaguePositions.class)
     public CloseableIterator<LeaguePositions> getManyLeaguePositions(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyLeaguePositionsQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyLeaguePositionsQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<LeaguePositions>() {
             @Override
             public boolean hasNext() {
@@ -500,8 +811,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public LeaguePositions next() {
-                final int key = iterator.next();
-                return (LeaguePositions)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (LeaguePositions)get(key);
             }
 
             @Override
@@ -513,14 +824,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Map.class)
     public CloseableIterator<Map> getManyMap(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyMapQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyMapQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Map>() {
             @Override
             public boolean hasNext() {
@@ -529,8 +840,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Map next() {
-                final int key = iterator.next();
-                return (Map)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Map)get(key);
             }
 
             @Override
@@ -542,14 +853,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Mastery.class)
     public CloseableIterator<Mastery> getManyMastery(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyMasteryQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyMasteryQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Mastery>() {
             @Override
             public boolean hasNext() {
@@ -558,8 +869,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Mastery next() {
-                final int key = iterator.next();
-                return (Mastery)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Mastery)get(key);
             }
 
             @Override
@@ -571,14 +882,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Match.class)
     public CloseableIterator<Match> getManyMatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyMatchQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyMatchQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Match>() {
             @Override
             public boolean hasNext() {
@@ -587,8 +898,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Match next() {
-                final int key = iterator.next();
-                return (Match)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Match)get(key);
             }
 
             @Override
@@ -600,14 +911,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Patch.class)
     public CloseableIterator<Patch> getManyPatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyPatchQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyPatchQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Patch>() {
             @Override
             public boolean hasNext() {
@@ -616,8 +927,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Patch next() {
-                final int key = iterator.next();
-                return (Patch)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Patch)get(key);
             }
 
             @Override
@@ -629,14 +940,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ProfileIcon.class)
     public CloseableIterator<ProfileIcon> getManyProfileIcon(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyProfileIconQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyProfileIconQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ProfileIcon>() {
             @Override
             public boolean hasNext() {
@@ -645,8 +956,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ProfileIcon next() {
-                final int key = iterator.next();
-                return (ProfileIcon)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ProfileIcon)get(key);
             }
 
             @Override
@@ -658,14 +969,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Realm.class)
     public CloseableIterator<Realm> getManyRealm(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyRealmQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyRealmQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Realm>() {
             @Override
             public boolean hasNext() {
@@ -674,8 +985,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Realm next() {
-                final int key = iterator.next();
-                return (Realm)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Realm)get(key);
             }
 
             @Override
@@ -687,14 +998,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ReforgedRune.class)
     public CloseableIterator<ReforgedRune> getManyReforgedRune(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyReforgedRuneQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyReforgedRuneQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ReforgedRune>() {
             @Override
             public boolean hasNext() {
@@ -703,8 +1014,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ReforgedRune next() {
-                final int key = iterator.next();
-                return (ReforgedRune)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ReforgedRune)get(key);
             }
 
             @Override
@@ -716,14 +1027,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Rune.class)
     public CloseableIterator<Rune> getManyRune(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyRuneQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyRuneQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Rune>() {
             @Override
             public boolean hasNext() {
@@ -732,8 +1043,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Rune next() {
-                final int key = iterator.next();
-                return (Rune)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Rune)get(key);
             }
 
             @Override
@@ -745,14 +1056,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(ShardStatus.class)
     public CloseableIterator<ShardStatus> getManyShardStatus(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyShardStatusQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyShardStatusQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<ShardStatus>() {
             @Override
             public boolean hasNext() {
@@ -761,8 +1072,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public ShardStatus next() {
-                final int key = iterator.next();
-                return (ShardStatus)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (ShardStatus)get(key);
             }
 
             @Override
@@ -774,14 +1085,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Summoner.class)
     public CloseableIterator<Summoner> getManySummoner(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManySummonerQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManySummonerQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Summoner>() {
             @Override
             public boolean hasNext() {
@@ -790,8 +1101,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Summoner next() {
-                final int key = iterator.next();
-                return (Summoner)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Summoner)get(key);
             }
 
             @Override
@@ -803,14 +1114,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(SummonerSpell.class)
     public CloseableIterator<SummonerSpell> getManySummonerSpell(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManySummonerSpellQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManySummonerSpellQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<SummonerSpell>() {
             @Override
             public boolean hasNext() {
@@ -819,8 +1130,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public SummonerSpell next() {
-                final int key = iterator.next();
-                return (SummonerSpell)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (SummonerSpell)get(key);
             }
 
             @Override
@@ -832,14 +1143,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(Timeline.class)
     public CloseableIterator<Timeline> getManyTimeline(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyTimelineQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyTimelineQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<Timeline>() {
             @Override
             public boolean hasNext() {
@@ -848,8 +1159,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public Timeline next() {
-                final int key = iterator.next();
-                return (Timeline)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (Timeline)get(key);
             }
 
             @Override
@@ -861,14 +1172,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(TournamentMatches.class)
     public CloseableIterator<TournamentMatches> getManyTournamentMatches(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyTournamentMatchesQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyTournamentMatchesQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<TournamentMatches>() {
             @Override
             public boolean hasNext() {
@@ -877,8 +1188,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public TournamentMatches next() {
-                final int key = iterator.next();
-                return (TournamentMatches)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (TournamentMatches)get(key);
             }
 
             @Override
@@ -890,14 +1201,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @GetMany(VerificationString.class)
     public CloseableIterator<VerificationString> getManyVerificationString(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final List<Integer> keys = Lists.newArrayList(UniqueKeys.forManyVerificationStringQuery(query));
-        for(final Integer key : keys) {
-            if(!cache.containsKey(key)) {
+        final List<UniqueKeys.Key> keys = Lists.newArrayList(UniqueKeys.forManyVerificationStringQuery(query));
+        for(final UniqueKeys.Key key : keys) {
+            if(!containsKey(key)) {
                 return null;
             }
         }
 
-        final Iterator<Integer> iterator = keys.iterator();
+        final Iterator<UniqueKeys.Key> iterator = keys.iterator();
         return CloseableIterators.from(new Iterator<VerificationString>() {
             @Override
             public boolean hasNext() {
@@ -906,8 +1217,8 @@ public class InMemoryCache extends AbstractDataStore {
 
             @Override
             public VerificationString next() {
-                final int key = iterator.next();
-                return (VerificationString)cache.get(key);
+                final UniqueKeys.Key key = iterator.next();
+                return (VerificationString)get(key);
             }
 
             @Override
@@ -919,134 +1230,134 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Get(Map.class)
     public Map getMap(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forMapQuery(query);
-        return (Map)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forMapQuery(query);
+        return (Map)get(key);
     }
 
     @Get(Maps.class)
     public Maps getMaps(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forMapsQuery(query);
-        return (Maps)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forMapsQuery(query);
+        return (Maps)get(key);
     }
 
     @Get(Masteries.class)
     public Masteries getMasteries(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forMasteriesQuery(query);
-        return (Masteries)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forMasteriesQuery(query);
+        return (Masteries)get(key);
     }
 
     @Get(Mastery.class)
     public Mastery getMastery(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forMasteryQuery(query);
-        return (Mastery)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forMasteryQuery(query);
+        return (Mastery)get(key);
     }
 
     @Get(Match.class)
     public Match getMatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forMatchQuery(query);
-        return (Match)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forMatchQuery(query);
+        return (Match)get(key);
     }
 
     @Get(Patch.class)
     public Patch getPatch(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forPatchQuery(query);
-        return (Patch)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forPatchQuery(query);
+        return (Patch)get(key);
     }
 
     @Get(Patches.class)
     public Patches getPatches(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forPatchesQuery(query);
-        return (Patches)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forPatchesQuery(query);
+        return (Patches)get(key);
     }
 
     @Get(ProfileIcon.class)
     public ProfileIcon getProfileIcon(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forProfileIconQuery(query);
-        return (ProfileIcon)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forProfileIconQuery(query);
+        return (ProfileIcon)get(key);
     }
 
     @Get(ProfileIcons.class)
     public ProfileIcons getProfileIcons(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forProfileIconsQuery(query);
-        return (ProfileIcons)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forProfileIconsQuery(query);
+        return (ProfileIcons)get(key);
     }
 
     @Get(Realm.class)
     public Realm getRealm(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forRealmQuery(query);
-        return (Realm)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forRealmQuery(query);
+        return (Realm)get(key);
     }
 
     @Get(ReforgedRune.class)
     public ReforgedRune getReforgedRune(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forReforgedRuneQuery(query);
-        return (ReforgedRune)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forReforgedRuneQuery(query);
+        return (ReforgedRune)get(key);
     }
 
     @Get(ReforgedRunes.class)
     public ReforgedRunes getReforgedRunes(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forReforgedRunesQuery(query);
-        return (ReforgedRunes)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forReforgedRunesQuery(query);
+        return (ReforgedRunes)get(key);
     }
 
     @Get(Rune.class)
     public Rune getRune(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forRuneQuery(query);
-        return (Rune)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forRuneQuery(query);
+        return (Rune)get(key);
     }
 
     @Get(Runes.class)
     public Runes getRunes(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forRunesQuery(query);
-        return (Runes)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forRunesQuery(query);
+        return (Runes)get(key);
     }
 
     @Get(ShardStatus.class)
     public ShardStatus getShardStatus(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forShardStatusQuery(query);
-        return (ShardStatus)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forShardStatusQuery(query);
+        return (ShardStatus)get(key);
     }
 
     @Get(Summoner.class)
     public Summoner getSummoner(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forSummonerQuery(query);
-        return (Summoner)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forSummonerQuery(query);
+        return (Summoner)get(key);
     }
 
     @Get(SummonerSpell.class)
     public SummonerSpell getSummonerSpell(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forSummonerSpellQuery(query);
-        return (SummonerSpell)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forSummonerSpellQuery(query);
+        return (SummonerSpell)get(key);
     }
 
     @Get(SummonerSpells.class)
     public SummonerSpells getSummonerSpells(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forSummonerSpellsQuery(query);
-        return (SummonerSpells)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forSummonerSpellsQuery(query);
+        return (SummonerSpells)get(key);
     }
 
     @Get(Timeline.class)
     public Timeline getTimeline(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forTimelineQuery(query);
-        return (Timeline)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forTimelineQuery(query);
+        return (Timeline)get(key);
     }
 
     @Get(TournamentMatches.class)
     public TournamentMatches getTournamentMatches(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forTournamentMatchesQuery(query);
-        return (TournamentMatches)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forTournamentMatchesQuery(query);
+        return (TournamentMatches)get(key);
     }
 
     @Get(VerificationString.class)
     public VerificationString getVerificationString(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forVerificationStringQuery(query);
-        return (VerificationString)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forVerificationStringQuery(query);
+        return (VerificationString)get(key);
     }
 
     @Get(Versions.class)
     public Versions getVersions(final java.util.Map<String, Object> query, final PipelineContext context) {
-        final int key = UniqueKeys.forVersionsQuery(query);
-        return (Versions)cache.get(key);
+        final UniqueKeys.Key key = UniqueKeys.forVersionsQuery(query);
+        return (Versions)get(key);
     }
 
     @Override
@@ -1075,9 +1386,39 @@ public class InMemoryCache extends AbstractDataStore {
         return ignore;
     }
 
+    private void notFound(final UniqueKeys.Key key, final GhostObject<?> object) {
+        // Only once every load group is in, so exists() can't start another load. The key may also have been put again since.
+        if(object.exists() || cache.peek(key) != object) {
+            return;
+        }
+
+        final long period = notFoundExpirationPeriods.get(object.getClass()).longValue();
+        expireAt(key, System.currentTimeMillis() + period);
+    }
+
+    private void put(final UniqueKeys.Key key, final Object value) {
+        cache.put(key, value);
+        if(snapshotFile != null) {
+            explicitExpirations.remove(key);
+        }
+        if(notFoundExpirationPeriods.containsKey(value.getClass())) {
+            final GhostObject<?> object = (GhostObject<?>)value;
+            if(object.isLoaded()) {
+                notFound(key, object);
+            } else {
+                object.registerGhostLoadHook(new NotFoundHook(key, object));
+            }
+        }
+        if(offHeapTypes.contains(value.getClass())) {
+            final Long period = expirationPeriods.get(value.getClass());
+            final long expiration = period != null && period > 0L ? System.currentTimeMillis() + period.longValue() : ExpiryTimeValues.ETERNAL;
+            offHeap.put(key, (OriannaObject<?>)value, expiration);
+        }
+    }
+
     @Put(Champion.class)
     public void putChampion(final Champion champion, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forChampion(champion);
+        final UniqueKeys.Key[] keys = UniqueKeys.forChampion(champion);
 
         if(keys.length < 3) {
             final LoadHook hook = new LoadHook() {
@@ -1091,15 +1432,15 @@ public class InMemoryCache extends AbstractDataStore {
             champion.registerGhostLoadHook(hook, Champion.STATUS_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, champion);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, champion);
         }
     }
 
     @Put(ChampionMasteries.class)
     public void putChampionMasteries(final ChampionMasteries masteries, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMasteries(masteries);
-        cache.put(key, masteries);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMasteries(masteries);
+        put(key, masteries);
 
         if(masteries.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1117,20 +1458,20 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(ChampionMastery.class)
     public void putChampionMastery(final ChampionMastery mastery, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMastery(mastery);
-        cache.put(key, mastery);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMastery(mastery);
+        put(key, mastery);
     }
 
     @Put(ChampionMasteryScore.class)
     public void putChampionMasteryScore(final ChampionMasteryScore score, final PipelineContext context) {
-        final int key = UniqueKeys.forChampionMasteryScore(score);
-        cache.put(key, score);
+        final UniqueKeys.Key key = UniqueKeys.forChampionMasteryScore(score);
+        put(key, score);
     }
 
     @Put(Champions.class)
     public void putChampions(final Champions champions, final PipelineContext context) {
-        final int key = UniqueKeys.forChampions(champions);
-        cache.put(key, champions);
+        final UniqueKeys.Key key = UniqueKeys.forChampions(champions);
+        put(key, champions);
 
         if(champions.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1148,19 +1489,19 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(CurrentMatch.class)
     public void putCurrentMatch(final CurrentMatch game, final PipelineContext context) {
-        final int key = UniqueKeys.forCurrentMatch(game);
-        cache.put(key, game);
+        final UniqueKeys.Key key = UniqueKeys.forCurrentMatch(game);
+        put(key, game);
     }
 
     @Put(FeaturedMatches.class)
     public void putFeaturedMatches(final FeaturedMatches games, final PipelineContext context) {
-        final int key = UniqueKeys.forFeaturedMatches(games);
-        cache.put(key, games);
+        final UniqueKeys.Key key = UniqueKeys.forFeaturedMatches(games);
+        put(key, games);
     }
 
     @Put(Item.class)
     public void putItem(final Item item, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forItem(item);
+        final UniqueKeys.Key[] keys = UniqueKeys.forItem(item);
 
         if(keys.length < 2) {
             final LoadHook hook = new LoadHook() {
@@ -1173,15 +1514,15 @@ public class InMemoryCache extends AbstractDataStore {
             item.registerGhostLoadHook(hook, Item.ITEM_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, item);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, item);
         }
     }
 
     @Put(Items.class)
     public void putItems(final Items items, final PipelineContext context) {
-        final int key = UniqueKeys.forItems(items);
-        cache.put(key, items);
+        final UniqueKeys.Key key = UniqueKeys.forItems(items);
+        put(key, items);
 
         if(items.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1199,19 +1540,19 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Languages.class)
     public void putLanguages(final Languages languages, final PipelineContext context) {
-        final int key = UniqueKeys.forLanguages(languages);
-        cache.put(key, languages);
+        final UniqueKeys.Key key = UniqueKeys.forLanguages(languages);
+        put(key, languages);
     }
 
     @Put(LanguageStrings.class)
     public void putLanguageStrings(final LanguageStrings languageStrings, final PipelineContext context) {
-        final int key = UniqueKeys.forLanguageStrings(languageStrings);
-        cache.put(key, languageStrings);
+        final UniqueKeys.Key key = UniqueKeys.forLanguageStrings(languageStrings);
+        put(key, languageStrings);
     }
 
     @Put(League.class)
     public void putLeague(final League league, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forLeague(league);
+        final UniqueKeys.Key[] keys = UniqueKeys.forLeague(league);
 
         if(keys.length < 2 && league.getCoreData().getTier() == null || league.getCoreData().getQueue() != null
             || Queue.RANKED.contains(league.getQueue()) && UNIQUE_TIERS.contains(league.getTier())) {
@@ -1225,15 +1566,15 @@ public class InMemoryCache extends AbstractDataStore {
             league.registerGhostLoadHook(hook, ListProxy.LIST_PROXY_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, league);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, league);
         }
     }
 
     @Put(LeaguePositions.class)
     public void putLeaguePositions(final LeaguePositions positions, final PipelineContext context) {
-        final int key = UniqueKeys.forLeaguePositions(positions);
-        cache.put(key, positions);
+        final UniqueKeys.Key key = UniqueKeys.forLeaguePositions(positions);
+        put(key, positions);
     }
 
     @PutMany(Champion.class)
@@ -1399,7 +1740,7 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Map.class)
     public void putMap(final Map map, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forMap(map);
+        final UniqueKeys.Key[] keys = UniqueKeys.forMap(map);
 
         if(keys.length < 2) {
             final LoadHook hook = new LoadHook() {
@@ -1412,15 +1753,15 @@ public class InMemoryCache extends AbstractDataStore {
             map.registerGhostLoadHook(hook, Map.MAP_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, map);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, map);
         }
     }
 
     @Put(Maps.class)
     public void putMaps(final Maps maps, final PipelineContext context) {
-        final int key = UniqueKeys.forMaps(maps);
-        cache.put(key, maps);
+        final UniqueKeys.Key key = UniqueKeys.forMaps(maps);
+        put(key, maps);
 
         if(maps.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1438,8 +1779,8 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Masteries.class)
     public void putMasteries(final Masteries masteries, final PipelineContext context) {
-        final int key = UniqueKeys.forMasteries(masteries);
-        cache.put(key, masteries);
+        final UniqueKeys.Key key = UniqueKeys.forMasteries(masteries);
+        put(key, masteries);
 
         if(masteries.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1457,7 +1798,7 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Mastery.class)
     public void putMastery(final Mastery mastery, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forMastery(mastery);
+        final UniqueKeys.Key[] keys = UniqueKeys.forMastery(mastery);
 
         if(keys.length < 2) {
             final LoadHook hook = new LoadHook() {
@@ -1470,20 +1811,20 @@ public class InMemoryCache extends AbstractDataStore {
             mastery.registerGhostLoadHook(hook, Mastery.MASTERY_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, mastery);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, mastery);
         }
     }
 
     @Put(Match.class)
     public void putMatch(final Match match, final PipelineContext context) {
-        final int key = UniqueKeys.forMatch(match);
-        cache.put(key, match);
+        final UniqueKeys.Key key = UniqueKeys.forMatch(match);
+        put(key, match);
     }
 
     @Put(Patch.class)
     public void putPatch(final Patch patch, final PipelineContext context) {
-        final int key = UniqueKeys.forPatch(patch);
+        final UniqueKeys.Key key = UniqueKeys.forPatch(patch);
 
         if(patch.getCoreData().getName() == null) {
             final LoadHook hook = new LoadHook() {
@@ -1496,13 +1837,13 @@ public class InMemoryCache extends AbstractDataStore {
             patch.registerGhostLoadHook(hook, Patch.PATCH_LOAD_GROUP);
         }
 
-        cache.put(key, patch);
+        put(key, patch);
     }
 
     @Put(Patches.class)
     public void putPatches(final Patches patches, final PipelineContext context) {
-        final int key = UniqueKeys.forPatches(patches);
-        cache.put(key, patches);
+        final UniqueKeys.Key key = UniqueKeys.forPatches(patches);
+        put(key, patches);
 
         if(patches.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1520,14 +1861,14 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(ProfileIcon.class)
     public void putProfileIcon(final ProfileIcon profileIcon, final PipelineContext context) {
-        final int key = UniqueKeys.forProfileIcon(profileIcon);
-        cache.put(key, profileIcon);
+        final UniqueKeys.Key key = UniqueKeys.forProfileIcon(profileIcon);
+        put(key, profileIcon);
     }
 
     @Put(ProfileIcons.class)
     public void putProfileIcons(final ProfileIcons icons, final PipelineContext context) {
-        final int key = UniqueKeys.forProfileIcons(icons);
-        cache.put(key, icons);
+        final UniqueKeys.Key key = UniqueKeys.forProfileIcons(icons);
+        put(key, icons);
 
         if(icons.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1545,13 +1886,13 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Realm.class)
     public void putRealm(final Realm realm, final PipelineContext context) {
-        final int key = UniqueKeys.forRealm(realm);
-        cache.put(key, realm);
+        final UniqueKeys.Key key = UniqueKeys.forRealm(realm);
+        put(key, realm);
     }
 
     @Put(ReforgedRune.class)
     public void putReforgedRune(final ReforgedRune rune, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forReforgedRune(rune);
+        final UniqueKeys.Key[] keys = UniqueKeys.forReforgedRune(rune);
 
         if(keys.length < 3) {
             final LoadHook hook = new LoadHook() {
@@ -1564,15 +1905,15 @@ public class InMemoryCache extends AbstractDataStore {
             rune.registerGhostLoadHook(hook, ReforgedRune.REFORGED_RUNE_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, rune);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, rune);
         }
     }
 
     @Put(ReforgedRunes.class)
     public void putReforgedRunes(final ReforgedRunes runes, final PipelineContext context) {
-        final int key = UniqueKeys.forReforgedRunes(runes);
-        cache.put(key, runes);
+        final UniqueKeys.Key key = UniqueKeys.forReforgedRunes(runes);
+        put(key, runes);
 
         if(runes.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1590,7 +1931,7 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Rune.class)
     public void putRune(final Rune rune, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forRune(rune);
+        final UniqueKeys.Key[] keys = UniqueKeys.forRune(rune);
 
         if(keys.length < 2) {
             final LoadHook hook = new LoadHook() {
@@ -1603,15 +1944,15 @@ public class InMemoryCache extends AbstractDataStore {
             rune.registerGhostLoadHook(hook, Rune.RUNE_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, rune);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, rune);
         }
     }
 
     @Put(Runes.class)
     public void putRunes(final Runes runes, final PipelineContext context) {
-        final int key = UniqueKeys.forRunes(runes);
-        cache.put(key, runes);
+        final UniqueKeys.Key key = UniqueKeys.forRunes(runes);
+        put(key, runes);
 
         if(runes.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1629,13 +1970,13 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(ShardStatus.class)
     public void putShardStatus(final ShardStatus status, final PipelineContext context) {
-        final int key = UniqueKeys.forShardStatus(status);
-        cache.put(key, status);
+        final UniqueKeys.Key key = UniqueKeys.forShardStatus(status);
+        put(key, status);
     }
 
     @Put(Summoner.class)
     public void putSummoner(final Summoner summoner, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forSummoner(summoner);
+        final UniqueKeys.Key[] keys = UniqueKeys.forSummoner(summoner);
 
         if(keys.length < 3) {
             final LoadHook hook = new LoadHook() {
@@ -1648,14 +1989,14 @@ public class InMemoryCache extends AbstractDataStore {
             summoner.registerGhostLoadHook(hook, Summoner.SUMMONER_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, summoner);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, summoner);
         }
     }
 
     @Put(SummonerSpell.class)
     public void putSummonerSpell(final SummonerSpell summonerSpell, final PipelineContext context) {
-        final int[] keys = UniqueKeys.forSummonerSpell(summonerSpell);
+        final UniqueKeys.Key[] keys = UniqueKeys.forSummonerSpell(summonerSpell);
 
         if(keys.length < 2) {
             final LoadHook hook = new LoadHook() {
@@ -1668,15 +2009,15 @@ public class InMemoryCache extends AbstractDataStore {
             summonerSpell.registerGhostLoadHook(hook, SummonerSpell.SUMMONER_SPELL_LOAD_GROUP);
         }
 
-        for(final int key : keys) {
-            cache.put(key, summonerSpell);
+        for(final UniqueKeys.Key key : keys) {
+            put(key, summonerSpell);
         }
     }
 
     @Put(SummonerSpells.class)
     public void putSummonerSpells(final SummonerSpells spells, final PipelineContext context) {
-        final int key = UniqueKeys.forSummonerSpells(spells);
-        cache.put(key, spells);
+        final UniqueKeys.Key key = UniqueKeys.forSummonerSpells(spells);
+        put(key, spells);
 
         if(spells.getCoreData().isEmpty()) {
             final LoadHook hook = new LoadHook() {
@@ -1694,25 +2035,233 @@ public class InMemoryCache extends AbstractDataStore {
 
     @Put(Timeline.class)
     public void putTimeline(final Timeline timeline, final PipelineContext context) {
-        final int key = UniqueKeys.forTimeline(timeline);
-        cache.put(key, timeline);
+        final UniqueKeys.Key key = UniqueKeys.forTimeline(timeline);
+        put(key, timeline);
     }
 
     @Put(TournamentMatches.class)
     public void putTournamentMatches(final TournamentMatches matches, final PipelineContext context) {
-        final int key = UniqueKeys.forTournamentMatches(matches);
-        cache.put(key, matches);
+        final UniqueKeys.Key key = UniqueKeys.forTournamentMatches(matches);
+        put(key, matches);
     }
 
     @Put(VerificationString.class)
     public void putVerificationString(final VerificationString string, final PipelineContext context) {
-        final int key = UniqueKeys.forVerificationString(string);
-        cache.put(key, string);
+        final UniqueKeys.Key key = UniqueKeys.forVerificationString(string);
+        put(key, string);
     }
 
     @Put(Versions.class)
     public void putVersions(final Versions versions, final PipelineContext context) {
-        final int key = UniqueKeys.forVersions(versions);
-        cache.put(key, versions);
+        final UniqueKeys.Key key = UniqueKeys.forVersions(versions);
+        put(key, versions);
+    }
+
+    private void restore() {
+        if(!snapshotFile.isFile()) {
+            return;
+        }
+
+        final long start = System.currentTimeMillis();
+        final AtomicInteger restored = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-cache-restore-%d").build());
+        try(DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+            if(input.readInt() != SNAPSHOT_MAGIC) {
+                LOGGER.warn(snapshotFile + " isn't a cache snapshot. Starting empty.");
+                return;
+            }
+            final int version = input.readInt();
+            if(version != SNAPSHOT_VERSION) {
+                LOGGER.warn(snapshotFile + " is a version " + version + " cache snapshot, but only version " + SNAPSHOT_VERSION + " is supported. Starting empty.");
+                return;
+            }
+
+            // Reading is sequential, but rebuilding the objects is most of the work, so that's spread across the executor
+            final java.util.Map<String, Class<?>> classes = new HashMap<>();
+            while(input.readBoolean()) {
+                final Class<?> type = snapshotClass(input.readUTF(), classes);
+                final Class<?> dataType = snapshotClass(input.readUTF(), classes);
+                final UniqueKeys.Key[] keys = new UniqueKeys.Key[input.readInt()];
+                final long[] expirations = new long[keys.length];
+                for(int i = 0; i < keys.length; i++) {
+                    keys[i] = UniqueKeys.Key.read(input);
+                    expirations[i] = input.readLong();
+                }
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+
+                if(type == null || dataType == null || !CoreData.class.isAssignableFrom(dataType)) {
+                    continue;
+                }
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        final OriannaObject<?> object;
+                        try {
+                            object = OriannaObjects.rebuild(type, dataType.asSubclass(CoreData.class), bytes);
+                        } catch(final OriannaException e) {
+                            LOGGER.warn("Failed to rebuild a " + type.getName() + " from cache snapshot " + snapshotFile + ". Skipping it.", e);
+                            return;
+                        }
+
+                        final long now = System.currentTimeMillis();
+                        for(int i = 0; i < keys.length; i++) {
+                            if(expirations[i] > now) {
+                                cache.put(keys[i], object);
+                                if(expirations[i] != ExpiryTimeValues.ETERNAL) {
+                                    expireAt(keys[i], expirations[i]);
+                                }
+                                if(offHeapTypes.contains(type)) {
+                                    offHeap.put(keys[i], object, expirations[i]);
+                                }
+                            }
+                        }
+                        restored.incrementAndGet();
+                    }
+                });
+            }
+        } catch(final IOException e) {
+            LOGGER.warn("Failed to read cache snapshot " + snapshotFile + ". Keeping what was restored before the failure.", e);
+        } finally {
+            executor.shutdown();
+            boolean interrupted = false;
+            while(true) {
+                try {
+                    executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                    break;
+                } catch(final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        LOGGER.info("Restored " + restored.get() + " objects from cache snapshot " + snapshotFile + " in " + (System.currentTimeMillis() - start) + "ms.");
+    }
+
+    /**
+     * Writes every live entry that can be rebuilt to the snapshot file, along with when it expires. Ghost objects that aren't fully loaded, and list and map
+     * proxies, are left out. An object under several keys is written once. The snapshot is written to a temporary file that then replaces the old one, so a
+     * crash partway through leaves the previous snapshot intact.
+     *
+     * This is called on shutdown and every snapshotInterval, if the snapshotFile is set, until the cache is closed.
+     */
+    public synchronized void snapshot() {
+        if(snapshotFile == null) {
+            return;
+        }
+
+        final long start = System.currentTimeMillis();
+        for(final java.util.Map.Entry<UniqueKeys.Key, Long> explicit : explicitExpirations.entrySet()) {
+            if(explicit.getValue() <= start) {
+                explicitExpirations.remove(explicit.getKey(), explicit.getValue());
+            }
+        }
+
+        final java.util.Map<Object, java.util.Map<UniqueKeys.Key, Long>> objects = new IdentityHashMap<>();
+        for(final CacheEntry<UniqueKeys.Key, Object> entry : cache.entries()) {
+            final Object value = entry.getValue();
+            if(!(value instanceof OriannaObject) || !OriannaObjects.isComplete((OriannaObject<?>)value)) {
+                continue;
+            }
+            final long expiration = expiration(entry.getKey(), value, entry.getLastModification());
+            if(expiration <= start) {
+                continue;
+            }
+
+            java.util.Map<UniqueKeys.Key, Long> keys = objects.get(value);
+            if(keys == null) {
+                keys = new HashMap<>(2);
+                objects.put(value, keys);
+            }
+            keys.put(entry.getKey(), expiration);
+        }
+
+        // A name of its own, so two caches writing the same snapshot can't interleave their bytes. The last one to finish replaces the file whole.
+        final File temporary;
+        try {
+            temporary = File.createTempFile(snapshotFile.getName() + ".part", ".tmp", snapshotFile.getAbsoluteFile().getParentFile());
+        } catch(final IOException e) {
+            LOGGER.error("Failed to create a temporary file for cache snapshot " + snapshotFile + "!", e);
+            throw new OriannaException("Failed to create a temporary file for cache snapshot " + snapshotFile + "!", e);
+        }
+        int written = 0;
+        try(DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)))) {
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeInt(SNAPSHOT_VERSION);
+            for(final java.util.Map.Entry<Object, java.util.Map<UniqueKeys.Key, Long>> object : objects.entrySet()) {
+                final CoreData data = ((OriannaObject<?>)object.getKey()).getCoreData();
+                final byte[] bytes;
+                try {
+                    bytes = data.toBytes();
+                } catch(final RuntimeException e) {
+                    // One object that can't be written shouldn't cost the rest of the snapshot
+                    LOGGER.warn("Failed to write " + object.getKey().getClass().getName() + " to cache snapshot " + snapshotFile + ". Skipping it.", e);
+                    continue;
+                }
+
+                output.writeBoolean(true);
+                output.writeUTF(object.getKey().getClass().getName());
+                output.writeUTF(data.getClass().getName());
+                output.writeInt(object.getValue().size());
+                for(final java.util.Map.Entry<UniqueKeys.Key, Long> key : object.getValue().entrySet()) {
+                    key.getKey().write(output);
+                    output.writeLong(key.getValue());
+                }
+                output.writeInt(bytes.length);
+                output.write(bytes);
+                written++;
+            }
+            output.writeBoolean(false);
+        } catch(final IOException e) {
+            temporary.delete();
+            LOGGER.error("Failed to write cache snapshot " + temporary + "!", e);
+            throw new OriannaException("Failed to write cache snapshot " + temporary + "!", e);
+        }
+
+        try {
+            Files.move(temporary.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(final IOException e) {
+            temporary.delete();
+            LOGGER.error("Failed to replace cache snapshot " + snapshotFile + "!", e);
+            throw new OriannaException("Failed to replace cache snapshot " + snapshotFile + "!", e);
+        }
+
+        LOGGER.info("Wrote " + written + " objects to cache snapshot " + snapshotFile + " in " + (System.currentTimeMillis() - start) + "ms.");
+    }
+
+    private Class<?> snapshotClass(final String name, final java.util.Map<String, Class<?>> classes) {
+        if(classes.containsKey(name)) {
+            return classes.get(name);
+        }
+
+        Class<?> clazz = null;
+        try {
+            clazz = Class.forName(name);
+        } catch(final ClassNotFoundException e) {
+            LOGGER.warn("Cache snapshot " + snapshotFile + " has entries of type " + name + ", which doesn't exist anymore. Skipping them.");
+        }
+        classes.put(name, clazz);
+        return clazz;
+    }
+
+    private static java.util.Map<Class<?>, Long> toMillis(final java.util.Map<String, ExpirationPeriod> config) {
+        final java.util.Map<Class<?>, Long> periods = new HashMap<>();
+
+        for(final String className : config.keySet()) {
+            try {
+                final Class<?> clazz = Class.forName(className);
+                final ExpirationPeriod period = config.get(className);
+                periods.put(clazz, period.getUnit().toMillis(period.getPeriod()));
+            } catch(final ClassNotFoundException e) {
+                LOGGER.error("Couldn't find class by name " + className + "!", e);
+                throw new OriannaException("Couldn't find class by name " + className + "!", e);
+            }
+        }
+
+        return Collections.unmodifiableMap(periods);
     }
 }
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.merakianalytics.datapipelines.DataPipeline;
 import com.merakianalytics.datapipelines.PipelineElement;
 import com.merakianalytics.datapipelines.transformers.DataTransformer;
+import com.merakianalytics.orianna.datapipeline.common.tracing.Tracing;
 
 public class PipelineConfiguration {
     public static class PipelineElementConfiguration {
@@ -133,7 +134,7 @@ public class PipelineConfiguration {
 
                     final Constructor<?> defaultConstructor = clazz.getConstructor();
                     final DataTransformer transfomer = (DataTransformer)defaultConstructor.newInstance();
-                    transformers.add(transfomer);
+                    transformers.add(config.getTraceSampleRate() > 0.0 ? Tracing.trace(transfomer, config.getTraceSampleRate()) : transfomer);
                 } catch(final ClassNotFoundException e) {
                     LOGGER.error("Couldn't find class for name " + tConfig.getClassName() + " to create transformer! Skipping this transformer!", e);
                 } catch(final NoSuchMethodException e) {
@@ -176,7 +177,7 @@ public class PipelineConfiguration {
                         final Constructor<?> constructor = clazz.getConstructor(configClazz);
                         final Object conf = mapper.treeToValue(eConfig.getConfig(), configClazz);
                         final PipelineElement element = (PipelineElement)constructor.newInstance(conf);
-                        elements.add(element);
+                        elements.add(config.getTraceSampleRate() > 0.0 ? Tracing.trace(element, config.getTraceSampleRate()) : element);
                         continue;
                     } catch(final NoSuchMethodException e) {
                         LOGGER.error("Class for name " + eConfig.getClassName() + " has no constructor which takes " + eConfig.getConfigClassName()
@@ -197,7 +198,7 @@ public class PipelineConfiguration {
                 try {
                     final Constructor<?> constructor = clazz.getConstructor();
                     final PipelineElement element = (PipelineElement)constructor.newInstance();
-                    elements.add(element);
+                    elements.add(config.getTraceSampleRate() > 0.0 ? Tracing.trace(element, config.getTraceSampleRate()) : element);
                 } catch(final NoSuchMethodException e) {
                     LOGGER.error("Class for name " + eConfig.getClassName() + " has no default no-arg constructor! Skipping this pipeline element!", e);
                 } catch(final SecurityException e) {
@@ -214,6 +215,7 @@ public class PipelineConfiguration {
     }
 
     private List<PipelineElementConfiguration> elements = new ArrayList<>(1);
+    private double traceSampleRate = 0.0;
     private Set<TransformerConfiguration> transformers = new HashSet<>();
 
     /**
@@ -223,6 +225,14 @@ public class PipelineConfiguration {
         return elements;
     }
 
+    /**
+     * @return the share of queries, from 0 to 1, to trace through the pipeline for the {@link Tracing} listeners. At 0 the elements and transformers
+     *         aren't wrapped for tracing at all.
+     */
+    public double getTraceSampleRate() {
+        return traceSampleRate;
+    }
+
     /**
      * @return the transformers
      */
@@ -238,6 +248,15 @@ public class PipelineConfiguration {
         this.elements = elements;
     }
 
+    /**
+     * @param traceSampleRate
+     *        the share of queries, from 0 to 1, to trace through the pipeline for the {@link Tracing} listeners. At 0 the elements and transformers
+     *        aren't wrapped for tracing at all.
+     */
+    public void setTraceSampleRate(final double traceSampleRate) {
+        this.traceSampleRate = traceSampleRate;
+    }
+
     /**
      * @param transformers
      *        the transformers to set
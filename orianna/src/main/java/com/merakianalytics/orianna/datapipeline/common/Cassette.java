@@ -0,0 +1,313 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+import com.merakianalytics.orianna.datapipeline.common.HTTPClient.Response;
+import com.merakianalytics.orianna.types.common.OriannaException;
+
+/**
+ * An append-only log of HTTP responses, keyed by request. {@link Recorder} writes one record per response as it comes back, and {@link Player} memory-maps
+ * and indexes a finished log to serve those responses again without any network access.
+ *
+ * The file starts with a magic number and format version. Each record is a length-prefixed block holding the request key, the time the request took, the
+ * status code, the headers, and the body.
+ */
+public abstract class Cassette {
+    public static enum Mode {
+            RECORD,
+            REPLAY;
+    }
+
+    /**
+     * Serves recorded responses. Requests that were recorded more than once are answered with each recording in turn, wrapping around at the end.
+     */
+    public static class Player {
+        private static class Entry {
+            private final int offset;
+            private final int segment;
+
+            public Entry(final int segment, final int offset) {
+                this.segment = segment;
+                this.offset = offset;
+            }
+        }
+
+        private static class Recordings {
+            private final List<Entry> entries = new ArrayList<>(1);
+            private final AtomicInteger next = new AtomicInteger();
+        }
+
+        private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+        private static String readString(final ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private final File file;
+        private final Map<String, Recordings> index;
+        private final boolean replayTiming;
+        private final List<MappedByteBuffer> segments;
+
+        public Player(final File file, final boolean replayTiming) {
+            this.file = file;
+            this.replayTiming = replayTiming;
+            segments = new ArrayList<>();
+            index = new HashMap<>();
+
+            try(FileInputStream input = new FileInputStream(file); FileChannel channel = input.getChannel()) {
+                final long size = channel.size();
+                final ByteBuffer header = ByteBuffer.allocate(8);
+                read(channel, header, 0L);
+                if(header.getInt() != MAGIC) {
+                    throw new OriannaException(file + " isn't an HTTP cassette!");
+                }
+                final int version = header.getInt();
+                if(version != VERSION) {
+                    throw new OriannaException(file + " is a version " + version + " HTTP cassette, but only version " + VERSION + " is supported!");
+                }
+
+                // Records never straddle two segments, so each one can be read from a single buffer.
+                long segmentStart = 8L;
+                long position = 8L;
+                final ByteBuffer prefix = ByteBuffer.allocate(4);
+                while(position + 4L <= size) {
+                    prefix.clear();
+                    read(channel, prefix, position);
+                    final int length = prefix.getInt();
+                    if(length <= 0 || position + 4L + length > size) {
+                        LOGGER.warn("HTTP cassette " + file + " ends with a truncated record. Ignoring it.");
+                        break;
+                    }
+
+                    if(position + 4L + length - segmentStart > MAX_SEGMENT_SIZE) {
+                        segments.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, position - segmentStart));
+                        segmentStart = position;
+                    }
+
+                    prefix.clear();
+                    prefix.limit(2);
+                    read(channel, prefix, position + 4L);
+                    final ByteBuffer key = ByteBuffer.allocate(prefix.getShort() & 0xFFFF);
+                    read(channel, key, position + 6L);
+                    final String name = new String(key.array(), StandardCharsets.UTF_8);
+
+                    Recordings recordings = index.get(name);
+                    if(recordings == null) {
+                        recordings = new Recordings();
+                        index.put(name, recordings);
+                    }
+                    recordings.entries.add(new Entry(segments.size(), (int)(position - segmentStart)));
+                    position += 4L + length;
+                }
+                segments.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, position - segmentStart));
+            } catch(final IOException e) {
+                LOGGER.error("Failed to load HTTP cassette " + file + "!", e);
+                throw new OriannaException("Failed to load HTTP cassette " + file + "!", e);
+            }
+        }
+
+        /**
+         * @param key
+         *        the request key, from {@link Cassette#key(String, String, String)}
+         * @return the recorded response
+         */
+        public Response play(final String key) {
+            final Recordings recordings = index.get(key);
+            if(recordings == null) {
+                LOGGER.error("No recorded response for " + key + " in HTTP cassette " + file + "!");
+                throw new OriannaException("No recorded response for " + key + " in HTTP cassette " + file
+                    + "! Make sure the cassette was recorded with the same requests you're replaying.");
+            }
+
+            final int next = (recordings.next.getAndIncrement() & Integer.MAX_VALUE) % recordings.entries.size();
+            final Entry entry = recordings.entries.get(next);
+            final ByteBuffer buffer = segments.get(entry.segment).duplicate();
+            buffer.position(entry.offset + 4);
+
+            readString(buffer);
+            final long duration = buffer.getLong();
+            final int statusCode = buffer.getInt();
+            final int headerCount = buffer.getShort() & 0xFFFF;
+            final ListMultimap<String, String> headers = HTTPClient.newHeaders();
+            for(int i = 0; i < headerCount; i++) {
+                headers.put(readString(buffer), readString(buffer));
+            }
+            final boolean isString = buffer.get() != 0;
+            final byte[] body = new byte[buffer.getInt()];
+            buffer.get(body);
+
+            if(replayTiming && duration > 0L) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(duration);
+                } catch(final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if(isString) {
+                return new Response(new String(body, StandardCharsets.UTF_8), statusCode, Multimaps.unmodifiableListMultimap(headers));
+            }
+            return new Response(body, statusCode, Multimaps.unmodifiableListMultimap(headers));
+        }
+
+        private void read(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+            long offset = position;
+            while(buffer.hasRemaining()) {
+                final int read = channel.read(buffer, offset);
+                if(read < 0) {
+                    throw new IOException("Unexpected end of HTTP cassette " + file + "!");
+                }
+                offset += read;
+            }
+            buffer.flip();
+        }
+    }
+
+    /**
+     * Appends responses to a cassette. Every record is written out as soon as the response comes back, so a cassette is usable even if the process doesn't
+     * shut down cleanly. Use {@link Cassette#recorder(File)} so that clients recording to the same file share a recorder.
+     */
+    public static class Recorder implements Closeable {
+        private static void writeString(final DataOutputStream output, final String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if(bytes.length > 0xFFFF) {
+                throw new IOException("Can't record a string longer than 65535 bytes!");
+            }
+            output.writeShort(bytes.length);
+            output.write(bytes);
+        }
+
+        private final File file;
+        private final FileOutputStream output;
+
+        private Recorder(final File file) {
+            this.file = file;
+            try {
+                final boolean exists = file.exists() && file.length() > 0L;
+                output = new FileOutputStream(file, true);
+                if(!exists) {
+                    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(8);
+                    final DataOutputStream header = new DataOutputStream(bytes);
+                    header.writeInt(MAGIC);
+                    header.writeInt(VERSION);
+                    output.write(bytes.toByteArray());
+                }
+            } catch(final IOException e) {
+                LOGGER.error("Failed to open HTTP cassette " + file + " for recording!", e);
+                throw new OriannaException("Failed to open HTTP cassette " + file + " for recording!", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized(output) {
+                output.close();
+            }
+        }
+
+        /**
+         * @param key
+         *        the request key, from {@link Cassette#key(String, String, String)}
+         * @param duration
+         *        how long the request took, in nanoseconds
+         * @param response
+         *        the response
+         */
+        public void record(final String key, final long duration, final Response response) {
+            final byte[] body = response.isString() ? response.getBody().getBytes(StandardCharsets.UTF_8) : response.getBytes();
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 512);
+            try {
+                final DataOutputStream record = new DataOutputStream(bytes);
+                record.writeInt(0); // Length placeholder
+                writeString(record, key);
+                record.writeLong(duration);
+                record.writeInt(response.getStatusCode());
+                final Collection<Map.Entry<String, String>> headers = response.getHeaders().entries();
+                record.writeShort(headers.size());
+                for(final Map.Entry<String, String> header : headers) {
+                    writeString(record, header.getKey());
+                    writeString(record, header.getValue());
+                }
+                record.writeBoolean(response.isString());
+                record.writeInt(body.length);
+                record.write(body);
+
+                final byte[] block = bytes.toByteArray();
+                ByteBuffer.wrap(block).putInt(block.length - 4);
+                synchronized(output) {
+                    output.write(block);
+                }
+            } catch(final IOException e) {
+                LOGGER.error("Failed to record " + key + " to HTTP cassette " + file + "!", e);
+                throw new OriannaException("Failed to record " + key + " to HTTP cassette " + file + "!", e);
+            }
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Cassette.class);
+    private static final int MAGIC = 0x4F484353; // "OHCS"
+    private static final Map<File, Recorder> RECORDERS = new HashMap<>();
+    private static final int VERSION = 1;
+
+    /**
+     * The key deliberately leaves out the scheme and port, so a cassette recorded against one server can be replayed in place of another.
+     *
+     * @param host
+     *        the request host
+     * @param path
+     *        the encoded request path
+     * @param query
+     *        the encoded request query, or null
+     * @return the key the request is recorded under
+     */
+    public static String key(final String host, final String path, final String query) {
+        return query == null ? host + path : host + path + "?" + query;
+    }
+
+    /**
+     * @param file
+     *        the cassette to append to
+     * @return the recorder for that cassette
+     */
+    public static Recorder recorder(final File file) {
+        File canonical;
+        try {
+            canonical = file.getCanonicalFile();
+        } catch(final IOException e) {
+            canonical = file.getAbsoluteFile();
+        }
+
+        synchronized(RECORDERS) {
+            Recorder recorder = RECORDERS.get(canonical);
+            if(recorder == null) {
+                recorder = new Recorder(canonical);
+                RECORDERS.put(canonical, recorder);
+            }
+            return recorder;
+        }
+    }
+}
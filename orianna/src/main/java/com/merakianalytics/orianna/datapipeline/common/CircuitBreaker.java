@@ -0,0 +1,364 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops requests to a failing service so they don't spend permits and threads on errors. Results are counted over fixed windows. If enough requests were
+ * made in a window and enough of them failed, the breaker opens and refuses every request. Once it has been open for a while it lets a single probe request
+ * through every probe interval. The first probe that succeeds closes it again, and one that fails keeps it open for another full period. Only the probe's
+ * own outcome does that, so late results from requests let through before the breaker opened can't close it.
+ *
+ * Outcomes that say nothing about the service's health, like a request that was never sent, shouldn't be recorded at all.
+ *
+ * Breakers are off by default. An open breaker fails requests that would otherwise have been made, so it has to be turned on along with a circuit open
+ * strategy that suits the application.
+ */
+public class CircuitBreaker {
+    public static class Configuration {
+        private static final boolean DEFAULT_ENABLED = false;
+        private static final double DEFAULT_ERROR_RATE = 0.5;
+        private static final int DEFAULT_MINIMUM_REQUESTS = 20;
+        private static final long DEFAULT_OPEN_DURATION = 30;
+        private static final TimeUnit DEFAULT_OPEN_DURATION_UNIT = TimeUnit.SECONDS;
+        private static final long DEFAULT_PROBE_INTERVAL = 5;
+        private static final TimeUnit DEFAULT_PROBE_INTERVAL_UNIT = TimeUnit.SECONDS;
+        private static final long DEFAULT_WINDOW = 10;
+        private static final TimeUnit DEFAULT_WINDOW_UNIT = TimeUnit.SECONDS;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private double errorRate = DEFAULT_ERROR_RATE;
+        private int minimumRequests = DEFAULT_MINIMUM_REQUESTS;
+        private long openDuration = DEFAULT_OPEN_DURATION;
+        private TimeUnit openDurationUnit = DEFAULT_OPEN_DURATION_UNIT;
+        private long probeInterval = DEFAULT_PROBE_INTERVAL;
+        private TimeUnit probeIntervalUnit = DEFAULT_PROBE_INTERVAL_UNIT;
+        private long window = DEFAULT_WINDOW;
+        private TimeUnit windowUnit = DEFAULT_WINDOW_UNIT;
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(obj == null) {
+                return false;
+            }
+            if(getClass() != obj.getClass()) {
+                return false;
+            }
+            final Configuration other = (Configuration)obj;
+            if(enabled != other.enabled) {
+                return false;
+            }
+            if(Double.doubleToLongBits(errorRate) != Double.doubleToLongBits(other.errorRate)) {
+                return false;
+            }
+            if(minimumRequests != other.minimumRequests) {
+                return false;
+            }
+            if(openDuration != other.openDuration) {
+                return false;
+            }
+            if(openDurationUnit != other.openDurationUnit) {
+                return false;
+            }
+            if(probeInterval != other.probeInterval) {
+                return false;
+            }
+            if(probeIntervalUnit != other.probeIntervalUnit) {
+                return false;
+            }
+            if(window != other.window) {
+                return false;
+            }
+            if(windowUnit != other.windowUnit) {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return the share of a window's requests, from 0 to 1, that have to fail for the breaker to open
+         */
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        /**
+         * @return the fewest requests a window needs before its failures can open the breaker
+         */
+        public int getMinimumRequests() {
+            return minimumRequests;
+        }
+
+        /**
+         * @return how long the breaker stays open before it starts probing
+         */
+        public long getOpenDuration() {
+            return openDuration;
+        }
+
+        /**
+         * @return the openDurationUnit
+         */
+        public TimeUnit getOpenDurationUnit() {
+            return openDurationUnit;
+        }
+
+        /**
+         * @return how often a probe request is let through once the breaker has been open for the open duration
+         */
+        public long getProbeInterval() {
+            return probeInterval;
+        }
+
+        /**
+         * @return the probeIntervalUnit
+         */
+        public TimeUnit getProbeIntervalUnit() {
+            return probeIntervalUnit;
+        }
+
+        /**
+         * @return how long each window of counted results lasts
+         */
+        public long getWindow() {
+            return window;
+        }
+
+        /**
+         * @return the windowUnit
+         */
+        public TimeUnit getWindowUnit() {
+            return windowUnit;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + (enabled ? 1231 : 1237);
+            long temp;
+            temp = Double.doubleToLongBits(errorRate);
+            result = prime * result + (int)(temp ^ temp >>> 32);
+            result = prime * result + minimumRequests;
+            result = prime * result + (int)(openDuration ^ openDuration >>> 32);
+            result = prime * result + (openDurationUnit == null ? 0 : openDurationUnit.hashCode());
+            result = prime * result + (int)(probeInterval ^ probeInterval >>> 32);
+            result = prime * result + (probeIntervalUnit == null ? 0 : probeIntervalUnit.hashCode());
+            result = prime * result + (int)(window ^ window >>> 32);
+            result = prime * result + (windowUnit == null ? 0 : windowUnit.hashCode());
+            return result;
+        }
+
+        /**
+         * @return whether requests go through circuit breakers at all. Off by default.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @param enabled
+         *        whether requests go through circuit breakers at all
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @param errorRate
+         *        the share of a window's requests, from 0 to 1, that have to fail for the breaker to open
+         */
+        public void setErrorRate(final double errorRate) {
+            this.errorRate = errorRate;
+        }
+
+        /**
+         * @param minimumRequests
+         *        the fewest requests a window needs before its failures can open the breaker
+         */
+        public void setMinimumRequests(final int minimumRequests) {
+            this.minimumRequests = minimumRequests;
+        }
+
+        /**
+         * @param openDuration
+         *        how long the breaker stays open before it starts probing
+         */
+        public void setOpenDuration(final long openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        /**
+         * @param openDurationUnit
+         *        the openDurationUnit to set
+         */
+        public void setOpenDurationUnit(final TimeUnit openDurationUnit) {
+            this.openDurationUnit = openDurationUnit;
+        }
+
+        /**
+         * @param probeInterval
+         *        how often a probe request is let through once the breaker has been open for the open duration
+         */
+        public void setProbeInterval(final long probeInterval) {
+            this.probeInterval = probeInterval;
+        }
+
+        /**
+         * @param probeIntervalUnit
+         *        the probeIntervalUnit to set
+         */
+        public void setProbeIntervalUnit(final TimeUnit probeIntervalUnit) {
+            this.probeIntervalUnit = probeIntervalUnit;
+        }
+
+        /**
+         * @param window
+         *        how long each window of counted results lasts
+         */
+        public void setWindow(final long window) {
+            this.window = window;
+        }
+
+        /**
+         * @param windowUnit
+         *        the windowUnit to set
+         */
+        public void setWindowUnit(final TimeUnit windowUnit) {
+            this.windowUnit = windowUnit;
+        }
+    }
+
+    public static enum State {
+            CLOSED,
+            HALF_OPEN,
+            OPEN;
+    }
+
+    /**
+     * Returned by {@link CircuitBreaker#allow()} for each request let through, and handed back with the request's outcome.
+     */
+    public static final class Ticket {
+        private Ticket() {}
+    }
+
+    private static final Ticket CLOSED_TICKET = new Ticket();
+
+    private final double errorRate;
+    private int failures = 0;
+    private final int minimumRequests;
+    private long nextProbeAt = 0L;
+    private final long openDuration;
+    private long openedAt = 0L;
+    private Ticket probe = null;
+    private final long probeInterval;
+    private int requests = 0;
+    private State state = State.CLOSED;
+    private final long window;
+    private long windowStart;
+
+    public CircuitBreaker(final Configuration config) {
+        errorRate = config.getErrorRate();
+        minimumRequests = Math.max(1, config.getMinimumRequests());
+        openDuration = config.getOpenDurationUnit().toNanos(config.getOpenDuration());
+        probeInterval = config.getProbeIntervalUnit().toNanos(config.getProbeInterval());
+        window = config.getWindowUnit().toNanos(config.getWindow());
+        windowStart = System.nanoTime();
+    }
+
+    /**
+     * @return the ticket to record the request's outcome with, or null if it may not be made now. While half open, a ticket is the probe for the current
+     *         interval.
+     */
+    public synchronized Ticket allow() {
+        if(state == State.CLOSED) {
+            return CLOSED_TICKET;
+        }
+
+        final long now = System.nanoTime();
+        if(state == State.OPEN) {
+            if(now - openedAt < openDuration) {
+                return null;
+            }
+            state = State.HALF_OPEN;
+            nextProbeAt = now;
+        }
+
+        if(now - nextProbeAt < 0L) {
+            return null;
+        }
+        nextProbeAt = now + probeInterval;
+        // A probe that never reports back is replaced by the next one
+        probe = new Ticket();
+        return probe;
+    }
+
+    /**
+     * Records a request the service failed to serve.
+     *
+     * @param ticket
+     *        the ticket {@link #allow()} let the request through with
+     */
+    public synchronized void failed(final Ticket ticket) {
+        final long now = System.nanoTime();
+        if(state == State.HALF_OPEN) {
+            if(ticket == probe) {
+                open(now);
+            }
+        } else if(state == State.CLOSED) {
+            roll(now);
+            requests += 1;
+            failures += 1;
+            if(requests >= minimumRequests && failures >= errorRate * requests) {
+                open(now);
+            }
+        }
+        // Requests let through before the breaker opened change nothing while it's open, and only the probe counts while it's half open
+    }
+
+    /**
+     * @return the state, as of the last request
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open(final long now) {
+        state = State.OPEN;
+        openedAt = now;
+        probe = null;
+    }
+
+    private void roll(final long now) {
+        if(now - windowStart >= window) {
+            windowStart = now;
+            requests = 0;
+            failures = 0;
+        }
+    }
+
+    /**
+     * Records a request the service served.
+     *
+     * @param ticket
+     *        the ticket {@link #allow()} let the request through with
+     */
+    public synchronized void succeeded(final Ticket ticket) {
+        final long now = System.nanoTime();
+        if(state == State.HALF_OPEN) {
+            if(ticket != probe) {
+                return;
+            }
+            state = State.CLOSED;
+            probe = null;
+            windowStart = now;
+            requests = 0;
+            failures = 0;
+        } else if(state == State.CLOSED) {
+            roll(now);
+            requests += 1;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
+import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiters;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Priority;
+
+/**
+ * Makes one request per key and returns the results in key order, keeping up to parallelism requests in flight at once. Results that finish out of order
+ * wait in a buffer that never holds more than parallelism entries, and closing the iterator cancels whatever is still outstanding.
+ *
+ * If a rate limiter is supplied, the number in flight is also held to the permits it currently has available, so requests don't pile up waiting on it. While
+ * the supplier returns null (the limits haven't been discovered yet) only one request is made at a time.
+ *
+ * @param <K>
+ *        the key type
+ * @param <T>
+ *        the result type
+ */
+public class FanOutIterator<K, T> implements CloseableIterator<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FanOutIterator.class);
+
+    private boolean closed = false;
+    private final ListeningExecutorService executor;
+    private final Iterator<? extends K> keys;
+    private final Supplier<? extends RateLimiter> limiter;
+    private final int parallelism;
+    private final Deque<ListenableFuture<T>> pending;
+    private final AsyncFunction<? super K, T> request;
+
+    /**
+     * @param keys
+     *        the keys to make requests for
+     * @param request
+     *        makes the request for a key. It's called on the executor, so it's free to block before returning its future.
+     * @param parallelism
+     *        the most requests to have in flight at once
+     * @param executor
+     *        the executor to make requests on
+     * @param limiter
+     *        the rate limiter the requests go through, or null to ignore its headroom
+     */
+    public FanOutIterator(final Iterator<? extends K> keys, final AsyncFunction<? super K, T> request, final int parallelism,
+        final ListeningExecutorService executor, final Supplier<? extends RateLimiter> limiter) {
+        this.keys = keys;
+        this.request = request;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = executor;
+        this.limiter = limiter;
+        pending = new ArrayDeque<>(this.parallelism);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for(final ListenableFuture<T> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+    }
+
+    private void fill() {
+        int inFlight = parallelism;
+        if(limiter != null) {
+            final RateLimiter rateLimiter = limiter.get();
+            inFlight = rateLimiter == null ? 1 : Math.min(parallelism, Math.max(1, RateLimiters.availablePermits(rateLimiter)));
+        }
+
+        while(!closed && pending.size() < inFlight && keys.hasNext()) {
+            final K key = keys.next();
+            pending.add(Futures.dereference(executor.submit(Deadline.propagate(Priority.propagate(new Callable<ListenableFuture<T>>() {
+                @Override
+                public ListenableFuture<T> call() throws Exception {
+                    return request.apply(key);
+                }
+            })))));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty() || !closed && keys.hasNext();
+    }
+
+    @Override
+    public T next() {
+        fill();
+        final ListenableFuture<T> next = pending.poll();
+        if(next == null) {
+            throw new NoSuchElementException();
+        }
+
+        final T result;
+        try {
+            result = next.get();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            LOGGER.error("Interrupted while waiting for a request!", e);
+            throw new OriannaException("Interrupted while waiting for a request!", e);
+        } catch(final ExecutionException e) {
+            // The caller won't come back for the rest, so stop them from spending permits
+            close();
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            } else if(e.getCause() instanceof Error) {
+                throw (Error)e.getCause();
+            }
+            LOGGER.error("Request failed unexpectedly!", e.getCause());
+            throw new OriannaException("Request failed unexpectedly! Report this to the orianna team.", e.getCause());
+        }
+
+        // Keep the next requests going while the caller works on this result
+        fill();
+        return result;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -1,20 +1,33 @@
 package com.merakianalytics.orianna.datapipeline.common;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import com.merakianalytics.orianna.datapipeline.common.TimeoutException.Type;
+import com.merakianalytics.orianna.datapipeline.common.metrics.RequestMetrics;
 import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.tracing.Tracing;
+import com.merakianalytics.orianna.types.common.Deadline;
 
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
@@ -25,19 +38,43 @@ import okhttp3.ResponseBody;
 
 public class HTTPClient {
     public static class Configuration {
+        private static final String DEFAULT_CASSETTE = null;
+        private static final Cassette.Mode DEFAULT_CASSETTE_MODE = Cassette.Mode.RECORD;
         private static final long DEFAULT_CONNECT_TIMEOUT = 3;
         private static final TimeUnit DEFAULT_CONNECT_TIMEOUT_UNIT = TimeUnit.SECONDS;
+        private static final int DEFAULT_PORT = -1;
         private static final long DEFAULT_RATE_LIMITER_TIMEOUT = -1;
         private static final TimeUnit DEFAULT_RATE_LIMITER_TIMEOUT_UNIT = TimeUnit.DAYS;
         private static final long DEFAULT_READ_TIMEOUT = 3;
         private static final TimeUnit DEFAULT_READ_TIMEOUT_UNIT = TimeUnit.SECONDS;
+        private static final boolean DEFAULT_REPLAY_TIMING = false;
+        private static final String DEFAULT_SCHEME = "https";
 
+        private String cassette = DEFAULT_CASSETTE;
+        private Cassette.Mode cassetteMode = DEFAULT_CASSETTE_MODE;
         private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
         private TimeUnit connectTimeoutUnit = DEFAULT_CONNECT_TIMEOUT_UNIT;
+        private int port = DEFAULT_PORT;
         private long rateLimiterTimeout = DEFAULT_RATE_LIMITER_TIMEOUT;
         private TimeUnit rateLimiterTimeoutUnit = DEFAULT_RATE_LIMITER_TIMEOUT_UNIT;
         private long readTimeout = DEFAULT_READ_TIMEOUT;
         private TimeUnit readTimeoutUnit = DEFAULT_READ_TIMEOUT_UNIT;
+        private boolean replayTiming = DEFAULT_REPLAY_TIMING;
+        private String scheme = DEFAULT_SCHEME;
+
+        /**
+         * @return the path of the cassette file to record responses to or replay them from, or null to make requests normally
+         */
+        public String getCassette() {
+            return cassette;
+        }
+
+        /**
+         * @return the cassetteMode
+         */
+        public Cassette.Mode getCassetteMode() {
+            return cassetteMode;
+        }
 
         /**
          * @return the connectTimeout
@@ -53,6 +90,13 @@ public class HTTPClient {
             return connectTimeoutUnit;
         }
 
+        /**
+         * @return the port, or -1 to use the default port for the scheme
+         */
+        public int getPort() {
+            return port;
+        }
+
         /**
          * @return the rateLimiterTimeout
          */
@@ -81,6 +125,36 @@ public class HTTPClient {
             return readTimeoutUnit;
         }
 
+        /**
+         * @return the scheme
+         */
+        public String getScheme() {
+            return scheme;
+        }
+
+        /**
+         * @return whether replayed responses take as long as the recorded requests did
+         */
+        public boolean isReplayTiming() {
+            return replayTiming;
+        }
+
+        /**
+         * @param cassette
+         *        the cassette to set
+         */
+        public void setCassette(final String cassette) {
+            this.cassette = cassette;
+        }
+
+        /**
+         * @param cassetteMode
+         *        the cassetteMode to set
+         */
+        public void setCassetteMode(final Cassette.Mode cassetteMode) {
+            this.cassetteMode = cassetteMode;
+        }
+
         /**
          * @param connectTimeout
          *        the connectTimeout to set
@@ -97,6 +171,14 @@ public class HTTPClient {
             this.connectTimeoutUnit = connectTimeoutUnit;
         }
 
+        /**
+         * @param port
+         *        the port to set, or -1 to use the default port for the scheme
+         */
+        public void setPort(final int port) {
+            this.port = port;
+        }
+
         /**
          * @param rateLimiterTimeout
          *        the rateLimiterTimeout to set
@@ -128,6 +210,22 @@ public class HTTPClient {
         public void setReadTimeoutUnit(final TimeUnit readTimeoutUnit) {
             this.readTimeoutUnit = readTimeoutUnit;
         }
+
+        /**
+         * @param replayTiming
+         *        the replayTiming to set
+         */
+        public void setReplayTiming(final boolean replayTiming) {
+            this.replayTiming = replayTiming;
+        }
+
+        /**
+         * @param scheme
+         *        the scheme to set
+         */
+        public void setScheme(final String scheme) {
+            this.scheme = scheme;
+        }
     }
 
     public static class Response {
@@ -185,8 +283,28 @@ public class HTTPClient {
     }
 
     private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
     private static final Logger LOGGER = LoggerFactory.getLogger(HTTPClient.class);
 
+    /**
+     * Header names are case insensitive, and not every server sends them in the canonical case.
+     */
+    static ListMultimap<String, String> newHeaders() {
+        return Multimaps.newListMultimap(new TreeMap<String, Collection<String>>(String.CASE_INSENSITIVE_ORDER), new Supplier<List<String>>() {
+            @Override
+            public List<String> get() {
+                return new ArrayList<>(1);
+            }
+        });
+    }
+
+    /**
+     * @return the timeout, cut to the time left before the deadline if that's shorter. A timeout of 0 is no timeout, so it's always cut.
+     */
+    private static long cap(final long timeoutMillis, final long remainingMillis) {
+        return timeoutMillis <= 0L ? remainingMillis : Math.min(timeoutMillis, remainingMillis);
+    }
+
     private static String removeLeadingSlashes(final String url) {
         final Pattern pattern = Pattern.compile("^(/*)(.*)");
         final Matcher matcher = pattern.matcher(url);
@@ -197,8 +315,12 @@ public class HTTPClient {
     }
 
     private final OkHttpClient client;
+    private final Cassette.Player player;
+    private final int port;
     private final long rateLimiterTimeout;
     private final TimeUnit rateLimiterTimeoutUnit;
+    private final Cassette.Recorder recorder;
+    private final String scheme;
 
     public HTTPClient() {
         this(new Configuration());
@@ -209,6 +331,19 @@ public class HTTPClient {
             .readTimeout(config.getReadTimeout(), config.getReadTimeoutUnit()).build();
         rateLimiterTimeout = config.getRateLimiterTimeout();
         rateLimiterTimeoutUnit = config.getRateLimiterTimeoutUnit();
+        scheme = config.getScheme();
+        port = config.getPort();
+
+        if(config.getCassette() == null) {
+            player = null;
+            recorder = null;
+        } else if(Cassette.Mode.REPLAY == config.getCassetteMode()) {
+            player = new Cassette.Player(new File(config.getCassette()), config.isReplayTiming());
+            recorder = null;
+        } else {
+            player = null;
+            recorder = Cassette.recorder(new File(config.getCassette()));
+        }
     }
 
     public Response get(final String url) throws IOException {
@@ -235,7 +370,19 @@ public class HTTPClient {
 
     public Response get(final String host, final String url, final Multimap<String, String> parameters, final Map<String, String> headers,
         final RateLimiter rateLimiter) throws IOException {
-        HttpUrl.Builder urlBuilder = new HttpUrl.Builder().scheme("https").host(host).addPathSegments(removeLeadingSlashes(url));
+        return get(host, url, parameters, headers, rateLimiter, null);
+    }
+
+    /**
+     * @param metrics
+     *        records the permit wait, latency, status and size of the request, or null to not record them
+     */
+    public Response get(final String host, final String url, final Multimap<String, String> parameters, final Map<String, String> headers,
+        final RateLimiter rateLimiter, final RequestMetrics metrics) throws IOException {
+        HttpUrl.Builder urlBuilder = new HttpUrl.Builder().scheme(scheme).host(host).addPathSegments(removeLeadingSlashes(url));
+        if(port > 0) {
+            urlBuilder = urlBuilder.port(port);
+        }
         if(parameters != null && !parameters.isEmpty()) {
             for(final String key : parameters.keySet()) {
                 for(final String value : parameters.get(key)) {
@@ -245,45 +392,92 @@ public class HTTPClient {
         }
         final HttpUrl httpURL = urlBuilder.build();
 
+        if(player != null) {
+            // Replayed responses skip the rate limiter as well as the network, so recorded traffic replays as fast as it can be processed
+            return player.play(Cassette.key(httpURL.host(), httpURL.encodedPath(), httpURL.encodedQuery()));
+        }
+
         Request.Builder requestBuilder = new Request.Builder().url(httpURL);
         if(headers != null && !headers.isEmpty()) {
             requestBuilder = requestBuilder.headers(Headers.of(headers));
         }
         final Request request = requestBuilder.build();
+        final Deadline deadline = Deadline.current();
+        final AtomicBoolean permitted = new AtomicBoolean(rateLimiter == null);
+        final long queuedAt = System.nanoTime();
 
         final Callable<Response> requestor = new Callable<Response>() {
             @Override
             public Response call() throws IOException {
+                if(permitted.compareAndSet(false, true)) {
+                    final long waited = System.nanoTime() - queuedAt;
+                    if(metrics != null) {
+                        metrics.permitted(waited);
+                    }
+                    Tracing.record("RateLimiter", "acquire", httpURL.encodedPath(), true, queuedAt, waited, 0L);
+                }
+
+                OkHttpClient caller = client;
+                if(deadline != null) {
+                    final long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+                    if(remaining <= 0L) {
+                        throw new TimeoutException("Deadline passed before the GET request was sent!", Type.DEADLINE);
+                    }
+                    // Derived clients share the connection pool and dispatcher, so this only costs the builder
+                    caller = client.newBuilder().connectTimeout(cap(client.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+                        .readTimeout(cap(client.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS).build();
+                }
+
                 LOGGER.info("Making GET request to " + httpURL);
+                final long start = System.nanoTime();
                 String body = null;
                 byte[] bytes = null;
                 int statusCode;
                 Headers responseHeaders;
-                try(okhttp3.Response response = client.newCall(request).execute()) {
+                try(okhttp3.Response response = caller.newCall(request).execute()) {
                     statusCode = response.code();
                     responseHeaders = response.headers();
                     try(ResponseBody responseBody = response.body()) {
+                        // Read the raw bytes either way so the size transferred can be recorded
+                        bytes = responseBody.bytes();
                         if(JSON_MEDIA_TYPE.type().equals(responseBody.contentType().type())
                             && JSON_MEDIA_TYPE.subtype().equals(responseBody.contentType().subtype())) {
-                            body = responseBody.string();
-                        } else {
-                            bytes = responseBody.bytes();
+                            body = new String(bytes, responseBody.contentType().charset(UTF_8));
                         }
                     }
                 } catch(final SocketTimeoutException e) {
+                    if(metrics != null) {
+                        metrics.timedOut();
+                    }
+                    Tracing.record("HTTPClient", "request", httpURL.encodedPath(), false, start, System.nanoTime() - start, 0L);
+                    if(deadline != null && deadline.isExpired()) {
+                        throw new TimeoutException("Deadline passed during the GET request!", Type.DEADLINE);
+                    }
                     throw new TimeoutException("HTTP GET request timed out!", Type.HTTP);
                 }
 
-                ImmutableListMultimap.Builder<String, String> mapBuilder = ImmutableListMultimap.<String, String> builder();
+                final ListMultimap<String, String> headerMap = newHeaders();
                 for(final String key : responseHeaders.names()) {
-                    mapBuilder = mapBuilder.putAll(key, responseHeaders.get(key));
+                    headerMap.putAll(key, responseHeaders.values(key));
+                }
+
+                final long latency = System.nanoTime() - start;
+                if(metrics != null) {
+                    metrics.responded(statusCode, latency, bytes.length);
                 }
+                Tracing.record("HTTPClient", "request", httpURL.encodedPath(), statusCode < 400, start, latency, bytes.length);
 
+                final Response result;
                 if(body != null) {
-                    return new Response(body, statusCode, mapBuilder.build());
+                    result = new Response(body, statusCode, Multimaps.unmodifiableListMultimap(headerMap));
                 } else {
-                    return new Response(bytes, statusCode, mapBuilder.build());
+                    result = new Response(bytes, statusCode, Multimaps.unmodifiableListMultimap(headerMap));
+                }
+
+                if(recorder != null) {
+                    recorder.record(Cassette.key(httpURL.host(), httpURL.encodedPath(), httpURL.encodedQuery()), System.nanoTime() - start, result);
                 }
+                return result;
             }
         };
 
@@ -297,13 +491,41 @@ public class HTTPClient {
                 throw new RuntimeException(e);
             }
         } else {
+            long timeout = rateLimiterTimeout;
+            TimeUnit timeoutUnit = rateLimiterTimeoutUnit;
+            if(deadline != null) {
+                final long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+                if(remaining <= 0L) {
+                    throw new TimeoutException("Deadline passed before the GET request could wait for a permit!", Type.DEADLINE);
+                }
+                // Stop waiting for a permit once the deadline passes. A wait that times out leaves without one.
+                timeout = cap(rateLimiterTimeoutUnit.toMillis(rateLimiterTimeout), remaining);
+                timeoutUnit = TimeUnit.MILLISECONDS;
+            }
+
+            if(metrics != null) {
+                metrics.queued();
+            }
             try {
-                return rateLimiter.call(requestor, rateLimiterTimeout, rateLimiterTimeoutUnit);
+                return rateLimiter.call(requestor, timeout, timeoutUnit);
             } catch(final TimeoutException e) {
+                if(Type.RATE_LIMITER == e.getType() && metrics != null) {
+                    metrics.timedOut();
+                }
+                if(Type.RATE_LIMITER == e.getType() && deadline != null && deadline.isExpired()) {
+                    throw new TimeoutException("Deadline passed while waiting for a rate limiter permit!", Type.DEADLINE);
+                }
                 throw e;
             } catch(final Exception e) {
                 LOGGER.error("Unexpected error performing GET request!", e);
                 throw new RuntimeException(e);
+            } finally {
+                if(permitted.compareAndSet(false, true)) {
+                    if(metrics != null) {
+                        metrics.abandoned();
+                    }
+                    Tracing.record("RateLimiter", "acquire", httpURL.encodedPath(), false, queuedAt, System.nanoTime() - queuedAt, 0L);
+                }
             }
         }
     }
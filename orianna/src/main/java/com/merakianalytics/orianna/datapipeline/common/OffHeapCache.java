@@ -0,0 +1,263 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merakianalytics.orianna.types.UniqueKeys;
+import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObject.LoadHook;
+import com.merakianalytics.orianna.types.core.OriannaObject;
+import com.merakianalytics.orianna.types.core.OriannaObjects;
+import com.merakianalytics.orianna.types.data.CoreData;
+
+/**
+ * Keeps the MsgPack form of core objects in direct {@link ByteBuffer} slabs outside the Java heap. A large cache here doesn't make GC pauses any longer.
+ *
+ * Entries are appended to the current slab. Once every slab is full, the oldest slab is reused. An entry in it that has been read since it was written is
+ * copied forward, and every other entry is dropped. This gives roughly LRU behavior, and the only per-entry state kept on the heap is the index.
+ *
+ * Only objects that {@link OriannaObjects#rebuild} can bring back are stored, and a ghost object isn't stored until every one of its load groups has loaded.
+ * Ghost objects that loaded but don't exist aren't stored at all.
+ */
+public class OffHeapCache {
+    private static class Entry {
+        private volatile boolean accessed = false;
+        private final Class<? extends CoreData> dataType;
+        private final long expiration;
+        private final UniqueKeys.Key key;
+        private final int length;
+        private final int offset;
+        private final int slab;
+        private final Class<?> type;
+
+        public Entry(final UniqueKeys.Key key, final Class<?> type, final Class<? extends CoreData> dataType, final long expiration, final int slab,
+            final int offset, final int length) {
+            this.key = key;
+            this.type = type;
+            this.dataType = dataType;
+            this.expiration = expiration;
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private class StoreHook implements LoadHook {
+        private final long expiration;
+        private final UniqueKeys.Key key;
+        private final GhostObject<?> object;
+
+        public StoreHook(final UniqueKeys.Key key, final GhostObject<?> object, final long expiration) {
+            this.key = key;
+            this.object = object;
+            this.expiration = expiration;
+        }
+
+        @Override
+        public void call() {
+            if(object.isLoaded()) {
+                put(key, object, expiration);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final StoreHook other = (StoreHook)obj;
+            return getOuter() == other.getOuter() && key.equals(other.key) && object == other.object;
+        }
+
+        private OffHeapCache getOuter() {
+            return OffHeapCache.this;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapCache.class);
+    private static final int MAX_SLAB_SIZE = 64 * 1024 * 1024;
+
+    private final List<List<Entry>> entries;
+    private int head = 0;
+    private final ConcurrentMap<UniqueKeys.Key, Entry> index = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int position = 0;
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+
+    /**
+     * @param capacity
+     *        the number of bytes to allocate, split into slabs of at most 64MB
+     */
+    public OffHeapCache(final long capacity) {
+        final int count = (int)Math.max(2L, (capacity + MAX_SLAB_SIZE - 1) / MAX_SLAB_SIZE);
+        slabSize = (int)(capacity / count);
+        slabs = new ByteBuffer[count];
+        entries = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            slabs[i] = ByteBuffer.allocateDirect(slabSize);
+            entries.add(new ArrayList<Entry>());
+        }
+    }
+
+    private void advance() {
+        head = (head + 1) % slabs.length;
+        position = 0;
+
+        final List<Entry> evicted = entries.get(head);
+        final List<Entry> survivors = new ArrayList<>();
+        final List<byte[]> survivorBytes = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        for(final Entry entry : evicted) {
+            if(index.get(entry.key) != entry) {
+                // Replaced by a newer copy
+                continue;
+            }
+            if(entry.accessed && entry.expiration > now) {
+                survivors.add(entry);
+                survivorBytes.add(read(entry));
+            } else {
+                index.remove(entry.key, entry);
+            }
+        }
+        evicted.clear();
+
+        for(int i = 0; i < survivors.size(); i++) {
+            final Entry entry = survivors.get(i);
+            final Entry moved = write(entry.key, entry.type, entry.dataType, entry.expiration, survivorBytes.get(i));
+            index.replace(entry.key, entry, moved);
+        }
+    }
+
+    /**
+     * @param key
+     *        the key
+     * @return whether there's an unexpired entry for the key
+     */
+    public boolean containsKey(final UniqueKeys.Key key) {
+        final Entry entry = index.get(key);
+        return entry != null && entry.expiration > System.currentTimeMillis();
+    }
+
+    /**
+     * Rebuilds the object stored under a key.
+     *
+     * @param key
+     *        the key
+     * @return the object, or null if there isn't an unexpired entry for the key
+     */
+    public OriannaObject<?> get(final UniqueKeys.Key key) {
+        final Entry entry;
+        final byte[] bytes;
+        lock.readLock().lock();
+        try {
+            entry = index.get(key);
+            if(entry == null) {
+                return null;
+            }
+            if(entry.expiration <= System.currentTimeMillis()) {
+                index.remove(key, entry);
+                return null;
+            }
+            bytes = read(entry);
+            entry.accessed = true;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return OriannaObjects.rebuild(entry.type, entry.dataType, bytes);
+    }
+
+    /**
+     * @param key
+     *        the key
+     * @return the time the entry for the key expires, in epoch milliseconds, or 0 if there isn't one
+     */
+    public long getExpiration(final UniqueKeys.Key key) {
+        final Entry entry = index.get(key);
+        return entry == null ? 0L : entry.expiration;
+    }
+
+    /**
+     * Stores an object under a key. If it's a ghost object that isn't fully loaded yet, it's stored once it is.
+     *
+     * @param key
+     *        the key
+     * @param object
+     *        the object
+     * @param expiration
+     *        the time the entry expires, in epoch milliseconds
+     */
+    public void put(final UniqueKeys.Key key, final OriannaObject<?> object, final long expiration) {
+        if(!OriannaObjects.canRebuild(object.getClass())) {
+            return;
+        }
+        if(!OriannaObjects.isComplete(object)) {
+            ((GhostObject<?>)object).registerGhostLoadHook(new StoreHook(key, (GhostObject<?>)object, expiration));
+            return;
+        }
+
+        if(object instanceof GhostObject && !((GhostObject<?>)object).exists()) {
+            // Not found, and InMemoryCache keeps those for a shorter period than this entry would last
+            return;
+        }
+
+        final CoreData data = object.getCoreData();
+        final byte[] bytes;
+        try {
+            bytes = data.toBytes();
+        } catch(final RuntimeException e) {
+            // The off-heap copy is only an optimization, so a failure here shouldn't fail the put
+            LOGGER.warn("Failed to serialize " + object.getClass().getName() + " for the off-heap cache!", e);
+            return;
+        }
+        if(bytes.length > slabSize) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            while(position + bytes.length > slabSize) {
+                advance();
+            }
+            index.put(key, write(key, object.getClass(), data.getClass(), expiration, bytes));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private byte[] read(final Entry entry) {
+        final byte[] bytes = new byte[entry.length];
+        final ByteBuffer slab = slabs[entry.slab].duplicate();
+        slab.position(entry.offset);
+        slab.get(bytes);
+        return bytes;
+    }
+
+    private Entry write(final UniqueKeys.Key key, final Class<?> type, final Class<? extends CoreData> dataType, final long expiration, final byte[] bytes) {
+        final ByteBuffer slab = slabs[head].duplicate();
+        slab.position(position);
+        slab.put(bytes);
+
+        final Entry entry = new Entry(key, type, dataType, expiration, head, position, bytes.length);
+        entries.get(head).add(entry);
+        position += bytes.length;
+        return entry;
+    }
+}
@@ -0,0 +1,154 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Supplier;
+
+/**
+ * Memoizes a value for a set period, like Suppliers.memoizeWithExpiration. The difference is that the value is reloaded in the background once it's within
+ * refreshAhead of expiring. Callers keep getting the current value while the reload runs, so only the very first get ever waits on the delegate.
+ *
+ * If a background reload fails, the current value is kept and the reload is retried a little later. Once the value actually expires, serveStale decides
+ * what happens. If it's set, callers keep getting the old value until a reload succeeds. Otherwise they block on a reload of their own, just like a plain
+ * expiring memoizer.
+ *
+ * @param <T>
+ *        the value type
+ */
+public class RefreshingSupplier<T> implements Supplier<T> {
+    public static interface ChangeHook<T> {
+        public void call(T previous, T current);
+    }
+
+    private static class Value<T> {
+        private final long expiresAt;
+        private final long refreshAt;
+        private final T value;
+
+        public Value(final T value, final long expiresAt, final long refreshAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshingSupplier.class);
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(30L);
+
+    private final Supplier<T> delegate;
+    private final Supplier<? extends Executor> executor;
+    private final long expiration;
+    private final ChangeHook<? super T> hook;
+    private final Object lock = new Object();
+    private final long refreshAhead;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final boolean serveStale;
+    private volatile Value<T> value;
+
+    /**
+     * @param delegate
+     *        loads the value
+     * @param expiration
+     *        how long a value is good for
+     * @param refreshAhead
+     *        how long before it expires to start reloading it
+     * @param unit
+     *        the unit of expiration and refreshAhead
+     * @param serveStale
+     *        whether to keep serving an expired value while it can't be reloaded, instead of blocking on a reload
+     * @param executor
+     *        supplies the executor background reloads run on
+     * @param hook
+     *        called after a reload returns a value that differs from the previous one, or null
+     */
+    public RefreshingSupplier(final Supplier<T> delegate, final long expiration, final long refreshAhead, final TimeUnit unit, final boolean serveStale,
+        final Supplier<? extends Executor> executor, final ChangeHook<? super T> hook) {
+        this.delegate = delegate;
+        this.expiration = unit.toNanos(expiration);
+        this.refreshAhead = Math.min(unit.toNanos(refreshAhead), this.expiration);
+        this.serveStale = serveStale;
+        this.executor = executor;
+        this.hook = hook;
+    }
+
+    private void changed(final T previous, final T current) {
+        if(hook != null && !Objects.equal(previous, current)) {
+            hook.call(previous, current);
+        }
+    }
+
+    @Override
+    public T get() {
+        final Value<T> current = value;
+        final long now = System.nanoTime();
+        if(current == null || !serveStale && now - current.expiresAt >= 0L) {
+            return load(current);
+        }
+
+        if(now - current.refreshAt >= 0L) {
+            refresh();
+        }
+        return current.value;
+    }
+
+    private T load(final Value<T> expired) {
+        final T loaded;
+        synchronized(lock) {
+            final Value<T> current = value;
+            if(current != expired) {
+                return current.value;
+            }
+
+            loaded = delegate.get();
+            value = newValue(loaded);
+        }
+
+        if(expired != null) {
+            changed(expired.value, loaded);
+        }
+        return loaded;
+    }
+
+    private Value<T> newValue(final T loaded) {
+        final long now = System.nanoTime();
+        return new Value<>(loaded, now + expiration, now + expiration - refreshAhead);
+    }
+
+    private void refresh() {
+        if(!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.get().execute(new Runnable() {
+                @Override
+                public void run() {
+                    final Value<T> previous = value;
+                    try {
+                        final T loaded = delegate.get();
+                        value = newValue(loaded);
+                        changed(previous.value, loaded);
+                    } catch(final RuntimeException e) {
+                        LOGGER.warn("Failed to refresh a value ahead of its expiration! Keeping the current one and trying again later.", e);
+                        synchronized(lock) {
+                            if(value == previous) {
+                                value = new Value<>(previous.value, previous.expiresAt, System.nanoTime() + RETRY_DELAY);
+                            }
+                        }
+                    } finally {
+                        refreshing.set(false);
+                    }
+                }
+            });
+        } catch(final RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+}
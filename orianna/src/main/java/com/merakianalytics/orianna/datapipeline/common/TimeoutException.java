@@ -4,6 +4,7 @@ import com.merakianalytics.orianna.types.common.OriannaException;
 
 public class TimeoutException extends OriannaException {
     public static enum Type {
+            DEADLINE,
             HTTP,
             RATE_LIMITER;
     }
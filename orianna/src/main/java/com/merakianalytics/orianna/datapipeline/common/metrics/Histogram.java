@@ -0,0 +1,112 @@
+package com.merakianalytics.orianna.datapipeline.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts non-negative values in log-linear buckets: every power of 2 is split into 4 buckets, so a percentile is never off by more than 25%. Recording is
+ * a few atomic increments and never blocks, so it's cheap enough for every request.
+ */
+public class Histogram {
+    private static final int BUCKETS = 248;
+
+    private static int bucket(final long value) {
+        if(value < 4L) {
+            return (int)Math.max(0L, value);
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int sub = (int)(value >>> magnitude - 2) & 3;
+        return 4 + (magnitude - 2) * 4 + sub;
+    }
+
+    private static long upperBound(final int bucket) {
+        if(bucket < 4) {
+            return bucket;
+        }
+        final int magnitude = (bucket - 4) / 4 + 2;
+        final long lower = (long)(4 + (bucket - 4) % 4) << magnitude - 2;
+        return lower + (1L << magnitude - 2) - 1L;
+    }
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+
+    /**
+     * @return how many values have been recorded
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return the largest value recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the values recorded, or 0 if there aren't any
+     */
+    public double getMean() {
+        final long n = count.get();
+        return n == 0L ? 0.0 : (double)sum.get() / n;
+    }
+
+    /**
+     * @param percentile
+     *        the percentile, from 0 to 100
+     * @return the value that percentile of the recorded values are at or below, rounded up to its bucket's upper bound, or 0 if there aren't any
+     */
+    public long getPercentile(final double percentile) {
+        final long n = count.get();
+        if(n == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long)Math.ceil(percentile / 100.0 * n));
+        long seen = 0L;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if(seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return the sum of the values recorded
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * @param value
+     *        the value to record. Negative values count as 0.
+     */
+    public void record(final long value) {
+        final long recorded = Math.max(0L, value);
+        buckets.incrementAndGet(bucket(recorded));
+        sum.addAndGet(recorded);
+        count.incrementAndGet();
+
+        long current = max.get();
+        while(recorded > current && !max.compareAndSet(current, recorded)) {
+            current = max.get();
+        }
+    }
+
+    void snapshot(final String name, final Map<String, Number> into) {
+        into.put(name + ".count", getCount());
+        into.put(name + ".max", getMax());
+        into.put(name + ".mean", getMean());
+        into.put(name + ".p50", getPercentile(50.0));
+        into.put(name + ".p90", getPercentile(90.0));
+        into.put(name + ".p99", getPercentile(99.0));
+    }
+}
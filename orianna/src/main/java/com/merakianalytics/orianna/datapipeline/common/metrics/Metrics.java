@@ -0,0 +1,148 @@
+package com.merakianalytics.orianna.datapipeline.common.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Supplier;
+import com.merakianalytics.orianna.types.common.OriannaException;
+
+/**
+ * The registry of orianna's metrics. Request metrics are recorded as requests are made, and gauges are read only when the metrics are pulled, so they cost
+ * nothing in between. Pull everything at once with {@link #snapshot()}, or call {@link #exportToJMX()} to publish the same numbers as the attributes of the
+ * com.merakianalytics.orianna:type=Metrics MBean.
+ */
+public abstract class Metrics {
+    private static class MetricsMBean implements DynamicMBean {
+        @Override
+        public Object getAttribute(final String attribute) throws AttributeNotFoundException {
+            final Number value = snapshot().get(attribute);
+            if(value == null) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(final String[] attributes) {
+            final SortedMap<String, Number> snapshot = snapshot();
+            final AttributeList list = new AttributeList();
+            for(final String attribute : attributes) {
+                final Number value = snapshot.get(attribute);
+                if(value != null) {
+                    list.add(new Attribute(attribute, value));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            final List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for(final Map.Entry<String, Number> entry : snapshot().entrySet()) {
+                attributes.add(new MBeanAttributeInfo(entry.getKey(), entry.getValue().getClass().getName(), entry.getKey(), true, false, false));
+            }
+            return new MBeanInfo(Metrics.class.getName(), "Orianna rate limiter and HTTP metrics", attributes.toArray(new MBeanAttributeInfo[attributes.size()]),
+                null, new MBeanOperationInfo[0], null);
+        }
+
+        @Override
+        public Object invoke(final String actionName, final Object[] params, final String[] signature) {
+            throw new UnsupportedOperationException("Orianna's metrics have no operations!");
+        }
+
+        @Override
+        public void setAttribute(final Attribute attribute) {
+            throw new UnsupportedOperationException("Orianna's metrics are read-only!");
+        }
+
+        @Override
+        public AttributeList setAttributes(final AttributeList attributes) {
+            return new AttributeList();
+        }
+    }
+
+    private static final ConcurrentMap<String, Supplier<? extends Number>> GAUGES = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(Metrics.class);
+    private static final String OBJECT_NAME = "com.merakianalytics.orianna:type=Metrics";
+    private static final ConcurrentMap<String, RequestMetrics> REQUESTS = new ConcurrentHashMap<>();
+
+    /**
+     * Publishes the metrics as the attributes of an MBean on the platform MBean server. Calling it again does nothing.
+     */
+    public static synchronized void exportToJMX() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(), new ObjectName(OBJECT_NAME));
+        } catch(final InstanceAlreadyExistsException e) {
+            // Already exported
+        } catch(final JMException e) {
+            LOGGER.error("Failed to export metrics to JMX!", e);
+            throw new OriannaException("Failed to export metrics to JMX! Report this to the orianna team.", e);
+        }
+    }
+
+    /**
+     * Registers a value to read whenever the metrics are pulled, replacing any registered under the same name.
+     *
+     * @param name
+     *        the metric name
+     * @param gauge
+     *        supplies the value
+     */
+    public static void gauge(final String name, final Supplier<? extends Number> gauge) {
+        GAUGES.put(name, gauge);
+    }
+
+    /**
+     * @param name
+     *        the metric name prefix, e.g. riotapi.NA1.lol/summoner/v3/summoners/by-name/summonerName
+     * @return the request metrics with that name, created if they don't exist yet
+     */
+    public static RequestMetrics requests(final String name) {
+        RequestMetrics metrics = REQUESTS.get(name);
+        if(metrics == null) {
+            final RequestMetrics created = new RequestMetrics();
+            metrics = REQUESTS.putIfAbsent(name, created);
+            if(metrics == null) {
+                metrics = created;
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * @return the current value of every metric, keyed by name
+     */
+    public static SortedMap<String, Number> snapshot() {
+        final SortedMap<String, Number> snapshot = new TreeMap<>();
+        for(final Map.Entry<String, RequestMetrics> entry : REQUESTS.entrySet()) {
+            entry.getValue().snapshot(entry.getKey(), snapshot);
+        }
+        for(final Map.Entry<String, Supplier<? extends Number>> entry : GAUGES.entrySet()) {
+            final Number value = entry.getValue().get();
+            if(value != null) {
+                snapshot.put(entry.getKey(), value);
+            }
+        }
+        return snapshot;
+    }
+}
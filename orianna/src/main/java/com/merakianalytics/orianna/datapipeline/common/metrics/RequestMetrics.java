@@ -0,0 +1,187 @@
+package com.merakianalytics.orianna.datapipeline.common.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * What happened to the requests made for one platform and rate limiter: how long they waited for permits and for responses, what the responses were, and
+ * how the failures were handled. Every method is lock-free.
+ */
+public class RequestMetrics {
+    private static Map<String, Long> counts(final ConcurrentMap<String, AtomicLong> counts) {
+        final Map<String, Long> values = new TreeMap<>();
+        for(final Map.Entry<String, AtomicLong> entry : counts.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().get());
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static void increment(final ConcurrentMap<String, AtomicLong> counts, final String key) {
+        AtomicLong count = counts.get(key);
+        if(count == null) {
+            final AtomicLong created = new AtomicLong();
+            count = counts.putIfAbsent(key, created);
+            if(count == null) {
+                count = created;
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    private final AtomicLong bytes = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> handled = new ConcurrentHashMap<>();
+    private final Histogram latency = new Histogram();
+    private final Histogram permitWait = new Histogram();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ConcurrentMap<String, AtomicLong> retries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> statusCodes = new ConcurrentHashMap<>();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Records that a request stopped waiting for a permit without getting one.
+     */
+    public void abandoned() {
+        queued.decrementAndGet();
+    }
+
+    /**
+     * @return the number of response body bytes received
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * @return how many failed requests each {@link com.merakianalytics.orianna.datapipeline.riotapi.RiotAPIService.FailedRequestStrategy} was given, keyed by
+     *         strategy
+     */
+    public Map<String, Long> getHandled() {
+        return counts(handled);
+    }
+
+    /**
+     * @return the time from sending each request to reading its whole response, in microseconds
+     */
+    public Histogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return the time each request waited for its rate limiter permits, in microseconds
+     */
+    public Histogram getPermitWait() {
+        return permitWait;
+    }
+
+    /**
+     * @return how many requests are waiting for permits right now
+     */
+    public int getQueueLength() {
+        return queued.get();
+    }
+
+    /**
+     * @return how many retries each failed request strategy has scheduled, keyed by strategy
+     */
+    public Map<String, Long> getRetries() {
+        return counts(retries);
+    }
+
+    /**
+     * @return how many responses had each status code
+     */
+    public Map<String, Long> getStatusCodes() {
+        return counts(statusCodes);
+    }
+
+    /**
+     * @return how many requests timed out, waiting for a permit or for the server
+     */
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Records that a failed request was handed to a failed request strategy.
+     *
+     * @param strategy
+     *        the strategy
+     */
+    public void handled(final String strategy) {
+        increment(handled, strategy);
+    }
+
+    /**
+     * Records that a request got its permits.
+     *
+     * @param waitNanos
+     *        how long it waited for them
+     */
+    public void permitted(final long waitNanos) {
+        queued.decrementAndGet();
+        permitWait.record(TimeUnit.NANOSECONDS.toMicros(waitNanos));
+    }
+
+    /**
+     * Records that a request started waiting for permits.
+     */
+    public void queued() {
+        queued.incrementAndGet();
+    }
+
+    /**
+     * Records a response.
+     *
+     * @param statusCode
+     *        its status code
+     * @param latencyNanos
+     *        how long it took
+     * @param size
+     *        the size of its body in bytes
+     */
+    public void responded(final int statusCode, final long latencyNanos, final long size) {
+        increment(statusCodes, Integer.toString(statusCode));
+        latency.record(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        bytes.addAndGet(size);
+    }
+
+    /**
+     * Records that a failed request strategy scheduled a retry.
+     *
+     * @param strategy
+     *        the strategy
+     */
+    public void retried(final String strategy) {
+        increment(retries, strategy);
+    }
+
+    void snapshot(final String name, final Map<String, Number> into) {
+        into.put(name + ".bytes", getBytes());
+        for(final Map.Entry<String, Long> entry : getHandled().entrySet()) {
+            into.put(name + ".handled." + entry.getKey(), entry.getValue());
+        }
+        latency.snapshot(name + ".latencyMicros", into);
+        permitWait.snapshot(name + ".permitWaitMicros", into);
+        into.put(name + ".queueLength", getQueueLength());
+        for(final Map.Entry<String, Long> entry : getRetries().entrySet()) {
+            into.put(name + ".retries." + entry.getKey(), entry.getValue());
+        }
+        for(final Map.Entry<String, Long> entry : getStatusCodes().entrySet()) {
+            into.put(name + ".status." + entry.getKey(), entry.getValue());
+        }
+        into.put(name + ".timeouts", getTimeouts());
+    }
+
+    /**
+     * Records that a request timed out.
+     */
+    public void timedOut() {
+        timeouts.incrementAndGet();
+    }
+}
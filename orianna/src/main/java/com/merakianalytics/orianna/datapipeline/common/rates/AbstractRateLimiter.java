@@ -1,12 +1,24 @@
 package com.merakianalytics.orianna.datapipeline.common.rates;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.collect.ImmutableMap;
 import com.merakianalytics.orianna.datapipeline.common.TimeoutException;
+import com.merakianalytics.orianna.types.common.Priority;
 
 public abstract class AbstractRateLimiter implements RateLimiter {
-    public AbstractRateLimiter(final int permits, final long epoch, final TimeUnit epochUnit) {}
+    private volatile Map<Priority, Double> reserves = ImmutableMap.of();
+    private final Scheduler scheduler;
+
+    public AbstractRateLimiter(final int permits, final long epoch, final TimeUnit epochUnit) {
+        this(permits, epoch, epochUnit, Scheduler.system());
+    }
+
+    public AbstractRateLimiter(final int permits, final long epoch, final TimeUnit epochUnit, final Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
 
     @Override
     public abstract void acquire() throws InterruptedException;
@@ -14,6 +26,11 @@ public abstract class AbstractRateLimiter implements RateLimiter {
     @Override
     public abstract boolean acquire(final long timeout, final TimeUnit unit) throws InterruptedException;
 
+    /**
+     * @return how many permits could be acquired right now without waiting
+     */
+    public abstract int availablePermits();
+
     @Override
     public <T> T call(final Callable<T> callable) throws InterruptedException, Exception {
         acquire();
@@ -68,6 +85,44 @@ public abstract class AbstractRateLimiter implements RateLimiter {
 
     public abstract int getPermits();
 
+    /**
+     * @param priority
+     *        the priority of the request waiting on a permit
+     * @param permits
+     *        how many permits the window has
+     * @return how many of the window's permits are held back for priorities higher than the given one. At least one permit is always left for it.
+     */
+    protected int getReserved(final Priority priority, final int permits) {
+        double share = 0.0;
+        for(final Map.Entry<Priority, Double> reserve : reserves.entrySet()) {
+            if(reserve.getKey().isHigherThan(priority)) {
+                share += reserve.getValue();
+            }
+        }
+        return Math.max(0, Math.min(permits - 1, (int)(share * permits)));
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return whether any share of the window is held back for a priority
+     */
+    protected boolean hasReserves() {
+        return !reserves.isEmpty();
+    }
+
+    /**
+     * Lines this limiter up with the server's own count for the same window, e.g. when other processes share the key or the windows have drifted apart.
+     *
+     * @param serverPermits
+     *        the server's limit for the window
+     * @param serverCount
+     *        how many requests the server has counted in its current window, including the one that reported it
+     */
+    public abstract void reconcile(final int serverPermits, final int serverCount);
+
     @Override
     public abstract void release();
 
@@ -75,4 +130,14 @@ public abstract class AbstractRateLimiter implements RateLimiter {
     public abstract void restrictFor(final long time, final TimeUnit unit);
 
     public abstract void setPermits(final int permits);
+
+    /**
+     * Until reserves are set, permits go to waiting requests first come, first served whatever their priority.
+     *
+     * @param reserves
+     *        the share of each window, from 0 to 1, to hold back for requests of each priority
+     */
+    public void setReserves(final Map<Priority, Double> reserves) {
+        this.reserves = ImmutableMap.copyOf(reserves);
+    }
 }
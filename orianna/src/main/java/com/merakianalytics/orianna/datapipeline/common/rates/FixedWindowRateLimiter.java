@@ -1,14 +1,29 @@
 package com.merakianalytics.orianna.datapipeline.common.rates;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.collect.Ordering;
+import com.merakianalytics.orianna.types.common.Priority;
 
 public class FixedWindowRateLimiter extends AbstractRateLimiter {
-    private class Drainer extends TimerTask {
+    private class Drainer implements Runnable {
         private boolean cancelled = false;
+        private Scheduler.Task task;
+
+        public void cancel() {
+            cancelled = true;
+            task.cancel();
+        }
 
         @Override
         public void run() {
@@ -20,11 +35,18 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
         }
     }
 
-    private class Resetter extends TimerTask {
+    private class Resetter implements Runnable {
         private boolean cancelled = false;
+        private Scheduler.Task task;
+
+        public void cancel() {
+            cancelled = true;
+            task.cancel();
+        }
 
         @Override
         public void run() {
+            boolean reset = false;
             synchronized(resetterLock) {
                 if(!cancelled) {
                     permitter.drainPermits();
@@ -36,12 +58,58 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
                     }
                     resetter = null;
                     drainer = null;
-                    timer.purge();
+                    reset = true;
+                }
+            }
+            if(reset) {
+                wake();
+            }
+        }
+    }
+
+    private class Waiter {
+        private final Condition condition = queueLock.newCondition();
+        private boolean expired = false;
+        private boolean granted = false;
+        private final Priority priority;
+        private boolean starved = false;
+
+        public Waiter(final Priority priority) {
+            this.priority = priority;
+        }
+
+        public void expire() {
+            queueLock.lock();
+            try {
+                if(!granted) {
+                    expired = true;
+                    queues.get(priority).remove(this);
+                    condition.signal();
+                    dispatch();
                 }
+            } finally {
+                queueLock.unlock();
+            }
+        }
+
+        public void starve() {
+            queueLock.lock();
+            try {
+                starved = true;
+                dispatch();
+            } finally {
+                queueLock.unlock();
             }
         }
     }
 
+    private static final List<Priority> MOST_URGENT_FIRST = new Ordering<Priority>() {
+        @Override
+        public int compare(final Priority one, final Priority other) {
+            return one.isHigherThan(other) ? -1 : other.isHigherThan(one) ? 1 : 0;
+        }
+    }.immutableSortedCopy(Arrays.asList(Priority.values()));
+
     private volatile int currentlyProcessing = 0;
     private final Object currentlyProcessingLock = new Object();
     private volatile Drainer drainer = null;
@@ -50,28 +118,37 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
     private volatile int permits;
     private final AtomicInteger permitsIssued = new AtomicInteger(0);
     private final Semaphore permitter;
+    // Locks are always taken in the order queueLock, resetterLock, currentlyProcessingLock
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final Map<Priority, Deque<Waiter>> queues = new EnumMap<>(Priority.class);
     private volatile Resetter resetter = null;
     private final Object resetterLock = new Object();
-    private final Timer timer = new Timer(true);
 
     public FixedWindowRateLimiter(final int permits, final long epoch, final TimeUnit epochUnit) {
-        super(permits, epoch, epochUnit);
+        this(permits, epoch, epochUnit, Scheduler.system());
+    }
+
+    public FixedWindowRateLimiter(final int permits, final long epoch, final TimeUnit epochUnit, final Scheduler scheduler) {
+        super(permits, epoch, epochUnit, scheduler);
         this.permits = permits;
         this.epoch = epoch;
         this.epochUnit = epochUnit;
         permitter = new Semaphore(permits, true);
+        for(final Priority priority : Priority.values()) {
+            queues.put(priority, new ArrayDeque<Waiter>());
+        }
     }
 
     @Override
     public void acquire() throws InterruptedException {
-        permitter.acquire();
+        take(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
 
         permitsIssued.incrementAndGet();
 
         synchronized(resetterLock) {
             if(drainer == null) {
                 drainer = new Drainer();
-                timer.schedule(drainer, epochUnit.toMillis(epoch));
+                drainer.task = getScheduler().schedule(drainer, epoch, epochUnit);
             }
         }
 
@@ -87,7 +164,7 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
             return true;
         }
 
-        if(!permitter.tryAcquire(timeout, unit)) {
+        if(!take(timeout, unit)) {
             return false;
         }
 
@@ -100,13 +177,41 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
         synchronized(resetterLock) {
             if(drainer == null) {
                 drainer = new Drainer();
-                timer.schedule(drainer, epochUnit.toMillis(epoch));
+                drainer.task = getScheduler().schedule(drainer, epoch, epochUnit);
             }
         }
 
         return true;
     }
 
+    @Override
+    public int availablePermits() {
+        return permitter.availablePermits();
+    }
+
+    /**
+     * Hands out free permits to the queued requests. The head of each priority's queue is served once nothing more urgent is queued and the window has more
+     * permits left than are reserved for higher priorities. A request that has waited a whole epoch is served from any free permit. Must be called holding
+     * the queue lock.
+     */
+    private void dispatch() {
+        synchronized(resetterLock) {
+            boolean queuedAbove = false;
+            for(final Priority priority : MOST_URGENT_FIRST) {
+                final Deque<Waiter> queue = queues.get(priority);
+                final int reserved = getReserved(priority, permits);
+                Waiter head = queue.peek();
+                while(head != null && (head.starved || !queuedAbove && permitter.availablePermits() > reserved) && permitter.tryAcquire()) {
+                    queue.poll();
+                    head.granted = true;
+                    head.condition.signal();
+                    head = queue.peek();
+                }
+                queuedAbove |= !queue.isEmpty();
+            }
+        }
+    }
+
     @Override
     public long getEpoch() {
         return epoch;
@@ -129,6 +234,32 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
         return permitsIssued.get();
     }
 
+    @Override
+    public void reconcile(final int serverPermits, final int serverCount) {
+        synchronized(resetterLock) {
+            // Requests still in flight here may not have been counted yet, so only ever take permits away. The resetter gives them back.
+            int excess = permitter.availablePermits() - Math.max(0, serverPermits - serverCount);
+            while(excess > 0 && permitter.tryAcquire()) {
+                excess--;
+            }
+
+            if(serverCount == 1) {
+                // The reporting request opened the server's window, so ours should close when that one does
+                if(drainer != null) {
+                    drainer.cancel();
+                    drainer = null;
+                }
+
+                if(resetter != null) {
+                    resetter.cancel();
+                }
+
+                resetter = new Resetter();
+                resetter.task = getScheduler().schedule(resetter, epoch, epochUnit);
+            }
+        }
+    }
+
     @Override
     public void release() {
         synchronized(currentlyProcessingLock) {
@@ -138,14 +269,14 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
         synchronized(resetterLock) {
             if(resetter == null) {
                 resetter = new Resetter();
-                timer.schedule(resetter, epochUnit.toMillis(epoch));
+                resetter.task = getScheduler().schedule(resetter, epoch, epochUnit);
             }
         }
     }
 
     @Override
     public ReservedPermit reserve() throws InterruptedException {
-        permitter.acquire();
+        take(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
         permitsIssued.decrementAndGet();
 
         synchronized(currentlyProcessingLock) {
@@ -164,13 +295,14 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
                     currentlyProcessing -= 1;
                     permitter.release();
                 }
+                wake();
             }
         };
     }
 
     @Override
     public ReservedPermit reserve(final long timeout, final TimeUnit unit) throws InterruptedException {
-        if(!permitter.tryAcquire(timeout, unit)) {
+        if(!take(timeout, unit)) {
             return null;
         }
         permitsIssued.decrementAndGet();
@@ -186,7 +318,7 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
                 synchronized(resetterLock) {
                     if(drainer == null) {
                         drainer = new Drainer();
-                        timer.schedule(drainer, epochUnit.toMillis(epoch));
+                        drainer.task = getScheduler().schedule(drainer, epoch, epochUnit);
                     }
                 }
             }
@@ -197,6 +329,7 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
                     currentlyProcessing -= 1;
                     permitter.release();
                 }
+                wake();
             }
         };
     }
@@ -206,18 +339,16 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
         synchronized(resetterLock) {
             if(drainer != null) {
                 drainer.cancel();
-                drainer.cancelled = true;
             }
 
             if(resetter != null) {
                 resetter.cancel();
-                resetter.cancelled = true;
             }
 
             drainer = new Drainer();
-            timer.schedule(drainer, afterUnit.toMillis(afterTime));
+            drainer.task = getScheduler().schedule(drainer, afterUnit.toMillis(afterTime), TimeUnit.MILLISECONDS);
             resetter = new Resetter();
-            timer.schedule(resetter, afterUnit.toMillis(afterTime) + forUnit.toMillis(forTime));
+            resetter.task = getScheduler().schedule(resetter, afterUnit.toMillis(afterTime) + forUnit.toMillis(forTime), TimeUnit.MILLISECONDS);
         }
     }
 
@@ -228,32 +359,118 @@ public class FixedWindowRateLimiter extends AbstractRateLimiter {
 
             if(drainer != null) {
                 drainer.cancel();
-                drainer.cancelled = true;
             }
 
             if(resetter != null) {
                 resetter.cancel();
-                resetter.cancelled = true;
             }
 
             resetter = new Resetter();
-            timer.schedule(resetter, unit.toMillis(time));
+            resetter.task = getScheduler().schedule(resetter, unit.toMillis(time), TimeUnit.MILLISECONDS);
         }
     }
 
     @Override
     public void setPermits(final int permits) {
+        final int difference;
         synchronized(resetterLock) {
-            final int difference = permits - this.permits;
+            difference = permits - this.permits;
             if(difference > 0) {
                 permitter.release(difference);
             } else if(difference < 0) {
-                if(!permitter.tryAcquire(difference)) {
+                // Permits already handed out can't be taken back, so take the free ones and let the next reset start from the new count
+                if(!permitter.tryAcquire(-difference)) {
                     permitter.drainPermits();
                 }
             }
 
             this.permits = permits;
         }
+
+        if(difference > 0) {
+            wake();
+        }
+    }
+
+    @Override
+    public void setReserves(final Map<Priority, Double> reserves) {
+        super.setReserves(reserves);
+        // Requests the old reserves held back may be served now
+        wake();
+    }
+
+    /**
+     * Takes a permit. Until part of the window is reserved for higher priorities, requests queue fairly on the semaphore whatever their priority. After that
+     * each priority has its own queue, and {@link #dispatch()} serves them when permits are freed. The timeout and the wait that counts as starving are
+     * both timed by the scheduler.
+     *
+     * @return whether a permit was taken before the timeout. A timeout of {@link Long#MAX_VALUE} waits forever, and one of 0 or less only tries once.
+     */
+    private boolean take(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if(!hasReserves()) {
+            if(timeout == Long.MAX_VALUE) {
+                permitter.acquire();
+                return true;
+            }
+            return permitter.tryAcquire(timeout, unit);
+        }
+
+        final Waiter waiter = new Waiter(Priority.current());
+        queueLock.lock();
+        try {
+            queues.get(waiter.priority).add(waiter);
+            dispatch();
+            if(waiter.granted) {
+                return true;
+            }
+            if(timeout <= 0L) {
+                queues.get(waiter.priority).remove(waiter);
+                return false;
+            }
+
+            final Scheduler.Task starver = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    waiter.starve();
+                }
+            }, epoch, epochUnit);
+            final Scheduler.Task timer = timeout == Long.MAX_VALUE ? null : getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    waiter.expire();
+                }
+            }, timeout, unit);
+            try {
+                while(!waiter.granted && !waiter.expired) {
+                    waiter.condition.await();
+                }
+                return waiter.granted;
+            } catch(final InterruptedException e) {
+                if(waiter.granted) {
+                    // The permit was already handed over, so keep it and leave the interrupt for the caller
+                    Thread.currentThread().interrupt();
+                    return true;
+                }
+                queues.get(waiter.priority).remove(waiter);
+                dispatch();
+                throw e;
+            } finally {
+                starver.cancel();
+                if(timer != null) {
+                    timer.cancel();
+                }
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void wake() {
+        queueLock.lock();
+        try {
+            dispatch();
+        } finally {
+            queueLock.unlock();
+        }
     }
 }
@@ -39,18 +39,29 @@ public class MultiRateLimiter implements RateLimiter {
 
     private final Map<String, RateLimiter> limiters;
     private final AtomicInteger permitsIssued = new AtomicInteger(0);
+    private final Scheduler scheduler;
 
     public MultiRateLimiter(final Collection<? extends RateLimiter> limiters) {
+        this(limiters, Scheduler.system());
+    }
+
+    public MultiRateLimiter(final Collection<? extends RateLimiter> limiters, final Scheduler scheduler) {
         final Map<String, RateLimiter> map = new HashMap<>();
         int i = 0;
         for(final RateLimiter limiter : limiters) {
             map.put(Integer.toString(i++), limiter);
         }
         this.limiters = Collections.unmodifiableMap(map);
+        this.scheduler = scheduler;
     }
 
     public MultiRateLimiter(final Map<String, ? extends RateLimiter> limiters) {
+        this(limiters, Scheduler.system());
+    }
+
+    public MultiRateLimiter(final Map<String, ? extends RateLimiter> limiters, final Scheduler scheduler) {
         this.limiters = Collections.unmodifiableMap(new HashMap<>(limiters));
+        this.scheduler = scheduler;
     }
 
     public MultiRateLimiter(final RateLimiter... limiters) {
@@ -72,11 +83,11 @@ public class MultiRateLimiter implements RateLimiter {
             return true;
         }
 
-        final long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        final long deadline = scheduler.currentTimeMillis() + unit.toMillis(timeout);
 
         final Set<ReservedPermit> reservations = new HashSet<>();
         for(final RateLimiter limiter : limiters.values()) {
-            final long left = deadline - System.currentTimeMillis();
+            final long left = deadline - scheduler.currentTimeMillis();
             try {
                 final ReservedPermit reservation = limiter.reserve(left, TimeUnit.MILLISECONDS);
                 if(reservation == null) {
@@ -103,6 +114,17 @@ public class MultiRateLimiter implements RateLimiter {
         return true;
     }
 
+    /**
+     * @return how many permits could be acquired right now without waiting, or {@link Integer#MAX_VALUE} if none of its limiters can tell
+     */
+    public int availablePermits() {
+        int available = Integer.MAX_VALUE;
+        for(final RateLimiter limiter : limiters.values()) {
+            available = Math.min(available, RateLimiters.availablePermits(limiter));
+        }
+        return available;
+    }
+
     @Override
     public <T> T call(final Callable<T> callable) throws InterruptedException, Exception {
         acquire();
@@ -151,6 +173,10 @@ public class MultiRateLimiter implements RateLimiter {
         }
     }
 
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
     public RateLimiter limiter(final String name) {
         return limiters.get(name);
     }
@@ -189,11 +215,11 @@ public class MultiRateLimiter implements RateLimiter {
 
     @Override
     public ReservedPermit reserve(final long timeout, final TimeUnit unit) throws InterruptedException {
-        final long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+        final long deadline = scheduler.currentTimeMillis() + unit.toMillis(timeout);
 
         final Set<ReservedPermit> reservations = new HashSet<>();
         for(final RateLimiter limiter : limiters.values()) {
-            final long left = deadline - System.currentTimeMillis();
+            final long left = deadline - scheduler.currentTimeMillis();
             try {
                 final ReservedPermit reservation = limiter.reserve(left, TimeUnit.MILLISECONDS);
                 if(reservation == null) {
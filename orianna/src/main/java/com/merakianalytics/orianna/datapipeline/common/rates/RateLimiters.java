@@ -0,0 +1,19 @@
+package com.merakianalytics.orianna.datapipeline.common.rates;
+
+public abstract class RateLimiters {
+    /**
+     * Rate limiters from outside orianna may not be able to say how many permits they have, so this is kept off the {@link RateLimiter} interface.
+     *
+     * @param limiter
+     *        the rate limiter
+     * @return how many permits could be acquired from it right now without waiting, or {@link Integer#MAX_VALUE} if it can't tell
+     */
+    public static int availablePermits(final RateLimiter limiter) {
+        if(limiter instanceof AbstractRateLimiter) {
+            return ((AbstractRateLimiter)limiter).availablePermits();
+        } else if(limiter instanceof MultiRateLimiter) {
+            return ((MultiRateLimiter)limiter).availablePermits();
+        }
+        return Integer.MAX_VALUE;
+    }
+}
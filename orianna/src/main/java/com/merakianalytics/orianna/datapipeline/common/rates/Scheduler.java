@@ -0,0 +1,73 @@
+package com.merakianalytics.orianna.datapipeline.common.rates;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The clock and timer the rate limiters run on. Rate limiters use {@link Scheduler#system()} unless they're given another one, which lets a simulation
+ * run them against a virtual clock instead of waiting out real rate limit windows.
+ */
+public abstract class Scheduler {
+    public static interface Task {
+        public void cancel();
+    }
+
+    private static class SystemScheduler extends Scheduler {
+        private final ScheduledThreadPoolExecutor executor;
+
+        public SystemScheduler() {
+            executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "orianna-rate-limiter");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.setRemoveOnCancelPolicy(true);
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public Task schedule(final Runnable task, final long delay, final TimeUnit unit) {
+            final ScheduledFuture<?> future = executor.schedule(task, delay, unit);
+            return new Task() {
+                @Override
+                public void cancel() {
+                    future.cancel(false);
+                }
+            };
+        }
+    }
+
+    private static final Scheduler SYSTEM = new SystemScheduler();
+
+    /**
+     * @return the scheduler backed by the system clock
+     */
+    public static Scheduler system() {
+        return SYSTEM;
+    }
+
+    /**
+     * @return the current time in milliseconds since the epoch
+     */
+    public abstract long currentTimeMillis();
+
+    /**
+     * @param task
+     *        the task to run
+     * @param delay
+     *        how long to wait before running it
+     * @param unit
+     *        the unit of delay
+     * @return a handle to cancel the task with
+     */
+    public abstract Task schedule(Runnable task, long delay, TimeUnit unit);
+}
@@ -0,0 +1,445 @@
+package com.merakianalytics.orianna.datapipeline.common.rates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hashing;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Priority;
+
+/**
+ * A fixed window rate limiter whose window lives in a memory-mapped file, so every process on the host that maps the same file and uses the same name
+ * draws from one budget. A busy process can use the whole budget while the others are idle, instead of each getting a fixed share of it.
+ *
+ * The file is a table of slots, one per name: the name's hash, the time its current window started, and how many permits have been issued in it. Each
+ * update holds a lock on just that slot's region of the file, which other processes respect, so a read-modify-write of a slot is atomic across processes.
+ * Within the process, each slot has its own monitor, so limiters for different names never wait on each other.
+ *
+ * Permits aren't handed back on release. Like the server, the window counts every request made in it.
+ *
+ * Every limiter sharing a file in this process uses one channel to it, which is closed once they've all been closed.
+ */
+public class SharedWindowRateLimiter extends AbstractRateLimiter {
+    private static class Table {
+        private final MappedByteBuffer buffer;
+        private final FileChannel channel;
+        private final File file;
+        private final Object[] locks = new Object[SLOTS];
+        private int users = 0;
+
+        @SuppressWarnings("try")
+        public Table(final File file) throws IOException {
+            this.file = file;
+            for(int i = 0; i < SLOTS; i++) {
+                locks[i] = new Object();
+            }
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_SIZE + (long)SLOTS * SLOT_SIZE);
+
+            try(FileLock lock = channel.lock(0L, HEADER_SIZE, false)) {
+                final int magic = buffer.getInt(0);
+                if(magic == 0) {
+                    buffer.putInt(0, MAGIC);
+                    buffer.putInt(4, VERSION);
+                } else if(magic != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IOException(file + " isn't a shared rate limiter file this version of orianna can use!");
+                }
+            }
+        }
+
+        /**
+         * Finds the slot for a hash, claiming an empty one if it doesn't have one yet.
+         */
+        @SuppressWarnings("try")
+        public int slot(final long hash) throws IOException {
+            final int start = (int)((hash & Long.MAX_VALUE) % SLOTS);
+            for(int i = 0; i < SLOTS; i++) {
+                final int slot = (start + i) % SLOTS;
+                final int offset = offset(slot);
+                synchronized(locks[slot]) {
+                    try(FileLock lock = channel.lock(offset, SLOT_SIZE, false)) {
+                        final long existing = buffer.getLong(offset);
+                        if(existing == hash) {
+                            return slot;
+                        }
+                        if(existing == 0L) {
+                            buffer.putLong(offset, hash);
+                            buffer.putLong(offset + 8, 0L);
+                            buffer.putInt(offset + 16, 0);
+                            return slot;
+                        }
+                    }
+                }
+            }
+            throw new IOException(file + " has no free slots left!");
+        }
+    }
+
+    private static final int HEADER_SIZE = 8;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedWindowRateLimiter.class);
+    private static final int MAGIC = 0x4F52524C; // "ORRL"
+    private static final int SLOT_SIZE = 24;
+    private static final int SLOTS = 8192;
+    private static final ConcurrentMap<String, Table> TABLES = new ConcurrentHashMap<>();
+    private static final int VERSION = 1;
+
+    private static int offset(final int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static void release(final Table table) {
+        synchronized(TABLES) {
+            table.users -= 1;
+            if(table.users > 0) {
+                return;
+            }
+            TABLES.remove(table.file.getAbsolutePath());
+            try {
+                table.channel.close();
+            } catch(final IOException e) {
+                // Nothing is left using it, so there's nothing to recover
+                LOGGER.warn("Failed to close shared rate limiter file " + table.file + "!", e);
+            }
+        }
+    }
+
+    private static Table table(final File file) {
+        final String path = file.getAbsolutePath();
+        // One channel per file per JVM, since the JVM won't let two of its own channels lock the same region
+        synchronized(TABLES) {
+            Table table = TABLES.get(path);
+            if(table == null) {
+                try {
+                    table = new Table(file);
+                } catch(final IOException e) {
+                    LOGGER.error("Failed to open shared rate limiter file " + file + "!", e);
+                    throw new OriannaException("Failed to open shared rate limiter file " + file + "!", e);
+                }
+                TABLES.put(path, table);
+            }
+            table.users += 1;
+            return table;
+        }
+    }
+
+    private final long epoch;
+    private final long epochMillis;
+    private final TimeUnit epochUnit;
+    private final int offset;
+    private volatile int permits;
+    private final AtomicInteger permitsIssued = new AtomicInteger(0);
+    private final Object slotLock;
+    private final Table table;
+
+    /**
+     * @param file
+     *        the file the windows are kept in, the same for every process that shares them
+     * @param name
+     *        identifies this window among the others in the file, e.g. its platform, rate limiter name and epoch
+     * @param permits
+     *        how many permits each window has
+     * @param epoch
+     *        how long each window lasts
+     * @param epochUnit
+     *        the unit of epoch
+     */
+    public SharedWindowRateLimiter(final File file, final String name, final int permits, final long epoch, final TimeUnit epochUnit) {
+        this(file, name, permits, epoch, epochUnit, Scheduler.system());
+    }
+
+    /**
+     * @param file
+     *        the file the windows are kept in, the same for every process that shares them
+     * @param name
+     *        identifies this window among the others in the file, e.g. its platform, rate limiter name and epoch
+     * @param permits
+     *        how many permits each window has
+     * @param epoch
+     *        how long each window lasts
+     * @param epochUnit
+     *        the unit of epoch
+     * @param scheduler
+     *        the clock to use, which has to agree with the other processes' clocks
+     */
+    public SharedWindowRateLimiter(final File file, final String name, final int permits, final long epoch, final TimeUnit epochUnit,
+        final Scheduler scheduler) {
+        super(permits, epoch, epochUnit, scheduler);
+        this.permits = permits;
+        this.epoch = epoch;
+        this.epochUnit = epochUnit;
+        epochMillis = epochUnit.toMillis(epoch);
+        table = table(file);
+
+        long hash = Hashing.murmur3_128().hashString(name, Charset.forName("UTF-8")).asLong();
+        // 0 marks an empty slot
+        hash = hash == 0L ? 1L : hash;
+        final int slot;
+        try {
+            slot = table.slot(hash);
+        } catch(final IOException e) {
+            release(table);
+            LOGGER.error("Failed to find a slot for " + name + " in shared rate limiter file " + file + "!", e);
+            throw new OriannaException("Failed to find a slot for " + name + " in shared rate limiter file " + file + "!", e);
+        }
+        offset = offset(slot);
+        slotLock = table.locks[slot];
+    }
+
+    @Override
+    public void acquire() throws InterruptedException {
+        take(Long.MAX_VALUE);
+        permitsIssued.incrementAndGet();
+    }
+
+    @Override
+    public boolean acquire(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if(timeout <= 0L) {
+            // Like FixedWindowRateLimiter, no timeout means waiting as long as it takes
+            acquire();
+            return true;
+        }
+
+        if(!take(getScheduler().currentTimeMillis() + unit.toMillis(timeout))) {
+            return false;
+        }
+        permitsIssued.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public int availablePermits() {
+        synchronized(slotLock) {
+            try(FileLock lock = lock()) {
+                final long now = getScheduler().currentTimeMillis();
+                if(now - table.buffer.getLong(offset + 8) >= epochMillis) {
+                    return permits;
+                }
+                return Math.max(0, permits - table.buffer.getInt(offset + 16));
+            } catch(final IOException e) {
+                throw failed(e);
+            }
+        }
+    }
+
+    /**
+     * Stops using the shared file. The limiter can't be used afterwards.
+     */
+    public void close() {
+        release(table);
+    }
+
+    private OriannaException failed(final IOException e) {
+        LOGGER.error("Failed to update shared rate limiter file " + table.file + "!", e);
+        return new OriannaException("Failed to update shared rate limiter file " + table.file + "! Report this to the orianna team.", e);
+    }
+
+    @Override
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public TimeUnit getEpochUnit() {
+        return epochUnit;
+    }
+
+    @Override
+    public int getPermits() {
+        return permits;
+    }
+
+    private FileLock lock() throws IOException {
+        return table.channel.lock(offset, SLOT_SIZE, false);
+    }
+
+    @Override
+    public int permitsIssued() {
+        return permitsIssued.get();
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public void reconcile(final int serverPermits, final int serverCount) {
+        synchronized(slotLock) {
+            try(FileLock lock = lock()) {
+                final long now = getScheduler().currentTimeMillis();
+                if(serverCount == 1 || now - table.buffer.getLong(offset + 8) >= epochMillis) {
+                    // The reporting request opened the server's window, or ours had already ended
+                    table.buffer.putLong(offset + 8, now);
+                    table.buffer.putInt(offset + 16, 0);
+                }
+
+                final int issued = table.buffer.getInt(offset + 16);
+                final int remaining = Math.max(0, serverPermits - serverCount);
+                if(permits - issued > remaining) {
+                    table.buffer.putInt(offset + 16, permits - remaining);
+                }
+            } catch(final IOException e) {
+                throw failed(e);
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        // The window counts every permit issued in it, returned or not
+    }
+
+    private ReservedPermit reservation() {
+        return new ReservedPermit() {
+            @Override
+            public void acquire() {
+                permitsIssued.incrementAndGet();
+            }
+
+            @Override
+            @SuppressWarnings("try")
+            public void cancel() {
+                synchronized(slotLock) {
+                    try(FileLock lock = lock()) {
+                        final int issued = table.buffer.getInt(offset + 16);
+                        if(issued > 0) {
+                            table.buffer.putInt(offset + 16, issued - 1);
+                        }
+                    } catch(final IOException e) {
+                        throw failed(e);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public ReservedPermit reserve() throws InterruptedException {
+        take(Long.MAX_VALUE);
+        return reservation();
+    }
+
+    @Override
+    public ReservedPermit reserve(final long timeout, final TimeUnit unit) throws InterruptedException {
+        // MultiRateLimiter passes whatever time its other limiters left, which may be none. That gets one try, not an unbounded wait.
+        final long now = getScheduler().currentTimeMillis();
+        if(!take(timeout <= 0L ? now : now + unit.toMillis(timeout))) {
+            return null;
+        }
+        return reservation();
+    }
+
+    /**
+     * Lines the window up so it ends once the restriction lifts. If another process already has a window running in the slot it's left alone, since moving
+     * its start without resetting its count would lock every process out for longer each time one of them starts.
+     */
+    @Override
+    @SuppressWarnings("try")
+    public void restrict(final long afterTime, final TimeUnit afterUnit, final long forTime, final TimeUnit forUnit) {
+        final long now = getScheduler().currentTimeMillis();
+        final long end = now + afterUnit.toMillis(afterTime) + forUnit.toMillis(forTime);
+        synchronized(slotLock) {
+            try(FileLock lock = lock()) {
+                if(now - table.buffer.getLong(offset + 8) < epochMillis) {
+                    return;
+                }
+                table.buffer.putLong(offset + 8, end - epochMillis);
+            } catch(final IOException e) {
+                throw failed(e);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public void restrictFor(final long time, final TimeUnit unit) {
+        // Every process sharing the window waits out the restriction, not just this one
+        final long end = getScheduler().currentTimeMillis() + unit.toMillis(time);
+        synchronized(slotLock) {
+            try(FileLock lock = lock()) {
+                table.buffer.putLong(offset + 8, end - epochMillis);
+                table.buffer.putInt(offset + 16, Integer.MAX_VALUE);
+            } catch(final IOException e) {
+                throw failed(e);
+            }
+        }
+    }
+
+    @Override
+    public void setPermits(final int permits) {
+        this.permits = permits;
+    }
+
+    /**
+     * @param deadline
+     *        when to stop waiting, in the scheduler's time. One attempt is always made.
+     * @return whether a permit was taken before the deadline
+     */
+    private boolean take(final long deadline) throws InterruptedException {
+        while(true) {
+            final long wait = tryAcquire();
+            if(wait == 0L) {
+                return true;
+            }
+
+            final long now = getScheduler().currentTimeMillis();
+            if(now >= deadline) {
+                return false;
+            }
+
+            // Other processes can't signal this one, so it tries again when the window ends or gives up at the deadline, by the scheduler's clock
+            final CountDownLatch woken = new CountDownLatch(1);
+            final Scheduler.Task wake = getScheduler().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    woken.countDown();
+                }
+            }, Math.max(1L, Math.min(wait, deadline - now)), TimeUnit.MILLISECONDS);
+            try {
+                woken.await();
+            } finally {
+                wake.cancel();
+            }
+        }
+    }
+
+    /**
+     * Takes a permit from the current window, starting a new one if it has ended. Permits held back for higher priorities than the current thread's aren't
+     * taken. Other processes can't see who's waiting here, so only the reserves order requests across processes.
+     *
+     * @return 0 if a permit was taken, or how long until the window ends otherwise
+     */
+    @SuppressWarnings("try")
+    private long tryAcquire() {
+        synchronized(slotLock) {
+            try(FileLock lock = lock()) {
+                final long now = getScheduler().currentTimeMillis();
+                final long start = table.buffer.getLong(offset + 8);
+                if(now - start >= epochMillis) {
+                    table.buffer.putLong(offset + 8, now);
+                    table.buffer.putInt(offset + 16, 1);
+                    return 0L;
+                }
+
+                final int issued = table.buffer.getInt(offset + 16);
+                if(issued < permits - getReserved(Priority.current(), permits)) {
+                    table.buffer.putInt(offset + 16, issued + 1);
+                    return 0L;
+                }
+                return start + epochMillis - now;
+            } catch(final IOException e) {
+                throw failed(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.merakianalytics.orianna.datapipeline.common.tracing;
+
+/**
+ * One timed step of a traced query: a pipeline element or transformer call, a wait for rate limiter permits, or an HTTP request.
+ */
+public class Span {
+    private final int depth;
+    private final long durationNanos;
+    private final String element;
+    private final boolean hit;
+    private final String operation;
+    private final long size;
+    private final long startNanos;
+    private final String target;
+    private final long traceId;
+
+    public Span(final long traceId, final int depth, final String element, final String operation, final String target, final boolean hit,
+        final long startNanos, final long durationNanos, final long size) {
+        this.traceId = traceId;
+        this.depth = depth;
+        this.element = element;
+        this.operation = operation;
+        this.target = target;
+        this.hit = hit;
+        this.startNanos = startNanos;
+        this.durationNanos = durationNanos;
+        this.size = size;
+    }
+
+    /**
+     * @return how deeply the span is nested in the query, 0 for the call that started it
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return how long the step took. For getMany that's until its iterator was exhausted or closed, since the items are loaded as it's read.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the simple class name of the element or transformer, or RateLimiter or HTTPClient
+     */
+    public String getElement() {
+        return element;
+    }
+
+    /**
+     * @return get, getMany, put, putMany, transform, acquire or request
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the bytes of HTTP responses received during the step, including those of any nested steps
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return when the step started, relative to the start of the query
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return what the step was for: the type queried or stored, the from and to types of a transform, or the path of an HTTP request
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return identifies the query the span belongs to
+     */
+    public long getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * @return whether the step produced something: a get returned a result, a permit was granted, or an HTTP request succeeded
+     */
+    public boolean isHit() {
+        return hit;
+    }
+
+    @Override
+    public String toString() {
+        return element + "." + operation + "(" + target + ") " + (hit ? "hit" : "miss") + " in " + durationNanos / 1000L + "us, " + size + "B";
+    }
+}
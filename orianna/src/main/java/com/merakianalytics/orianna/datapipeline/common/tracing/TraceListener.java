@@ -0,0 +1,13 @@
+package com.merakianalytics.orianna.datapipeline.common.tracing;
+
+import java.util.List;
+
+public interface TraceListener {
+    /**
+     * Called on the querying thread once a sampled query finishes, so it should be quick.
+     *
+     * @param spans
+     *        the query's spans in the order they finished, so nested steps come before the steps that contain them
+     */
+    public void onTrace(List<Span> spans);
+}
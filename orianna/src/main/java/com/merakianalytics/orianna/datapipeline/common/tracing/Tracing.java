@@ -0,0 +1,373 @@
+package com.merakianalytics.orianna.datapipeline.common.tracing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+import com.merakianalytics.datapipelines.PipelineElement;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
+import com.merakianalytics.datapipelines.transformers.DataTransformer;
+
+/**
+ * Traces queries through the pipeline. Pipeline elements and transformers wrapped with {@link #trace(PipelineElement, double)} or
+ * {@link #trace(DataTransformer, double)} time their get, getMany, put, putMany and transform calls. HTTPClient adds the time spent waiting for rate
+ * limiter permits and on each request. The wrappers pass everything else straight through.
+ *
+ * The first traced call on a thread starts a query, and every traced call made on that thread until it returns is part of the same query. Whether a query
+ * is traced at all is decided once, when it starts, with the configured sample rate. Unsampled queries only cost a thread local lookup per call, and a
+ * sampled query's spans are handed to the {@link TraceListener}s once it finishes. Work the query hands to other threads, like getAsync loads, isn't part
+ * of its trace.
+ *
+ * A getMany returns before its items are loaded, so its span stays open until the returned iterator is exhausted or closed, and each read from the
+ * iterator joins the query again. A query that starts with a getMany is only handed to the listeners then, so iterators that are dropped part way
+ * through without being closed are never reported.
+ */
+public abstract class Tracing {
+    private static class Frame {
+        private long bytes = 0L;
+    }
+
+    private static class Trace {
+        // Only kept for sampled queries
+        private final List<Frame> frames;
+        private final long id;
+        private final boolean sampled;
+        private final List<Span> spans;
+        private final long start;
+
+        public Trace(final boolean sampled) {
+            this.sampled = sampled;
+            if(sampled) {
+                frames = new ArrayList<>();
+                id = IDS.incrementAndGet();
+                spans = new ArrayList<>();
+                start = System.nanoTime();
+            } else {
+                frames = null;
+                id = 0L;
+                spans = null;
+                start = 0L;
+            }
+        }
+
+        private void add(final Span span) {
+            if(spans.size() < MAX_SPANS) {
+                spans.add(span);
+            }
+        }
+    }
+
+    private static class TracedIterator implements CloseableIterator<Object> {
+        private final CloseableIterator<?> delegate;
+        private final int depth;
+        private boolean finished = false;
+        private final Frame frame;
+        private final TracingHandler handler;
+        private Trace previous;
+        private final boolean root;
+        private final long start;
+        private final String target;
+        private final Trace trace;
+
+        public TracedIterator(final CloseableIterator<?> delegate, final TracingHandler handler, final Trace trace, final Frame frame, final int depth,
+            final String target, final long start, final boolean root) {
+            this.delegate = delegate;
+            this.handler = handler;
+            this.trace = trace;
+            this.frame = frame;
+            this.depth = depth;
+            this.target = target;
+            this.start = start;
+            this.root = root;
+        }
+
+        @Override
+        public void close() {
+            enter();
+            try {
+                delegate.close();
+            } finally {
+                exit();
+                finish();
+            }
+        }
+
+        private void enter() {
+            previous = CURRENT.get();
+            CURRENT.set(trace);
+            trace.frames.add(frame);
+        }
+
+        private void exit() {
+            trace.frames.remove(trace.frames.size() - 1);
+            if(previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            previous = null;
+        }
+
+        private void finish() {
+            if(!finished) {
+                finished = true;
+                handler.end(trace, frame, depth, "getMany", target, true, start, root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = true;
+            enter();
+            try {
+                hasNext = delegate.hasNext();
+                return hasNext;
+            } finally {
+                exit();
+                if(!hasNext) {
+                    finish();
+                }
+            }
+        }
+
+        @Override
+        public Object next() {
+            enter();
+            try {
+                return delegate.next();
+            } finally {
+                exit();
+            }
+        }
+
+        @Override
+        public void remove() {
+            enter();
+            try {
+                delegate.remove();
+            } finally {
+                exit();
+            }
+        }
+    }
+
+    private static class TracingHandler implements InvocationHandler {
+        private final String name;
+        private final double sampleRate;
+        private final Object target;
+
+        public TracingHandler(final Object target, final double sampleRate) {
+            this.target = target;
+            this.sampleRate = sampleRate;
+            name = target.getClass().getSimpleName();
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if("equals".equals(method.getName()) && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            if(!TRACED.contains(method.getName())) {
+                return call(method, args);
+            }
+
+            Trace trace = CURRENT.get();
+            final boolean root = trace == null;
+            if(root) {
+                trace = new Trace(sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+                CURRENT.set(trace);
+            }
+
+            if(!trace.sampled) {
+                try {
+                    return call(method, args);
+                } finally {
+                    if(root) {
+                        CURRENT.remove();
+                    }
+                }
+            }
+
+            final Frame frame = new Frame();
+            final int depth = trace.frames.size();
+            trace.frames.add(frame);
+            final long start = System.nanoTime();
+            boolean hit = false;
+            boolean iterating = false;
+            try {
+                final Object result = call(method, args);
+                hit = result != null || method.getReturnType() == void.class;
+                if(result instanceof CloseableIterator) {
+                    // The span ends when the items have been read, see TracedIterator
+                    iterating = true;
+                    return new TracedIterator((CloseableIterator<?>)result, this, trace, frame, depth, target(method, args), start, root);
+                }
+                return result;
+            } finally {
+                trace.frames.remove(trace.frames.size() - 1);
+                if(root) {
+                    CURRENT.remove();
+                }
+                if(!iterating) {
+                    end(trace, frame, depth, method.getName(), target(method, args), hit, start, root);
+                }
+            }
+        }
+
+        private Object call(final Method method, final Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch(final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void end(final Trace trace, final Frame frame, final int depth, final String operation, final String target, final boolean hit,
+            final long start, final boolean root) {
+            final long end = System.nanoTime();
+            trace.add(new Span(trace.id, depth, name, operation, target, hit, start - trace.start, end - start, frame.bytes));
+            if(!trace.frames.isEmpty()) {
+                // A step's size includes what its nested steps received
+                trace.frames.get(trace.frames.size() - 1).bytes += frame.bytes;
+            }
+
+            if(root) {
+                publish(trace.spans);
+            }
+        }
+
+        private String target(final Method method, final Object[] args) {
+            if(args == null || args.length == 0 || !(args[0] instanceof Class)) {
+                return method.getName();
+            }
+            if("transform".equals(method.getName()) && args.length > 1 && args[1] instanceof Class) {
+                return ((Class<?>)args[0]).getName() + "->" + ((Class<?>)args[1]).getName();
+            }
+            return ((Class<?>)args[0]).getName();
+        }
+    }
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final List<TraceListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(Tracing.class);
+    private static final int MAX_SPANS = 1024;
+    private static final Set<String> TRACED = ImmutableSet.of("get", "getMany", "put", "putMany", "transform");
+
+    /**
+     * @param listener
+     *        the listener to give sampled queries' spans to
+     */
+    public static void addListener(final TraceListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    private static Set<Class<?>> interfaces(final Class<?> clazz) {
+        final Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for(Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for(final Class<?> iface : current.getInterfaces()) {
+                interfaces.add(iface);
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * @return whether the current thread is running a sampled query
+     */
+    public static boolean isSampling() {
+        final Trace trace = CURRENT.get();
+        return trace != null && trace.sampled;
+    }
+
+    private static void publish(final List<Span> spans) {
+        final List<Span> trace = Collections.unmodifiableList(spans);
+        for(final TraceListener listener : LISTENERS) {
+            try {
+                listener.onTrace(trace);
+            } catch(final RuntimeException e) {
+                LOGGER.warn("Trace listener " + listener + " failed!", e);
+            }
+        }
+    }
+
+    /**
+     * Adds a step that happened within the current thread's query, if it's sampled.
+     *
+     * @param element
+     *        what did the work
+     * @param operation
+     *        what it did
+     * @param target
+     *        what it did it for
+     * @param hit
+     *        whether it produced something
+     * @param startNanos
+     *        when it started, from {@link System#nanoTime()}
+     * @param durationNanos
+     *        how long it took
+     * @param bytes
+     *        the bytes received, if it was an HTTP request
+     */
+    public static void record(final String element, final String operation, final String target, final boolean hit, final long startNanos,
+        final long durationNanos, final long bytes) {
+        final Trace trace = CURRENT.get();
+        if(trace == null || !trace.sampled) {
+            return;
+        }
+
+        trace.add(new Span(trace.id, trace.frames.size(), element, operation, target, hit, startNanos - trace.start, durationNanos, bytes));
+        if(!trace.frames.isEmpty()) {
+            trace.frames.get(trace.frames.size() - 1).bytes += bytes;
+        }
+    }
+
+    /**
+     * @param listener
+     *        the listener to stop giving spans to
+     */
+    public static void removeListener(final TraceListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * @param transformer
+     *        the transformer
+     * @param sampleRate
+     *        the share of queries to trace, from 0 to 1, when a query starts at this transformer
+     * @return a transformer that traces its transforms and passes everything to the given one
+     */
+    public static DataTransformer trace(final DataTransformer transformer, final double sampleRate) {
+        return (DataTransformer)wrap(transformer, sampleRate);
+    }
+
+    /**
+     * @param element
+     *        the pipeline element
+     * @param sampleRate
+     *        the share of queries to trace, from 0 to 1, when a query starts at this element
+     * @return an element that traces its gets and puts and passes everything to the given one
+     */
+    public static PipelineElement trace(final PipelineElement element, final double sampleRate) {
+        return (PipelineElement)wrap(element, sampleRate);
+    }
+
+    private static Object wrap(final Object target, final double sampleRate) {
+        final Set<Class<?>> interfaces = interfaces(target.getClass());
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[interfaces.size()]),
+            new TracingHandler(target, sampleRate));
+    }
+}
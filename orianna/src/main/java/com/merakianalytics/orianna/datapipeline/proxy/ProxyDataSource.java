@@ -0,0 +1,637 @@
+package com.merakianalytics.orianna.datapipeline.proxy;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merakianalytics.datapipelines.PipelineContext;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
+import com.merakianalytics.datapipelines.iterators.CloseableIterators;
+import com.merakianalytics.datapipelines.sources.AbstractDataSource;
+import com.merakianalytics.datapipelines.sources.Get;
+import com.merakianalytics.datapipelines.sources.GetMany;
+import com.merakianalytics.orianna.datapipeline.common.TimeoutException;
+import com.merakianalytics.orianna.datapipeline.common.TimeoutException.Type;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Priority;
+import com.merakianalytics.orianna.types.dto.DataObject;
+import com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries;
+import com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery;
+import com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore;
+import com.merakianalytics.orianna.types.dto.league.LeagueList;
+import com.merakianalytics.orianna.types.dto.league.SummonerPositions;
+import com.merakianalytics.orianna.types.dto.match.Match;
+import com.merakianalytics.orianna.types.dto.match.MatchTimeline;
+import com.merakianalytics.orianna.types.dto.match.Matchlist;
+import com.merakianalytics.orianna.types.dto.match.TournamentMatches;
+import com.merakianalytics.orianna.types.dto.spectator.CurrentGameInfo;
+import com.merakianalytics.orianna.types.dto.spectator.FeaturedGames;
+import com.merakianalytics.orianna.types.dto.staticdata.Champion;
+import com.merakianalytics.orianna.types.dto.staticdata.ChampionList;
+import com.merakianalytics.orianna.types.dto.staticdata.Item;
+import com.merakianalytics.orianna.types.dto.staticdata.ItemList;
+import com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings;
+import com.merakianalytics.orianna.types.dto.staticdata.Languages;
+import com.merakianalytics.orianna.types.dto.staticdata.MapData;
+import com.merakianalytics.orianna.types.dto.staticdata.MapDetails;
+import com.merakianalytics.orianna.types.dto.staticdata.Mastery;
+import com.merakianalytics.orianna.types.dto.staticdata.MasteryList;
+import com.merakianalytics.orianna.types.dto.staticdata.Patch;
+import com.merakianalytics.orianna.types.dto.staticdata.Patches;
+import com.merakianalytics.orianna.types.dto.staticdata.ProfileIconData;
+import com.merakianalytics.orianna.types.dto.staticdata.ProfileIconDetails;
+import com.merakianalytics.orianna.types.dto.staticdata.Realm;
+import com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune;
+import com.merakianalytics.orianna.types.dto.staticdata.ReforgedRuneTree;
+import com.merakianalytics.orianna.types.dto.staticdata.Rune;
+import com.merakianalytics.orianna.types.dto.staticdata.RuneList;
+import com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell;
+import com.merakianalytics.orianna.types.dto.staticdata.SummonerSpellList;
+import com.merakianalytics.orianna.types.dto.staticdata.Versions;
+import com.merakianalytics.orianna.types.dto.status.ShardStatus;
+import com.merakianalytics.orianna.types.dto.summoner.Summoner;
+import com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Gets every DTO the Riot API, Data Dragon and Meraki Analytics CDN sources provide from an orianna-proxy server instead. Put it in place of those sources,
+ * and every process pointed at the same server shares its cache, its in-flight requests and its rate limiters.
+ *
+ * The calling thread's {@link Priority} is sent along for the server's rate limiters. Its {@link Deadline} caps how long a request waits for the
+ * server, and is sent along too so the server gives up at the same time.
+ */
+public class ProxyDataSource extends AbstractDataSource {
+    public static class Configuration {
+        private static final long DEFAULT_CONNECT_TIMEOUT = 3;
+        private static final TimeUnit DEFAULT_CONNECT_TIMEOUT_UNIT = TimeUnit.SECONDS;
+        private static final String DEFAULT_HOST = "localhost";
+        private static final int DEFAULT_PORT = 21810;
+        private static final long DEFAULT_READ_TIMEOUT = 0;
+        private static final TimeUnit DEFAULT_READ_TIMEOUT_UNIT = TimeUnit.SECONDS;
+
+        private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private TimeUnit connectTimeoutUnit = DEFAULT_CONNECT_TIMEOUT_UNIT;
+        private String host = DEFAULT_HOST;
+        private int port = DEFAULT_PORT;
+        private long readTimeout = DEFAULT_READ_TIMEOUT;
+        private TimeUnit readTimeoutUnit = DEFAULT_READ_TIMEOUT_UNIT;
+
+        /**
+         * @return the connectTimeout
+         */
+        public long getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        /**
+         * @return the connectTimeoutUnit
+         */
+        public TimeUnit getConnectTimeoutUnit() {
+            return connectTimeoutUnit;
+        }
+
+        /**
+         * @return the host the proxy server listens on
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * @return the port the proxy server listens on
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * @return how long to wait for the server's response, or 0 to wait as long as it takes. The server may be waiting on its rate limiters.
+         */
+        public long getReadTimeout() {
+            return readTimeout;
+        }
+
+        /**
+         * @return the readTimeoutUnit
+         */
+        public TimeUnit getReadTimeoutUnit() {
+            return readTimeoutUnit;
+        }
+
+        /**
+         * @param connectTimeout
+         *        the connectTimeout to set
+         */
+        public void setConnectTimeout(final long connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        /**
+         * @param connectTimeoutUnit
+         *        the connectTimeoutUnit to set
+         */
+        public void setConnectTimeoutUnit(final TimeUnit connectTimeoutUnit) {
+            this.connectTimeoutUnit = connectTimeoutUnit;
+        }
+
+        /**
+         * @param host
+         *        the host the proxy server listens on
+         */
+        public void setHost(final String host) {
+            this.host = host;
+        }
+
+        /**
+         * @param port
+         *        the port the proxy server listens on
+         */
+        public void setPort(final int port) {
+            this.port = port;
+        }
+
+        /**
+         * @param readTimeout
+         *        how long to wait for the server's response, or 0 to wait as long as it takes
+         */
+        public void setReadTimeout(final long readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        /**
+         * @param readTimeoutUnit
+         *        the readTimeoutUnit to set
+         */
+        public void setReadTimeoutUnit(final TimeUnit readTimeoutUnit) {
+            this.readTimeoutUnit = readTimeoutUnit;
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyDataSource.class);
+    private static final MediaType MSGPACK_MEDIA_TYPE = MediaType.parse(ProxyProtocol.CONTENT_TYPE);
+
+    private final OkHttpClient client;
+    private final HttpUrl getManyURL;
+    private final HttpUrl getURL;
+
+    public ProxyDataSource() {
+        this(new Configuration());
+    }
+
+    public ProxyDataSource(final Configuration config) {
+        client = new OkHttpClient.Builder().connectTimeout(config.getConnectTimeout(), config.getConnectTimeoutUnit())
+            .readTimeout(config.getReadTimeout(), config.getReadTimeoutUnit()).build();
+        final HttpUrl base = new HttpUrl.Builder().scheme("http").host(config.getHost()).port(config.getPort()).build();
+        getURL = base.resolve(ProxyProtocol.GET_PATH);
+        getManyURL = base.resolve(ProxyProtocol.GET_MANY_PATH);
+    }
+
+    private <T extends DataObject> T get(final Class<T> type, final Map<String, Object> query) {
+        final byte[] result = post(getURL, type, query);
+        return result == null ? null : DataObject.fromBytes(type, result);
+    }
+
+    @Get(Champion.class)
+    public Champion getChampion(final Map<String, Object> query, final PipelineContext context) {
+        return get(Champion.class, query);
+    }
+
+    @Get(ChampionList.class)
+    public ChampionList getChampionList(final Map<String, Object> query, final PipelineContext context) {
+        return get(ChampionList.class, query);
+    }
+
+    @Get(ChampionMasteries.class)
+    public ChampionMasteries getChampionMasteries(final Map<String, Object> query, final PipelineContext context) {
+        return get(ChampionMasteries.class, query);
+    }
+
+    @Get(ChampionMastery.class)
+    public ChampionMastery getChampionMastery(final Map<String, Object> query, final PipelineContext context) {
+        return get(ChampionMastery.class, query);
+    }
+
+    @Get(ChampionMasteryScore.class)
+    public ChampionMasteryScore getChampionMasteryScore(final Map<String, Object> query, final PipelineContext context) {
+        return get(ChampionMasteryScore.class, query);
+    }
+
+    @Get(com.merakianalytics.orianna.types.dto.champion.Champion.class)
+    public com.merakianalytics.orianna.types.dto.champion.Champion getChampionStatus(final Map<String, Object> query, final PipelineContext context) {
+        return get(com.merakianalytics.orianna.types.dto.champion.Champion.class, query);
+    }
+
+    @Get(com.merakianalytics.orianna.types.dto.champion.ChampionList.class)
+    public com.merakianalytics.orianna.types.dto.champion.ChampionList getChampionStatusList(final Map<String, Object> query, final PipelineContext context) {
+        return get(com.merakianalytics.orianna.types.dto.champion.ChampionList.class, query);
+    }
+
+    @Get(CurrentGameInfo.class)
+    public CurrentGameInfo getCurrentGameInfo(final Map<String, Object> query, final PipelineContext context) {
+        return get(CurrentGameInfo.class, query);
+    }
+
+    @Get(FeaturedGames.class)
+    public FeaturedGames getFeaturedGames(final Map<String, Object> query, final PipelineContext context) {
+        return get(FeaturedGames.class, query);
+    }
+
+    @Get(Item.class)
+    public Item getItem(final Map<String, Object> query, final PipelineContext context) {
+        return get(Item.class, query);
+    }
+
+    @Get(ItemList.class)
+    public ItemList getItemList(final Map<String, Object> query, final PipelineContext context) {
+        return get(ItemList.class, query);
+    }
+
+    @Get(LanguageStrings.class)
+    public LanguageStrings getLanguageStrings(final Map<String, Object> query, final PipelineContext context) {
+        return get(LanguageStrings.class, query);
+    }
+
+    @Get(Languages.class)
+    public Languages getLanguages(final Map<String, Object> query, final PipelineContext context) {
+        return get(Languages.class, query);
+    }
+
+    @Get(LeagueList.class)
+    public LeagueList getLeagueList(final Map<String, Object> query, final PipelineContext context) {
+        return get(LeagueList.class, query);
+    }
+
+    @Get(MapData.class)
+    public MapData getMapData(final Map<String, Object> query, final PipelineContext context) {
+        return get(MapData.class, query);
+    }
+
+    @Get(MapDetails.class)
+    public MapDetails getMapDetails(final Map<String, Object> query, final PipelineContext context) {
+        return get(MapDetails.class, query);
+    }
+
+    @Get(Mastery.class)
+    public Mastery getMastery(final Map<String, Object> query, final PipelineContext context) {
+        return get(Mastery.class, query);
+    }
+
+    @Get(MasteryList.class)
+    public MasteryList getMasteryList(final Map<String, Object> query, final PipelineContext context) {
+        return get(MasteryList.class, query);
+    }
+
+    @Get(Match.class)
+    public Match getMatch(final Map<String, Object> query, final PipelineContext context) {
+        return get(Match.class, query);
+    }
+
+    @Get(MatchTimeline.class)
+    public MatchTimeline getMatchTimeline(final Map<String, Object> query, final PipelineContext context) {
+        return get(MatchTimeline.class, query);
+    }
+
+    @Get(Matchlist.class)
+    public Matchlist getMatchlist(final Map<String, Object> query, final PipelineContext context) {
+        return get(Matchlist.class, query);
+    }
+
+    @Get(Patch.class)
+    public Patch getPatch(final Map<String, Object> query, final PipelineContext context) {
+        return get(Patch.class, query);
+    }
+
+    @Get(Patches.class)
+    public Patches getPatches(final Map<String, Object> query, final PipelineContext context) {
+        return get(Patches.class, query);
+    }
+
+    @Get(ProfileIconData.class)
+    public ProfileIconData getProfileIconData(final Map<String, Object> query, final PipelineContext context) {
+        return get(ProfileIconData.class, query);
+    }
+
+    @Get(ProfileIconDetails.class)
+    public ProfileIconDetails getProfileIconDetails(final Map<String, Object> query, final PipelineContext context) {
+        return get(ProfileIconDetails.class, query);
+    }
+
+    @Get(Realm.class)
+    public Realm getRealm(final Map<String, Object> query, final PipelineContext context) {
+        return get(Realm.class, query);
+    }
+
+    @Get(ReforgedRune.class)
+    public ReforgedRune getReforgedRune(final Map<String, Object> query, final PipelineContext context) {
+        return get(ReforgedRune.class, query);
+    }
+
+    @Get(ReforgedRuneTree.class)
+    public ReforgedRuneTree getReforgedRuneTree(final Map<String, Object> query, final PipelineContext context) {
+        return get(ReforgedRuneTree.class, query);
+    }
+
+    @Get(Rune.class)
+    public Rune getRune(final Map<String, Object> query, final PipelineContext context) {
+        return get(Rune.class, query);
+    }
+
+    @Get(RuneList.class)
+    public RuneList getRuneList(final Map<String, Object> query, final PipelineContext context) {
+        return get(RuneList.class, query);
+    }
+
+    @Get(ShardStatus.class)
+    public ShardStatus getShardStatus(final Map<String, Object> query, final PipelineContext context) {
+        return get(ShardStatus.class, query);
+    }
+
+    @Get(Summoner.class)
+    public Summoner getSummoner(final Map<String, Object> query, final PipelineContext context) {
+        return get(Summoner.class, query);
+    }
+
+    @Get(SummonerPositions.class)
+    public SummonerPositions getSummonerPositions(final Map<String, Object> query, final PipelineContext context) {
+        return get(SummonerPositions.class, query);
+    }
+
+    @Get(SummonerSpell.class)
+    public SummonerSpell getSummonerSpell(final Map<String, Object> query, final PipelineContext context) {
+        return get(SummonerSpell.class, query);
+    }
+
+    @Get(SummonerSpellList.class)
+    public SummonerSpellList getSummonerSpellList(final Map<String, Object> query, final PipelineContext context) {
+        return get(SummonerSpellList.class, query);
+    }
+
+    @Get(TournamentMatches.class)
+    public TournamentMatches getTournamentMatches(final Map<String, Object> query, final PipelineContext context) {
+        return get(TournamentMatches.class, query);
+    }
+
+    @Get(VerificationString.class)
+    public VerificationString getVerificationString(final Map<String, Object> query, final PipelineContext context) {
+        return get(VerificationString.class, query);
+    }
+
+    @Get(Versions.class)
+    public Versions getVersions(final Map<String, Object> query, final PipelineContext context) {
+        return get(Versions.class, query);
+    }
+
+    private <T extends DataObject> CloseableIterator<T> getMany(final Class<T> type, final Map<String, Object> query) {
+        final byte[] results = post(getManyURL, type, query);
+        if(results == null) {
+            return null;
+        }
+        final List<T> list = ProxyProtocol.decodeResults(type, results);
+        return CloseableIterators.from(list.iterator());
+    }
+
+    @GetMany(Champion.class)
+    public CloseableIterator<Champion> getManyChampion(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Champion.class, query);
+    }
+
+    @GetMany(ChampionList.class)
+    public CloseableIterator<ChampionList> getManyChampionList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ChampionList.class, query);
+    }
+
+    @GetMany(ChampionMasteries.class)
+    public CloseableIterator<ChampionMasteries> getManyChampionMasteries(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ChampionMasteries.class, query);
+    }
+
+    @GetMany(ChampionMastery.class)
+    public CloseableIterator<ChampionMastery> getManyChampionMastery(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ChampionMastery.class, query);
+    }
+
+    @GetMany(ChampionMasteryScore.class)
+    public CloseableIterator<ChampionMasteryScore> getManyChampionMasteryScore(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ChampionMasteryScore.class, query);
+    }
+
+    @GetMany(com.merakianalytics.orianna.types.dto.champion.Champion.class)
+    public CloseableIterator<com.merakianalytics.orianna.types.dto.champion.Champion> getManyChampionStatus(final Map<String, Object> query,
+        final PipelineContext context) {
+        return getMany(com.merakianalytics.orianna.types.dto.champion.Champion.class, query);
+    }
+
+    @GetMany(com.merakianalytics.orianna.types.dto.champion.ChampionList.class)
+    public CloseableIterator<com.merakianalytics.orianna.types.dto.champion.ChampionList> getManyChampionStatusList(final Map<String, Object> query,
+        final PipelineContext context) {
+        return getMany(com.merakianalytics.orianna.types.dto.champion.ChampionList.class, query);
+    }
+
+    @GetMany(CurrentGameInfo.class)
+    public CloseableIterator<CurrentGameInfo> getManyCurrentGameInfo(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(CurrentGameInfo.class, query);
+    }
+
+    @GetMany(FeaturedGames.class)
+    public CloseableIterator<FeaturedGames> getManyFeaturedGames(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(FeaturedGames.class, query);
+    }
+
+    @GetMany(Item.class)
+    public CloseableIterator<Item> getManyItem(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Item.class, query);
+    }
+
+    @GetMany(ItemList.class)
+    public CloseableIterator<ItemList> getManyItemList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ItemList.class, query);
+    }
+
+    @GetMany(LanguageStrings.class)
+    public CloseableIterator<LanguageStrings> getManyLanguageStrings(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(LanguageStrings.class, query);
+    }
+
+    @GetMany(Languages.class)
+    public CloseableIterator<Languages> getManyLanguages(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Languages.class, query);
+    }
+
+    @GetMany(LeagueList.class)
+    public CloseableIterator<LeagueList> getManyLeagueList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(LeagueList.class, query);
+    }
+
+    @GetMany(MapData.class)
+    public CloseableIterator<MapData> getManyMapData(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(MapData.class, query);
+    }
+
+    @GetMany(MapDetails.class)
+    public CloseableIterator<MapDetails> getManyMapDetails(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(MapDetails.class, query);
+    }
+
+    @GetMany(Mastery.class)
+    public CloseableIterator<Mastery> getManyMastery(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Mastery.class, query);
+    }
+
+    @GetMany(MasteryList.class)
+    public CloseableIterator<MasteryList> getManyMasteryList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(MasteryList.class, query);
+    }
+
+    @GetMany(Match.class)
+    public CloseableIterator<Match> getManyMatch(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Match.class, query);
+    }
+
+    @GetMany(MatchTimeline.class)
+    public CloseableIterator<MatchTimeline> getManyMatchTimeline(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(MatchTimeline.class, query);
+    }
+
+    @GetMany(Matchlist.class)
+    public CloseableIterator<Matchlist> getManyMatchlist(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Matchlist.class, query);
+    }
+
+    @GetMany(Patch.class)
+    public CloseableIterator<Patch> getManyPatch(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Patch.class, query);
+    }
+
+    @GetMany(Patches.class)
+    public CloseableIterator<Patches> getManyPatches(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Patches.class, query);
+    }
+
+    @GetMany(ProfileIconData.class)
+    public CloseableIterator<ProfileIconData> getManyProfileIconData(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ProfileIconData.class, query);
+    }
+
+    @GetMany(ProfileIconDetails.class)
+    public CloseableIterator<ProfileIconDetails> getManyProfileIconDetails(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ProfileIconDetails.class, query);
+    }
+
+    @GetMany(Realm.class)
+    public CloseableIterator<Realm> getManyRealm(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Realm.class, query);
+    }
+
+    @GetMany(ReforgedRune.class)
+    public CloseableIterator<ReforgedRune> getManyReforgedRune(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ReforgedRune.class, query);
+    }
+
+    @GetMany(ReforgedRuneTree.class)
+    public CloseableIterator<ReforgedRuneTree> getManyReforgedRuneTree(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ReforgedRuneTree.class, query);
+    }
+
+    @GetMany(Rune.class)
+    public CloseableIterator<Rune> getManyRune(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Rune.class, query);
+    }
+
+    @GetMany(RuneList.class)
+    public CloseableIterator<RuneList> getManyRuneList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(RuneList.class, query);
+    }
+
+    @GetMany(ShardStatus.class)
+    public CloseableIterator<ShardStatus> getManyShardStatus(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(ShardStatus.class, query);
+    }
+
+    @GetMany(Summoner.class)
+    public CloseableIterator<Summoner> getManySummoner(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Summoner.class, query);
+    }
+
+    @GetMany(SummonerPositions.class)
+    public CloseableIterator<SummonerPositions> getManySummonerPositions(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(SummonerPositions.class, query);
+    }
+
+    @GetMany(SummonerSpell.class)
+    public CloseableIterator<SummonerSpell> getManySummonerSpell(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(SummonerSpell.class, query);
+    }
+
+    @GetMany(SummonerSpellList.class)
+    public CloseableIterator<SummonerSpellList> getManySummonerSpellList(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(SummonerSpellList.class, query);
+    }
+
+    @GetMany(TournamentMatches.class)
+    public CloseableIterator<TournamentMatches> getManyTournamentMatches(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(TournamentMatches.class, query);
+    }
+
+    @GetMany(VerificationString.class)
+    public CloseableIterator<VerificationString> getManyVerificationString(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(VerificationString.class, query);
+    }
+
+    @GetMany(Versions.class)
+    public CloseableIterator<Versions> getManyVersions(final Map<String, Object> query, final PipelineContext context) {
+        return getMany(Versions.class, query);
+    }
+
+    private byte[] post(final HttpUrl url, final Class<?> type, final Map<String, Object> query) {
+        final Request.Builder builder = new Request.Builder().url(url).header(ProxyProtocol.PRIORITY_HEADER, Priority.current().name())
+            .post(RequestBody.create(MSGPACK_MEDIA_TYPE, ProxyProtocol.encodeRequest(type, query)));
+
+        OkHttpClient caller = client;
+        final Deadline deadline = Deadline.current();
+        if(deadline != null) {
+            final long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+            if(remaining <= 0L) {
+                throw new TimeoutException("Deadline passed before the proxy request for " + type.getName() + " was sent!", Type.DEADLINE);
+            }
+            builder.header(ProxyProtocol.DEADLINE_HEADER, Long.toString(remaining));
+            final long readTimeout = client.readTimeoutMillis() <= 0 ? remaining : Math.min(client.readTimeoutMillis(), remaining);
+            caller = client.newBuilder().readTimeout(readTimeout, TimeUnit.MILLISECONDS).build();
+        }
+        final Request request = builder.build();
+
+        try(Response response = caller.newCall(request).execute()) {
+            if(response.code() == 404) {
+                return null;
+            }
+            if(response.code() == ProxyProtocol.DEADLINE_PASSED) {
+                throw new TimeoutException("Deadline passed while the proxy loaded " + type.getName() + "!", Type.DEADLINE);
+            }
+            if(!response.isSuccessful()) {
+                final String message = response.body().string();
+                LOGGER.error("Proxy request to " + url + " for " + type.getName() + " returned " + response.code() + ": " + message);
+                throw new OriannaException("The orianna proxy failed to get " + type.getName() + " (" + response.code() + "): " + message);
+            }
+            return response.body().bytes();
+        } catch(final SocketTimeoutException e) {
+            if(deadline != null && deadline.isExpired()) {
+                throw new TimeoutException("Deadline passed during the proxy request for " + type.getName() + "!", Type.DEADLINE);
+            }
+            throw new TimeoutException("Proxy request for " + type.getName() + " timed out!", Type.HTTP);
+        } catch(final IOException e) {
+            LOGGER.error("Proxy request to " + url + " failed!", e);
+            throw new OriannaException("Failed to reach the orianna proxy at " + url + "! Make sure the server is running.", e);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.merakianalytics.orianna.datapipeline.proxy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.msgpack.core.MessagePackException;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Ordering;
+import com.merakianalytics.orianna.datapipeline.common.QueryValidationException;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.dto.DataObject;
+
+/**
+ * The wire format between {@link ProxyDataSource} and the orianna-proxy server. Both are MsgPack sent over HTTP POST.
+ *
+ * A request names the DTO type and carries the query. Each query value is tagged with its type, so the server's sources see the same Platforms, Longs and
+ * Sets the client's would have. A get responds with the object's MsgPack, or 404 if there isn't one. A getMany responds with an array holding each
+ * object's MsgPack, with nil wherever one wasn't found.
+ *
+ * The caller's priority and the milliseconds left before its deadline go in headers. A request whose deadline passes on the server gets a 504.
+ */
+public abstract class ProxyProtocol {
+    public static class Request {
+        private final Map<String, Object> query;
+        private final Class<? extends DataObject> type;
+
+        public Request(final Class<? extends DataObject> type, final Map<String, Object> query) {
+            this.type = type;
+            this.query = query;
+        }
+
+        /**
+         * @return the query
+         */
+        public Map<String, Object> getQuery() {
+            return query;
+        }
+
+        /**
+         * @return the type
+         */
+        public Class<? extends DataObject> getType() {
+            return type;
+        }
+    }
+
+    public static final String CONTENT_TYPE = "application/x-msgpack";
+    public static final String DEADLINE_HEADER = "X-Orianna-Deadline";
+    public static final int DEADLINE_PASSED = 504;
+    private static final String DTO_PACKAGE = DataObject.class.getPackage().getName() + ".";
+    private static final String ENUM_PACKAGE = Platform.class.getPackage().getName() + ".";
+    public static final String GET_MANY_PATH = "/getMany";
+    public static final String GET_PATH = "/get";
+    private static final String LIST_TAG = "list";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyProtocol.class);
+    private static final ObjectMapper MSGPACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+    public static final String PRIORITY_HEADER = "X-Orianna-Priority";
+    private static final Set<Class<?>> SCALAR_TYPES = ImmutableSet.<Class<?>> of(Boolean.class, Double.class, Float.class, Integer.class, Long.class,
+        String.class);
+    private static final String SET_TAG = "set";
+
+    /**
+     * @param bytes
+     *        the request's MsgPack
+     * @return the request
+     * @throws QueryValidationException
+     *         if the request isn't for a DTO type or has query values that can't be sent
+     */
+    public static Request decodeRequest(final byte[] bytes) {
+        final JsonNode root;
+        try {
+            root = MSGPACK_MAPPER.readTree(bytes);
+        } catch(final IOException | MessagePackException e) {
+            throw new QueryValidationException("Proxy request wasn't valid MsgPack!");
+        }
+        if(root == null || !root.path("type").isTextual() || !root.path("query").isObject()) {
+            throw new QueryValidationException("Proxy request needs a type and a query!");
+        }
+
+        final Class<? extends DataObject> type = dtoType(root.get("type").asText());
+        final Map<String, Object> query = new HashMap<>();
+        final Iterator<Map.Entry<String, JsonNode>> fields = root.get("query").fields();
+        while(fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            query.put(field.getKey(), decodeValue(field.getValue()));
+        }
+        return new Request(type, query);
+    }
+
+    /**
+     * @param type
+     *        the type of the results
+     * @param bytes
+     *        the getMany response's MsgPack
+     * @return the results, with null wherever one wasn't found
+     */
+    public static <T extends DataObject> List<T> decodeResults(final Class<T> type, final byte[] bytes) {
+        final JsonNode root;
+        try {
+            root = MSGPACK_MAPPER.readTree(bytes);
+        } catch(final IOException | MessagePackException e) {
+            LOGGER.error("Failed to read proxy results for " + type.getName() + "!", e);
+            throw new OriannaException("Failed to read the orianna proxy's results for " + type.getName() + "! Report this to the orianna team.", e);
+        }
+
+        final List<T> results = new ArrayList<>(root.size());
+        for(final JsonNode result : root) {
+            if(result.isNull()) {
+                results.add(null);
+            } else {
+                try {
+                    results.add(DataObject.fromBytes(type, result.binaryValue()));
+                } catch(final IOException e) {
+                    LOGGER.error("Failed to read proxy results for " + type.getName() + "!", e);
+                    throw new OriannaException("Failed to read the orianna proxy's results for " + type.getName() + "! Report this to the orianna team.", e);
+                }
+            }
+        }
+        return results;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object decodeValue(final JsonNode value) {
+        if(value.isNull()) {
+            return null;
+        }
+        if(!value.isArray() || value.size() != 2 || !value.get(0).isTextual()) {
+            throw new QueryValidationException("Proxy query values need a type tag!");
+        }
+
+        final String tag = value.get(0).asText();
+        final JsonNode content = value.get(1);
+        if(LIST_TAG.equals(tag) || SET_TAG.equals(tag)) {
+            final List<Object> items = new ArrayList<>(content.size());
+            for(final JsonNode item : content) {
+                items.add(decodeValue(item));
+            }
+            return SET_TAG.equals(tag) ? Collections.unmodifiableSet(new HashSet<>(items)) : Collections.unmodifiableList(items);
+        }
+
+        if(Boolean.class.getName().equals(tag)) {
+            return content.asBoolean();
+        } else if(Double.class.getName().equals(tag)) {
+            return content.asDouble();
+        } else if(Float.class.getName().equals(tag)) {
+            return (float)content.asDouble();
+        } else if(Integer.class.getName().equals(tag)) {
+            return content.asInt();
+        } else if(Long.class.getName().equals(tag)) {
+            return content.asLong();
+        } else if(String.class.getName().equals(tag)) {
+            return content.asText();
+        }
+
+        // Only orianna's own enums are looked up by name, so a request can't load arbitrary classes
+        if(tag.startsWith(ENUM_PACKAGE)) {
+            try {
+                final Class<?> type = Class.forName(tag);
+                if(type.isEnum()) {
+                    return Enum.valueOf((Class<? extends Enum>)type, content.asText());
+                }
+            } catch(final ClassNotFoundException | IllegalArgumentException e) {
+                throw new QueryValidationException("Proxy query has an unknown value " + content + " of type " + tag + "!");
+            }
+        }
+        throw new QueryValidationException("Proxy query values of type " + tag + " aren't supported!");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends DataObject> dtoType(final String name) {
+        if(name.startsWith(DTO_PACKAGE)) {
+            try {
+                final Class<?> type = Class.forName(name);
+                if(DataObject.class.isAssignableFrom(type)) {
+                    return (Class<? extends DataObject>)type;
+                }
+            } catch(final ClassNotFoundException e) {
+                throw new QueryValidationException("Proxy request is for unknown type " + name + "!");
+            }
+        }
+        throw new QueryValidationException("The orianna proxy only serves DTO types, not " + name + "!");
+    }
+
+    /**
+     * @param type
+     *        the DTO type to get
+     * @param query
+     *        the query
+     * @return the request's MsgPack
+     */
+    public static byte[] encodeRequest(final Class<?> type, final Map<String, Object> query) {
+        final ObjectNode root = JsonNodeFactory.instance.objectNode();
+        root.put("type", type.getName());
+        final ObjectNode encoded = root.putObject("query");
+        // Sorted, so equal queries encode to equal bytes and the server can cache and coalesce on them
+        for(final Map.Entry<String, Object> entry : new TreeMap<>(query).entrySet()) {
+            encoded.set(entry.getKey(), encodeValue(entry.getKey(), entry.getValue()));
+        }
+
+        try {
+            return MSGPACK_MAPPER.writeValueAsBytes(root);
+        } catch(final JsonProcessingException e) {
+            LOGGER.error("Failed to write proxy request for " + type.getName() + "!", e);
+            throw new OriannaException("Failed to write the orianna proxy request for " + type.getName() + "! Report this to the orianna team.", e);
+        }
+    }
+
+    /**
+     * @param results
+     *        the results of a getMany. Nulls are kept.
+     * @return the getMany response's MsgPack
+     */
+    public static byte[] encodeResults(final Iterator<?> results) {
+        final ArrayNode encoded = JsonNodeFactory.instance.arrayNode();
+        while(results.hasNext()) {
+            final Object result = results.next();
+            if(result == null) {
+                encoded.addNull();
+            } else {
+                encoded.add(((DataObject)result).toBytes());
+            }
+        }
+
+        try {
+            return MSGPACK_MAPPER.writeValueAsBytes(encoded);
+        } catch(final JsonProcessingException e) {
+            LOGGER.error("Failed to write proxy results!", e);
+            throw new OriannaException("Failed to write the orianna proxy's results! Report this to the orianna team.", e);
+        }
+    }
+
+    private static JsonNode encodeValue(final String key, final Object value) {
+        final JsonNodeFactory nodes = JsonNodeFactory.instance;
+        if(value == null) {
+            return nodes.nullNode();
+        }
+
+        final ArrayNode encoded = nodes.arrayNode();
+        if(value instanceof Iterable) {
+            final List<JsonNode> items = new ArrayList<>();
+            for(final Object item : (Iterable<?>)value) {
+                items.add(encodeValue(key, item));
+            }
+            if(value instanceof Set) {
+                // Sets have no order of their own, so equal sets are sorted to encode to equal bytes
+                Collections.sort(items, Ordering.usingToString());
+                encoded.add(SET_TAG);
+            } else {
+                encoded.add(LIST_TAG);
+            }
+            encoded.addArray().addAll(items);
+        } else if(value instanceof Enum) {
+            encoded.add(((Enum<?>)value).getDeclaringClass().getName());
+            encoded.add(((Enum<?>)value).name());
+        } else if(SCALAR_TYPES.contains(value.getClass())) {
+            encoded.add(value.getClass().getName());
+            encoded.add(nodes.pojoNode(value));
+        } else {
+            throw new QueryValidationException("Query value " + key + " of type " + value.getClass().getName() + " can't be sent to the orianna proxy!");
+        }
+        return encoded;
+    }
+}
@@ -3,6 +3,10 @@ package com.merakianalytics.orianna.datapipeline.riotapi;
 import java.util.Iterator;
 import java.util.Map;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
@@ -132,37 +136,29 @@ public class ChampionMasteryAPI extends RiotAPIService {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
         Utilities.checkNotNull(platform, "platform", summonerIds, "summonerIds");
 
-        final Iterator<Number> iterator = summonerIds.iterator();
-        return CloseableIterators.from(new Iterator<ChampionMasteries>() {
-            @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public ChampionMasteries next() {
-                final Number summonerId = iterator.next();
-
-                final String endpoint = "lol/champion-mastery/v3/champion-masteries/by-summoner/" + summonerId;
-                final ChampionMasteries data = get(ChampionMasteries.class, endpoint, platform,
-                    "lol/champion-mastery/v3/champion-masteries/by-summoner/summonerId");
-                if(data == null) {
-                    return null;
-                }
-
-                data.setSummonerId(summonerId.longValue());
-                data.setPlatform(platform.getTag());
-                for(final ChampionMastery mastery : data) {
-                    mastery.setPlatform(platform.getTag());
+        return getMany(summonerIds.iterator(), platform, "lol/champion-mastery/v3/champion-masteries/by-summoner/summonerId",
+            new AsyncFunction<Number, ChampionMasteries>() {
+                @Override
+                public ListenableFuture<ChampionMasteries> apply(final Number summonerId) {
+                    final String endpoint = "lol/champion-mastery/v3/champion-masteries/by-summoner/" + summonerId;
+                    return Futures.transform(getAsync(ChampionMasteries.class, endpoint, platform,
+                        "lol/champion-mastery/v3/champion-masteries/by-summoner/summonerId"), new Function<ChampionMasteries, ChampionMasteries>() {
+                            @Override
+                            public ChampionMasteries apply(final ChampionMasteries data) {
+                                if(data == null) {
+                                    return null;
+                                }
+
+                                data.setSummonerId(summonerId.longValue());
+                                data.setPlatform(platform.getTag());
+                                for(final ChampionMastery mastery : data) {
+                                    mastery.setPlatform(platform.getTag());
+                                }
+                                return data;
+                            }
+                        });
                 }
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
-            }
-        });
+            });
     }
 
     @SuppressWarnings("unchecked")
@@ -172,32 +168,25 @@ public class ChampionMasteryAPI extends RiotAPIService {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
         Utilities.checkNotNull(platform, "platform", summonerIds, "summonerIds");
 
-        final Iterator<Number> iterator = summonerIds.iterator();
-        return CloseableIterators.from(new Iterator<ChampionMasteryScore>() {
-            @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public ChampionMasteryScore next() {
-                final Number summonerId = iterator.next();
-
-                final String endpoint = "lol/champion-mastery/v3/scores/by-summoner/" + summonerId;
-                final ChampionMasteryScore data = get(ChampionMasteryScore.class, endpoint, platform, "lol/champion-mastery/v3/scores/by-summoner/summonerId");
-                if(data == null) {
-                    return null;
+        return getMany(summonerIds.iterator(), platform, "lol/champion-mastery/v3/scores/by-summoner/summonerId",
+            new AsyncFunction<Number, ChampionMasteryScore>() {
+                @Override
+                public ListenableFuture<ChampionMasteryScore> apply(final Number summonerId) {
+                    final String endpoint = "lol/champion-mastery/v3/scores/by-summoner/" + summonerId;
+                    return Futures.transform(getAsync(ChampionMasteryScore.class, endpoint, platform, "lol/champion-mastery/v3/scores/by-summoner/summonerId"),
+                        new Function<ChampionMasteryScore, ChampionMasteryScore>() {
+                            @Override
+                            public ChampionMasteryScore apply(final ChampionMasteryScore data) {
+                                if(data == null) {
+                                    return null;
+                                }
+
+                                data.setPlatform(platform.getTag());
+                                data.setSummonerId(summonerId.longValue());
+                                return data;
+                            }
+                        });
                 }
-
-                data.setPlatform(platform.getTag());
-                data.setSummonerId(summonerId.longValue());
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
-            }
-        });
+            });
     }
 }
@@ -3,10 +3,13 @@ package com.merakianalytics.orianna.datapipeline.riotapi;
 import java.util.Iterator;
 import java.util.Map;
 
+import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
-import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.datapipelines.sources.Get;
 import com.merakianalytics.datapipelines.sources.GetMany;
 import com.merakianalytics.orianna.datapipeline.common.HTTPClient;
@@ -94,40 +97,34 @@ public class LeagueAPI extends RiotAPIService {
         }
 
         final Iterator<?> iterator = leagueIds == null ? queues.iterator() : leagueIds.iterator();
-        return CloseableIterators.from(new Iterator<LeagueList>() {
+        final String rateLimiterName = leagueIds == null ? LEAGUE_LIST_ENDPOINTS.get(tier) + "/queue" : "lol/league/v3/leagues/leagueId";
+        return getMany(iterator, platform, rateLimiterName, new AsyncFunction<Object, LeagueList>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public LeagueList next() {
-                LeagueList data;
+            public ListenableFuture<LeagueList> apply(final Object key) {
+                String endpoint;
                 if(leagueIds == null) {
-                    final Queue queue = (Queue)iterator.next();
+                    final Queue queue = (Queue)key;
 
                     if(!Queue.RANKED.contains(queue)) {
-                        return null;
+                        return Futures.immediateFuture(null);
                     }
 
-                    final String endpoint = LEAGUE_LIST_ENDPOINTS.get(tier) + queue;
-                    data = get(LeagueList.class, endpoint, platform, LEAGUE_LIST_ENDPOINTS.get(tier) + "/queue");
+                    endpoint = LEAGUE_LIST_ENDPOINTS.get(tier) + queue;
                 } else {
-                    final String leagueId = (String)iterator.next();
-                    final String endpoint = "lol/league/v3/leagues/" + leagueId;
-                    data = get(LeagueList.class, endpoint, platform, "lol/league/v3/leagues/leagueId");
-                }
-                if(data == null) {
-                    return null;
+                    endpoint = "lol/league/v3/leagues/" + key;
                 }
 
-                data.setPlatform(platform.getTag());
-                return data;
-            }
+                return Futures.transform(getAsync(LeagueList.class, endpoint, platform, rateLimiterName), new Function<LeagueList, LeagueList>() {
+                    @Override
+                    public LeagueList apply(final LeagueList data) {
+                        if(data == null) {
+                            return null;
+                        }
 
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                        data.setPlatform(platform.getTag());
+                        return data;
+                    }
+                });
             }
         });
     }
@@ -139,34 +136,26 @@ public class LeagueAPI extends RiotAPIService {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
         Utilities.checkNotNull(platform, "platform", summonerIds, "summonerIds");
 
-        final Iterator<Number> iterator = summonerIds.iterator();
-        return CloseableIterators.from(new Iterator<SummonerPositions>() {
+        return getMany(summonerIds.iterator(), platform, "lol/league/v3/positions/by-summoner/summonerId", new AsyncFunction<Number, SummonerPositions>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public SummonerPositions next() {
-                final Number summonerId = iterator.next();
-
+            public ListenableFuture<SummonerPositions> apply(final Number summonerId) {
                 final String endpoint = "lol/league/v3/positions/by-summoner/" + summonerId;
-                final SummonerPositions data = get(SummonerPositions.class, endpoint, platform, "lol/league/v3/positions/by-summoner/summonerId");
-                if(data == null) {
-                    return null;
-                }
-
-                data.setSummonerId(summonerId.longValue());
-                data.setPlatform(platform.getTag());
-                for(final LeaguePosition position : data) {
-                    position.setPlatform(platform.getTag());
-                }
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                return Futures.transform(getAsync(SummonerPositions.class, endpoint, platform, "lol/league/v3/positions/by-summoner/summonerId"),
+                    new Function<SummonerPositions, SummonerPositions>() {
+                        @Override
+                        public SummonerPositions apply(final SummonerPositions data) {
+                            if(data == null) {
+                                return null;
+                            }
+
+                            data.setSummonerId(summonerId.longValue());
+                            data.setPlatform(platform.getTag());
+                            for(final LeaguePosition position : data) {
+                                position.setPlatform(platform.getTag());
+                            }
+                            return data;
+                        }
+                    });
             }
         });
     }
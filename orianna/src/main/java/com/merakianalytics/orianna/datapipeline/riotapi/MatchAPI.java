@@ -9,8 +9,12 @@ import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.Weeks;
 
+import com.google.common.base.Function;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
@@ -45,37 +49,29 @@ public class MatchAPI extends RiotAPIService {
         final String tournamentCode = (String)query.get("tournamentCode");
         Utilities.checkNotNull(platform, "platform", matchIds, "matchIds");
 
-        final Iterator<Number> iterator = matchIds.iterator();
-        return CloseableIterators.from(new Iterator<Match>() {
+        final String rateLimiterName = tournamentCode == null ? "lol/match/v3/matches/matchId"
+            : "lol/match/v3/matches/matchId/by-tournament-code/tournamentCode";
+        return getMany(matchIds.iterator(), platform, rateLimiterName, new AsyncFunction<Number, Match>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public Match next() {
-                final Number matchId = iterator.next();
-
+            public ListenableFuture<Match> apply(final Number matchId) {
                 String endpoint;
-                Match data;
                 if(tournamentCode == null) {
                     endpoint = "lol/match/v3/matches/" + matchId;
-                    data = get(Match.class, endpoint, platform, "lol/match/v3/matches/matchId");
                 } else {
                     endpoint = "lol/match/v3/matches/" + matchId + "/by-tournament-code/" + tournamentCode;
-                    data = get(Match.class, endpoint, platform, "lol/match/v3/matches/matchId/by-tournament-code/tournamentCode");
-                }
-                if(data == null) {
-                    return null;
                 }
 
-                data.setTournamentCode(tournamentCode);
-                return data;
-            }
+                return Futures.transform(getAsync(Match.class, endpoint, platform, rateLimiterName), new Function<Match, Match>() {
+                    @Override
+                    public Match apply(final Match data) {
+                        if(data == null) {
+                            return null;
+                        }
 
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                        data.setTournamentCode(tournamentCode);
+                        return data;
+                    }
+                });
             }
         });
     }
@@ -260,31 +256,23 @@ public class MatchAPI extends RiotAPIService {
         final Iterable<Number> matchIds = (Iterable<Number>)query.get("matchIds");
         Utilities.checkNotNull(platform, "platform", matchIds, "matchIds");
 
-        final Iterator<Number> iterator = matchIds.iterator();
-        return CloseableIterators.from(new Iterator<MatchTimeline>() {
+        return getMany(matchIds.iterator(), platform, "lol/match/v3/timelines/by-match/matchId", new AsyncFunction<Number, MatchTimeline>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public MatchTimeline next() {
-                final Number matchId = iterator.next();
-
+            public ListenableFuture<MatchTimeline> apply(final Number matchId) {
                 final String endpoint = "lol/match/v3/timelines/by-match/" + matchId;
-                final MatchTimeline data = get(MatchTimeline.class, endpoint, platform, "lol/match/v3/timelines/by-match/matchId");
-                if(data == null) {
-                    return null;
-                }
-
-                data.setPlatform(platform.getTag());
-                data.setMatchId(matchId.longValue());
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                return Futures.transform(getAsync(MatchTimeline.class, endpoint, platform, "lol/match/v3/timelines/by-match/matchId"),
+                    new Function<MatchTimeline, MatchTimeline>() {
+                        @Override
+                        public MatchTimeline apply(final MatchTimeline data) {
+                            if(data == null) {
+                                return null;
+                            }
+
+                            data.setPlatform(platform.getTag());
+                            data.setMatchId(matchId.longValue());
+                            return data;
+                        }
+                    });
             }
         });
     }
@@ -1,22 +1,33 @@
 package com.merakianalytics.orianna.datapipeline.riotapi;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.merakianalytics.datapipelines.sources.CompositeDataSource;
+import com.merakianalytics.orianna.datapipeline.common.CircuitBreaker;
 import com.merakianalytics.orianna.datapipeline.common.HTTPClient;
 import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter;
 import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter.Type;
 import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPIService.FailedRequestStrategy;
 import com.merakianalytics.orianna.types.common.OriannaException;
 import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.common.Priority;
 
 public class RiotAPI extends CompositeDataSource {
     public static class Configuration {
@@ -25,15 +36,27 @@ public class RiotAPI extends CompositeDataSource {
         private static final FailedRequestStrategy DEFAULT_500_STRATEGY = new FailedRequestStrategy.ExponentialBackoff();
         private static final FailedRequestStrategy DEFAULT_503_STRATEGY = new FailedRequestStrategy.ExponentialBackoff();
         private static final String DEFAULT_API_KEY = System.getenv("RIOT_API_KEY");
+        private static final CircuitBreaker.Configuration DEFAULT_CIRCUIT_BREAKER = new CircuitBreaker.Configuration();
+        private static final FailedRequestStrategy DEFAULT_CIRCUIT_OPEN_STRATEGY = new FailedRequestStrategy.ThrowException();
+        private static final String DEFAULT_HOST = null;
         private static final FailedRequestStrategy DEFAULT_HTTP_TIMEOUT_STRATEGY = new FailedRequestStrategy.ExponentialBackoff();
         private static final double DEFAULT_LIMITING_SHARE = 1.0;
         private static final Type DEFAULT_LIMITING_TYPE = Type.BURST;
+        private static final int DEFAULT_MANY_PARALLELISM = 8;
+        private static final Map<Priority, Double> DEFAULT_PRIORITY_RESERVES = ImmutableMap.of();
         private static final FailedRequestStrategy DEFAULT_RATE_LIMITER_TIMEOUT_STRATEGY = new FailedRequestStrategy.ThrowException();
+        private static final Map<String, String> DEFAULT_RATE_LIMITS = ImmutableMap.of();
+        private static final String DEFAULT_RATE_LIMITS_FILE = null;
         private static final HTTPClient.Configuration DEFAULT_REQUESTS = new HTTPClient.Configuration();
+        private static final int DEFAULT_REQUEST_THREADS = 32;
         private static final Set<Class<? extends RiotAPIService>> DEFAULT_SERVICES = ImmutableSet.of(ChampionAPI.class, ChampionMasteryAPI.class,
             LeagueAPI.class, MatchAPI.class, SpectatorAPI.class, StatusAPI.class, SummonerAPI.class, ThirdPartyCodeAPI.class);
+        private static final String DEFAULT_SHARED_RATE_LIMITS_FILE = null;
 
         private String apiKey = DEFAULT_API_KEY;
+        private CircuitBreaker.Configuration circuitBreaker = DEFAULT_CIRCUIT_BREAKER;
+        private FailedRequestStrategy circuitOpenStrategy = DEFAULT_CIRCUIT_OPEN_STRATEGY;
+        private String host = DEFAULT_HOST;
         private FailedRequestStrategy http404Strategy = DEFAULT_404_STRATEGY;
         private FailedRequestStrategy http429Strategy = DEFAULT_429_STRATEGY;
         private FailedRequestStrategy http500Strategy = DEFAULT_500_STRATEGY;
@@ -42,9 +65,15 @@ public class RiotAPI extends CompositeDataSource {
 
         private double limitingShare = DEFAULT_LIMITING_SHARE;
         private Type limitingType = DEFAULT_LIMITING_TYPE;
+        private int manyParallelism = DEFAULT_MANY_PARALLELISM;
+        private Map<Priority, Double> priorityReserves = DEFAULT_PRIORITY_RESERVES;
         private FailedRequestStrategy rateLimiterTimeoutStrategy = DEFAULT_RATE_LIMITER_TIMEOUT_STRATEGY;
+        private Map<String, String> rateLimits = DEFAULT_RATE_LIMITS;
+        private String rateLimitsFile = DEFAULT_RATE_LIMITS_FILE;
         private HTTPClient.Configuration requests = DEFAULT_REQUESTS;
+        private int requestThreads = DEFAULT_REQUEST_THREADS;
         private Set<Class<? extends RiotAPIService>> services = DEFAULT_SERVICES;
+        private String sharedRateLimitsFile = DEFAULT_SHARED_RATE_LIMITS_FILE;
 
         @Override
         public boolean equals(final Object obj) {
@@ -65,6 +94,27 @@ public class RiotAPI extends CompositeDataSource {
             } else if(!apiKey.equals(other.apiKey)) {
                 return false;
             }
+            if(circuitBreaker == null) {
+                if(other.circuitBreaker != null) {
+                    return false;
+                }
+            } else if(!circuitBreaker.equals(other.circuitBreaker)) {
+                return false;
+            }
+            if(circuitOpenStrategy == null) {
+                if(other.circuitOpenStrategy != null) {
+                    return false;
+                }
+            } else if(!circuitOpenStrategy.equals(other.circuitOpenStrategy)) {
+                return false;
+            }
+            if(host == null) {
+                if(other.host != null) {
+                    return false;
+                }
+            } else if(!host.equals(other.host)) {
+                return false;
+            }
             if(http404Strategy == null) {
                 if(other.http404Strategy != null) {
                     return false;
@@ -106,6 +156,16 @@ public class RiotAPI extends CompositeDataSource {
             if(limitingType != other.limitingType) {
                 return false;
             }
+            if(manyParallelism != other.manyParallelism) {
+                return false;
+            }
+            if(priorityReserves == null) {
+                if(other.priorityReserves != null) {
+                    return false;
+                }
+            } else if(!priorityReserves.equals(other.priorityReserves)) {
+                return false;
+            }
             if(rateLimiterTimeoutStrategy == null) {
                 if(other.rateLimiterTimeoutStrategy != null) {
                     return false;
@@ -113,6 +173,20 @@ public class RiotAPI extends CompositeDataSource {
             } else if(!rateLimiterTimeoutStrategy.equals(other.rateLimiterTimeoutStrategy)) {
                 return false;
             }
+            if(rateLimits == null) {
+                if(other.rateLimits != null) {
+                    return false;
+                }
+            } else if(!rateLimits.equals(other.rateLimits)) {
+                return false;
+            }
+            if(rateLimitsFile == null) {
+                if(other.rateLimitsFile != null) {
+                    return false;
+                }
+            } else if(!rateLimitsFile.equals(other.rateLimitsFile)) {
+                return false;
+            }
             if(requests == null) {
                 if(other.requests != null) {
                     return false;
@@ -120,6 +194,9 @@ public class RiotAPI extends CompositeDataSource {
             } else if(!requests.equals(other.requests)) {
                 return false;
             }
+            if(requestThreads != other.requestThreads) {
+                return false;
+            }
             if(services == null) {
                 if(other.services != null) {
                     return false;
@@ -127,6 +204,13 @@ public class RiotAPI extends CompositeDataSource {
             } else if(!services.equals(other.services)) {
                 return false;
             }
+            if(sharedRateLimitsFile == null) {
+                if(other.sharedRateLimitsFile != null) {
+                    return false;
+                }
+            } else if(!sharedRateLimitsFile.equals(other.sharedRateLimitsFile)) {
+                return false;
+            }
             return true;
         }
 
@@ -137,6 +221,27 @@ public class RiotAPI extends CompositeDataSource {
             return apiKey;
         }
 
+        /**
+         * @return when the circuit breakers kept for each platform and rate limiter name open and probe. They're off unless enabled here.
+         */
+        public CircuitBreaker.Configuration getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        /**
+         * @return the strategy for requests refused by an open circuit breaker
+         */
+        public FailedRequestStrategy getCircuitOpenStrategy() {
+            return circuitOpenStrategy;
+        }
+
+        /**
+         * @return the host to send all requests to, or null to use the platform's Riot API host
+         */
+        public String getHost() {
+            return host;
+        }
+
         /**
          * @return the http404Strategy
          */
@@ -186,6 +291,22 @@ public class RiotAPI extends CompositeDataSource {
             return limitingType;
         }
 
+        /**
+         * @return the most requests a single getMany call keeps in flight at once
+         */
+        public int getManyParallelism() {
+            return manyParallelism;
+        }
+
+        /**
+         * @return the share of each rate limit window, from 0 to 1, held back for requests of each priority. Lower priority requests can't use it, but a
+         *         request that has waited a whole window takes the next free permit regardless. With none set, waiting requests are served in the order they
+         *         arrived.
+         */
+        public Map<Priority, Double> getPriorityReserves() {
+            return priorityReserves;
+        }
+
         /**
          * @return the rateLimiterTimeoutStrategy
          */
@@ -193,6 +314,21 @@ public class RiotAPI extends CompositeDataSource {
             return rateLimiterTimeoutStrategy;
         }
 
+        /**
+         * @return known rate limits, in the same form as the X-App-Rate-Limit and X-Method-Rate-Limit headers (e.g. "20:1,100:120"), keyed by rate limiter
+         *         name. The application limit's key is "application". They apply to every platform.
+         */
+        public Map<String, String> getRateLimits() {
+            return rateLimits;
+        }
+
+        /**
+         * @return the file the rate limits learned from responses are saved to on shutdown and read back from on startup, or null to not save them
+         */
+        public String getRateLimitsFile() {
+            return rateLimitsFile;
+        }
+
         /**
          * @return the requests
          */
@@ -200,6 +336,13 @@ public class RiotAPI extends CompositeDataSource {
             return requests;
         }
 
+        /**
+         * @return the most threads making retries and getMany requests at once. Requests beyond that wait in a queue instead of starting more threads.
+         */
+        public int getRequestThreads() {
+            return requestThreads;
+        }
+
         /**
          * @return the services
          */
@@ -207,11 +350,22 @@ public class RiotAPI extends CompositeDataSource {
             return services;
         }
 
+        /**
+         * @return the file to keep rate limit windows in so every process on the host using it shares them, or null to keep them in this process. Processes
+         *         that share them should leave limitingShare at 1.
+         */
+        public String getSharedRateLimitsFile() {
+            return sharedRateLimitsFile;
+        }
+
         @Override
         public int hashCode() {
             final int prime = 31;
             int result = 1;
             result = prime * result + (apiKey == null ? 0 : apiKey.hashCode());
+            result = prime * result + (circuitBreaker == null ? 0 : circuitBreaker.hashCode());
+            result = prime * result + (circuitOpenStrategy == null ? 0 : circuitOpenStrategy.hashCode());
+            result = prime * result + (host == null ? 0 : host.hashCode());
             result = prime * result + (http404Strategy == null ? 0 : http404Strategy.hashCode());
             result = prime * result + (http429Strategy == null ? 0 : http429Strategy.hashCode());
             result = prime * result + (http500Strategy == null ? 0 : http500Strategy.hashCode());
@@ -221,9 +375,15 @@ public class RiotAPI extends CompositeDataSource {
             temp = Double.doubleToLongBits(limitingShare);
             result = prime * result + (int)(temp ^ temp >>> 32);
             result = prime * result + (limitingType == null ? 0 : limitingType.hashCode());
+            result = prime * result + manyParallelism;
+            result = prime * result + (priorityReserves == null ? 0 : priorityReserves.hashCode());
             result = prime * result + (rateLimiterTimeoutStrategy == null ? 0 : rateLimiterTimeoutStrategy.hashCode());
+            result = prime * result + (rateLimits == null ? 0 : rateLimits.hashCode());
+            result = prime * result + (rateLimitsFile == null ? 0 : rateLimitsFile.hashCode());
             result = prime * result + (requests == null ? 0 : requests.hashCode());
+            result = prime * result + requestThreads;
             result = prime * result + (services == null ? 0 : services.hashCode());
+            result = prime * result + (sharedRateLimitsFile == null ? 0 : sharedRateLimitsFile.hashCode());
             return result;
         }
 
@@ -235,6 +395,30 @@ public class RiotAPI extends CompositeDataSource {
             this.apiKey = apiKey;
         }
 
+        /**
+         * @param circuitBreaker
+         *        when the circuit breakers kept for each platform and rate limiter name open and probe. They're off unless enabled here.
+         */
+        public void setCircuitBreaker(final CircuitBreaker.Configuration circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        /**
+         * @param circuitOpenStrategy
+         *        the strategy for requests refused by an open circuit breaker
+         */
+        public void setCircuitOpenStrategy(final FailedRequestStrategy circuitOpenStrategy) {
+            this.circuitOpenStrategy = circuitOpenStrategy;
+        }
+
+        /**
+         * @param host
+         *        the host to send all requests to, or null to use the platform's Riot API host
+         */
+        public void setHost(final String host) {
+            this.host = host;
+        }
+
         /**
          * @param http404Strategy
          *        the http404Strategy to set
@@ -291,6 +475,24 @@ public class RiotAPI extends CompositeDataSource {
             this.limitingType = limitingType;
         }
 
+        /**
+         * @param manyParallelism
+         *        the most requests a single getMany call keeps in flight at once
+         */
+        public void setManyParallelism(final int manyParallelism) {
+            this.manyParallelism = manyParallelism;
+        }
+
+        /**
+         * @param priorityReserves
+         *        the share of each rate limit window, from 0 to 1, held back for requests of each priority. Lower priority requests can't use it, but a
+         *        request that has waited a whole window takes the next free permit regardless. With none set, waiting requests are served in the order they
+         *        arrived.
+         */
+        public void setPriorityReserves(final Map<Priority, Double> priorityReserves) {
+            this.priorityReserves = priorityReserves;
+        }
+
         /**
          * @param rateLimiterTimeoutStrategy
          *        the rateLimiterTimeoutStrategy to set
@@ -299,6 +501,23 @@ public class RiotAPI extends CompositeDataSource {
             this.rateLimiterTimeoutStrategy = rateLimiterTimeoutStrategy;
         }
 
+        /**
+         * @param rateLimits
+         *        known rate limits, in the same form as the X-App-Rate-Limit and X-Method-Rate-Limit headers (e.g. "20:1,100:120"), keyed by rate limiter
+         *        name. The application limit's key is "application". They apply to every platform.
+         */
+        public void setRateLimits(final Map<String, String> rateLimits) {
+            this.rateLimits = rateLimits;
+        }
+
+        /**
+         * @param rateLimitsFile
+         *        the file the rate limits learned from responses are saved to on shutdown and read back from on startup, or null to not save them
+         */
+        public void setRateLimitsFile(final String rateLimitsFile) {
+            this.rateLimitsFile = rateLimitsFile;
+        }
+
         /**
          * @param requests
          *        the requests to set
@@ -307,6 +526,14 @@ public class RiotAPI extends CompositeDataSource {
             this.requests = requests;
         }
 
+        /**
+         * @param requestThreads
+         *        the most threads making retries and getMany requests at once. Requests beyond that wait in a queue instead of starting more threads.
+         */
+        public void setRequestThreads(final int requestThreads) {
+            this.requestThreads = requestThreads;
+        }
+
         /**
          * @param services
          *        the services to set
@@ -314,20 +541,34 @@ public class RiotAPI extends CompositeDataSource {
         public void setServices(final Set<Class<? extends RiotAPIService>> services) {
             this.services = services;
         }
+
+        /**
+         * @param sharedRateLimitsFile
+         *        the file to keep rate limit windows in so every process on the host using it shares them, or null to keep them in this process. Processes
+         *        that share them should leave limitingShare at 1.
+         */
+        public void setSharedRateLimitsFile(final String sharedRateLimitsFile) {
+            this.sharedRateLimitsFile = sharedRateLimitsFile;
+        }
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RiotAPIService.class);
 
+    private static final TypeReference<Map<String, String>> RATE_LIMITS_TYPE = new TypeReference<Map<String, String>>() {};
+
     private static Set<RiotAPIService> createServices(final Configuration config) {
         final HTTPClient client = new HTTPClient(config.getRequests());
         final Map<Platform, RateLimiter> applicationRateLimiters = new ConcurrentHashMap<>();
         final Map<Platform, RateLimiter> applicationRateLimiterLocks = new ConcurrentHashMap<>();
+        // Every service shares one pool, so the thread bound holds for the whole data source
+        final ListeningExecutorService requestExecutor = RiotAPIService.newRequestExecutor(config.getRequestThreads());
 
         final Set<RiotAPIService> services = new HashSet<>();
         for(final Class<? extends RiotAPIService> serviceType : config.getServices()) {
             try {
                 final RiotAPIService service = serviceType.getConstructor(Configuration.class, HTTPClient.class, Map.class, Map.class).newInstance(config,
                     client, applicationRateLimiters, applicationRateLimiterLocks);
+                service.setRequestExecutor(requestExecutor);
                 services.add(service);
             } catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
                 | SecurityException e) {
@@ -336,9 +577,53 @@ public class RiotAPI extends CompositeDataSource {
                     e);
             }
         }
+
+        if(config.getRateLimitsFile() != null) {
+            final File file = new File(config.getRateLimitsFile());
+            final Map<String, String> saved = readRateLimits(file);
+            for(final RiotAPIService service : services) {
+                service.seedRateLimits(saved);
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    writeRateLimits(file, services);
+                }
+            }, "orianna-rate-limits"));
+        }
         return services;
     }
 
+    private static Map<String, String> readRateLimits(final File file) {
+        if(!file.exists()) {
+            return ImmutableMap.of();
+        }
+
+        try {
+            return new ObjectMapper().readValue(file, RATE_LIMITS_TYPE);
+        } catch(final IOException e) {
+            // The saved limits only save a request per method, so carry on without them
+            LOGGER.warn("Failed to read saved rate limits from " + file + "! They'll be learned from responses instead.", e);
+            return ImmutableMap.of();
+        }
+    }
+
+    private static void writeRateLimits(final File file, final Set<RiotAPIService> services) {
+        final Map<String, String> limits = new TreeMap<>(readRateLimits(file));
+        for(final RiotAPIService service : services) {
+            limits.putAll(service.getObservedRateLimits());
+        }
+
+        final File temp = new File(file.getPath() + ".tmp");
+        try {
+            new ObjectMapper().writeValue(temp, limits);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch(final IOException e) {
+            LOGGER.warn("Failed to save rate limits to " + file + "!", e);
+        }
+    }
+
     public RiotAPI() {
         this(new Configuration());
     }
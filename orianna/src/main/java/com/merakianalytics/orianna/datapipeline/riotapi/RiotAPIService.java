@@ -1,13 +1,22 @@
 package com.merakianalytics.orianna.datapipeline.riotapi;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -21,20 +30,35 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.sources.AbstractDataSource;
+import com.merakianalytics.orianna.datapipeline.common.CircuitBreaker;
+import com.merakianalytics.orianna.datapipeline.common.FanOutIterator;
 import com.merakianalytics.orianna.datapipeline.common.HTTPClient;
 import com.merakianalytics.orianna.datapipeline.common.HTTPClient.Response;
 import com.merakianalytics.orianna.datapipeline.common.TimeoutException;
 import com.merakianalytics.orianna.datapipeline.common.TimeoutException.Type;
+import com.merakianalytics.orianna.datapipeline.common.metrics.Metrics;
+import com.merakianalytics.orianna.datapipeline.common.metrics.RequestMetrics;
 import com.merakianalytics.orianna.datapipeline.common.rates.AbstractRateLimiter;
 import com.merakianalytics.orianna.datapipeline.common.rates.MultiRateLimiter;
 import com.merakianalytics.orianna.datapipeline.common.rates.RateLimiter;
+import com.merakianalytics.orianna.datapipeline.common.rates.SharedWindowRateLimiter;
 import com.merakianalytics.orianna.datapipeline.riotapi.RiotAPI.Configuration;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.BadRequestException;
+import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.CircuitOpenException;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.ForbiddenException;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.InternalServerErrorException;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.NotFoundException;
@@ -42,8 +66,10 @@ import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.RateLimitExce
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.ServiceUnavailableException;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.UnauthorizedException;
 import com.merakianalytics.orianna.datapipeline.riotapi.exceptions.UnsupportedMediaTypeException;
+import com.merakianalytics.orianna.types.common.Deadline;
 import com.merakianalytics.orianna.types.common.OriannaException;
 import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.common.Priority;
 import com.merakianalytics.orianna.types.dto.DataObject;
 
 public class RiotAPIService extends AbstractDataSource {
@@ -249,21 +275,15 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             @Override
-            public <T extends DataObject> T onFailedRequest(final RiotAPIService service, final RequestContext<T> context, final Response response,
-                final OriannaException e) {
+            public <T extends DataObject> ListenableFuture<T> onFailedRequest(final RiotAPIService service, final RequestContext<T> context,
+                final Response response, final OriannaException e) {
                 final int attempts = context.attemptCount;
                 if(attempts > maxAttempts) {
                     return backupStrategy.onFailedRequest(service, context, response, e);
                 }
 
                 final long nextBackoff = (long)(backoff * Math.pow(backoffFactor, attempts - 1));
-                try {
-                    backoffUnit.sleep(nextBackoff);
-                } catch(final InterruptedException e1) {
-                    return backupStrategy.onFailedRequest(service, context, response, e);
-                }
-
-                return service.get(context);
+                return service.retry(context, nextBackoff, backoffUnit);
             }
         }
 
@@ -300,20 +320,14 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             @Override
-            public <T extends DataObject> T onFailedRequest(final RiotAPIService service, final RequestContext<T> context, final Response response,
-                final OriannaException e) {
+            public <T extends DataObject> ListenableFuture<T> onFailedRequest(final RiotAPIService service, final RequestContext<T> context,
+                final Response response, final OriannaException e) {
                 final int attempts = context.attemptCount;
                 if(attempts > maxAttempts) {
                     return backupStrategy.onFailedRequest(service, context, response, e);
                 }
 
-                try {
-                    backoffUnit.sleep(backoff);
-                } catch(final InterruptedException e1) {
-                    return backupStrategy.onFailedRequest(service, context, response, e);
-                }
-
-                return service.get(context);
+                return service.retry(context, backoff, backoffUnit);
             }
         }
 
@@ -338,22 +352,23 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             @Override
-            public <T extends DataObject> T onFailedRequest(final RiotAPIService service, final RequestContext<T> context, final Response response,
-                final OriannaException e) {
+            public <T extends DataObject> ListenableFuture<T> onFailedRequest(final RiotAPIService service, final RequestContext<T> context,
+                final Response response, final OriannaException e) {
                 final Collection<String> retryAfterHeaders = response.getHeaders().get("Retry-After");
                 if(retryAfterHeaders == null || retryAfterHeaders.isEmpty()) {
-                    backupStrategy.onFailedRequest(service, context, response, e);
+                    return backupStrategy.onFailedRequest(service, context, response, e);
                 }
 
                 final long retryAfter = Long.parseLong(retryAfterHeaders.iterator().next());
                 if(retryAfter <= 0) {
-                    backupStrategy.onFailedRequest(service, context, response, e);
+                    return backupStrategy.onFailedRequest(service, context, response, e);
                 }
                 final String type = response.getHeaders().get("X-Rate-Limit-Type").iterator().next();
 
                 final RateLimiter limiter = service.getRateLimiter(context.platform, context.rateLimiterName).limiter(type);
                 limiter.restrictFor(retryAfter, TimeUnit.SECONDS);
-                return service.get(context);
+                // The limiter won't hand out a permit until the restriction lifts, so wait that out on the timer rather than in the limiter
+                return service.retry(context, retryAfter, TimeUnit.SECONDS);
             }
         }
 
@@ -374,9 +389,9 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             @Override
-            public <T extends DataObject> T onFailedRequest(final RiotAPIService service, final RequestContext<T> context, final Response response,
-                final OriannaException e) {
-                return null;
+            public <T extends DataObject> ListenableFuture<T> onFailedRequest(final RiotAPIService service, final RequestContext<T> context,
+                final Response response, final OriannaException e) {
+                return Futures.immediateFuture(null);
             }
         }
 
@@ -404,9 +419,9 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             @Override
-            public <T extends DataObject> T onFailedRequest(final RiotAPIService service, final RequestContext<T> context, final Response response,
-                final OriannaException e) {
-                throw e;
+            public <T extends DataObject> ListenableFuture<T> onFailedRequest(final RiotAPIService service, final RequestContext<T> context,
+                final Response response, final OriannaException e) {
+                return Futures.immediateFailedFuture(e);
             }
         }
 
@@ -446,15 +461,38 @@ public class RiotAPIService extends AbstractDataSource {
         @JsonValue
         public Configuration getConfiguration();
 
-        public <T extends DataObject> T onFailedRequest(RiotAPIService service, RequestContext<T> context, Response response, OriannaException e);
+        /**
+         * Handles a failed request without blocking the calling thread. Strategies that retry hand the request back to the service's retry scheduler
+         * instead of sleeping until the retry is due.
+         *
+         * This used to return the result itself, so custom strategies written against the old signature no longer compile. They can wrap their result with
+         * {@link Futures#immediateFuture(Object)} or a failure with {@link Futures#immediateFailedFuture(Throwable)}.
+         *
+         * @param service
+         *        the service the request was made through
+         * @param context
+         *        the request
+         * @param response
+         *        the response, or null if there wasn't one
+         * @param e
+         *        the exception describing the failure
+         * @return a future for the eventual result of the request
+         */
+        public <T extends DataObject> ListenableFuture<T> onFailedRequest(RiotAPIService service, RequestContext<T> context, Response response,
+            OriannaException e);
     }
 
     private static class RequestContext<T> {
         public int attemptCount = 0;
+        public Deadline deadline;
         public String endpoint;
+        public RequestMetrics metrics;
         public Multimap<String, String> parameters;
         public Platform platform;
+        public Priority priority;
         public String rateLimiterName;
+        // The strategy handling the latest failure, so its retries can be counted
+        public String strategy;
         public Class<T> type;
 
         public RequestContext(final Class<T> type, final String endpoint, final Platform platform, final Multimap<String, String> parameters,
@@ -465,9 +503,14 @@ public class RiotAPIService extends AbstractDataSource {
             this.parameters = parameters;
             this.rateLimiterName = rateLimiterName;
             this.attemptCount = 1;
+            // Retries run on other threads, so they keep the deadline and priority of the thread that made the request
+            deadline = Deadline.current();
+            priority = Priority.current();
         }
     }
     private static final Logger LOGGER = LoggerFactory.getLogger(RiotAPIService.class);
+    private static final ScheduledExecutorService RETRY_TIMER = Executors
+        .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-retry-timer").build());
 
     private static Map<String, String> getDefaultHeaders(final Configuration config) {
         if(config.getApiKey() != null) {
@@ -476,6 +519,18 @@ public class RiotAPIService extends AbstractDataSource {
         return ImmutableMap.of();
     }
 
+    /**
+     * @param threads
+     *        the most threads to run at once
+     * @return an executor for retries and getMany requests that queues work beyond its threads instead of growing. Its threads exit when idle.
+     */
+    static ListeningExecutorService newRequestExecutor(final int threads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("orianna-request-%d").build());
+        executor.allowCoreThreadTimeOut(true);
+        return MoreExecutors.listeningDecorator(executor);
+    }
+
     private static AbstractRateLimiter getSpecificLimiterForRate(final RateLimiter limiter, final String epochSeconds) {
         if(limiter instanceof AbstractRateLimiter) {
             return (AbstractRateLimiter)limiter;
@@ -486,8 +541,13 @@ public class RiotAPIService extends AbstractDataSource {
     }
     private final Map<Platform, Object> applicationRateLimiterLocks;
     private final Map<Platform, RateLimiter> applicationRateLimiters;
+    // Null when circuit breakers are disabled
+    private final CircuitBreaker.Configuration circuitBreakerConfig;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers;
+    private final FailedRequestStrategy circuitOpenStrategy;
     private final HTTPClient client;
     private final Map<String, String> defaultHeaders;
+    private final String host;
     private final FailedRequestStrategy http404Strategy;
     private final FailedRequestStrategy http429Strategy;
     private final FailedRequestStrategy http500Strategy;
@@ -496,15 +556,27 @@ public class RiotAPIService extends AbstractDataSource {
     private final FailedRequestStrategy limiterTimeoutStrategy;
     private final double limitingShare;
     private final RateLimiter.Type limitingType;
+    private final int manyParallelism;
+    private final Map<Priority, Double> priorityReserves;
+    // The raw limits from the latest response for each rate limiter name, so they can be saved for the next run
+    private final Map<String, String> observedRateLimits;
     private final Map<Platform, Map<String, Object>> rateLimiterLocks;
     private final Map<Platform, Map<String, MultiRateLimiter>> rateLimiters;
+    private ListeningExecutorService requestExecutor;
+    // Known limits, in header form, used to create rate limiters without a first unlimited request
+    private final Map<String, String> rateLimits;
+    private final File sharedRateLimitsFile;
 
     public RiotAPIService(final Configuration config, final HTTPClient client, final Map<Platform, RateLimiter> applicationRateLimiters,
         final Map<Platform, Object> applicationRateLimiterLocks) {
         this.client = client;
         this.applicationRateLimiters = applicationRateLimiters;
         this.applicationRateLimiterLocks = applicationRateLimiterLocks;
+        circuitBreakerConfig = config.getCircuitBreaker() != null && config.getCircuitBreaker().isEnabled() ? config.getCircuitBreaker() : null;
+        circuitBreakers = new ConcurrentHashMap<>();
+        circuitOpenStrategy = config.getCircuitOpenStrategy();
         defaultHeaders = getDefaultHeaders(config);
+        host = config.getHost();
         http404Strategy = config.getHttp404Strategy();
         http429Strategy = config.getHttp429Strategy();
         http500Strategy = config.getHttp500Strategy();
@@ -513,28 +585,42 @@ public class RiotAPIService extends AbstractDataSource {
         limiterTimeoutStrategy = config.getRateLimiterTimeoutStrategy();
         limitingShare = config.getLimitingShare();
         limitingType = config.getLimitingType();
+        manyParallelism = config.getManyParallelism();
+        priorityReserves = config.getPriorityReserves();
 
         rateLimiters = new ConcurrentHashMap<>();
         rateLimiterLocks = new ConcurrentHashMap<>();
+        observedRateLimits = new ConcurrentHashMap<>();
+        rateLimits = new ConcurrentHashMap<>(config.getRateLimits());
+        sharedRateLimitsFile = config.getSharedRateLimitsFile() == null ? null : new File(config.getSharedRateLimitsFile());
+        // Threads are only started when work arrives, so this costs nothing if RiotAPI swaps in its shared executor
+        requestExecutor = newRequestExecutor(config.getRequestThreads());
     }
 
-    private void adjustRateLimitsIfNecessary(final MultiRateLimiter multiLimiter, final Response response) {
+    private void adjustRateLimitsIfNecessary(final String rateLimiterName, final MultiRateLimiter multiLimiter, final Response response) {
         final Collection<String> applicationLimitHeaders = response.getHeaders().get("X-App-Rate-Limit");
         if(applicationLimitHeaders != null && !applicationLimitHeaders.isEmpty()) {
+            observeRateLimits("application", applicationLimitHeaders.iterator().next());
             final String[] limits = applicationLimitHeaders.iterator().next().split(",");
             final RateLimiter limiter = multiLimiter.limiter("application");
             for(final String limit : limits) {
                 final String[] parts = limit.split(":");
                 final AbstractRateLimiter forRate = getSpecificLimiterForRate(limiter, parts[1]);
+                if(forRate == null) {
+                    // A window the seeded limits didn't have. It's picked up from the observed limits on the next run.
+                    continue;
+                }
                 final int permits = (int)(Double.parseDouble(parts[0]) * limitingShare);
                 if(permits != forRate.getPermits()) {
                     forRate.setPermits(permits);
                 }
             }
+            reconcileRateLimits(limiter, limits, response.getHeaders().get("X-App-Rate-Limit-Count"));
         }
 
         final Collection<String> methodLimitHeaders = response.getHeaders().get("X-Method-Rate-Limit");
         if(methodLimitHeaders != null && !methodLimitHeaders.isEmpty()) {
+            observeRateLimits(rateLimiterName, methodLimitHeaders.iterator().next());
             final String[] limits = methodLimitHeaders.iterator().next().split(",");
             RateLimiter limiter = multiLimiter.limiter("method");
             if(limiter == null) {
@@ -543,11 +629,15 @@ public class RiotAPIService extends AbstractDataSource {
             for(final String limit : limits) {
                 final String[] parts = limit.split(":");
                 final AbstractRateLimiter forRate = getSpecificLimiterForRate(limiter, parts[1]);
+                if(forRate == null) {
+                    continue;
+                }
                 final int permits = (int)(Double.parseDouble(parts[0]) * limitingShare);
                 if(permits != forRate.getPermits()) {
                     forRate.setPermits(permits);
                 }
             }
+            reconcileRateLimits(limiter, limits, response.getHeaders().get("X-Method-Rate-Limit-Count"));
         }
     }
 
@@ -558,7 +648,7 @@ public class RiotAPIService extends AbstractDataSource {
             synchronized(getCreateRateLimiterLock(platform)) {
                 limiter = applicationRateLimiters.get(platform);
                 if(limiter == null) {
-                    limiter = newRateLimiter(epochsInSeconds, limits, windowLowerBound, windowUpperBound);
+                    limiter = newRateLimiter(platform, "application", epochsInSeconds, limits, windowLowerBound, windowUpperBound);
                     applicationRateLimiters.put(platform, limiter);
                 }
             }
@@ -566,7 +656,7 @@ public class RiotAPIService extends AbstractDataSource {
     }
 
     private void createRateLimiter(final Platform platform, final String name, final List<Long> epochsInSeconds, final List<Integer> limits,
-        final long windowLowerBound, final long windowUpperBound) {
+        final long windowLowerBound, final long windowUpperBound, final boolean countRequest) {
         Map<String, MultiRateLimiter> limiters = rateLimiters.get(platform);
         if(limiters == null) {
             synchronized(rateLimiters) {
@@ -583,18 +673,21 @@ public class RiotAPIService extends AbstractDataSource {
             synchronized(getCreateRateLimiterLock(platform, name)) {
                 limiter = limiters.get(name);
                 if(limiter == null) {
-                    limiter = newRateLimiter(epochsInSeconds, limits, windowLowerBound, windowUpperBound);
+                    limiter = newRateLimiter(platform, name, epochsInSeconds, limits, windowLowerBound, windowUpperBound);
                     final RateLimiter application = getRateLimiter(platform);
                     if(application != null) {
                         limiter = new MultiRateLimiter(ImmutableMap.of("application", application, "method", limiter));
                     }
-                    try {
-                        limiter.acquire();
-                    } catch(final InterruptedException e) {
-                        LOGGER.error("Request was interrupted while creating rate limiter!", e);
-                        throw new OriannaException("Request was interrupted while creating rate limiter! Report this to the orianna team.", e);
+                    if(countRequest) {
+                        // Counts the request the limits were discovered from, which was made before there was a limiter to take a permit from
+                        try {
+                            limiter.acquire();
+                        } catch(final InterruptedException e) {
+                            LOGGER.error("Request was interrupted while creating rate limiter!", e);
+                            throw new OriannaException("Request was interrupted while creating rate limiter! Report this to the orianna team.", e);
+                        }
+                        limiter.release();
                     }
-                    limiter.release();
                     limiters.put(name, limiter);
                 }
             }
@@ -604,8 +697,24 @@ public class RiotAPIService extends AbstractDataSource {
     private void createRateLimiter(final Platform platform, final String rateLimiterName, final Response response, final long timeBeforeRequest,
         final long timeAfterRequest) {
         final Collection<String> applicationLimitHeaders = response.getHeaders().get("X-App-Rate-Limit");
-        if(applicationLimitHeaders != null && !applicationLimitHeaders.isEmpty()) {
-            final String[] limits = applicationLimitHeaders.iterator().next().split(",");
+        final String applicationLimits = applicationLimitHeaders == null || applicationLimitHeaders.isEmpty() ? null
+            : applicationLimitHeaders.iterator().next();
+        final Collection<String> methodLimitHeaders = response.getHeaders().get("X-Method-Rate-Limit");
+        final String methodLimits = methodLimitHeaders == null || methodLimitHeaders.isEmpty() ? null : methodLimitHeaders.iterator().next();
+
+        if(applicationLimits != null) {
+            observeRateLimits("application", applicationLimits);
+        }
+        if(methodLimits != null) {
+            observeRateLimits(rateLimiterName, methodLimits);
+        }
+        createRateLimiter(platform, rateLimiterName, applicationLimits, methodLimits, timeBeforeRequest, timeAfterRequest, true);
+    }
+
+    private void createRateLimiter(final Platform platform, final String rateLimiterName, final String applicationLimits, final String methodLimits,
+        final long windowLowerBound, final long windowUpperBound, final boolean countRequest) {
+        if(applicationLimits != null) {
+            final String[] limits = applicationLimits.split(",");
             final List<Long> epochsInSeconds = new ArrayList<>(limits.length);
             final List<Integer> epochLimits = new ArrayList<>(limits.length);
             for(final String limit : limits) {
@@ -613,12 +722,11 @@ public class RiotAPIService extends AbstractDataSource {
                 epochsInSeconds.add(Long.parseLong(parts[1]));
                 epochLimits.add((int)(Double.parseDouble(parts[0]) * limitingShare));
             }
-            createRateLimiter(platform, epochsInSeconds, epochLimits, timeBeforeRequest, timeAfterRequest);
+            createRateLimiter(platform, epochsInSeconds, epochLimits, windowLowerBound, windowUpperBound);
         }
 
-        final Collection<String> methodLimitHeaders = response.getHeaders().get("X-Method-Rate-Limit");
-        if(methodLimitHeaders != null && !methodLimitHeaders.isEmpty()) {
-            final String[] limits = methodLimitHeaders.iterator().next().split(",");
+        if(methodLimits != null) {
+            final String[] limits = methodLimits.split(",");
             final List<Long> epochsInSeconds = new ArrayList<>(limits.length);
             final List<Integer> epochLimits = new ArrayList<>(limits.length);
             for(final String limit : limits) {
@@ -626,7 +734,7 @@ public class RiotAPIService extends AbstractDataSource {
                 epochsInSeconds.add(Long.parseLong(parts[1]));
                 epochLimits.add((int)(Double.parseDouble(parts[0]) * limitingShare));
             }
-            createRateLimiter(platform, rateLimiterName, epochsInSeconds, epochLimits, timeBeforeRequest, timeAfterRequest);
+            createRateLimiter(platform, rateLimiterName, epochsInSeconds, epochLimits, windowLowerBound, windowUpperBound, countRequest);
         }
     }
 
@@ -666,18 +774,102 @@ public class RiotAPIService extends AbstractDataSource {
     }
 
     private <T extends DataObject> T get(final RequestContext<T> context) {
+        final ListenableFuture<T> future = getAsync(context);
+        try {
+            return future.get();
+        } catch(final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            LOGGER.error("Request was interrupted while waiting for a retry!", e);
+            throw new OriannaException("Request was interrupted while waiting for a retry!", e);
+        } catch(final ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            } else if(e.getCause() instanceof Error) {
+                throw (Error)e.getCause();
+            }
+            LOGGER.error("Request failed unexpectedly!", e.getCause());
+            throw new OriannaException("Request failed unexpectedly! Report this to the orianna team.", e.getCause());
+        }
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform, null, null);
+        return getAsync(context);
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform,
+        final Map<String, String> parameters) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform,
+            parameters == null ? null : ImmutableListMultimap.copyOf(parameters.entrySet()), null);
+        return getAsync(context);
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform,
+        final Map<String, String> parameters, final String rateLimiterName) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform,
+            parameters == null ? null : ImmutableListMultimap.copyOf(parameters.entrySet()),
+            rateLimiterName);
+        return getAsync(context);
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform,
+        final Multimap<String, String> parameters) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform, parameters, null);
+        return getAsync(context);
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform,
+        final Multimap<String, String> parameters, final String rateLimiterName) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform, parameters, rateLimiterName);
+        return getAsync(context);
+    }
+
+    protected <T extends DataObject> ListenableFuture<T> getAsync(final Class<T> type, final String endpoint, final Platform platform,
+        final String rateLimiterName) {
+        final RequestContext<T> context = new RequestContext<>(type, endpoint, platform, null, rateLimiterName);
+        return getAsync(context);
+    }
+
+    /**
+     * Makes the request on the calling thread. Failures are handed to the configured {@link FailedRequestStrategy}, so the returned future may not be done
+     * yet if the strategy scheduled a retry.
+     */
+    @SuppressWarnings("try")
+    private <T extends DataObject> ListenableFuture<T> getAsync(final RequestContext<T> context) {
         context.attemptCount += 1;
-        final String host = context.platform.getTag().toLowerCase() + ".api.riotgames.com";
+        final String host = getHost(context.platform);
+        if(context.metrics == null) {
+            context.metrics = Metrics.requests("riotapi." + context.platform.getTag() + "." + (context.rateLimiterName == null ? "application"
+                : context.rateLimiterName));
+        }
+
+        if(context.deadline != null && context.deadline.isExpired()) {
+            return Futures.immediateFailedFuture(new TimeoutException("Deadline passed before the request to " + host + "/" + context.endpoint + " was made!",
+                Type.DEADLINE));
+        }
+
+        final CircuitBreaker breaker = getCircuitBreaker(context.platform, context.rateLimiterName);
+        final CircuitBreaker.Ticket ticket = breaker == null ? null : breaker.allow();
+        if(breaker != null && ticket == null) {
+            LOGGER.info("Circuit breaker is open for " + host + "/" + context.endpoint + "!");
+            return onFailedRequest(circuitOpenStrategy, context, null,
+                new CircuitOpenException("A Riot API request to " + host + "/" + context.endpoint
+                    + " wasn't made because too many recent requests to that method failed. Requests will be let through again once it recovers."));
+        }
 
         Response response = null;
         MultiRateLimiter limiter = getRateLimiter(context.platform, context.rateLimiterName);
-        try {
+        if(limiter == null) {
+            limiter = seedRateLimiter(context.platform, context.rateLimiterName);
+        }
+        try(Deadline.Scope deadlineScope = Deadline.enter(context.deadline); Priority.Scope priorityScope = Priority.enter(context.priority)) {
             if(limiter == null) {
                 synchronized(getCreateRateLimiterLock(context.platform, context.rateLimiterName)) {
                     limiter = getRateLimiter(context.platform, context.rateLimiterName);
                     if(limiter == null) {
                         final long timeBefore = System.currentTimeMillis();
-                        response = client.get(host, context.endpoint, context.parameters, defaultHeaders, null);
+                        response = client.get(host, context.endpoint, context.parameters, defaultHeaders, null, context.metrics);
                         final long timeAfter = System.currentTimeMillis();
                         createRateLimiter(context.platform, context.rateLimiterName, response, timeBefore, timeAfter);
                     }
@@ -685,12 +877,19 @@ public class RiotAPIService extends AbstractDataSource {
             }
 
             if(limiter != null) {
-                response = client.get(host, context.endpoint, context.parameters, defaultHeaders, limiter);
+                response = client.get(host, context.endpoint, context.parameters, defaultHeaders, limiter, context.metrics);
             }
         } catch(final TimeoutException e) {
             LOGGER.info("Get request timed out to " + host + "/" + context.endpoint + "!", e);
-            return Type.RATE_LIMITER == e.getType() ? limiterTimeoutStrategy.onFailedRequest(this, context, null, e)
-                : httpTimeoutStrategy.onFailedRequest(this, context, null, e);
+            if(Type.HTTP == e.getType() && breaker != null) {
+                breaker.failed(ticket);
+            }
+            if(Type.DEADLINE == e.getType()) {
+                // Retrying can't help a request that's already too late
+                return Futures.immediateFailedFuture(e);
+            }
+            return Type.RATE_LIMITER == e.getType() ? onFailedRequest(limiterTimeoutStrategy, context, null, e)
+                : onFailedRequest(httpTimeoutStrategy, context, null, e);
         } catch(final IOException e) {
             LOGGER.error("Get request failed to " + host + "/" + context.endpoint + "!", e);
             throw new OriannaException("Something went wrong with a request to the Riot API at " + host + "/" + context.endpoint
@@ -698,7 +897,15 @@ public class RiotAPIService extends AbstractDataSource {
         }
 
         if(limiter != null) {
-            adjustRateLimitsIfNecessary(limiter, response);
+            adjustRateLimitsIfNecessary(context.rateLimiterName, limiter, response);
+        }
+        if(breaker != null) {
+            // A 429 is about our rate limits, not the method's health
+            if(response.getStatusCode() >= 500) {
+                breaker.failed(ticket);
+            } else if(response.getStatusCode() != 429) {
+                breaker.succeeded(ticket);
+            }
         }
 
         switch(response.getStatusCode()) {
@@ -716,7 +923,7 @@ public class RiotAPIService extends AbstractDataSource {
                     + " returned \"Forbidden\". Check to make sure you're using the right API key, it hasn't expired, and you haven't been blacklisted. If the problem persists with a valid key, report this to the orianna team.");
             case 404:
                 LOGGER.info("Got \"Not Found\" from " + host + "/" + context.endpoint + "!");
-                return http404Strategy.onFailedRequest(this, context, response,
+                return onFailedRequest(http404Strategy, context, response,
                     new NotFoundException("A Riot API request to " + host + "/" + context.endpoint
                         + " returned \"Not Found\". If this was unexpected, check your query parameters to ensure they are correct."));
             case 415:
@@ -725,18 +932,18 @@ public class RiotAPIService extends AbstractDataSource {
                     + " returned \"Unsupported Media Type\". If the problem persists, report this to the orianna team.");
             case 429:
                 LOGGER.info("Got \"Rate Limit Exceeded (" + response.getHeaders().get("X-Rate-Limit-Type") + ")\" from " + host + "/" + context.endpoint + "!");
-                return http429Strategy.onFailedRequest(this, context, response,
+                return onFailedRequest(http429Strategy, context, response,
                     new RateLimitExceededException("A Riot API request to " + host + "/" + context.endpoint
                         + " returned \"Rate Limit Exceeded (" + response.getHeaders().get("X-Rate-Limit-Type")
                         + ")\". If this occurs frequently, report it to the orianna team."));
             case 500:
                 LOGGER.error("Got \"Internal Server Error\" from " + host + "/" + context.endpoint + "!");
-                return http500Strategy.onFailedRequest(this, context, response,
+                return onFailedRequest(http500Strategy, context, response,
                     new InternalServerErrorException("A Riot API request to " + host + "/" + context.endpoint
                         + " returned \"Internal Server Error\". Sometimes the Riot API experiences these when under extreme load. If the problem persists, try catching this exception, waiting briefly, and trying again."));
             case 503:
                 LOGGER.error("Got \"Service Unavailable\" from " + host + "/" + context.endpoint + "!");
-                return http503Strategy.onFailedRequest(this, context, response,
+                return onFailedRequest(http503Strategy, context, response,
                     new ServiceUnavailableException("A Riot API request to " + host + "/" + context.endpoint
                         + " returned \"Service Unavailable\". This Riot API Service is likely to be down for a short period of time, and can't be used in the meantime."));
             default:
@@ -748,7 +955,30 @@ public class RiotAPIService extends AbstractDataSource {
                 break;
         }
 
-        return DataObject.fromJSON(context.type, response.getBody());
+        return Futures.immediateFuture(DataObject.fromJSON(context.type, response.getBody()));
+    }
+
+    private CircuitBreaker getCircuitBreaker(final Platform platform, final String rateLimiterName) {
+        if(circuitBreakerConfig == null) {
+            return null;
+        }
+
+        final String name = platform.getTag() + "." + (rateLimiterName == null ? "application" : rateLimiterName);
+        CircuitBreaker breaker = circuitBreakers.get(name);
+        if(breaker == null) {
+            final CircuitBreaker created = new CircuitBreaker(circuitBreakerConfig);
+            breaker = circuitBreakers.putIfAbsent(name, created);
+            if(breaker == null) {
+                breaker = created;
+                Metrics.gauge("riotapi." + name + ".circuit", new Supplier<Integer>() {
+                    @Override
+                    public Integer get() {
+                        return created.getState().ordinal();
+                    }
+                });
+            }
+        }
+        return breaker;
     }
 
     private Object getCreateRateLimiterLock(final Platform platform) {
@@ -791,6 +1021,34 @@ public class RiotAPIService extends AbstractDataSource {
         return lock;
     }
 
+    private String getHost(final Platform platform) {
+        if(host != null) {
+            return host;
+        }
+        return platform.getTag().toLowerCase() + ".api.riotgames.com";
+    }
+
+    /**
+     * Makes one request per key, up to manyParallelism at a time, and returns the results in key order. The request function should make its request with
+     * getAsync and the given rate limiter name, so the number in flight can follow that rate limiter's headroom.
+     */
+    protected <K, T> CloseableIterator<T> getMany(final Iterator<? extends K> keys, final Platform platform, final String rateLimiterName,
+        final AsyncFunction<? super K, T> request) {
+        return new FanOutIterator<>(keys, request, manyParallelism, requestExecutor, new Supplier<RateLimiter>() {
+            @Override
+            public RateLimiter get() {
+                return getRateLimiter(platform, rateLimiterName);
+            }
+        });
+    }
+
+    /**
+     * @return the raw limits from the latest response for each rate limiter name, in header form
+     */
+    Map<String, String> getObservedRateLimits() {
+        return observedRateLimits;
+    }
+
     private RateLimiter getRateLimiter(final Platform platform) {
         return applicationRateLimiters.get(platform);
     }
@@ -804,14 +1062,22 @@ public class RiotAPIService extends AbstractDataSource {
         return limiters.get(name);
     }
 
-    private MultiRateLimiter newRateLimiter(final List<Long> epochsInSeconds, final List<Integer> limits, final long windowLowerBound,
-        final long windowUpperBound) {
+    private MultiRateLimiter newRateLimiter(final Platform platform, final String name, final List<Long> epochsInSeconds, final List<Integer> limits,
+        final long windowLowerBound, final long windowUpperBound) {
         final Map<String, AbstractRateLimiter> limiters = new HashMap<>();
         for(int i = 0; i < epochsInSeconds.size(); i++) {
             try {
-                final AbstractRateLimiter limiter = limitingType.getLimiterClass().getConstructor(int.class, long.class, TimeUnit.class)
-                    .newInstance(limits.get(i), epochsInSeconds.get(i), TimeUnit.SECONDS);
+                final AbstractRateLimiter limiter;
+                if(sharedRateLimitsFile != null) {
+                    limiter = new SharedWindowRateLimiter(sharedRateLimitsFile, platform.getTag() + "/" + name + "/" + epochsInSeconds.get(i), limits.get(i),
+                        epochsInSeconds.get(i), TimeUnit.SECONDS);
+                } else {
+                    limiter = limitingType.getLimiterClass().getConstructor(int.class, long.class, TimeUnit.class).newInstance(limits.get(i),
+                        epochsInSeconds.get(i), TimeUnit.SECONDS);
+                }
                 final long windowLockoutIn = Math.max(0, TimeUnit.SECONDS.toMillis(epochsInSeconds.get(i)) + windowLowerBound - System.currentTimeMillis());
+                limiter.setReserves(priorityReserves);
+                registerGauges("riotapi." + platform.getTag() + "." + name + ".window." + epochsInSeconds.get(i) + "s", limiter);
                 limiter.restrict(windowLockoutIn, TimeUnit.MILLISECONDS, windowUpperBound - windowLowerBound, TimeUnit.MILLISECONDS);
                 limiters.put(epochsInSeconds.get(i).toString(), limiter);
             } catch(InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
@@ -823,4 +1089,129 @@ public class RiotAPIService extends AbstractDataSource {
         }
         return new MultiRateLimiter(limiters);
     }
+
+    private <T extends DataObject> ListenableFuture<T> onFailedRequest(final FailedRequestStrategy strategy, final RequestContext<T> context,
+        final Response response, final OriannaException e) {
+        final FailedRequestStrategy.Type type = FailedRequestStrategy.Type.forClass(strategy.getClass());
+        context.strategy = type == null ? strategy.getClass().getSimpleName() : type.toString();
+        context.metrics.handled(context.strategy);
+        return strategy.onFailedRequest(this, context, response, e);
+    }
+
+    private void observeRateLimits(final String rateLimiterName, final String limits) {
+        if(rateLimiterName != null && !limits.equals(observedRateLimits.get(rateLimiterName))) {
+            observedRateLimits.put(rateLimiterName, limits);
+        }
+    }
+
+    /**
+     * Brings each window's limiter in line with how many requests the server says it has counted in that window. The server's full limit is used rather
+     * than our share of it, since its count includes every other user of the key.
+     */
+    private void reconcileRateLimits(final RateLimiter limiter, final String[] limits, final Collection<String> countHeaders) {
+        if(countHeaders == null || countHeaders.isEmpty()) {
+            return;
+        }
+
+        final Map<String, Integer> serverPermits = new HashMap<>();
+        for(final String limit : limits) {
+            final String[] parts = limit.split(":");
+            serverPermits.put(parts[1], (int)Double.parseDouble(parts[0]));
+        }
+
+        for(final String count : countHeaders.iterator().next().split(",")) {
+            final String[] parts = count.split(":");
+            final Integer permits = serverPermits.get(parts[1]);
+            final AbstractRateLimiter forRate = getSpecificLimiterForRate(limiter, parts[1]);
+            if(permits != null && forRate != null) {
+                forRate.reconcile(permits, Integer.parseInt(parts[0]));
+            }
+        }
+    }
+
+    private void registerGauges(final String name, final AbstractRateLimiter limiter) {
+        Metrics.gauge(name + ".permits", new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return limiter.getPermits();
+            }
+        });
+        Metrics.gauge(name + ".issued", new Supplier<Integer>() {
+            @Override
+            public Integer get() {
+                return Math.max(0, limiter.getPermits() - limiter.availablePermits());
+            }
+        });
+    }
+
+    /**
+     * Schedules a request to be made again once the delay has passed. No thread is held while the retry is pending, and the retry itself runs on the request
+     * executor rather than the thread that made the original request.
+     */
+    private <T extends DataObject> ListenableFuture<T> retry(final RequestContext<T> context, final long delay, final TimeUnit unit) {
+        if(context.deadline != null && context.deadline.remaining(unit) < delay) {
+            return Futures.immediateFailedFuture(new TimeoutException("Deadline would pass before the request to " + context.endpoint + " could be retried!",
+                Type.DEADLINE));
+        }
+        if(context.metrics != null && context.strategy != null) {
+            context.metrics.retried(context.strategy);
+        }
+
+        final ListenableFutureTask<ListenableFuture<T>> task = ListenableFutureTask.create(new Callable<ListenableFuture<T>>() {
+            @Override
+            public ListenableFuture<T> call() {
+                return getAsync(context);
+            }
+        });
+
+        RETRY_TIMER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                requestExecutor.execute(task);
+            }
+        }, delay, unit);
+
+        return Futures.dereference(task);
+    }
+
+    /**
+     * Creates the rate limiter for a method from known limits, so its first request doesn't have to be made unlimited while every other request for it
+     * waits. Nothing tells us where the server's windows are yet, so they're taken to start now, and the first response's headers correct the permits.
+     *
+     * @return the rate limiter, or null if the limits for the method or the application aren't known
+     */
+    private MultiRateLimiter seedRateLimiter(final Platform platform, final String rateLimiterName) {
+        final String methodLimits = rateLimiterName == null ? null : rateLimits.get(rateLimiterName);
+        final String applicationLimits = getRateLimiter(platform) == null ? rateLimits.get("application") : null;
+        if(methodLimits == null || applicationLimits == null && getRateLimiter(platform) == null) {
+            return null;
+        }
+
+        final long now = System.currentTimeMillis();
+        // No request has been made yet, so there's nothing to count
+        createRateLimiter(platform, rateLimiterName, applicationLimits, methodLimits, now, now, false);
+        return getRateLimiter(platform, rateLimiterName);
+    }
+
+    /**
+     * Adds known limits for any rate limiter that doesn't have them yet, e.g. ones saved by an earlier run.
+     *
+     * @param limits
+     *        the limits, in header form, keyed by rate limiter name
+     */
+    void seedRateLimits(final Map<String, String> limits) {
+        for(final Map.Entry<String, String> entry : limits.entrySet()) {
+            if(!rateLimits.containsKey(entry.getKey())) {
+                rateLimits.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param requestExecutor
+     *        the executor to make retries and getMany requests on, shared with the data source's other services
+     */
+    void setRequestExecutor(final ListeningExecutorService requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
 }
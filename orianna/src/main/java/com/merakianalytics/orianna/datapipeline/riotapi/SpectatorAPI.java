@@ -3,6 +3,10 @@ package com.merakianalytics.orianna.datapipeline.riotapi;
 import java.util.Iterator;
 import java.util.Map;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
@@ -60,30 +64,22 @@ public class SpectatorAPI extends RiotAPIService {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
         Utilities.checkNotNull(platform, "platform", summonerIds, "summonerIds");
 
-        final Iterator<Number> iterator = summonerIds.iterator();
-        return CloseableIterators.from(new Iterator<CurrentGameInfo>() {
+        return getMany(summonerIds.iterator(), platform, "lol/spectator/v3/active-games/by-summoner/summonerId", new AsyncFunction<Number, CurrentGameInfo>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public CurrentGameInfo next() {
-                final Number summonerId = iterator.next();
-
+            public ListenableFuture<CurrentGameInfo> apply(final Number summonerId) {
                 final String endpoint = "lol/spectator/v3/active-games/by-summoner/" + summonerId;
-                final CurrentGameInfo data = get(CurrentGameInfo.class, endpoint, platform, "lol/spectator/v3/active-games/by-summoner/summonerId");
-                if(data == null) {
-                    return null;
-                }
-
-                data.setSummonerId(summonerId.longValue());
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                return Futures.transform(getAsync(CurrentGameInfo.class, endpoint, platform, "lol/spectator/v3/active-games/by-summoner/summonerId"),
+                    new Function<CurrentGameInfo, CurrentGameInfo>() {
+                        @Override
+                        public CurrentGameInfo apply(final CurrentGameInfo data) {
+                            if(data == null) {
+                                return null;
+                            }
+
+                            data.setSummonerId(summonerId.longValue());
+                            return data;
+                        }
+                    });
             }
         });
     }
@@ -3,9 +3,12 @@ package com.merakianalytics.orianna.datapipeline.riotapi;
 import java.util.Iterator;
 import java.util.Map;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.PipelineContext;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
-import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.datapipelines.sources.Get;
 import com.merakianalytics.datapipelines.sources.GetMany;
 import com.merakianalytics.orianna.datapipeline.common.HTTPClient;
@@ -50,29 +53,21 @@ public class SummonerAPI extends RiotAPIService {
             return null;
         }
 
-        return CloseableIterators.from(new Iterator<Summoner>() {
+        return getMany(iterator, platform, limiter, new AsyncFunction<Object, Summoner>() {
             @Override
-            public boolean hasNext() {
-                return iterator.hasNext();
-            }
-
-            @Override
-            public Summoner next() {
-                final Object identifier = iterator.next();
-
+            public ListenableFuture<Summoner> apply(final Object identifier) {
                 final String endpoint = baseEndpoint + identifier;
-                final Summoner data = get(Summoner.class, endpoint, platform, limiter);
-                if(data == null) {
-                    return null;
-                }
+                return Futures.transform(getAsync(Summoner.class, endpoint, platform, limiter), new Function<Summoner, Summoner>() {
+                    @Override
+                    public Summoner apply(final Summoner data) {
+                        if(data == null) {
+                            return null;
+                        }
 
-                data.setPlatform(platform.getTag());
-                return data;
-            }
-
-            @Override
-            public void remove() {
-                throw new UnsupportedOperationException();
+                        data.setPlatform(platform.getTag());
+                        return data;
+                    }
+                });
             }
         });
     }
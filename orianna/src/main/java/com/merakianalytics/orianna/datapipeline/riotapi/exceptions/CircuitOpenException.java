@@ -0,0 +1,9 @@
+package com.merakianalytics.orianna.datapipeline.riotapi.exceptions;
+
+public class CircuitOpenException extends ServiceUnavailableException {
+    private static final long serialVersionUID = -2873415092241605873L;
+
+    public CircuitOpenException(final String message) {
+        super(message);
+    }
+}
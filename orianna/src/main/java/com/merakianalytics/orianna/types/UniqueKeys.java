@@ -1,9 +1,16 @@
 package com.merakianalytics.orianna.types;
 
-import java.util.Arrays;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Queue;
@@ -59,792 +66,694 @@ import com.merakianalytics.orianna.types.dto.staticdata.ReforgedRuneTree;
 import com.merakianalytics.orianna.types.dto.staticdata.RuneList;
 import com.merakianalytics.orianna.types.dto.staticdata.SummonerSpellList;
 
+/**
+ * Computes the keys objects are cached under. A key is a 128-bit hash of the object's type and the fields that identify it, and the same key is computed from
+ * the object itself and from any query that would return it.
+ *
+ * The only allocation when computing a key from a query is the key itself. Type hashes are computed once per class. Included data sets are hashed once per
+ * distinct set, and field values are folded in directly instead of being collected into an array. Values that are equal hash equally whatever their boxed
+ * type, so an int ID and a long ID with the same value give the same key. Null, zero, the empty string, and empty collections all hash like null.
+ */
 public abstract class UniqueKeys {
+    /**
+     * Two independent 64-bit hashes of the same fields. Hash tables only index on the low half, and equality checks both, so two different queries only share
+     * a cache entry if they agree on all 128 bits. With tens of millions of entries the chance of that happening anywhere is still around 10^-24.
+     */
+    public static final class Key implements Serializable {
+        private static final long serialVersionUID = -2402470370462787357L;
+        private long high;
+        private long low;
+
+        private Key(final Class<?> type) {
+            final long[] hashes = typeHash(type);
+            low = hashes[0];
+            high = hashes[1];
+        }
+
+        private Key(final long low, final long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        private Key add(final Object value) {
+            if(value == null) {
+                fold(0L, 0L);
+            } else if(value instanceof String) {
+                addString((String)value);
+            } else if(value instanceof Long || value instanceof Integer) {
+                final long number = ((Number)value).longValue();
+                fold(mixLow(number), mixHigh(number));
+            } else if(value instanceof CharSequence) {
+                addString((CharSequence)value);
+            } else if(value instanceof Double || value instanceof Float) {
+                final long number = Double.doubleToLongBits(((Number)value).doubleValue());
+                fold(mixLow(number), mixHigh(number));
+            } else if(value instanceof Number) {
+                final long number = ((Number)value).longValue();
+                fold(mixLow(number), mixHigh(number));
+            } else if(value instanceof Boolean) {
+                fold((Boolean)value ? LOW_PRIME : ~LOW_PRIME, (Boolean)value ? HIGH_PRIME : ~HIGH_PRIME);
+            } else if(value instanceof Enum) {
+                addString(((Enum<?>)value).name());
+            } else if(value instanceof Set) {
+                if(((Set<?>)value).isEmpty()) {
+                    fold(0L, 0L);
+                } else {
+                    final long[] hashes = setHash((Set<?>)value);
+                    fold(hashes[0], hashes[1]);
+                }
+            } else if(value instanceof Iterable) {
+                final Key elements = new Key(0L, 0L);
+                for(final Object element : (Iterable<?>)value) {
+                    elements.add(element);
+                }
+                fold(elements.low, elements.high);
+            } else {
+                final int hash = value.hashCode();
+                fold(mixLow(hash), mixHigh(hash));
+            }
+            return this;
+        }
+
+        private void addString(final CharSequence string) {
+            final int length = string.length();
+            long lowHash = 0L;
+            long highHash = 0L;
+            for(int i = 0; i < length; i++) {
+                final char c = string.charAt(i);
+                lowHash = (lowHash + c) * LOW_PRIME;
+                highHash = (highHash ^ c) * HIGH_PRIME;
+            }
+            fold(mixLow(lowHash), mixHigh(highHash));
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key)obj;
+            return low == other.low && high == other.high;
+        }
+
+        private Key finish() {
+            low = mixLow(low);
+            high = mixHigh(high);
+            return this;
+        }
+
+        private void fold(final long lowValue, final long highValue) {
+            low = (Long.rotateLeft(low, 27) ^ lowValue) * LOW_PRIME;
+            high = (Long.rotateLeft(high, 31) ^ highValue) * HIGH_PRIME;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int)(low ^ low >>> 32);
+        }
+
+        /**
+         * @param in
+         *        the input to read from
+         * @return a key written by {@link #write(DataOutput)}
+         * @throws IOException
+         *         if reading fails
+         */
+        public static Key read(final DataInput in) throws IOException {
+            final long high = in.readLong();
+            final long low = in.readLong();
+            return new Key(low, high);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%016x%016x", high, low);
+        }
+
+        /**
+         * @param out
+         *        the output to write the key's 16 bytes to
+         * @throws IOException
+         *         if writing fails
+         */
+        public void write(final DataOutput out) throws IOException {
+            out.writeLong(high);
+            out.writeLong(low);
+        }
+    }
+
+    private static final long HIGH_PRIME = 0xC2B2AE3D27D4EB4FL;
+    private static final long LOW_PRIME = 0x9E3779B97F4A7C15L;
+    private static final int MAX_CACHED_SETS = 1024;
+    // Weak keys are compared by identity, so a lookup never calls the set's hashCode or equals
+    private static final Cache<Set<?>, long[]> SET_HASHES = CacheBuilder.newBuilder().weakKeys().maximumSize(MAX_CACHED_SETS).build();
+    private static final ConcurrentMap<Class<?>, long[]> TYPE_HASHES = new ConcurrentHashMap<>();
     private static final Set<Tier> UNIQUE_TIERS = ImmutableSet.of(Tier.CHALLENGER, Tier.MASTER);
 
-    public static int[] forChampion(final Champion champion) {
+    public static Key[] forChampion(final Champion champion) {
         final com.merakianalytics.orianna.types.data.staticdata.Champion data = champion.getCoreData().getChampion();
         if(data.getId() != 0 && data.getName() != null && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()),
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData())
             };
         } else if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getId() != 0 && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData())
             };
         } else if(data.getName() != null && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()),
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Champion.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey(), data.getIncludedData())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Champion without ID, name, or key!");
         }
     }
 
-    public static int[] forChampionData(final com.merakianalytics.orianna.types.data.staticdata.Champion champion) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getId(), champion.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getName(), champion.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getKey(), champion.getIncludedData()
-            })
+    public static Key[] forChampionData(final com.merakianalytics.orianna.types.data.staticdata.Champion champion) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getId(), champion.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getName(), champion.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getKey(), champion.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forChampionDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue(), (Set<String>)query.get("includedData")
-        });
-    }
-
-    public static int[] forChampionDto(final com.merakianalytics.orianna.types.dto.staticdata.Champion champion) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getId(), champion.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getName(), champion.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getVersion(),
-                champion.getLocale(), champion.getKey(), champion.getIncludedData()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Champion.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name == null ? key : name : id, (Set<String>)query.get("includedData"));
+    }
+
+    public static Key[] forChampionDto(final com.merakianalytics.orianna.types.dto.staticdata.Champion champion) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getId(), champion.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getName(), champion.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Champion.class, champion.getPlatform(), champion.getVersion(), champion.getLocale(),
+                champion.getKey(), champion.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forChampionDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Champion.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name == null ? key : name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forChampionListDto(final ChampionList champions) {
-        return Arrays.hashCode(new Object[] {
-            ChampionList.class.getCanonicalName(), champions.getPlatform(), champions.getVersion(), champions.getLocale(), champions.getIncludedData(),
-            champions.isDataById()
-        });
+    public static Key forChampionListDto(final ChampionList champions) {
+        return hash(ChampionList.class, champions.getPlatform(), champions.getVersion(), champions.getLocale(), champions.getIncludedData(),
+            champions.isDataById());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionListDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ChampionList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData"), (Boolean)query.get("dataById")
-        });
+    public static Key forChampionListDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(ChampionList.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"), (Boolean)query.get("dataById"));
     }
 
-    public static int forChampionMasteries(final ChampionMasteries masteries) {
+    public static Key forChampionMasteries(final ChampionMasteries masteries) {
         final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries data = masteries.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ChampionMasteries.class.getCanonicalName(), data.getPlatform(), data.getSummonerId()
-        });
+        return hash(ChampionMasteries.class, data.getPlatform(), data.getSummonerId());
     }
 
-    public static int forChampionMasteriesData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries masteries) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class.getCanonicalName(), masteries.getPlatform(),
-            masteries.getSummonerId()
-        });
+    public static Key forChampionMasteriesData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries masteries) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class, masteries.getPlatform(), masteries.getSummonerId());
     }
 
-    public static int forChampionMasteriesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteriesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forChampionMasteriesDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries masteries) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class.getCanonicalName(), masteries.getPlatform(), masteries.getSummonerId()
-        });
+    public static Key forChampionMasteriesDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries masteries) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class, masteries.getPlatform(), masteries.getSummonerId());
     }
 
-    public static int forChampionMasteriesDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteriesDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forChampionMasteriesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ChampionMasteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteriesQuery(final java.util.Map<String, Object> query) {
+        return hash(ChampionMasteries.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forChampionMastery(final ChampionMastery mastery) {
+    public static Key forChampionMastery(final ChampionMastery mastery) {
         final com.merakianalytics.orianna.types.data.championmastery.ChampionMastery data = mastery.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ChampionMastery.class.getCanonicalName(), data.getPlatform(), data.getSummonerId(), data.getChampionId()
-        });
+        return hash(ChampionMastery.class, data.getPlatform(), data.getSummonerId(), data.getChampionId());
     }
 
-    public static int forChampionMasteryData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMastery mastery) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getSummonerId(),
-            mastery.getChampionId()
-        });
+    public static Key forChampionMasteryData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMastery mastery) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class, mastery.getPlatform(), mastery.getSummonerId(),
+            mastery.getChampionId());
     }
 
-    public static int forChampionMasteryDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue(),
-            ((Number)query.get("championId")).longValue()
-        });
+    public static Key forChampionMasteryDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"), (Number)query.get("championId"));
     }
 
-    public static int forChampionMasteryDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery mastery) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getPlayerId(),
-            mastery.getChampionId()
-        });
+    public static Key forChampionMasteryDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery mastery) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class, mastery.getPlatform(), mastery.getPlayerId(),
+            mastery.getChampionId());
     }
 
-    public static int forChampionMasteryDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue(),
-            ((Number)query.get("championId")).longValue()
-        });
+    public static Key forChampionMasteryDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"), (Number)query.get("championId"));
     }
 
-    public static int forChampionMasteryQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue(),
-            ((Number)query.get("championId")).intValue()
-        });
+    public static Key forChampionMasteryQuery(final java.util.Map<String, Object> query) {
+        return hash(ChampionMastery.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"), (Number)query.get("championId"));
     }
 
-    public static int forChampionMasteryScore(final ChampionMasteryScore score) {
+    public static Key forChampionMasteryScore(final ChampionMasteryScore score) {
         final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore data = score.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ChampionMasteryScore.class.getCanonicalName(), data.getPlatform(), data.getSummonerId()
-        });
+        return hash(ChampionMasteryScore.class, data.getPlatform(), data.getSummonerId());
     }
 
-    public static int forChampionMasteryScoreData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore score) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class.getCanonicalName(), score.getPlatform(), score.getSummonerId()
-        });
+    public static Key forChampionMasteryScoreData(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore score) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class, score.getPlatform(), score.getSummonerId());
     }
 
-    public static int forChampionMasteryScoreDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteryScoreDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forChampionMasteryScoreDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore score) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class.getCanonicalName(), score.getPlatform(), score.getSummonerId()
-        });
+    public static Key forChampionMasteryScoreDto(final com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore score) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class, score.getPlatform(), score.getSummonerId());
     }
 
-    public static int forChampionMasteryScoreDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteryScoreDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forChampionMasteryScoreQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ChampionMasteryScore.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forChampionMasteryScoreQuery(final java.util.Map<String, Object> query) {
+        return hash(ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionQuery(final java.util.Map<String, Object> query) {
+    public static Key forChampionQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(Champion.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            id == null ? name == null ? key : name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forChampions(final Champions champions) {
+    public static Key forChampions(final Champions champions) {
         final com.merakianalytics.orianna.types.data.staticdata.Champions data = champions.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Champions.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData()
-        });
+        return hash(Champions.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData());
     }
 
-    public static int forChampionsData(final com.merakianalytics.orianna.types.data.staticdata.Champions champions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Champions.class.getCanonicalName(), champions.getPlatform(), champions.getVersion(),
-            champions.getLocale(), champions.getIncludedData()
-        });
+    public static Key forChampionsData(final com.merakianalytics.orianna.types.data.staticdata.Champions champions) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Champions.class, champions.getPlatform(), champions.getVersion(), champions.getLocale(),
+            champions.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Champions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forChampionsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Champions.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forChampionsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Champions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forChampionsQuery(final java.util.Map<String, Object> query) {
+        return hash(Champions.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forChampionStatusData(final com.merakianalytics.orianna.types.data.champion.ChampionStatus champion) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.champion.ChampionStatus.class.getCanonicalName(), champion.getPlatform(), champion.getId()
-        });
+    public static Key forChampionStatusData(final com.merakianalytics.orianna.types.data.champion.ChampionStatus champion) {
+        return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatus.class, champion.getPlatform(), champion.getId());
     }
 
-    public static int forChampionStatusDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.champion.ChampionStatus.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("id")).intValue()
-        });
+    public static Key forChampionStatusDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatus.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("id"));
     }
 
-    public static int forChampionStatusDto(final com.merakianalytics.orianna.types.dto.champion.Champion champion) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.champion.Champion.class.getCanonicalName(), champion.getPlatform(), champion.getId()
-        });
+    public static Key forChampionStatusDto(final com.merakianalytics.orianna.types.dto.champion.Champion champion) {
+        return hash(com.merakianalytics.orianna.types.dto.champion.Champion.class, champion.getPlatform(), champion.getId());
     }
 
-    public static int forChampionStatusDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.champion.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("id")).longValue()
-        });
+    public static Key forChampionStatusDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.champion.Champion.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("id"));
     }
 
-    public static int forChampionStatusesData(final com.merakianalytics.orianna.types.data.champion.ChampionStatuses champions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class.getCanonicalName(), champions.getPlatform(), champions.isFreeToPlay()
-        });
+    public static Key forChampionStatusesData(final com.merakianalytics.orianna.types.data.champion.ChampionStatuses champions) {
+        return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class, champions.getPlatform(), champions.isFreeToPlay());
     }
 
-    public static int forChampionStatusesDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forChampionStatusesDataQuery(final java.util.Map<String, Object> query) {
         final Boolean freeToPlay = query.get("freeToPlay") == null ? Boolean.FALSE : (Boolean)query.get("freeToPlay");
 
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            freeToPlay.booleanValue()
-        });
+        return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class, ((Platform)query.get("platform")).getTag(),
+            freeToPlay);
     }
 
-    public static int forChampionStatusListDto(final com.merakianalytics.orianna.types.dto.champion.ChampionList champions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.champion.ChampionList.class.getCanonicalName(), champions.getPlatform(), champions.isFreeToPlay()
-        });
+    public static Key forChampionStatusListDto(final com.merakianalytics.orianna.types.dto.champion.ChampionList champions) {
+        return hash(com.merakianalytics.orianna.types.dto.champion.ChampionList.class, champions.getPlatform(), champions.isFreeToPlay());
     }
 
-    public static int forChampionStatusListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forChampionStatusListDtoQuery(final java.util.Map<String, Object> query) {
         final Boolean freeToPlay = query.get("freeToPlay") == null ? Boolean.FALSE : (Boolean)query.get("freeToPlay");
 
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.champion.ChampionList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            freeToPlay.booleanValue()
-        });
+        return hash(com.merakianalytics.orianna.types.dto.champion.ChampionList.class, ((Platform)query.get("platform")).getTag(), freeToPlay);
     }
 
-    public static int forCurrentGameInfoDto(final CurrentGameInfo game) {
-        return Arrays.hashCode(new Object[] {
-            CurrentGameInfo.class.getCanonicalName(), game.getPlatformId(), game.getSummonerId()
-        });
+    public static Key forCurrentGameInfoDto(final CurrentGameInfo game) {
+        return hash(CurrentGameInfo.class, game.getPlatformId(), game.getSummonerId());
     }
 
-    public static int forCurrentGameInfoDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            CurrentGameInfo.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forCurrentGameInfoDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(CurrentGameInfo.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forCurrentMatch(final CurrentMatch game) {
+    public static Key forCurrentMatch(final CurrentMatch game) {
         final com.merakianalytics.orianna.types.data.spectator.CurrentMatch data = game.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            CurrentMatch.class.getCanonicalName(), data.getPlatform(), data.getSummonerId()
-        });
+        return hash(CurrentMatch.class, data.getPlatform(), data.getSummonerId());
     }
 
-    public static int forCurrentMatchData(final com.merakianalytics.orianna.types.data.spectator.CurrentMatch game) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class.getCanonicalName(), game.getPlatform(), game.getSummonerId()
-        });
+    public static Key forCurrentMatchData(final com.merakianalytics.orianna.types.data.spectator.CurrentMatch game) {
+        return hash(com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class, game.getPlatform(), game.getSummonerId());
     }
 
-    public static int forCurrentMatchDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forCurrentMatchDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forCurrentMatchQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            CurrentMatch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forCurrentMatchQuery(final java.util.Map<String, Object> query) {
+        return hash(CurrentMatch.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forFeaturedGamesDto(final FeaturedGames games) {
-        return Arrays.hashCode(new Object[] {
-            FeaturedGames.class.getCanonicalName(), games.getPlatform()
-        });
+    public static Key forFeaturedGamesDto(final FeaturedGames games) {
+        return hash(FeaturedGames.class, games.getPlatform());
     }
 
-    public static int forFeaturedGamesDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            FeaturedGames.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forFeaturedGamesDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(FeaturedGames.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forFeaturedMatches(final FeaturedMatches games) {
+    public static Key forFeaturedMatches(final FeaturedMatches games) {
         final com.merakianalytics.orianna.types.data.spectator.FeaturedMatches data = games.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            FeaturedMatches.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(FeaturedMatches.class, data.getPlatform());
     }
 
-    public static int forFeaturedMatchesData(final com.merakianalytics.orianna.types.data.spectator.FeaturedMatches games) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class.getCanonicalName(), games.getPlatform()
-        });
+    public static Key forFeaturedMatchesData(final com.merakianalytics.orianna.types.data.spectator.FeaturedMatches games) {
+        return hash(com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class, games.getPlatform());
     }
 
-    public static int forFeaturedMatchesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forFeaturedMatchesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forFeaturedMatchesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            FeaturedMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forFeaturedMatchesQuery(final java.util.Map<String, Object> query) {
+        return hash(FeaturedMatches.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int[] forItem(final Item item) {
+    public static Key[] forItem(final Item item) {
         final com.merakianalytics.orianna.types.data.staticdata.Item data = item.getCoreData();
         if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Item.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Item.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Item.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Item.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Item.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Item.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Item.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Item.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Item without ID or name!");
         }
     }
 
-    public static int[] forItemData(final com.merakianalytics.orianna.types.data.staticdata.Item item) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Item.class.getCanonicalName(), item.getPlatform(), item.getVersion(), item.getLocale(),
-                item.getId(), item.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Item.class.getCanonicalName(), item.getPlatform(), item.getVersion(), item.getLocale(),
-                item.getName(), item.getIncludedData()
-            })
+    public static Key[] forItemData(final com.merakianalytics.orianna.types.data.staticdata.Item item) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.Item.class, item.getPlatform(), item.getVersion(), item.getLocale(), item.getId(),
+                item.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Item.class, item.getPlatform(), item.getVersion(), item.getLocale(), item.getName(),
+                item.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forItemDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
-    }
-
-    public static int[] forItemDto(final com.merakianalytics.orianna.types.dto.staticdata.Item item) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Item.class.getCanonicalName(), item.getPlatform(), item.getVersion(), item.getLocale(),
-                item.getId(), item.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Item.class.getCanonicalName(), item.getPlatform(), item.getVersion(), item.getLocale(),
-                item.getName(), item.getIncludedData()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Item.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
+    }
+
+    public static Key[] forItemDto(final com.merakianalytics.orianna.types.dto.staticdata.Item item) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Item.class, item.getPlatform(), item.getVersion(), item.getLocale(), item.getId(),
+                item.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Item.class, item.getPlatform(), item.getVersion(), item.getLocale(), item.getName(),
+                item.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forItemDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Item.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forItemListDto(final ItemList items) {
-        return Arrays.hashCode(new Object[] {
-            ItemList.class.getCanonicalName(), items.getPlatform(), items.getVersion(), items.getLocale(), items.getIncludedData()
-        });
+    public static Key forItemListDto(final ItemList items) {
+        return hash(ItemList.class, items.getPlatform(), items.getVersion(), items.getLocale(), items.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemListDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ItemList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forItemListDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(ItemList.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemQuery(final java.util.Map<String, Object> query) {
+    public static Key forItemQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(Item.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"), id == null ? name : id,
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forItems(final Items items) {
+    public static Key forItems(final Items items) {
         final com.merakianalytics.orianna.types.data.staticdata.Items data = items.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Items.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData()
-        });
+        return hash(Items.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData());
     }
 
-    public static int forItemsData(final com.merakianalytics.orianna.types.data.staticdata.Items items) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Items.class.getCanonicalName(), items.getPlatform(), items.getVersion(), items.getLocale(),
-            items.getIncludedData()
-        });
+    public static Key forItemsData(final com.merakianalytics.orianna.types.data.staticdata.Items items) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Items.class, items.getPlatform(), items.getVersion(), items.getLocale(),
+            items.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Items.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forItemsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Items.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forItemsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Items.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forItemsQuery(final java.util.Map<String, Object> query) {
+        return hash(Items.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forLanguages(final Languages languages) {
+    public static Key forLanguages(final Languages languages) {
         final com.merakianalytics.orianna.types.data.staticdata.Languages data = languages.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Languages.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(Languages.class, data.getPlatform());
     }
 
-    public static int forLanguagesData(final com.merakianalytics.orianna.types.data.staticdata.Languages languages) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Languages.class.getCanonicalName(), languages.getPlatform()
-        });
+    public static Key forLanguagesData(final com.merakianalytics.orianna.types.data.staticdata.Languages languages) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Languages.class, languages.getPlatform());
     }
 
-    public static int forLanguagesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Languages.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forLanguagesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Languages.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forLanguagesDto(final com.merakianalytics.orianna.types.dto.staticdata.Languages languages) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Languages.class.getCanonicalName(), languages.getPlatform()
-        });
+    public static Key forLanguagesDto(final com.merakianalytics.orianna.types.dto.staticdata.Languages languages) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Languages.class, languages.getPlatform());
     }
 
-    public static int forLanguagesDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Languages.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forLanguagesDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Languages.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forLanguagesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Languages.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forLanguagesQuery(final java.util.Map<String, Object> query) {
+        return hash(Languages.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forLanguageStrings(final LanguageStrings languageStrings) {
+    public static Key forLanguageStrings(final LanguageStrings languageStrings) {
         final com.merakianalytics.orianna.types.data.staticdata.LanguageStrings data = languageStrings.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            LanguageStrings.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale()
-        });
+        return hash(LanguageStrings.class, data.getPlatform(), data.getVersion(), data.getLocale());
     }
 
-    public static int forLanguageStringsData(final com.merakianalytics.orianna.types.data.staticdata.LanguageStrings languageStrings) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class.getCanonicalName(), languageStrings.getPlatform(),
-            languageStrings.getVersion(), languageStrings.getLocale()
-        });
+    public static Key forLanguageStringsData(final com.merakianalytics.orianna.types.data.staticdata.LanguageStrings languageStrings) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class, languageStrings.getPlatform(), languageStrings.getVersion(),
+            languageStrings.getLocale());
     }
 
-    public static int forLanguageStringsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forLanguageStringsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forLanguageStringsDto(final com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings languageStrings) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class.getCanonicalName(), languageStrings.getPlatform(),
-            languageStrings.getVersion(), languageStrings.getLocale()
-        });
+    public static Key forLanguageStringsDto(final com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings languageStrings) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class, languageStrings.getPlatform(), languageStrings.getVersion(),
+            languageStrings.getLocale());
     }
 
-    public static int forLanguageStringsDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forLanguageStringsDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forLanguageStringsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            LanguageStrings.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forLanguageStringsQuery(final java.util.Map<String, Object> query) {
+        return hash(LanguageStrings.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int[] forLeague(final League league) {
+    public static Key[] forLeague(final League league) {
         final com.merakianalytics.orianna.types.data.league.League data = league.getCoreData();
         if(data.getTier() != null && data.getQueue() != null && UNIQUE_TIERS.contains(league.getTier()) && Queue.RANKED.contains(league.getQueue())) {
             if(data.getId() != null) {
-                return new int[] {
-                    Arrays.hashCode(new Object[] {
-                        League.class.getCanonicalName(), data.getPlatform(), data.getId()
-                    }),
-                    Arrays.hashCode(new Object[] {
-                        League.class.getCanonicalName(), data.getPlatform(), data.getTier(), data.getQueue()
-                    })
+                return new Key[] {
+                    hash(League.class, data.getPlatform(), data.getId()),
+                    hash(League.class, data.getPlatform(), data.getTier(), data.getQueue())
                 };
             } else {
-                return new int[] {
-                    Arrays.hashCode(new Object[] {
-                        League.class.getCanonicalName(), data.getPlatform(), data.getTier(), data.getQueue()
-                    })
+                return new Key[] {
+                    hash(League.class, data.getPlatform(), data.getTier(), data.getQueue())
                 };
             }
         } else if(data.getId() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    League.class.getCanonicalName(), data.getPlatform(), data.getId()
-                })
+            return new Key[] {
+                hash(League.class, data.getPlatform(), data.getId())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for League without ID or queue and tier!");
         }
     }
 
-    public static int[] forLeagueData(final com.merakianalytics.orianna.types.data.league.League league) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), league.getPlatform(), league.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), league.getPlatform(), league.getTier(), league.getQueue()
-            })
+    public static Key[] forLeagueData(final com.merakianalytics.orianna.types.data.league.League league) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.league.League.class, league.getPlatform(), league.getId()),
+            hash(com.merakianalytics.orianna.types.data.league.League.class, league.getPlatform(), league.getTier(), league.getQueue())
         };
     }
 
-    public static int forLeagueDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forLeagueDataQuery(final java.util.Map<String, Object> query) {
         final String id = (String)query.get("leagueId");
         if(id != null) {
-            return Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), id
-            });
+            return hash(com.merakianalytics.orianna.types.data.league.League.class, ((Platform)query.get("platform")).getTag(), id);
         } else {
-            return Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                ((Tier)query.get("tier")).name(),
-                ((Queue)query.get("queue")).name()
-            });
+            return hash(com.merakianalytics.orianna.types.data.league.League.class, ((Platform)query.get("platform")).getTag(),
+                ((Tier)query.get("tier")).name(), ((Queue)query.get("queue")).name());
         }
     }
 
-    public static int[] forLeagueListDto(final LeagueList league) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                LeagueList.class.getCanonicalName(), league.getPlatform(), league.getLeagueId()
-            }),
-            Arrays.hashCode(new Object[] {
-                LeagueList.class.getCanonicalName(), league.getPlatform(), league.getTier(), league.getQueue()
-            })
+    public static Key[] forLeagueListDto(final LeagueList league) {
+        return new Key[] {
+            hash(LeagueList.class, league.getPlatform(), league.getLeagueId()),
+            hash(LeagueList.class, league.getPlatform(), league.getTier(), league.getQueue())
         };
     }
 
-    public static int forLeagueListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forLeagueListDtoQuery(final java.util.Map<String, Object> query) {
         final String id = (String)query.get("leagueId");
         if(id != null) {
-            return Arrays.hashCode(new Object[] {
-                LeagueList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), id
-            });
+            return hash(LeagueList.class, ((Platform)query.get("platform")).getTag(), id);
         } else {
-            return Arrays.hashCode(new Object[] {
-                LeagueList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(),
-                ((Queue)query.get("queue")).name()
-            });
+            return hash(LeagueList.class, ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(), ((Queue)query.get("queue")).name());
         }
     }
 
-    public static int forLeaguePositions(final LeaguePositions positions) {
+    public static Key forLeaguePositions(final LeaguePositions positions) {
         final com.merakianalytics.orianna.types.data.league.LeaguePositions data = positions.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            LeaguePositions.class.getCanonicalName(), data.getPlatform(), data.getSummonerId()
-        });
+        return hash(LeaguePositions.class, data.getPlatform(), data.getSummonerId());
     }
 
-    public static int forLeaguePositionsData(final com.merakianalytics.orianna.types.data.league.LeaguePositions positions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.league.LeaguePositions.class.getCanonicalName(), positions.getPlatform(), positions.getSummonerId()
-        });
+    public static Key forLeaguePositionsData(final com.merakianalytics.orianna.types.data.league.LeaguePositions positions) {
+        return hash(com.merakianalytics.orianna.types.data.league.LeaguePositions.class, positions.getPlatform(), positions.getSummonerId());
     }
 
-    public static int forLeaguePositionsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.league.LeaguePositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forLeaguePositionsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.league.LeaguePositions.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forLeaguePositionsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            LeaguePositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forLeaguePositionsQuery(final java.util.Map<String, Object> query) {
+        return hash(LeaguePositions.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forLeagueQuery(final java.util.Map<String, Object> query) {
+    public static Key forLeagueQuery(final java.util.Map<String, Object> query) {
         final String id = (String)query.get("leagueId");
         if(id != null) {
-            return Arrays.hashCode(new Object[] {
-                League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), id
-            });
+            return hash(League.class, ((Platform)query.get("platform")).getTag(), id);
         } else {
-            return Arrays.hashCode(new Object[] {
-                League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(),
-                ((Queue)query.get("queue")).name()
-            });
+            return hash(League.class, ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(), ((Queue)query.get("queue")).name());
         }
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names != null ? names.iterator() : keys.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Champion.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -855,25 +764,23 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names != null ? names.iterator() : keys.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Champion.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -884,22 +791,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ChampionList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData"), (Boolean)query.get("dataById")
-                });
+            public Key next() {
+                return hash(ChampionList.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
+                    (Set<String>)query.get("includedData"), (Boolean)query.get("dataById"));
             }
 
             @Override
@@ -910,22 +815,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteriesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteriesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -936,22 +839,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteriesDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteriesDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteries.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -962,21 +863,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteriesQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteriesQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = summonerIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ChampionMasteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(ChampionMasteries.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -987,22 +886,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("championIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    ((Number)query.get("summonerId")).longValue(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMastery.class, ((Platform)query.get("platform")).getTag(),
+                    (Number)query.get("summonerId"), iterator.next());
             }
 
             @Override
@@ -1013,22 +910,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("championIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    ((Number)query.get("summonerId")).longValue(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMastery.class, ((Platform)query.get("platform")).getTag(),
+                    (Number)query.get("summonerId"), iterator.next());
             }
 
             @Override
@@ -1039,22 +934,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> championIds = (Iterable<Number>)query.get("championIds");
 
         final Iterator<Number> iterator = championIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ChampionMastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue(),
-                    iterator.next().intValue()
-                });
+            public Key next() {
+                return hash(ChampionMastery.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"), iterator.next());
             }
 
             @Override
@@ -1065,22 +957,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryScoreDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryScoreDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -1091,22 +981,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryScoreDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryScoreDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.championmastery.ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -1117,21 +1005,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionMasteryScoreQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionMasteryScoreQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = summonerIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ChampionMasteryScore.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(ChampionMasteryScore.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1142,7 +1028,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
@@ -1158,18 +1044,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(Champion.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next(), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1180,23 +1064,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Champions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Champions.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1207,22 +1088,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionStatusDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionStatusDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.champion.ChampionStatus.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().intValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatus.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1233,22 +1111,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionStatusDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionStatusDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.champion.Champion.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.champion.Champion.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1259,23 +1134,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionStatusesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionStatusesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
         final Boolean freeToPlay = query.get("freeToPlay") == null ? Boolean.FALSE : (Boolean)query.get("freeToPlay");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class.getCanonicalName(), iterator.next().getTag(),
-                    freeToPlay.booleanValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.champion.ChampionStatuses.class, iterator.next().getTag(), freeToPlay);
             }
 
             @Override
@@ -1286,22 +1158,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyChampionStatusListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyChampionStatusListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
         final Boolean freeToPlay = query.get("freeToPlay") == null ? Boolean.FALSE : (Boolean)query.get("freeToPlay");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.champion.ChampionList.class.getCanonicalName(), iterator.next().getTag(), freeToPlay.booleanValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.champion.ChampionList.class, iterator.next().getTag(), freeToPlay);
             }
 
             @Override
@@ -1312,21 +1182,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyCurrentGameInfoDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyCurrentGameInfoDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    CurrentGameInfo.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(CurrentGameInfo.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1337,22 +1205,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyCurrentMatchDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyCurrentMatchDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.spectator.CurrentMatch.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1363,21 +1228,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyCurrentMatchQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyCurrentMatchQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = summonerIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    CurrentMatch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(CurrentMatch.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1388,21 +1251,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyFeaturedGamesDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyFeaturedGamesDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    FeaturedGames.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(FeaturedGames.class, iterator.next().getTag());
             }
 
             @Override
@@ -1413,21 +1274,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyFeaturedMatchesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyFeaturedMatchesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.spectator.FeaturedMatches.class, iterator.next().getTag());
             }
 
             @Override
@@ -1438,21 +1297,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyFeaturedMatchesQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyFeaturedMatchesQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    FeaturedMatches.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(FeaturedMatches.class, iterator.next().getTag());
             }
 
             @Override
@@ -1463,24 +1320,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyItemDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyItemDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Item.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1491,24 +1346,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyItemDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyItemDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Item.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1519,22 +1372,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyItemListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyItemListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ItemList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(ItemList.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1545,7 +1396,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyItemQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyItemQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
@@ -1558,18 +1409,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Item.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(Item.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next(), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1580,23 +1429,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyItemsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyItemsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Items.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Items.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -1607,21 +1453,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLanguagesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLanguagesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Languages.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Languages.class, iterator.next().getTag());
             }
 
             @Override
@@ -1632,21 +1476,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLanguagesDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLanguagesDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Languages.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Languages.class, iterator.next().getTag());
             }
 
             @Override
@@ -1657,22 +1499,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLanguageStringsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLanguageStringsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> locales = (Iterable<String>)query.get("locales");
 
         final Iterator<String> iterator = locales.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.LanguageStrings.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), iterator.next());
             }
 
             @Override
@@ -1683,22 +1523,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLanguageStringsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLanguageStringsDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> locales = (Iterable<String>)query.get("locales");
 
         final Iterator<String> iterator = locales.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.LanguageStrings.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), iterator.next());
             }
 
             @Override
@@ -1709,30 +1547,25 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLeagueDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLeagueDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Queue> queues = (Iterable<Queue>)query.get("queues");
         final Iterable<String> leagueIds = (Iterable<String>)query.get("leagueIds");
 
         final Iterator<?> iterator = leagueIds != null ? leagueIds.iterator() : queues.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
+            public Key next() {
                 if(leagueIds != null) {
-                    return Arrays.hashCode(new Object[] {
-                        com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                        (String)iterator.next()
-                    });
+                    return hash(com.merakianalytics.orianna.types.data.league.League.class, ((Platform)query.get("platform")).getTag(),
+                        (String)iterator.next());
                 } else {
-                    return Arrays.hashCode(new Object[] {
-                        com.merakianalytics.orianna.types.data.league.League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                        ((Tier)query.get("tier")).name(),
-                        ((Queue)iterator.next()).name()
-                    });
+                    return hash(com.merakianalytics.orianna.types.data.league.League.class, ((Platform)query.get("platform")).getTag(),
+                        ((Tier)query.get("tier")).name(), ((Queue)iterator.next()).name());
                 }
             }
 
@@ -1744,28 +1577,24 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLeagueListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLeagueListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Queue> queues = (Iterable<Queue>)query.get("queues");
         final Iterable<String> leagueIds = (Iterable<String>)query.get("leagueIds");
 
         final Iterator<?> iterator = leagueIds != null ? leagueIds.iterator() : queues.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
+            public Key next() {
                 if(leagueIds != null) {
-                    return Arrays.hashCode(new Object[] {
-                        LeagueList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)iterator.next()
-                    });
+                    return hash(LeagueList.class, ((Platform)query.get("platform")).getTag(), (String)iterator.next());
                 } else {
-                    return Arrays.hashCode(new Object[] {
-                        LeagueList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(),
-                        ((Queue)iterator.next()).name()
-                    });
+                    return hash(LeagueList.class, ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(),
+                        ((Queue)iterator.next()).name());
                 }
             }
 
@@ -1777,22 +1606,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLeaguePositionsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLeaguePositionsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.league.LeaguePositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.league.LeaguePositions.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1803,21 +1629,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLeaguePositionsQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLeaguePositionsQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = summonerIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    LeaguePositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(LeaguePositions.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -1828,28 +1652,23 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyLeagueQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyLeagueQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> leagueIds = (Iterable<String>)query.get("leagueIds");
         final Iterable<Queue> queues = (Iterable<Queue>)query.get("queues");
 
         final Iterator<?> iterator = leagueIds != null ? leagueIds.iterator() : queues.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
+            public Key next() {
                 if(leagueIds != null) {
-                    return Arrays.hashCode(new Object[] {
-                        League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next()
-                    });
+                    return hash(League.class, ((Platform)query.get("platform")).getTag(), iterator.next());
                 } else {
-                    return Arrays.hashCode(new Object[] {
-                        League.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(),
-                        ((Queue)iterator.next()).name()
-                    });
+                    return hash(League.class, ((Platform)query.get("platform")).getTag(), ((Tier)query.get("tier")).name(), ((Queue)iterator.next()).name());
                 }
             }
 
@@ -1861,21 +1680,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMapDataDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMapDataDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    MapData.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(MapData.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"));
             }
 
             @Override
@@ -1886,24 +1703,21 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMapDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMapDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Map.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).longValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Map.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -1914,23 +1728,21 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMapDetailsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMapDetailsDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    MapDetails.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).longValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(MapDetails.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -1941,7 +1753,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMapQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMapQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
@@ -1954,18 +1766,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Map.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(Map.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -1976,22 +1786,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMapsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMapsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Maps.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Maps.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"));
             }
 
             @Override
@@ -2002,23 +1810,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMasteriesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMasteriesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Masteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Masteries.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2029,24 +1834,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMasteryDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMasteryDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Mastery.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2057,24 +1860,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMasteryDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMasteryDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Mastery.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2085,22 +1886,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMasteryListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMasteryListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    MasteryList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(MasteryList.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2111,7 +1910,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMasteryQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMasteryQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
@@ -2124,18 +1923,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(Mastery.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next(), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2146,22 +1943,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMatchDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMatchDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.match.Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.match.Match.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2172,22 +1966,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMatchDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMatchDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.match.Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.match.Match.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2198,21 +1989,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMatchQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMatchQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> matchIds = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = matchIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(Match.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2223,21 +2012,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyMatchTimelineDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyMatchTimelineDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    MatchTimeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(MatchTimeline.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2248,22 +2035,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyPatchDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyPatchDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<String> iterator = names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Patch.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2274,21 +2058,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyPatchDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyPatchDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<String> iterator = names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Patch.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2299,21 +2081,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyPatchesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyPatchesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Patches.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Patches.class, iterator.next().getTag());
             }
 
             @Override
@@ -2324,21 +2104,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyPatchesDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyPatchesDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Patches.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Patches.class, iterator.next().getTag());
             }
 
             @Override
@@ -2349,21 +2127,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyPatchQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyPatchQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<String> iterator = names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next()
-                });
+            public Key next() {
+                return hash(Patch.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -2374,21 +2150,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyProfileIconDataDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyProfileIconDataDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ProfileIconData.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(ProfileIconData.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"));
             }
 
             @Override
@@ -2399,24 +2173,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyProfileIconDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyProfileIconDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"),
-                    (String)query.get("locale"),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), iterator.next());
             }
 
             @Override
@@ -2427,23 +2197,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyProfileIconDetailsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyProfileIconDetailsDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ProfileIconDetails.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
-                    (String)query.get("locale"),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(ProfileIconDetails.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    iterator.next());
             }
 
             @Override
@@ -2454,22 +2221,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyProfileIconQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyProfileIconQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ProfileIcon.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    iterator.next().intValue()
-                });
+            public Key next() {
+                return hash(ProfileIcon.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    iterator.next());
             }
 
             @Override
@@ -2480,22 +2245,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyProfileIconsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyProfileIconsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"));
             }
 
             @Override
@@ -2506,21 +2269,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRealmDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRealmDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Realm.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Realm.class, iterator.next().getTag());
             }
 
             @Override
@@ -2531,21 +2292,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRealmDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRealmDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Realm.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Realm.class, iterator.next().getTag());
             }
 
             @Override
@@ -2556,21 +2315,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRealmQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRealmQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Realm.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(Realm.class, iterator.next().getTag());
             }
 
             @Override
@@ -2581,25 +2338,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyReforgedRuneDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyReforgedRuneDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names != null ? names.iterator() : keys.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -2610,25 +2364,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyReforgedRuneDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyReforgedRuneDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names != null ? names.iterator() : keys.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -2639,7 +2390,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyReforgedRuneQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyReforgedRuneQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
         final Iterable<String> keys = (Iterable<String>)query.get("keys");
@@ -2655,19 +2406,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
-                    (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(ReforgedRune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -2678,22 +2426,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyReforgedRunesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyReforgedRunesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"));
             }
 
             @Override
@@ -2704,21 +2450,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyReforgedRuneTreeDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyReforgedRuneTreeDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ReforgedRuneTree.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale")
-                });
+            public Key next() {
+                return hash(ReforgedRuneTree.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"));
             }
 
             @Override
@@ -2729,24 +2473,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRuneDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRuneDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Rune.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2757,24 +2499,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRuneDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRuneDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Rune.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2785,22 +2525,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRuneListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRuneListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    RuneList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(RuneList.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2811,7 +2549,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRuneQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRuneQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
@@ -2824,18 +2562,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(Rune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next(), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2846,23 +2582,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyRunesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyRunesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Runes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Runes.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -2873,21 +2606,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyShardStatusDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyShardStatusDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.status.ShardStatus.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.status.ShardStatus.class, iterator.next().getTag());
             }
 
             @Override
@@ -2898,21 +2629,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyShardStatusDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyShardStatusDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.status.ShardStatus.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.status.ShardStatus.class, iterator.next().getTag());
             }
 
             @Override
@@ -2923,21 +2652,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyShardStatusQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyShardStatusQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    ShardStatus.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(ShardStatus.class, iterator.next().getTag());
             }
 
             @Override
@@ -2948,24 +2675,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("ids");
         final Iterable<Number> accountIds = (Iterable<Number>)query.get("accountIds");
         final Iterable<String> summonerNames = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = summonerIds != null ? summonerIds.iterator() : accountIds != null ? accountIds.iterator() : summonerNames.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.summoner.Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    summonerIds != null || accountIds != null ? ((Number)iterator.next()).longValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.summoner.Summoner.class, ((Platform)query.get("platform")).getTag(),
+                    summonerIds != null || accountIds != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -2976,24 +2701,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("ids");
         final Iterable<Number> accountIds = (Iterable<Number>)query.get("accountIds");
         final Iterable<String> summonerNames = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = summonerIds != null ? summonerIds.iterator() : accountIds != null ? accountIds.iterator() : summonerNames.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.summoner.Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    summonerIds != null || accountIds != null ? ((Number)iterator.next()).longValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.summoner.Summoner.class, ((Platform)query.get("platform")).getTag(),
+                    summonerIds != null || accountIds != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -3004,21 +2727,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerPositionsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerPositionsDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    SummonerPositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(SummonerPositions.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3029,7 +2750,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<Number> accountIds = (Iterable<Number>)query.get("accountIds");
         final Iterable<String> names = (Iterable<String>)query.get("names");
@@ -3045,18 +2766,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    ids != null || accountIds != null ? ((Number)iterator.next()).longValue() : iterator.next()
-                });
+            public Key next() {
+                return hash(Summoner.class, ((Platform)query.get("platform")).getTag(),
+                    ids != null || accountIds != null ? (Number)iterator.next() : iterator.next());
             }
 
             @Override
@@ -3067,24 +2786,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerSpellDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerSpellDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -3095,24 +2812,22 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerSpellDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerSpellDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
         final Iterator<?> iterator = ids != null ? ids.iterator() : names.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    (String)query.get("version"), (String)query.get("locale"),
-                    ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class, ((Platform)query.get("platform")).getTag(),
+                    (String)query.get("version"), (String)query.get("locale"), ids != null ? (Number)iterator.next() : iterator.next(),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -3123,22 +2838,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerSpellListDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerSpellListDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    SummonerSpellList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(SummonerSpellList.class, ((Platform)query.get("platform")).getTag(), iterator.next(), (String)query.get("locale"),
+                    (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -3149,7 +2862,7 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerSpellQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerSpellQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("ids");
         final Iterable<String> names = (Iterable<String>)query.get("names");
 
@@ -3162,18 +2875,16 @@ public abstract class UniqueKeys {
             return null;
         }
 
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
-                    (String)query.get("locale"), ids != null ? ((Number)iterator.next()).intValue() : iterator.next(), (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(SummonerSpell.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+                    ids != null ? (Number)iterator.next() : iterator.next(), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -3184,23 +2895,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManySummonerSpellsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManySummonerSpellsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> versions = (Iterable<String>)query.get("versions");
 
         final Iterator<String> iterator = versions.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next(), (String)query.get("locale"),
-                    (Set<String>)query.get("includedData")
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class, ((Platform)query.get("platform")).getTag(), iterator.next(),
+                    (String)query.get("locale"), (Set<String>)query.get("includedData"));
             }
 
             @Override
@@ -3211,22 +2919,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyTimelineDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyTimelineDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.match.Timeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.match.Timeline.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3237,21 +2942,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyTimelineQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyTimelineQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> matchIds = (Iterable<Number>)query.get("matchIds");
 
         final Iterator<Number> iterator = matchIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    Timeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(Timeline.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3262,22 +2965,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyTournamentMatchesDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyTournamentMatchesDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> codes = (Iterable<String>)query.get("tournamentCodes");
 
         final Iterator<String> iterator = codes.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.match.TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.match.TournamentMatches.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3288,22 +2988,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyTournamentMatchesDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyTournamentMatchesDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> codes = (Iterable<String>)query.get("tournamentCodes");
 
         final Iterator<String> iterator = codes.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.match.TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-                    iterator.next()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.match.TournamentMatches.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3314,21 +3011,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyTournamentMatchesQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyTournamentMatchesQuery(final java.util.Map<String, Object> query) {
         final Iterable<String> tournamentCodes = (Iterable<String>)query.get("tournamentCodes");
 
         final Iterator<String> iterator = tournamentCodes.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next()
-                });
+            public Key next() {
+                return hash(TournamentMatches.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3339,22 +3034,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyVerificationStringDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyVerificationStringDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -3365,22 +3058,20 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyVerificationStringDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyVerificationStringDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> ids = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = ids.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class.getCanonicalName(),
-                    ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class, ((Platform)query.get("platform")).getTag(),
+                    iterator.next());
             }
 
             @Override
@@ -3391,21 +3082,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyVerificationStringQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyVerificationStringQuery(final java.util.Map<String, Object> query) {
         final Iterable<Number> summonerIds = (Iterable<Number>)query.get("summonerIds");
 
         final Iterator<Number> iterator = summonerIds.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    VerificationString.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), iterator.next().longValue()
-                });
+            public Key next() {
+                return hash(VerificationString.class, ((Platform)query.get("platform")).getTag(), iterator.next());
             }
 
             @Override
@@ -3416,21 +3105,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyVersionsDataQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyVersionsDataQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.data.staticdata.Versions.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.data.staticdata.Versions.class, iterator.next().getTag());
             }
 
             @Override
@@ -3441,21 +3128,19 @@ public abstract class UniqueKeys {
     }
 
     @SuppressWarnings("unchecked")
-    public static Iterator<Integer> forManyVersionsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Iterator<Key> forManyVersionsDtoQuery(final java.util.Map<String, Object> query) {
         final Iterable<Platform> platforms = (Iterable<Platform>)query.get("platforms");
 
         final Iterator<Platform> iterator = platforms.iterator();
-        return new Iterator<Integer>() {
+        return new Iterator<Key>() {
             @Override
             public boolean hasNext() {
                 return iterator.hasNext();
             }
 
             @Override
-            public Integer next() {
-                return Arrays.hashCode(new Object[] {
-                    com.merakianalytics.orianna.types.dto.staticdata.Versions.class.getCanonicalName(), iterator.next().getTag()
-                });
+            public Key next() {
+                return hash(com.merakianalytics.orianna.types.dto.staticdata.Versions.class, iterator.next().getTag());
             }
 
             @Override
@@ -3465,1245 +3150,915 @@ public abstract class UniqueKeys {
         };
     }
 
-    public static int[] forMap(final Map map) {
+    public static Key[] forMap(final Map map) {
         final com.merakianalytics.orianna.types.data.staticdata.Map data = map.getCoreData();
         if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Map.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Map.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                })
+            return new Key[] {
+                hash(Map.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()),
+                hash(Map.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Map.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                })
+            return new Key[] {
+                hash(Map.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Map.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                })
+            return new Key[] {
+                hash(Map.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Map without ID or name!");
         }
     }
 
-    public static int[] forMapData(final com.merakianalytics.orianna.types.data.staticdata.Map map) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Map.class.getCanonicalName(), map.getPlatform(), map.getVersion(), map.getLocale(),
-                map.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Map.class.getCanonicalName(), map.getPlatform(), map.getVersion(), map.getLocale(),
-                map.getName()
-            })
+    public static Key[] forMapData(final com.merakianalytics.orianna.types.data.staticdata.Map map) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.Map.class, map.getPlatform(), map.getVersion(), map.getLocale(), map.getId()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Map.class, map.getPlatform(), map.getVersion(), map.getLocale(), map.getName())
         };
     }
 
-    public static int forMapDataDto(final MapData maps) {
-        return Arrays.hashCode(new Object[] {
-            MapData.class.getCanonicalName(), maps.getPlatform(), maps.getVersion(), maps.getLocale()
-        });
+    public static Key forMapDataDto(final MapData maps) {
+        return hash(MapData.class, maps.getPlatform(), maps.getVersion(), maps.getLocale());
     }
 
-    public static int forMapDataDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            MapData.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forMapDataDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(MapData.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forMapDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forMapDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Map.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue()
-        });
-    }
-
-    public static int[] forMapDetailsDto(final MapDetails map) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                MapDetails.class.getCanonicalName(), map.getPlatform(), map.getVersion(), map.getLocale(), map.getMapId()
-            }),
-            Arrays.hashCode(new Object[] {
-                MapDetails.class.getCanonicalName(), map.getPlatform(), map.getVersion(), map.getLocale(), map.getMapName()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Map.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id);
+    }
+
+    public static Key[] forMapDetailsDto(final MapDetails map) {
+        return new Key[] {
+            hash(MapDetails.class, map.getPlatform(), map.getVersion(), map.getLocale(), map.getMapId()),
+            hash(MapDetails.class, map.getPlatform(), map.getVersion(), map.getLocale(), map.getMapName())
         };
     }
 
-    public static int forMapDetailsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forMapDetailsDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            MapDetails.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.longValue()
-        });
+        return hash(MapDetails.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            id == null ? name : id);
     }
 
-    public static int forMapQuery(final java.util.Map<String, Object> query) {
+    public static Key forMapQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            Map.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue()
-        });
+        return hash(Map.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"), id == null ? name : id);
     }
 
-    public static int forMaps(final Maps maps) {
+    public static Key forMaps(final Maps maps) {
         final com.merakianalytics.orianna.types.data.staticdata.Maps data = maps.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Maps.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale()
-        });
+        return hash(Maps.class, data.getPlatform(), data.getVersion(), data.getLocale());
     }
 
-    public static int forMapsData(final com.merakianalytics.orianna.types.data.staticdata.Maps maps) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Maps.class.getCanonicalName(), maps.getPlatform(), maps.getVersion(), maps.getLocale()
-        });
+    public static Key forMapsData(final com.merakianalytics.orianna.types.data.staticdata.Maps maps) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Maps.class, maps.getPlatform(), maps.getVersion(), maps.getLocale());
     }
 
-    public static int forMapsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Maps.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forMapsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Maps.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"));
     }
 
-    public static int forMapsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Maps.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forMapsQuery(final java.util.Map<String, Object> query) {
+        return hash(Maps.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forMasteries(final Masteries masteries) {
+    public static Key forMasteries(final Masteries masteries) {
         final com.merakianalytics.orianna.types.data.staticdata.Masteries data = masteries.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Masteries.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData()
-        });
+        return hash(Masteries.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData());
     }
 
-    public static int forMasteriesData(final com.merakianalytics.orianna.types.data.staticdata.Masteries masteries) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Masteries.class.getCanonicalName(), masteries.getPlatform(), masteries.getVersion(),
-            masteries.getLocale(), masteries.getIncludedData()
-        });
+    public static Key forMasteriesData(final com.merakianalytics.orianna.types.data.staticdata.Masteries masteries) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Masteries.class, masteries.getPlatform(), masteries.getVersion(), masteries.getLocale(),
+            masteries.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteriesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Masteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forMasteriesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Masteries.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteriesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Masteries.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forMasteriesQuery(final java.util.Map<String, Object> query) {
+        return hash(Masteries.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int[] forMastery(final Mastery mastery) {
+    public static Key[] forMastery(final Mastery mastery) {
         final com.merakianalytics.orianna.types.data.staticdata.Mastery data = mastery.getCoreData();
         if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Mastery.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Mastery.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Mastery.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Mastery.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Mastery.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Mastery.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Mastery.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Mastery.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Mastery without ID or name!");
         }
     }
 
-    public static int[] forMasteryData(final com.merakianalytics.orianna.types.data.staticdata.Mastery mastery) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Mastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getVersion(),
-                mastery.getLocale(), mastery.getId(), mastery.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Mastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getVersion(),
-                mastery.getLocale(), mastery.getName(), mastery.getIncludedData()
-            })
+    public static Key[] forMasteryData(final com.merakianalytics.orianna.types.data.staticdata.Mastery mastery) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.Mastery.class, mastery.getPlatform(), mastery.getVersion(), mastery.getLocale(),
+                mastery.getId(), mastery.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Mastery.class, mastery.getPlatform(), mastery.getVersion(), mastery.getLocale(),
+                mastery.getName(), mastery.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteryDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forMasteryDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
-    }
-
-    public static int[] forMasteryDto(final com.merakianalytics.orianna.types.dto.staticdata.Mastery mastery) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Mastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getVersion(),
-                mastery.getLocale(), mastery.getId(), mastery.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Mastery.class.getCanonicalName(), mastery.getPlatform(), mastery.getVersion(),
-                mastery.getLocale(), mastery.getName(), mastery.getIncludedData()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Mastery.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
+    }
+
+    public static Key[] forMasteryDto(final com.merakianalytics.orianna.types.dto.staticdata.Mastery mastery) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Mastery.class, mastery.getPlatform(), mastery.getVersion(), mastery.getLocale(),
+                mastery.getId(), mastery.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Mastery.class, mastery.getPlatform(), mastery.getVersion(), mastery.getLocale(),
+                mastery.getName(), mastery.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteryDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forMasteryDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Mastery.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forMasteryListDto(final MasteryList masteries) {
-        return Arrays.hashCode(new Object[] {
-            MasteryList.class.getCanonicalName(), masteries.getPlatform(), masteries.getVersion(), masteries.getLocale(), masteries.getIncludedData()
-        });
+    public static Key forMasteryListDto(final MasteryList masteries) {
+        return hash(MasteryList.class, masteries.getPlatform(), masteries.getVersion(), masteries.getLocale(), masteries.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteryListDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            MasteryList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forMasteryListDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(MasteryList.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forMasteryQuery(final java.util.Map<String, Object> query) {
+    public static Key forMasteryQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            Mastery.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(Mastery.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forMatch(final Match match) {
+    public static Key forMatch(final Match match) {
         final com.merakianalytics.orianna.types.data.match.Match data = match.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Match.class.getCanonicalName(), data.getPlatform(), data.getId()
-        });
+        return hash(Match.class, data.getPlatform(), data.getId());
     }
 
-    public static int forMatchData(final com.merakianalytics.orianna.types.data.match.Match match) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.Match.class.getCanonicalName(), match.getPlatform(), match.getId()
-        });
+    public static Key forMatchData(final com.merakianalytics.orianna.types.data.match.Match match) {
+        return hash(com.merakianalytics.orianna.types.data.match.Match.class, match.getPlatform(), match.getId());
     }
 
-    public static int forMatchDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forMatchDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.match.Match.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forMatchDto(final com.merakianalytics.orianna.types.dto.match.Match match) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.match.Match.class.getCanonicalName(), match.getPlatformId(), match.getGameId()
-        });
+    public static Key forMatchDto(final com.merakianalytics.orianna.types.dto.match.Match match) {
+        return hash(com.merakianalytics.orianna.types.dto.match.Match.class, match.getPlatformId(), match.getGameId());
     }
 
-    public static int forMatchDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.match.Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forMatchDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.match.Match.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forMatchQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Match.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forMatchQuery(final java.util.Map<String, Object> query) {
+        return hash(Match.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forMatchTimelineDto(final MatchTimeline timeline) {
-        return Arrays.hashCode(new Object[] {
-            MatchTimeline.class.getCanonicalName(), timeline.getPlatform(), timeline.getMatchId()
-        });
+    public static Key forMatchTimelineDto(final MatchTimeline timeline) {
+        return hash(MatchTimeline.class, timeline.getPlatform(), timeline.getMatchId());
     }
 
-    public static int forMatchTimelineDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            MatchTimeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forMatchTimelineDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(MatchTimeline.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forPatch(final Patch patch) {
+    public static Key forPatch(final Patch patch) {
         final com.merakianalytics.orianna.types.data.staticdata.Patch data = patch.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Patch.class.getCanonicalName(), data.getPlatform(), data.getName()
-        });
+        return hash(Patch.class, data.getPlatform(), data.getName());
     }
 
-    public static int forPatchData(final com.merakianalytics.orianna.types.data.staticdata.Patch patch) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Patch.class.getCanonicalName(), patch.getPlatform(), patch.getName()
-        });
+    public static Key forPatchData(final com.merakianalytics.orianna.types.data.staticdata.Patch patch) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Patch.class, patch.getPlatform(), patch.getName());
     }
 
-    public static int forPatchDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("name")
-        });
+    public static Key forPatchDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Patch.class, ((Platform)query.get("platform")).getTag(), (String)query.get("name"));
     }
 
-    public static int forPatchDto(final com.merakianalytics.orianna.types.dto.staticdata.Patch patch) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Patch.class.getCanonicalName(), patch.getPlatform(), patch.getName()
-        });
+    public static Key forPatchDto(final com.merakianalytics.orianna.types.dto.staticdata.Patch patch) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Patch.class, patch.getPlatform(), patch.getName());
     }
 
-    public static int forPatchDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("name")
-        });
+    public static Key forPatchDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Patch.class, ((Platform)query.get("platform")).getTag(), (String)query.get("name"));
     }
 
-    public static int forPatches(final Patches patches) {
+    public static Key forPatches(final Patches patches) {
         final com.merakianalytics.orianna.types.data.staticdata.Patches data = patches.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Patches.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(Patches.class, data.getPlatform());
     }
 
-    public static int forPatchesData(final com.merakianalytics.orianna.types.data.staticdata.Patches patches) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Patches.class.getCanonicalName(), patches.getPlatform()
-        });
+    public static Key forPatchesData(final com.merakianalytics.orianna.types.data.staticdata.Patches patches) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Patches.class, patches.getPlatform());
     }
 
-    public static int forPatchesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Patches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forPatchesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Patches.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forPatchesDto(final com.merakianalytics.orianna.types.dto.staticdata.Patches patches) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Patches.class.getCanonicalName(), patches.getPlatform()
-        });
+    public static Key forPatchesDto(final com.merakianalytics.orianna.types.dto.staticdata.Patches patches) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Patches.class, patches.getPlatform());
     }
 
-    public static int forPatchesDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Patches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forPatchesDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Patches.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forPatchesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Patches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forPatchesQuery(final java.util.Map<String, Object> query) {
+        return hash(Patches.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forPatchQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Patch.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("name")
-        });
+    public static Key forPatchQuery(final java.util.Map<String, Object> query) {
+        return hash(Patch.class, ((Platform)query.get("platform")).getTag(), (String)query.get("name"));
     }
 
-    public static int forProfileIcon(final ProfileIcon icon) {
+    public static Key forProfileIcon(final ProfileIcon icon) {
         final com.merakianalytics.orianna.types.data.staticdata.ProfileIcon data = icon.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ProfileIcon.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-        });
+        return hash(ProfileIcon.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId());
     }
 
-    public static int forProfileIconData(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcon icon) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class.getCanonicalName(), icon.getPlatform(), icon.getVersion(), icon.getLocale(),
-            icon.getId()
-        });
+    public static Key forProfileIconData(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcon icon) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class, icon.getPlatform(), icon.getVersion(), icon.getLocale(), icon.getId());
     }
 
-    public static int forProfileIconDataDto(final ProfileIconData profileIcons) {
-        return Arrays.hashCode(new Object[] {
-            ProfileIconData.class.getCanonicalName(), profileIcons.getPlatform(), profileIcons.getVersion(), profileIcons.getLocale()
-        });
+    public static Key forProfileIconDataDto(final ProfileIconData profileIcons) {
+        return hash(ProfileIconData.class, profileIcons.getPlatform(), profileIcons.getVersion(), profileIcons.getLocale());
     }
 
-    public static int forProfileIconDataDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ProfileIconData.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forProfileIconDataDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(ProfileIconData.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forProfileIconDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forProfileIconDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id.intValue()
-        });
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcon.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), id);
     }
 
-    public static int forProfileIconDetailsDto(final ProfileIconDetails icon) {
-        return Arrays.hashCode(new Object[] {
-            ProfileIconDetails.class.getCanonicalName(), icon.getPlatform(), icon.getVersion(), icon.getLocale(), icon.getId()
-        });
+    public static Key forProfileIconDetailsDto(final ProfileIconDetails icon) {
+        return hash(ProfileIconDetails.class, icon.getPlatform(), icon.getVersion(), icon.getLocale(), icon.getId());
     }
 
-    public static int forProfileIconDetailsDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forProfileIconDetailsDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
-        return Arrays.hashCode(new Object[] {
-            ProfileIconDetails.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id.longValue()
-        });
+        return hash(ProfileIconDetails.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"), id);
     }
 
-    public static int forProfileIconQuery(final java.util.Map<String, Object> query) {
+    public static Key forProfileIconQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
-        return Arrays.hashCode(new Object[] {
-            ProfileIcon.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id.intValue()
-        });
+        return hash(ProfileIcon.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"), id);
     }
 
-    public static int forProfileIcons(final ProfileIcons profileIcons) {
+    public static Key forProfileIcons(final ProfileIcons profileIcons) {
         final com.merakianalytics.orianna.types.data.staticdata.ProfileIcons data = profileIcons.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ProfileIcons.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale()
-        });
+        return hash(ProfileIcons.class, data.getPlatform(), data.getVersion(), data.getLocale());
     }
 
-    public static int forProfileIconsData(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcons profileIcons) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class.getCanonicalName(), profileIcons.getPlatform(), profileIcons.getVersion(),
-            profileIcons.getLocale()
-        });
+    public static Key forProfileIconsData(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcons profileIcons) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class, profileIcons.getPlatform(), profileIcons.getVersion(),
+            profileIcons.getLocale());
     }
 
-    public static int forProfileIconsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forProfileIconsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ProfileIcons.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forProfileIconsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ProfileIcons.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forProfileIconsQuery(final java.util.Map<String, Object> query) {
+        return hash(ProfileIcons.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forRealm(final Realm realm) {
+    public static Key forRealm(final Realm realm) {
         final com.merakianalytics.orianna.types.data.staticdata.Realm data = realm.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Realm.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(Realm.class, data.getPlatform());
     }
 
-    public static int forRealmData(final com.merakianalytics.orianna.types.data.staticdata.Realm realm) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Realm.class.getCanonicalName(), realm.getPlatform()
-        });
+    public static Key forRealmData(final com.merakianalytics.orianna.types.data.staticdata.Realm realm) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Realm.class, realm.getPlatform());
     }
 
-    public static int forRealmDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Realm.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forRealmDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Realm.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forRealmDto(final com.merakianalytics.orianna.types.dto.staticdata.Realm realm) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Realm.class.getCanonicalName(), realm.getPlatform()
-        });
+    public static Key forRealmDto(final com.merakianalytics.orianna.types.dto.staticdata.Realm realm) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Realm.class, realm.getPlatform());
     }
 
-    public static int forRealmDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Realm.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forRealmDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Realm.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forRealmQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Realm.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forRealmQuery(final java.util.Map<String, Object> query) {
+        return hash(Realm.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int[] forReforgedRune(final ReforgedRune rune) {
+    public static Key[] forReforgedRune(final ReforgedRune rune) {
         final com.merakianalytics.orianna.types.data.staticdata.ReforgedRune data = rune.getCoreData();
         if(data.getId() != 0 && data.getName() != null && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                }),
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()),
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()),
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey())
             };
         } else if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()),
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName())
             };
         } else if(data.getId() != 0 && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()),
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey())
             };
         } else if(data.getName() != null && data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                }),
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()),
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName())
             };
         } else if(data.getKey() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    ReforgedRune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey()
-                })
+            return new Key[] {
+                hash(ReforgedRune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getKey())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for ReforgedRune without ID, name, or key!");
         }
     }
 
-    public static int[] forReforgedRuneData(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRune rune) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(),
-                rune.getLocale(),
-                rune.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(),
-                rune.getLocale(),
-                rune.getName()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(),
-                rune.getLocale(),
-                rune.getKey()
-            })
+    public static Key[] forReforgedRuneData(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRune rune) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getId()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getName()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getKey())
         };
     }
 
-    public static int forReforgedRuneDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forReforgedRuneDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue()
-        });
-    }
-
-    public static int[] forReforgedRuneDto(final com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune rune) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getName()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getKey()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRune.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), id == null ? name == null ? key : name : id);
+    }
+
+    public static Key[] forReforgedRuneDto(final com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune rune) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getId()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getName()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getKey())
         };
     }
 
-    public static int forReforgedRuneDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forReforgedRuneDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue()
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.ReforgedRune.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), id == null ? name == null ? key : name : id);
     }
 
-    public static int forReforgedRuneQuery(final java.util.Map<String, Object> query) {
+    public static Key forReforgedRuneQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
         final String key = (String)query.get("key");
-        return Arrays.hashCode(new Object[] {
-            ReforgedRune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name == null ? key : name : id.intValue()
-        });
+        return hash(ReforgedRune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            id == null ? name == null ? key : name : id);
     }
 
-    public static int forReforgedRunes(final ReforgedRunes runes) {
+    public static Key forReforgedRunes(final ReforgedRunes runes) {
         final com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes data = runes.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ReforgedRunes.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale()
-        });
+        return hash(ReforgedRunes.class, data.getPlatform(), data.getVersion(), data.getLocale());
     }
 
-    public static int forReforgedRunesData(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes runes) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class.getCanonicalName(), runes.getPlatform(), runes.getVersion(), runes.getLocale()
-        });
+    public static Key forReforgedRunesData(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes runes) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class, runes.getPlatform(), runes.getVersion(), runes.getLocale());
     }
 
-    public static int forReforgedRunesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forReforgedRunesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forReforgedRunesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ReforgedRunes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forReforgedRunesQuery(final java.util.Map<String, Object> query) {
+        return hash(ReforgedRunes.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int forReforgedRuneTreeDto(final ReforgedRuneTree runes) {
-        return Arrays.hashCode(new Object[] {
-            ReforgedRuneTree.class.getCanonicalName(), runes.getPlatform(), runes.getVersion(), runes.getLocale()
-        });
+    public static Key forReforgedRuneTreeDto(final ReforgedRuneTree runes) {
+        return hash(ReforgedRuneTree.class, runes.getPlatform(), runes.getVersion(), runes.getLocale());
     }
 
-    public static int forReforgedRuneTreeDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ReforgedRuneTree.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale")
-        });
+    public static Key forReforgedRuneTreeDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(ReforgedRuneTree.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"));
     }
 
-    public static int[] forRune(final Rune rune) {
+    public static Key[] forRune(final Rune rune) {
         final com.merakianalytics.orianna.types.data.staticdata.Rune data = rune.getCoreData();
         if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Rune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Rune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Rune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(Rune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Rune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Rune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Rune.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(Rune.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Item without ID or name!");
         }
     }
 
-    public static int[] forRuneData(final com.merakianalytics.orianna.types.data.staticdata.Rune rune) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Rune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getId(), rune.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.Rune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getName(), rune.getIncludedData()
-            })
+    public static Key[] forRuneData(final com.merakianalytics.orianna.types.data.staticdata.Rune rune) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.Rune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getId(),
+                rune.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.Rune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getName(),
+                rune.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRuneDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forRuneDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
-    }
-
-    public static int[] forRuneDto(final com.merakianalytics.orianna.types.dto.staticdata.Rune rune) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Rune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getId(), rune.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.Rune.class.getCanonicalName(), rune.getPlatform(), rune.getVersion(), rune.getLocale(),
-                rune.getName(), rune.getIncludedData()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Rune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
+    }
+
+    public static Key[] forRuneDto(final com.merakianalytics.orianna.types.dto.staticdata.Rune rune) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Rune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getId(),
+                rune.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.Rune.class, rune.getPlatform(), rune.getVersion(), rune.getLocale(), rune.getName(),
+                rune.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRuneDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forRuneDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Rune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forRuneListDto(final RuneList runes) {
-        return Arrays.hashCode(new Object[] {
-            RuneList.class.getCanonicalName(), runes.getPlatform(), runes.getVersion(), runes.getLocale(), runes.getIncludedData()
-        });
+    public static Key forRuneListDto(final RuneList runes) {
+        return hash(RuneList.class, runes.getPlatform(), runes.getVersion(), runes.getLocale(), runes.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRuneListDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            RuneList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forRuneListDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(RuneList.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRuneQuery(final java.util.Map<String, Object> query) {
+    public static Key forRuneQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            Rune.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(Rune.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"), id == null ? name : id,
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forRunes(final Runes runes) {
+    public static Key forRunes(final Runes runes) {
         final com.merakianalytics.orianna.types.data.staticdata.Runes data = runes.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Runes.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData()
-        });
+        return hash(Runes.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData());
     }
 
-    public static int forRunesData(final com.merakianalytics.orianna.types.data.staticdata.Runes runes) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Runes.class.getCanonicalName(), runes.getPlatform(), runes.getVersion(), runes.getLocale(),
-            runes.getIncludedData()
-        });
+    public static Key forRunesData(final com.merakianalytics.orianna.types.data.staticdata.Runes runes) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Runes.class, runes.getPlatform(), runes.getVersion(), runes.getLocale(),
+            runes.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRunesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Runes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forRunesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Runes.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"),
+            (String)query.get("locale"), (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forRunesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Runes.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forRunesQuery(final java.util.Map<String, Object> query) {
+        return hash(Runes.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forShardStatus(final ShardStatus status) {
+    public static Key forShardStatus(final ShardStatus status) {
         final com.merakianalytics.orianna.types.data.status.ShardStatus data = status.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            ShardStatus.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(ShardStatus.class, data.getPlatform());
     }
 
-    public static int forShardStatusData(final com.merakianalytics.orianna.types.data.status.ShardStatus status) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.status.ShardStatus.class.getCanonicalName(), status.getPlatform()
-        });
+    public static Key forShardStatusData(final com.merakianalytics.orianna.types.data.status.ShardStatus status) {
+        return hash(com.merakianalytics.orianna.types.data.status.ShardStatus.class, status.getPlatform());
     }
 
-    public static int forShardStatusDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.status.ShardStatus.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forShardStatusDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.status.ShardStatus.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forShardStatusDto(final com.merakianalytics.orianna.types.dto.status.ShardStatus status) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.status.ShardStatus.class.getCanonicalName(), status.getPlatform()
-        });
+    public static Key forShardStatusDto(final com.merakianalytics.orianna.types.dto.status.ShardStatus status) {
+        return hash(com.merakianalytics.orianna.types.dto.status.ShardStatus.class, status.getPlatform());
     }
 
-    public static int forShardStatusDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.status.ShardStatus.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forShardStatusDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.status.ShardStatus.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int forShardStatusQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            ShardStatus.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    public static Key forShardStatusQuery(final java.util.Map<String, Object> query) {
+        return hash(ShardStatus.class, ((Platform)query.get("platform")).getTag());
     }
 
-    public static int[] forSummoner(final Summoner summoner) {
+    public static Key[] forSummoner(final Summoner summoner) {
         final com.merakianalytics.orianna.types.data.summoner.Summoner data = summoner.getCoreData();
         if(data.getId() != 0L && data.getAccountId() != 0L && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getAccountId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getName()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getId()),
+                hash(Summoner.class, data.getPlatform(), data.getAccountId()),
+                hash(Summoner.class, data.getPlatform(), data.getName())
             };
         } else if(data.getId() != 0L && data.getAccountId() != 0L) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getAccountId()
-                }),
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getId()),
+                hash(Summoner.class, data.getPlatform(), data.getAccountId()),
             };
         } else if(data.getId() != 0L && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getName()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getId()),
+                hash(Summoner.class, data.getPlatform(), data.getName())
             };
         } else if(data.getAccountId() != 0L && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getAccountId()
-                }),
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getName()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getAccountId()),
+                hash(Summoner.class, data.getPlatform(), data.getName())
             };
         } else if(data.getId() != 0L) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getId()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getId())
             };
         } else if(data.getAccountId() != 0L) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getAccountId()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getAccountId())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    Summoner.class.getCanonicalName(), data.getPlatform(), data.getName()
-                })
+            return new Key[] {
+                hash(Summoner.class, data.getPlatform(), data.getName())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Summoner without ID, account ID, or name!");
         }
     }
 
-    public static int[] forSummonerData(final com.merakianalytics.orianna.types.data.summoner.Summoner summoner) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getAccountId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getName()
-            })
+    public static Key[] forSummonerData(final com.merakianalytics.orianna.types.data.summoner.Summoner summoner) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.summoner.Summoner.class, summoner.getPlatform(), summoner.getId()),
+            hash(com.merakianalytics.orianna.types.data.summoner.Summoner.class, summoner.getPlatform(), summoner.getAccountId()),
+            hash(com.merakianalytics.orianna.types.data.summoner.Summoner.class, summoner.getPlatform(), summoner.getName())
         };
     }
 
-    public static int forSummonerDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final Number accountId = (Number)query.get("accountId");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.summoner.Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            id == null ? accountId == null ? name : accountId.longValue() : id.longValue()
-        });
-    }
-
-    public static int[] forSummonerDto(final com.merakianalytics.orianna.types.dto.summoner.Summoner summoner) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getAccountId()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.summoner.Summoner.class.getCanonicalName(), summoner.getPlatform(), summoner.getName()
-            })
+        return hash(com.merakianalytics.orianna.types.data.summoner.Summoner.class, ((Platform)query.get("platform")).getTag(),
+            id == null ? accountId == null ? name : accountId : id);
+    }
+
+    public static Key[] forSummonerDto(final com.merakianalytics.orianna.types.dto.summoner.Summoner summoner) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.summoner.Summoner.class, summoner.getPlatform(), summoner.getId()),
+            hash(com.merakianalytics.orianna.types.dto.summoner.Summoner.class, summoner.getPlatform(), summoner.getAccountId()),
+            hash(com.merakianalytics.orianna.types.dto.summoner.Summoner.class, summoner.getPlatform(), summoner.getName())
         };
     }
 
-    public static int forSummonerDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final Number accountId = (Number)query.get("accountId");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.summoner.Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            id == null ? accountId == null ? name : accountId.longValue() : id.longValue()
-        });
+        return hash(com.merakianalytics.orianna.types.dto.summoner.Summoner.class, ((Platform)query.get("platform")).getTag(),
+            id == null ? accountId == null ? name : accountId : id);
     }
 
-    public static int forSummonerPositionsDto(final SummonerPositions positions) {
-        return Arrays.hashCode(new Object[] {
-            SummonerPositions.class.getCanonicalName(), positions.getPlatform(), positions.getSummonerId()
-        });
+    public static Key forSummonerPositionsDto(final SummonerPositions positions) {
+        return hash(SummonerPositions.class, positions.getPlatform(), positions.getSummonerId());
     }
 
-    public static int forSummonerPositionsDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            SummonerPositions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forSummonerPositionsDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(SummonerPositions.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forSummonerQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final Number accountId = (Number)query.get("accountId");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            Summoner.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            id == null ? accountId == null ? name : accountId.longValue() : id.longValue()
-        });
+        return hash(Summoner.class, ((Platform)query.get("platform")).getTag(), id == null ? accountId == null ? name : accountId : id);
     }
 
-    public static int[] forSummonerSpell(final SummonerSpell summonerSpell) {
+    public static Key[] forSummonerSpell(final SummonerSpell summonerSpell) {
         final com.merakianalytics.orianna.types.data.staticdata.SummonerSpell data = summonerSpell.getCoreData();
         if(data.getId() != 0 && data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    SummonerSpell.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                }),
-                Arrays.hashCode(new Object[] {
-                    SummonerSpell.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(SummonerSpell.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()),
+                hash(SummonerSpell.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else if(data.getId() != 0) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    SummonerSpell.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(SummonerSpell.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getId(), data.getIncludedData())
             };
         } else if(data.getName() != null) {
-            return new int[] {
-                Arrays.hashCode(new Object[] {
-                    SummonerSpell.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData()
-                })
+            return new Key[] {
+                hash(SummonerSpell.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getName(), data.getIncludedData())
             };
         } else {
             throw new IllegalArgumentException("Can't get key for Item without ID or name!");
         }
     }
 
-    public static int[] forSummonerSpellData(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpell summonerSpell) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class.getCanonicalName(), summonerSpell.getPlatform(),
-                summonerSpell.getVersion(), summonerSpell.getLocale(), summonerSpell.getId(), summonerSpell.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class.getCanonicalName(), summonerSpell.getPlatform(),
-                summonerSpell.getVersion(), summonerSpell.getLocale(), summonerSpell.getName(), summonerSpell.getIncludedData()
-            })
+    public static Key[] forSummonerSpellData(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpell summonerSpell) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class, summonerSpell.getPlatform(), summonerSpell.getVersion(),
+                summonerSpell.getLocale(), summonerSpell.getId(), summonerSpell.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class, summonerSpell.getPlatform(), summonerSpell.getVersion(),
+                summonerSpell.getLocale(), summonerSpell.getName(), summonerSpell.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellDataQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerSpellDataQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
-    }
-
-    public static int[] forSummonerSpellDto(final com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell summonerSpell) {
-        return new int[] {
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class.getCanonicalName(), summonerSpell.getPlatform(),
-                summonerSpell.getVersion(), summonerSpell.getLocale(), summonerSpell.getId(), summonerSpell.getIncludedData()
-            }),
-            Arrays.hashCode(new Object[] {
-                com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class.getCanonicalName(), summonerSpell.getPlatform(),
-                summonerSpell.getVersion(), summonerSpell.getLocale(), summonerSpell.getName(), summonerSpell.getIncludedData()
-            })
+        return hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpell.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
+    }
+
+    public static Key[] forSummonerSpellDto(final com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell summonerSpell) {
+        return new Key[] {
+            hash(com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class, summonerSpell.getPlatform(), summonerSpell.getVersion(),
+                summonerSpell.getLocale(), summonerSpell.getId(), summonerSpell.getIncludedData()),
+            hash(com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class, summonerSpell.getPlatform(), summonerSpell.getVersion(),
+                summonerSpell.getLocale(), summonerSpell.getName(), summonerSpell.getIncludedData())
         };
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellDtoQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerSpellDtoQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.SummonerSpell.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forSummonerSpellListDto(final SummonerSpellList spells) {
-        return Arrays.hashCode(new Object[] {
-            SummonerSpellList.class.getCanonicalName(), spells.getPlatform(), spells.getVersion(), spells.getLocale(), spells.getIncludedData()
-        });
+    public static Key forSummonerSpellListDto(final SummonerSpellList spells) {
+        return hash(SummonerSpellList.class, spells.getPlatform(), spells.getVersion(), spells.getLocale(), spells.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellListDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            SummonerSpellList.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forSummonerSpellListDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(SummonerSpellList.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellQuery(final java.util.Map<String, Object> query) {
+    public static Key forSummonerSpellQuery(final java.util.Map<String, Object> query) {
         final Number id = (Number)query.get("id");
         final String name = (String)query.get("name");
-        return Arrays.hashCode(new Object[] {
-            SummonerSpell.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            id == null ? name : id.intValue(), (Set<String>)query.get("includedData")
-        });
+        return hash(SummonerSpell.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            id == null ? name : id, (Set<String>)query.get("includedData"));
     }
 
-    public static int forSummonerSpells(final SummonerSpells spells) {
+    public static Key forSummonerSpells(final SummonerSpells spells) {
         final com.merakianalytics.orianna.types.data.staticdata.SummonerSpells data = spells.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            SummonerSpells.class.getCanonicalName(), data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData()
-        });
+        return hash(SummonerSpells.class, data.getPlatform(), data.getVersion(), data.getLocale(), data.getIncludedData());
     }
 
-    public static int forSummonerSpellsData(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpells spells) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class.getCanonicalName(), spells.getPlatform(), spells.getVersion(),
-            spells.getLocale(), spells.getIncludedData()
-        });
+    public static Key forSummonerSpellsData(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpells spells) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class, spells.getPlatform(), spells.getVersion(), spells.getLocale(),
+            spells.getIncludedData());
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forSummonerSpellsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.SummonerSpells.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("version"), (String)query.get("locale"), (Set<String>)query.get("includedData"));
     }
 
     @SuppressWarnings("unchecked")
-    public static int forSummonerSpellsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            SummonerSpells.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
-            (Set<String>)query.get("includedData")
-        });
+    public static Key forSummonerSpellsQuery(final java.util.Map<String, Object> query) {
+        return hash(SummonerSpells.class, ((Platform)query.get("platform")).getTag(), (String)query.get("version"), (String)query.get("locale"),
+            (Set<String>)query.get("includedData"));
     }
 
-    public static int forTimeline(final Timeline timeline) {
+    public static Key forTimeline(final Timeline timeline) {
         final com.merakianalytics.orianna.types.data.match.Timeline data = timeline.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Timeline.class.getCanonicalName(), data.getPlatform(), data.getId()
-        });
+        return hash(Timeline.class, data.getPlatform(), data.getId());
     }
 
-    public static int forTimelineData(final com.merakianalytics.orianna.types.data.match.Timeline timeline) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.Timeline.class.getCanonicalName(), timeline.getPlatform(), timeline.getId()
-        });
+    public static Key forTimelineData(final com.merakianalytics.orianna.types.data.match.Timeline timeline) {
+        return hash(com.merakianalytics.orianna.types.data.match.Timeline.class, timeline.getPlatform(), timeline.getId());
     }
 
-    public static int forTimelineDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.Timeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forTimelineDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.match.Timeline.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forTimelineQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Timeline.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("matchId")).longValue()
-        });
+    public static Key forTimelineQuery(final java.util.Map<String, Object> query) {
+        return hash(Timeline.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("matchId"));
     }
 
-    public static int forTournamentMatches(final TournamentMatches matches) {
+    public static Key forTournamentMatches(final TournamentMatches matches) {
         final com.merakianalytics.orianna.types.data.match.TournamentMatches data = matches.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            TournamentMatches.class.getCanonicalName(), data.getPlatform(), data.getTournamentCode()
-        });
+        return hash(TournamentMatches.class, data.getPlatform(), data.getTournamentCode());
     }
 
-    public static int forTournamentMatchesData(final com.merakianalytics.orianna.types.data.match.TournamentMatches matches) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.TournamentMatches.class.getCanonicalName(), matches.getPlatform(), matches.getTournamentCode()
-        });
+    public static Key forTournamentMatchesData(final com.merakianalytics.orianna.types.data.match.TournamentMatches matches) {
+        return hash(com.merakianalytics.orianna.types.data.match.TournamentMatches.class, matches.getPlatform(), matches.getTournamentCode());
     }
 
-    public static int forTournamentMatchesDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.match.TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("tournamentCode")
-        });
+    public static Key forTournamentMatchesDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.match.TournamentMatches.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("tournamentCode"));
     }
 
-    public static int forTournamentMatchesDto(final com.merakianalytics.orianna.types.dto.match.TournamentMatches matches) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.match.TournamentMatches.class.getCanonicalName(), matches.getPlatform(), matches.getTournamentCode()
-        });
+    public static Key forTournamentMatchesDto(final com.merakianalytics.orianna.types.dto.match.TournamentMatches matches) {
+        return hash(com.merakianalytics.orianna.types.dto.match.TournamentMatches.class, matches.getPlatform(), matches.getTournamentCode());
     }
 
-    public static int forTournamentMatchesDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.match.TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            (String)query.get("tournamentCode")
-        });
+    public static Key forTournamentMatchesDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.match.TournamentMatches.class, ((Platform)query.get("platform")).getTag(),
+            (String)query.get("tournamentCode"));
     }
 
-    public static int forTournamentMatchesQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            TournamentMatches.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), (String)query.get("tournamentCode")
-        });
+    public static Key forTournamentMatchesQuery(final java.util.Map<String, Object> query) {
+        return hash(TournamentMatches.class, ((Platform)query.get("platform")).getTag(), (String)query.get("tournamentCode"));
     }
 
-    public static int forVerificationString(final VerificationString string) {
+    public static Key forVerificationString(final VerificationString string) {
         final com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString data = string.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            VerificationString.class.getCanonicalName(), data.getPlatform(), data.getSummonerId()
-        });
+        return hash(VerificationString.class, data.getPlatform(), data.getSummonerId());
     }
 
-    public static int forVerificationStringData(final com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString string) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class.getCanonicalName(), string.getPlatform(), string.getSummonerId()
-        });
+    public static Key forVerificationStringData(final com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString string) {
+        return hash(com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class, string.getPlatform(), string.getSummonerId());
     }
 
-    public static int forVerificationStringDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forVerificationStringDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forVerificationStringDto(final com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString string) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class.getCanonicalName(), string.getPlatform(), string.getSummonerId()
-        });
+    public static Key forVerificationStringDto(final com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString string) {
+        return hash(com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class, string.getPlatform(), string.getSummonerId());
     }
 
-    public static int forVerificationStringDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(),
-            ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forVerificationStringDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.thirdpartycode.VerificationString.class, ((Platform)query.get("platform")).getTag(),
+            (Number)query.get("summonerId"));
     }
 
-    public static int forVerificationStringQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            VerificationString.class.getCanonicalName(), ((Platform)query.get("platform")).getTag(), ((Number)query.get("summonerId")).longValue()
-        });
+    public static Key forVerificationStringQuery(final java.util.Map<String, Object> query) {
+        return hash(VerificationString.class, ((Platform)query.get("platform")).getTag(), (Number)query.get("summonerId"));
     }
 
-    public static int forVersions(final Versions versions) {
+    public static Key forVersions(final Versions versions) {
         final com.merakianalytics.orianna.types.data.staticdata.Versions data = versions.getCoreData();
-        return Arrays.hashCode(new Object[] {
-            Versions.class.getCanonicalName(), data.getPlatform()
-        });
+        return hash(Versions.class, data.getPlatform());
+    }
+
+    public static Key forVersionsData(final com.merakianalytics.orianna.types.data.staticdata.Versions versions) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Versions.class, versions.getPlatform());
+    }
+
+    public static Key forVersionsDataQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.data.staticdata.Versions.class, ((Platform)query.get("platform")).getTag());
+    }
+
+    public static Key forVersionsDto(final com.merakianalytics.orianna.types.dto.staticdata.Versions versions) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Versions.class, versions.getPlatform());
+    }
+
+    public static Key forVersionsDtoQuery(final java.util.Map<String, Object> query) {
+        return hash(com.merakianalytics.orianna.types.dto.staticdata.Versions.class, ((Platform)query.get("platform")).getTag());
+    }
+
+    public static Key forVersionsQuery(final java.util.Map<String, Object> query) {
+        return hash(Versions.class, ((Platform)query.get("platform")).getTag());
+    }
+
+    private static Key hash(final Class<?> type, final Object a) {
+        return new Key(type).add(a).finish();
+    }
+
+    private static Key hash(final Class<?> type, final Object a, final Object b) {
+        return new Key(type).add(a).add(b).finish();
+    }
+
+    private static Key hash(final Class<?> type, final Object a, final Object b, final Object c) {
+        return new Key(type).add(a).add(b).add(c).finish();
     }
 
-    public static int forVersionsData(final com.merakianalytics.orianna.types.data.staticdata.Versions versions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Versions.class.getCanonicalName(), versions.getPlatform()
-        });
+    private static Key hash(final Class<?> type, final Object a, final Object b, final Object c, final Object d) {
+        return new Key(type).add(a).add(b).add(c).add(d).finish();
     }
 
-    public static int forVersionsDataQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.data.staticdata.Versions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    private static Key hash(final Class<?> type, final Object a, final Object b, final Object c, final Object d, final Object e) {
+        return new Key(type).add(a).add(b).add(c).add(d).add(e).finish();
     }
 
-    public static int forVersionsDto(final com.merakianalytics.orianna.types.dto.staticdata.Versions versions) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Versions.class.getCanonicalName(), versions.getPlatform()
-        });
+    // The SplitMix64 finalizer
+    private static long mixHigh(long value) {
+        value = (value ^ value >>> 30) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ value >>> 27) * 0x94D049BB133111EBL;
+        return value ^ value >>> 31;
     }
 
-    public static int forVersionsDtoQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            com.merakianalytics.orianna.types.dto.staticdata.Versions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    // The MurmurHash3 finalizer
+    private static long mixLow(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
     }
 
-    public static int forVersionsQuery(final java.util.Map<String, Object> query) {
-        return Arrays.hashCode(new Object[] {
-            Versions.class.getCanonicalName(), ((Platform)query.get("platform")).getTag()
-        });
+    private static long[] setHash(final Set<?> set) {
+        // Only immutable sets can be cached, since a mutable one could change under the same identity. A single element, like the builders' default
+        // includedData, is cheaper to hash than to look up.
+        final boolean cacheable = set instanceof ImmutableSet && set.size() > 1;
+        if(cacheable) {
+            final long[] cached = SET_HASHES.getIfPresent(set);
+            if(cached != null) {
+                return cached;
+            }
+        }
+
+        // Order independent, like Set.hashCode
+        final long[] hashes = new long[2];
+        for(final Object element : set) {
+            final Key key = new Key(0L, 0L).add(element);
+            hashes[0] += key.low;
+            hashes[1] += key.high;
+        }
+
+        if(cacheable) {
+            SET_HASHES.put(set, hashes);
+        }
+        return hashes;
+    }
+
+    private static long[] typeHash(final Class<?> type) {
+        long[] hashes = TYPE_HASHES.get(type);
+        if(hashes == null) {
+            final Key key = new Key(0L, 0L).add(type.getCanonicalName());
+            hashes = new long[] {key.low, key.high};
+            TYPE_HASHES.put(type, hashes);
+        }
+        return hashes;
     }
 }
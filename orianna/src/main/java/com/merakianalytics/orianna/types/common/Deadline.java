@@ -0,0 +1,132 @@
+package com.merakianalytics.orianna.types.common;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time by which a caller needs its requests done. A request that would finish after it isn't worth making, so it stops waiting on the rate limiter
+ * without taking a permit, and its HTTP timeouts are cut to the time it has left.
+ *
+ * Like {@link Priority}, the deadline belongs to the current thread and is set with {@link #enter(Deadline)}. Work started from the thread with getAsync,
+ * loadAsync or a publisher, and any retries of its requests, keep the deadline it had when they were started. Threads have no deadline by default.
+ */
+public class Deadline {
+    /**
+     * Restores the thread's previous deadline when it's closed.
+     */
+    public static class Scope implements AutoCloseable {
+        private final Deadline previous;
+
+        private Scope(final Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if(previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @param time
+     *        how long from now
+     * @param unit
+     *        the unit of time
+     * @return a deadline that long from now
+     */
+    public static Deadline after(final long time, final TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(time));
+    }
+
+    /**
+     * @return the current thread's deadline, or null if it doesn't have one
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the current thread's deadline until the returned scope is closed. If the thread already has an earlier deadline, it keeps that one.
+     *
+     * @param deadline
+     *        the deadline, or null to leave the current one as it is
+     * @return the scope, to close when the work with the deadline is done
+     */
+    public static Scope enter(final Deadline deadline) {
+        final Deadline previous = CURRENT.get();
+        if(deadline != null && (previous == null || deadline.nanos - previous.nanos < 0L)) {
+            CURRENT.set(deadline);
+        }
+        return new Scope(previous);
+    }
+
+    /**
+     * @param callable
+     *        the work
+     * @return the work, made to run with the current thread's deadline whichever thread runs it
+     */
+    public static <T> Callable<T> propagate(final Callable<T> callable) {
+        final Deadline deadline = CURRENT.get();
+        if(deadline == null) {
+            return callable;
+        }
+        return new Callable<T>() {
+            @Override
+            @SuppressWarnings("try")
+            public T call() throws Exception {
+                try(Scope scope = enter(deadline)) {
+                    return callable.call();
+                }
+            }
+        };
+    }
+
+    /**
+     * @param runnable
+     *        the work
+     * @return the work, made to run with the current thread's deadline whichever thread runs it
+     */
+    public static Runnable propagate(final Runnable runnable) {
+        final Deadline deadline = CURRENT.get();
+        if(deadline == null) {
+            return runnable;
+        }
+        return new Runnable() {
+            @Override
+            @SuppressWarnings("try")
+            public void run() {
+                try(Scope scope = enter(deadline)) {
+                    runnable.run();
+                }
+            }
+        };
+    }
+
+    private final long nanos;
+
+    private Deadline(final long nanos) {
+        this.nanos = nanos;
+    }
+
+    /**
+     * @return whether the deadline has passed
+     */
+    public boolean isExpired() {
+        return nanos - System.nanoTime() <= 0L;
+    }
+
+    /**
+     * @param unit
+     *        the unit to return the time in
+     * @return the time left until the deadline, or 0 if it has passed
+     */
+    public long remaining(final TimeUnit unit) {
+        return unit.convert(Math.max(0L, nanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,110 @@
+package com.merakianalytics.orianna.types.common;
+
+import java.util.concurrent.Callable;
+
+/**
+ * How urgent a request is. A share of each rate limit window can be held back for the higher priorities, and once it is, requests waiting on the rate
+ * limiter get permits in priority order. Without reserves they're served first come, first served.
+ *
+ * The priority belongs to the current thread and is NORMAL unless it's been set with {@link #enter(Priority)}. Work started from the thread with getAsync,
+ * loadAsync or a publisher, and any retries of its requests, keep the priority it had when they were started.
+ */
+public enum Priority {
+        BULK(2),
+        INTERACTIVE(0),
+        NORMAL(1);
+
+    /**
+     * Restores the thread's previous priority when it's closed.
+     */
+    public static class Scope implements AutoCloseable {
+        private final Priority previous;
+
+        private Scope(final Priority previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static final ThreadLocal<Priority> CURRENT = new ThreadLocal<Priority>() {
+        @Override
+        protected Priority initialValue() {
+            return NORMAL;
+        }
+    };
+
+    /**
+     * @return the current thread's priority
+     */
+    public static Priority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the current thread's priority until the returned scope is closed.
+     *
+     * @param priority
+     *        the priority
+     * @return the scope, to close when the prioritized work is done
+     */
+    public static Scope enter(final Priority priority) {
+        final Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(priority);
+        return scope;
+    }
+
+    /**
+     * @param callable
+     *        the work
+     * @return the work, made to run at the current thread's priority whichever thread runs it
+     */
+    public static <T> Callable<T> propagate(final Callable<T> callable) {
+        final Priority priority = CURRENT.get();
+        return new Callable<T>() {
+            @Override
+            @SuppressWarnings("try")
+            public T call() throws Exception {
+                try(Scope scope = enter(priority)) {
+                    return callable.call();
+                }
+            }
+        };
+    }
+
+    /**
+     * @param runnable
+     *        the work
+     * @return the work, made to run at the current thread's priority whichever thread runs it
+     */
+    public static Runnable propagate(final Runnable runnable) {
+        final Priority priority = CURRENT.get();
+        return new Runnable() {
+            @Override
+            @SuppressWarnings("try")
+            public void run() {
+                try(Scope scope = enter(priority)) {
+                    runnable.run();
+                }
+            }
+        };
+    }
+
+    private final int rank;
+
+    private Priority(final int rank) {
+        this.rank = rank;
+    }
+
+    /**
+     * @param other
+     *        another priority
+     * @return whether this priority is more urgent than the other one
+     */
+    public boolean isHigherThan(final Priority other) {
+        return rank < other.rank;
+    }
+}
@@ -10,10 +10,26 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.merakianalytics.orianna.Orianna;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.common.Priority;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.data.CoreData;
@@ -73,8 +89,16 @@ public abstract class GhostObject<T extends CoreData> extends OriannaObject<T> {
         private static final long serialVersionUID = 781726166394753316L;
         private SearchableList<T> data;
 
+        public ListProxy(final L coreData) {
+            super(coreData);
+        }
+
+        /**
+         * @deprecated use {@link #ListProxy(CoreData.ListProxy)}
+         */
+        @Deprecated
         public ListProxy(final L coreData, final int loadGroups) {
-            super(coreData, loadGroups);
+            this(coreData);
         }
 
         @Override
@@ -272,18 +296,34 @@ public abstract class GhostObject<T extends CoreData> extends OriannaObject<T> {
         private Function<CK, K> keyTransform;
         private Function<CV, V> valueTransform;
 
-        public MapProxy(final P coreData, final int loadGroups) {
-            super(coreData, loadGroups);
+        public MapProxy(final P coreData) {
+            super(coreData);
         }
 
-        public MapProxy(final P coreData, final int loadGroups, final Function<CK, K> keyTransform,
-            final Function<CV, V> valueTransform) {
-            super(coreData, loadGroups);
+        public MapProxy(final P coreData, final Function<CK, K> keyTransform, final Function<CV, V> valueTransform) {
+            super(coreData);
 
             this.keyTransform = keyTransform;
             this.valueTransform = valueTransform;
         }
 
+        /**
+         * @deprecated use {@link #MapProxy(CoreData.MapProxy)}
+         */
+        @Deprecated
+        public MapProxy(final P coreData, final int loadGroups) {
+            this(coreData);
+        }
+
+        /**
+         * @deprecated use {@link #MapProxy(CoreData.MapProxy, Function, Function)}
+         */
+        @Deprecated
+        public MapProxy(final P coreData, final int loadGroups, final Function<CK, K> keyTransform,
+            final Function<CV, V> valueTransform) {
+            this(coreData, keyTransform, valueTransform);
+        }
+
         @Override
         public void clear() {
             throw new UnsupportedOperationException();
@@ -371,63 +411,211 @@ public abstract class GhostObject<T extends CoreData> extends OriannaObject<T> {
         }
     }
 
-    private static final long serialVersionUID = -1133820478440391056L;
-    private final Map<String, Object> groupLocks;
-    private final Map<String, Boolean> groups;
-    private final Object loadHookLock = new Object();
-    private Map<String, Set<LoadHook>> loadHooks;
+    private static class LoadKey {
+        private final int bit;
+        private final GhostObject<?> object;
 
-    public GhostObject(final T coreData, final int loadGroups) {
+        public LoadKey(final GhostObject<?> object, final int bit) {
+            this.object = object;
+            this.bit = bit;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof LoadKey)) {
+                return false;
+            }
+            final LoadKey other = (LoadKey)obj;
+            return object == other.object && bit == other.bit;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(object) + bit;
+        }
+    }
+
+    private static class Loading {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final Thread owner = Thread.currentThread();
+
+        public void await() {
+            boolean interrupted = false;
+            while(true) {
+                try {
+                    done.await();
+                    break;
+                } catch(final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if(interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final ConcurrentMap<Class<?>, String[]> LOAD_GROUPS = new ConcurrentHashMap<>();
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<GhostObject, Map> LOAD_HOOKS = AtomicReferenceFieldUpdater.newUpdater(GhostObject.class, Map.class,
+        "loadHooks");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<GhostObject> LOADED = AtomicIntegerFieldUpdater.newUpdater(GhostObject.class, "loaded");
+    // Only loads that are actually running have an entry here. Once a group is loaded its bit is set and nobody looks here for it again.
+    private static final ConcurrentMap<LoadKey, Loading> LOADING = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(GhostObject.class);
+    private static final long serialVersionUID = 4722071839216538097L;
+    // Copied on write and swapped in with a CAS, so registering hooks on one object never waits on another
+    private volatile Map<String, Set<LoadHook>> loadHooks;
+    private volatile int loaded;
+
+    public GhostObject(final T coreData) {
         super(coreData);
-        groupLocks = new ConcurrentHashMap<>(loadGroups);
-        groups = new ConcurrentHashMap<>(loadGroups);
+    }
+
+    /**
+     * @deprecated the load groups are read from {@link #getLoadGroups()}, so the count isn't needed. Use {@link #GhostObject(CoreData)}.
+     */
+    @Deprecated
+    public GhostObject(final T coreData, final int loadGroups) {
+        this(coreData);
+    }
+
+    private int bit(final String group) {
+        final String[] groups = groups();
+
+        // Load groups are constants, so an identity check almost always finds them
+        for(int i = 0; i < groups.length; i++) {
+            if(groups[i] == group) {
+                return 1 << i;
+            }
+        }
+        for(int i = 0; i < groups.length; i++) {
+            if(groups[i].equals(group)) {
+                return 1 << i;
+            }
+        }
+
+        LOGGER.error(group + " isn't a load group of " + getClass().getName() + "!");
+        throw new OriannaException(group + " isn't a load group of " + getClass().getName() + "! Report this to the orianna team.");
     }
 
     public abstract boolean exists();
 
     protected abstract List<String> getLoadGroups();
 
+    private String[] groups() {
+        String[] groups = LOAD_GROUPS.get(getClass());
+        if(groups == null) {
+            groups = getLoadGroups().toArray(new String[0]);
+            if(groups.length > Integer.SIZE) {
+                LOGGER.error(getClass().getName() + " has " + groups.length + " load groups but only " + Integer.SIZE + " are supported!");
+                throw new OriannaException(getClass().getName() + " has " + groups.length + " load groups but only " + Integer.SIZE
+                    + " are supported! Report this to the orianna team.");
+            }
+            final String[] previous = LOAD_GROUPS.putIfAbsent(getClass(), groups);
+            if(previous != null) {
+                groups = previous;
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * @return whether every load group has been loaded
+     */
+    public boolean isLoaded() {
+        final int count = groups().length;
+        final int all = count == Integer.SIZE ? -1 : (1 << count) - 1;
+        return (loaded & all) == all;
+    }
+
+    private boolean isLoaded(final int bit) {
+        return (loaded & bit) != 0;
+    }
+
     public void load() {
         for(final String loadGroup : getLoadGroups()) {
             load(loadGroup);
         }
     }
 
-    protected void load(final String group) {
-        Boolean loaded = groups.get(group);
-        if(loaded == null || !loaded) {
-            Object lock = groupLocks.get(group);
-            if(lock == null) {
-                synchronized(groupLocks) {
-                    lock = groupLocks.get(group);
-                    if(lock == null) {
-                        lock = new Object();
-                        groupLocks.put(group, lock);
-                    }
+    /**
+     * Loads every load group on the async executor, each one as its own task.
+     *
+     * @return a future that completes once everything is loaded
+     */
+    public ListenableFuture<Void> loadAsync() {
+        final ListeningExecutorService executor = Orianna.getSettings().getAsyncExecutor();
+        final List<String> groups = getLoadGroups();
+        final List<ListenableFuture<Void>> loads = new ArrayList<>(groups.size());
+        for(final String group : groups) {
+            if(isLoaded(bit(group))) {
+                continue;
+            }
+            loads.add(executor.submit(Deadline.propagate(Priority.propagate(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    load(group);
+                    return null;
                 }
+            }))));
+        }
+
+        if(loads.isEmpty()) {
+            return Futures.immediateFuture(null);
+        }
+        return Futures.transform(Futures.allAsList(loads), new Function<List<Void>, Void>() {
+            @Override
+            public Void apply(final List<Void> loaded) {
+                return null;
             }
+        }, MoreExecutors.directExecutor());
+    }
 
-            boolean callHooks = false;
-            synchronized(lock) {
-                loaded = groups.get(group);
-                if(loaded == null || !loaded) {
-                    loadCoreData(group);
-                    groups.put(group, Boolean.TRUE);
-                    callHooks = true;
-                }
+    protected void load(final String group) {
+        final int bit = bit(group);
+        if(isLoaded(bit)) {
+            return;
+        }
+
+        final LoadKey key = new LoadKey(this, bit);
+        final Loading loading = new Loading();
+        while(true) {
+            final Loading running = LOADING.putIfAbsent(key, loading);
+            if(running == null) {
+                break;
+            }
+            if(running.owner == loading.owner) {
+                // Re-entered from inside the load that's already running, which keeps the outer load in charge of the state
+                loadCoreData(group);
+                return;
+            }
+            running.await();
+            if(isLoaded(bit)) {
+                return;
+            }
+        }
+
+        boolean callHooks = false;
+        try {
+            if(!isLoaded(bit)) {
+                loadCoreData(group);
+                callHooks = setLoaded(bit);
             }
+        } finally {
+            LOADING.remove(key);
+            loading.done.countDown();
+        }
 
-            if(callHooks) {
-                synchronized(loadHookLock) {
-                    if(loadHooks != null) {
-                        for(final LoadHook hook : loadHooks.get(group)) {
-                            hook.call();
-                        }
-                        loadHooks.remove(group);
-                        if(loadHooks.isEmpty()) {
-                            loadHooks = null;
-                        }
-                    }
+        if(callHooks) {
+            final Set<LoadHook> hooks = removeHooks(group);
+            if(hooks != null) {
+                for(final LoadHook hook : hooks) {
+                    hook.call();
                 }
             }
         }
@@ -435,55 +623,97 @@ public abstract class GhostObject<T extends CoreData> extends OriannaObject<T> {
 
     protected abstract void loadCoreData(String group);
 
+    /**
+     * Marks every load group as loaded, for an object that was built from core data that's already complete.
+     */
+    public void markAsGhostLoaded() {
+        for(final String group : groups()) {
+            markAsGhostLoaded(group);
+        }
+    }
+
     public void markAsGhostLoaded(final String group) {
-        Boolean loaded = groups.get(group);
-        if(loaded == null || !loaded) {
-            Object lock = groupLocks.get(group);
-            if(lock == null) {
-                synchronized(groupLocks) {
-                    lock = groupLocks.get(group);
-                    if(lock == null) {
-                        lock = new Object();
-                        groupLocks.put(group, lock);
-                    }
-                }
+        final int bit = bit(group);
+        if(isLoaded(bit)) {
+            return;
+        }
+
+        final Loading running = LOADING.get(new LoadKey(this, bit));
+        if(running != null && running.owner != Thread.currentThread()) {
+            running.await();
+        }
+
+        if(setLoaded(bit)) {
+            removeHooks(group);
+        }
+    }
+
+    /**
+     * Registers a hook with every load group that hasn't been loaded yet. It's called once for each of them as they finish loading.
+     *
+     * @param hook
+     *        the hook
+     */
+    public void registerGhostLoadHook(final LoadHook hook) {
+        for(final String group : groups()) {
+            registerGhostLoadHook(hook, group);
+        }
+    }
+
+    public void registerGhostLoadHook(final LoadHook hook, final String group) {
+        final int bit = bit(group);
+        if(isLoaded(bit)) {
+            return;
+        }
+
+        while(true) {
+            final Map<String, Set<LoadHook>> current = loadHooks;
+            final Map<String, Set<LoadHook>> hooks = current == null ? new HashMap<String, Set<LoadHook>>() : new HashMap<>(current);
+            final Set<LoadHook> groupHooks = hooks.containsKey(group) ? new HashSet<>(hooks.get(group)) : new HashSet<LoadHook>();
+            groupHooks.add(hook);
+            hooks.put(group, groupHooks);
+            if(LOAD_HOOKS.compareAndSet(this, current, hooks)) {
+                break;
             }
+        }
 
-            boolean removeHooks = false;
-            synchronized(lock) {
-                loaded = groups.get(group);
-                if(loaded == null || !loaded) {
-                    groups.put(group, Boolean.TRUE);
-                    removeHooks = true;
+        if(isLoaded(bit)) {
+            // The group finished loading while the hook was being added, so its hooks may have been taken already
+            final Set<LoadHook> missed = removeHooks(group);
+            if(missed != null) {
+                for(final LoadHook loadHook : missed) {
+                    loadHook.call();
                 }
             }
+        }
+    }
+
+    private Set<LoadHook> removeHooks(final String group) {
+        while(true) {
+            final Map<String, Set<LoadHook>> current = loadHooks;
+            if(current == null || !current.containsKey(group)) {
+                return null;
+            }
 
-            if(removeHooks) {
-                synchronized(loadHookLock) {
-                    if(loadHooks != null) {
-                        loadHooks.remove(group);
-                        if(loadHooks.isEmpty()) {
-                            loadHooks = null;
-                        }
-                    }
-                }
+            Map<String, Set<LoadHook>> hooks = null;
+            if(current.size() > 1) {
+                hooks = new HashMap<>(current);
+                hooks.remove(group);
+            }
+            if(LOAD_HOOKS.compareAndSet(this, current, hooks)) {
+                return current.get(group);
             }
         }
     }
 
-    public void registerGhostLoadHook(final LoadHook hook, final String group) {
-        final Boolean loaded = groups.get(group);
-        if(loaded == null || !loaded) {
-            synchronized(loadHookLock) {
-                if(loadHooks == null) {
-                    loadHooks = new HashMap<>();
-                }
-                Set<LoadHook> hooks = loadHooks.get(group);
-                if(hooks == null) {
-                    hooks = new HashSet<>();
-                    loadHooks.put(group, hooks);
-                }
-                hooks.add(hook);
+    private boolean setLoaded(final int bit) {
+        while(true) {
+            final int current = loaded;
+            if((current & bit) != 0) {
+                return false;
+            }
+            if(LOADED.compareAndSet(this, current, current | bit)) {
+                return true;
             }
         }
     }
@@ -0,0 +1,80 @@
+package com.merakianalytics.orianna.types.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.merakianalytics.orianna.Orianna;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.Priority;
+
+public abstract class GhostObjects {
+    /**
+     * Runs a builder's get on the async executor and loads what it returns before the future completes. A ghost object has every load group loaded, and
+     * the ghost objects in a collection are all loaded at once. Loads run as their own tasks, so nothing on the executor blocks waiting for another task.
+     *
+     * @param <T>
+     *        the result type
+     * @param get
+     *        the builder's get
+     * @return a future for the loaded result
+     */
+    public static <T> ListenableFuture<T> getAsync(final Callable<T> get) {
+        // The loads start from whichever thread finishes the get, so they need the caller's deadline and priority put back for their tasks to pick up
+        final Deadline deadline = Deadline.current();
+        final Priority priority = Priority.current();
+        final ListenableFuture<T> result = Orianna.getSettings().getAsyncExecutor().submit(Deadline.propagate(Priority.propagate(get)));
+        return Futures.transformAsync(result, new AsyncFunction<T, T>() {
+            @Override
+            @SuppressWarnings("try")
+            public ListenableFuture<T> apply(final T result) {
+                try(Deadline.Scope deadlineScope = Deadline.enter(deadline); Priority.Scope priorityScope = Priority.enter(priority)) {
+                    return loadAsync(result);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    static <T> ListenableFuture<T> loadAsync(final T result) {
+        final List<ListenableFuture<Void>> loads = new ArrayList<>();
+        if(result instanceof GhostObject) {
+            loads.add(((GhostObject<?>)result).loadAsync());
+        } else if(result instanceof Collection) {
+            for(final Object item : (Collection<?>)result) {
+                if(item instanceof GhostObject) {
+                    loads.add(((GhostObject<?>)item).loadAsync());
+                }
+            }
+        }
+
+        if(loads.isEmpty()) {
+            return Futures.immediateFuture(result);
+        }
+        return Futures.transform(Futures.allAsList(loads), new Function<List<Void>, T>() {
+            @Override
+            public T apply(final List<Void> loaded) {
+                return result;
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Publishes a builder's streamed results, loading each one before it's sent. Items are only pulled and loaded as the subscriber asks for them, with up to
+     * the configured publisherParallelism loads running at once, and cancelling stops the stream and the loads still running.
+     *
+     * @param <T>
+     *        the item type
+     * @param get
+     *        the builder's get, run once for each subscriber
+     * @return the publisher
+     */
+    public static <T> Publisher<T> publish(final Callable<? extends Iterable<? extends T>> get) {
+        return new LoadingPublisher<>(get, Orianna.getSettings().getPublisherParallelism(), Orianna.getSettings().getAsyncExecutor());
+    }
+}
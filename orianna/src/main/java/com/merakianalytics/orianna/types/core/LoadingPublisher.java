@@ -0,0 +1,198 @@
+package com.merakianalytics.orianna.types.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.merakianalytics.orianna.types.common.Deadline;
+import com.merakianalytics.orianna.types.common.Priority;
+
+/**
+ * Publishes the items of an iterable, loading each one before it's sent. Items are pulled from the iterable and loaded only when there's demand for them, with
+ * no more than parallelism loads running at once, and they're sent in order. Every subscriber gets its own run of the source.
+ *
+ * All of the work happens on the executor, one pass at a time per subscription, so the subscriber is never called from two threads at once.
+ *
+ * @param <T>
+ *        the item type
+ */
+class LoadingPublisher<T> implements Publisher<T> {
+    private class LoadingSubscription implements Subscription, Runnable {
+        private volatile boolean cancelled = false;
+        private boolean done = false;
+        private long emitted = 0L;
+        private volatile IllegalArgumentException invalidRequest;
+        private Iterable<? extends T> iterable;
+        private Iterator<? extends T> items;
+        // The subscribing thread's deadline and priority, for the loads started on the executor
+        private final Deadline deadline = Deadline.current();
+        private final Deque<ListenableFuture<T>> pending = new ArrayDeque<>();
+        private final Priority priority = Priority.current();
+        private final AtomicLong requested = new AtomicLong();
+        private final Subscriber<? super T> subscriber;
+        private final AtomicInteger work = new AtomicInteger();
+
+        public LoadingSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void close() {
+            for(final ListenableFuture<T> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+
+            for(final Object resource : new Object[] {items, iterable}) {
+                if(resource instanceof AutoCloseable) {
+                    try {
+                        ((AutoCloseable)resource).close();
+                    } catch(final Exception e) {
+                        LOGGER.warn("Failed to close a published source!", e);
+                    }
+                }
+            }
+            items = null;
+            iterable = null;
+        }
+
+        private void drain() throws Exception {
+            if(cancelled) {
+                done = true;
+                close();
+                return;
+            }
+            if(invalidRequest != null) {
+                throw invalidRequest;
+            }
+
+            if(items == null) {
+                iterable = source.call();
+                items = iterable.iterator();
+            }
+
+            boolean progress = true;
+            while(progress && !cancelled) {
+                progress = false;
+
+                final long outstanding = requested.get() - emitted;
+                while(pending.size() < Math.min(parallelism, outstanding) && items.hasNext()) {
+                    final ListenableFuture<T> future = GhostObjects.<T> loadAsync(items.next());
+                    future.addListener(new Runnable() {
+                        @Override
+                        public void run() {
+                            schedule();
+                        }
+                    }, MoreExecutors.directExecutor());
+                    pending.add(future);
+                }
+
+                while(emitted < requested.get() && !pending.isEmpty() && pending.peek().isDone() && !cancelled) {
+                    final T item;
+                    try {
+                        item = pending.poll().get();
+                    } catch(final ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+                    }
+                    subscriber.onNext(item);
+                    emitted++;
+                    progress = true;
+                }
+
+                if(pending.isEmpty() && !items.hasNext()) {
+                    done = true;
+                    close();
+                    subscriber.onComplete();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void request(final long n) {
+            if(n <= 0L) {
+                invalidRequest = new IllegalArgumentException("Must request a positive number of items, but " + n + " were requested!");
+            } else {
+                while(true) {
+                    final long current = requested.get();
+                    final long next = current + n < 0L ? Long.MAX_VALUE : current + n;
+                    if(requested.compareAndSet(current, next)) {
+                        break;
+                    }
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        @SuppressWarnings("try")
+        public void run() {
+            int missed = 1;
+            while(true) {
+                if(!done) {
+                    try(Deadline.Scope deadlineScope = Deadline.enter(deadline); Priority.Scope priorityScope = Priority.enter(priority)) {
+                        drain();
+                    } catch(final Exception e) {
+                        done = true;
+                        close();
+                        subscriber.onError(e);
+                    }
+                }
+
+                missed = work.addAndGet(-missed);
+                if(missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void schedule() {
+            if(work.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadingPublisher.class);
+
+    private final Executor executor;
+    private final int parallelism;
+    private final Callable<? extends Iterable<? extends T>> source;
+
+    /**
+     * @param source
+     *        makes the iterable to publish, once per subscriber
+     * @param parallelism
+     *        the most items to load at once
+     * @param executor
+     *        the executor to pull and send items on
+     */
+    public LoadingPublisher(final Callable<? extends Iterable<? extends T>> source, final int parallelism, final Executor executor) {
+        this.source = source;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if(subscriber == null) {
+            throw new NullPointerException("Subscriber can't be null!");
+        }
+        subscriber.onSubscribe(new LoadingSubscription(subscriber));
+    }
+}
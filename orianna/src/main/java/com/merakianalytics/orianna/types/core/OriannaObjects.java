@@ -0,0 +1,81 @@
+package com.merakianalytics.orianna.types.core;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merakianalytics.orianna.types.common.OriannaException;
+import com.merakianalytics.orianna.types.data.CoreData;
+
+public abstract class OriannaObjects {
+    private static final ConcurrentMap<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(OriannaObjects.class);
+
+    /**
+     * @param type
+     *        a core type
+     * @return whether objects of that type can be rebuilt from their core data. List and map proxy ghosts build their contents while they load, so they can't.
+     */
+    public static boolean canRebuild(final Class<?> type) {
+        return OriannaObject.class.isAssignableFrom(type) && !GhostObject.ListProxy.class.isAssignableFrom(type)
+            && !GhostObject.MapProxy.class.isAssignableFrom(type);
+    }
+
+    private static Constructor<?> constructor(final Class<?> type, final Class<? extends CoreData> dataType) {
+        Constructor<?> constructor = CONSTRUCTORS.get(type);
+        if(constructor == null) {
+            try {
+                constructor = type.getConstructor(dataType);
+            } catch(final NoSuchMethodException e) {
+                LOGGER.error(type.getName() + " has no constructor that takes its core data!", e);
+                throw new OriannaException(type.getName() + " has no constructor that takes its core data, so it can't be rebuilt!", e);
+            }
+            CONSTRUCTORS.putIfAbsent(type, constructor);
+        }
+        return constructor;
+    }
+
+    /**
+     * @param object
+     *        an object
+     * @return whether the object can be rebuilt from its core data right now, which for a ghost object means every load group has been loaded
+     */
+    public static boolean isComplete(final OriannaObject<?> object) {
+        if(!canRebuild(object.getClass())) {
+            return false;
+        }
+        return !(object instanceof GhostObject) || ((GhostObject<?>)object).isLoaded();
+    }
+
+    /**
+     * Rebuilds an object from the MsgPack form of its core data. Ghost objects come back with every load group marked as loaded, so only call this with the
+     * core data of an object that was complete.
+     *
+     * @param type
+     *        the core type
+     * @param dataType
+     *        the core data type
+     * @param bytes
+     *        the core data's MsgPack
+     * @return the object
+     */
+    public static OriannaObject<?> rebuild(final Class<?> type, final Class<? extends CoreData> dataType, final byte[] bytes) {
+        final CoreData data = CoreData.fromBytes(dataType, bytes);
+        final OriannaObject<?> object;
+        try {
+            object = (OriannaObject<?>)constructor(type, dataType).newInstance(data);
+        } catch(final InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            LOGGER.error("Failed to rebuild " + type.getName() + "!", e);
+            throw new OriannaException("Failed to rebuild " + type.getName() + " from its core data! Report this to the orianna team.", e);
+        }
+
+        if(object instanceof GhostObject) {
+            ((GhostObject<?>)object).markAsGhostLoaded();
+        }
+        return object;
+    }
+}
@@ -0,0 +1,28 @@
+package com.merakianalytics.orianna.types.core;
+
+/**
+ * A source of items that pushes them to a {@link Subscriber} only as fast as it asks for them. These follow the Reactive Streams contract, and have the same
+ * methods as java.util.concurrent.Flow, so adapting one to a reactive library is a matter of forwarding calls.
+ *
+ * @param <T>
+ *        the item type
+ */
+public interface Publisher<T> {
+    public static interface Subscriber<T> {
+        public void onComplete();
+
+        public void onError(Throwable error);
+
+        public void onNext(T item);
+
+        public void onSubscribe(Subscription subscription);
+    }
+
+    public static interface Subscription {
+        public void cancel();
+
+        public void request(long n);
+    }
+
+    public void subscribe(Subscriber<? super T> subscriber);
+}
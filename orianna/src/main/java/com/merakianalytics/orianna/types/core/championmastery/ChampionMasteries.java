@@ -5,17 +5,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -46,6 +50,24 @@ public class ChampionMasteries extends GhostObject.ListProxy<ChampionMastery, co
                 return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
             }
 
+            public ListenableFuture<SearchableList<ChampionMastery>> getAsync() {
+                return GhostObjects.getAsync(new Callable<SearchableList<ChampionMastery>>() {
+                    @Override
+                    public SearchableList<ChampionMastery> call() {
+                        return get();
+                    }
+                });
+            }
+
+            public Publisher<ChampionMastery> publish() {
+                return GhostObjects.publish(new Callable<SearchableList<ChampionMastery>>() {
+                    @Override
+                    public SearchableList<ChampionMastery> call() {
+                        return streaming().get();
+                    }
+                });
+            }
+
             public SubBuilder streaming() {
                 streaming = true;
                 return this;
@@ -65,6 +87,15 @@ public class ChampionMasteries extends GhostObject.ListProxy<ChampionMastery, co
             return Orianna.getSettings().getPipeline().get(ChampionMasteries.class, builder.build());
         }
 
+        public ListenableFuture<ChampionMasteries> getAsync() {
+            return GhostObjects.getAsync(new Callable<ChampionMasteries>() {
+                @Override
+                public ChampionMasteries call() {
+                    return get();
+                }
+            });
+        }
+
         public SubBuilder withChampions(final Champion... champions) {
             return new SubBuilder(Arrays.asList(champions));
         }
@@ -110,6 +141,24 @@ public class ChampionMasteries extends GhostObject.ListProxy<ChampionMastery, co
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<ChampionMasteries>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<ChampionMasteries>>() {
+                @Override
+                public SearchableList<ChampionMasteries> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<ChampionMasteries> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<ChampionMasteries>>() {
+                @Override
+                public SearchableList<ChampionMasteries> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public ManyBuilder streaming() {
             streaming = true;
             return this;
@@ -141,7 +190,7 @@ public class ChampionMasteries extends GhostObject.ListProxy<ChampionMastery, co
     });
 
     public ChampionMasteries(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteries coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,16 +2,19 @@ package com.merakianalytics.orianna.types.core.championmastery;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.staticdata.Champion;
 import com.merakianalytics.orianna.types.core.summoner.Summoner;
@@ -32,6 +35,15 @@ public class ChampionMastery extends GhostObject<com.merakianalytics.orianna.typ
 
                 return Orianna.getSettings().getPipeline().get(ChampionMastery.class, builder.build());
             }
+
+            public ListenableFuture<ChampionMastery> getAsync() {
+                return GhostObjects.getAsync(new Callable<ChampionMastery>() {
+                    @Override
+                    public ChampionMastery call() {
+                        return get();
+                    }
+                });
+            }
         }
 
         private final Summoner summoner;
@@ -73,7 +85,7 @@ public class ChampionMastery extends GhostObject<com.merakianalytics.orianna.typ
     });
 
     public ChampionMastery(final com.merakianalytics.orianna.types.data.championmastery.ChampionMastery coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
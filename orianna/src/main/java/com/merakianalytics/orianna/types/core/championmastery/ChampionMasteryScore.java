@@ -2,14 +2,17 @@ package com.merakianalytics.orianna.types.core.championmastery;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.summoner.Summoner;
 
@@ -27,6 +30,15 @@ public class ChampionMasteryScore extends GhostObject<com.merakianalytics.oriann
 
             return Orianna.getSettings().getPipeline().get(ChampionMasteryScore.class, builder.build());
         }
+
+        public ListenableFuture<ChampionMasteryScore> getAsync() {
+            return GhostObjects.getAsync(new Callable<ChampionMasteryScore>() {
+                @Override
+                public ChampionMasteryScore call() {
+                    return get();
+                }
+            });
+        }
     }
 
     public static final String CHAMPION_MASTERY_SCORE_LOAD_GROUP = "champion-mastery-score";
@@ -47,7 +59,7 @@ public class ChampionMasteryScore extends GhostObject<com.merakianalytics.oriann
     });
 
     public ChampionMasteryScore(final com.merakianalytics.orianna.types.data.championmastery.ChampionMasteryScore coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
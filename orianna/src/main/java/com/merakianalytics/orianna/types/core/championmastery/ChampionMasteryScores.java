@@ -5,12 +5,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.core.summoner.Summoner;
@@ -52,6 +56,24 @@ public abstract class ChampionMasteryScores {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<ChampionMasteryScore>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<ChampionMasteryScore>>() {
+                @Override
+                public SearchableList<ChampionMasteryScore> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<ChampionMasteryScore> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<ChampionMasteryScore>>() {
+                @Override
+                public SearchableList<ChampionMasteryScore> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
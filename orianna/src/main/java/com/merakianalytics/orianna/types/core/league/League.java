@@ -2,15 +2,18 @@ package com.merakianalytics.orianna.types.core.league;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Tier;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 
 public class League extends GhostObject.ListProxy<LeagueEntry, com.merakianalytics.orianna.types.data.league.LeagueEntry, com.merakianalytics.orianna.types.data.league.League> {
@@ -36,6 +39,15 @@ public class League extends GhostObject.ListProxy<LeagueEntry, com.merakianalyti
             return Orianna.getSettings().getPipeline().get(League.class, builder.build());
         }
 
+        public ListenableFuture<League> getAsync() {
+            return GhostObjects.getAsync(new Callable<League>() {
+                @Override
+                public League call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -71,6 +83,15 @@ public class League extends GhostObject.ListProxy<LeagueEntry, com.merakianalyti
                 return Orianna.getSettings().getPipeline().get(League.class, builder.build());
             }
 
+            public ListenableFuture<League> getAsync() {
+                return GhostObjects.getAsync(new Callable<League>() {
+                    @Override
+                    public League call() {
+                        return get();
+                    }
+                });
+            }
+
             public SubBuilder withPlatform(final Platform platform) {
                 this.platform = platform;
                 return this;
@@ -115,7 +136,7 @@ public class League extends GhostObject.ListProxy<LeagueEntry, com.merakianalyti
     }
 
     public League(final com.merakianalytics.orianna.types.data.league.League coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -5,17 +5,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -35,6 +39,15 @@ public class LeaguePositions extends GhostObject.ListProxy<LeaguePosition, com.m
 
             return Orianna.getSettings().getPipeline().get(LeaguePositions.class, builder.build());
         }
+
+        public ListenableFuture<LeaguePositions> getAsync() {
+            return GhostObjects.getAsync(new Callable<LeaguePositions>() {
+                @Override
+                public LeaguePositions call() {
+                    return get();
+                }
+            });
+        }
     }
 
     public static class ManyBuilder {
@@ -73,6 +86,24 @@ public class LeaguePositions extends GhostObject.ListProxy<LeaguePosition, com.m
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<LeaguePositions>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<LeaguePositions>>() {
+                @Override
+                public SearchableList<LeaguePositions> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<LeaguePositions> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<LeaguePositions>>() {
+                @Override
+                public SearchableList<LeaguePositions> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public ManyBuilder streaming() {
             streaming = true;
             return this;
@@ -104,7 +135,7 @@ public class LeaguePositions extends GhostObject.ListProxy<LeaguePosition, com.m
     });
 
     public LeaguePositions(final com.merakianalytics.orianna.types.data.league.LeaguePositions coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -1,8 +1,10 @@
 package com.merakianalytics.orianna.types.core.league;
 
 import java.util.Arrays;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
@@ -10,6 +12,8 @@ import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Tier;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -38,6 +42,24 @@ public abstract class Leagues {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<League>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<League>>() {
+                @Override
+                public SearchableList<League> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<League> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<League>>() {
+                @Override
+                public SearchableList<League> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
@@ -80,6 +102,24 @@ public abstract class Leagues {
                 return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
             }
 
+            public ListenableFuture<SearchableList<League>> getAsync() {
+                return GhostObjects.getAsync(new Callable<SearchableList<League>>() {
+                    @Override
+                    public SearchableList<League> call() {
+                        return get();
+                    }
+                });
+            }
+
+            public Publisher<League> publish() {
+                return GhostObjects.publish(new Callable<SearchableList<League>>() {
+                    @Override
+                    public SearchableList<League> call() {
+                        return streaming().get();
+                    }
+                });
+            }
+
             public SubBuilder streaming() {
                 streaming = true;
                 return this;
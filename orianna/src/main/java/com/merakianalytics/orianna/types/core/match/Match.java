@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 import org.joda.time.Duration;
@@ -12,6 +13,7 @@ import org.joda.time.Duration;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.LazyList;
 import com.merakianalytics.orianna.Orianna;
@@ -28,6 +30,7 @@ import com.merakianalytics.orianna.types.common.Season;
 import com.merakianalytics.orianna.types.common.Side;
 import com.merakianalytics.orianna.types.common.Tier;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -69,6 +72,15 @@ public class Match extends GhostObject<com.merakianalytics.orianna.types.data.ma
             return Orianna.getSettings().getPipeline().get(Match.class, builder.build());
         }
 
+        public ListenableFuture<Match> getAsync() {
+            return GhostObjects.getAsync(new Callable<Match>() {
+                @Override
+                public Match call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -599,12 +611,12 @@ public class Match extends GhostObject<com.merakianalytics.orianna.types.data.ma
     });
 
     public Match(final com.merakianalytics.orianna.types.data.match.Match coreData) {
-        super(coreData, 1);
+        super(coreData);
         fromReference = false;
     }
 
     public Match(final MatchReference reference) {
-        super(toMatchData(reference), 1);
+        super(toMatchData(reference));
         fromReference = true;
     }
 
@@ -7,16 +7,20 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Season;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.core.staticdata.Champion;
@@ -53,6 +57,24 @@ public abstract class MatchHistories {
                 return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
             }
 
+            public ListenableFuture<SearchableList<MatchHistory>> getAsync() {
+                return GhostObjects.getAsync(new Callable<SearchableList<MatchHistory>>() {
+                    @Override
+                    public SearchableList<MatchHistory> call() {
+                        return get();
+                    }
+                });
+            }
+
+            public Publisher<MatchHistory> publish() {
+                return GhostObjects.publish(new Callable<SearchableList<MatchHistory>>() {
+                    @Override
+                    public SearchableList<MatchHistory> call() {
+                        return streaming().get();
+                    }
+                });
+            }
+
             public RecentBuilder streaming() {
                 streaming = true;
                 return this;
@@ -127,12 +149,30 @@ public abstract class MatchHistories {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<MatchHistory>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<MatchHistory>>() {
+                @Override
+                public SearchableList<MatchHistory> call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder onPatch(final Patch patch) {
             startTime = patch.getStartTime().getMillis();
             endTime = patch.getEndTime() == null ? System.currentTimeMillis() : patch.getEndTime().getMillis();
             return this;
         }
 
+        public Publisher<MatchHistory> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<MatchHistory>>() {
+                @Override
+                public SearchableList<MatchHistory> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
@@ -9,6 +9,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 
@@ -16,6 +17,7 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.LazyList;
 import com.merakianalytics.orianna.Orianna;
@@ -24,6 +26,7 @@ import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Season;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.core.staticdata.Champion;
@@ -42,6 +45,15 @@ public class MatchHistory extends GhostObject<com.merakianalytics.orianna.types.
 
                 return Orianna.getSettings().getPipeline().get(MatchHistory.class, builder.build());
             }
+
+            public ListenableFuture<MatchHistory> getAsync() {
+                return GhostObjects.getAsync(new Callable<MatchHistory>() {
+                    @Override
+                    public MatchHistory call() {
+                        return get();
+                    }
+                });
+            }
         }
 
         private Set<Integer> champions;
@@ -91,6 +103,15 @@ public class MatchHistory extends GhostObject<com.merakianalytics.orianna.types.
             return Orianna.getSettings().getPipeline().get(MatchHistory.class, builder.build());
         }
 
+        public ListenableFuture<MatchHistory> getAsync() {
+            return GhostObjects.getAsync(new Callable<MatchHistory>() {
+                @Override
+                public MatchHistory call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder onPatch(final Patch patch) {
             startTime = patch.getStartTime().getMillis();
             endTime = patch.getEndTime() == null ? System.currentTimeMillis() : patch.getEndTime().getMillis();
@@ -281,7 +302,7 @@ public class MatchHistory extends GhostObject<com.merakianalytics.orianna.types.
     });
 
     public MatchHistory(final MatchList coreData) {
-        super(coreData, 1);
+        super(coreData);
         matches = SearchableLists.unmodifiableFrom(new LazyList<>(new MatchIterator()));
         startIndex = coreData.getStartIndex() == 0 && coreData.getEndIndex() == 0 ? null : coreData.getStartIndex();
         endTime = coreData.getEndTime();
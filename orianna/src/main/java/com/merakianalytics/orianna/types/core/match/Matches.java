@@ -2,13 +2,17 @@ package com.merakianalytics.orianna.types.core.match;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -41,6 +45,24 @@ public abstract class Matches {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Match>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Match>>() {
+                @Override
+                public SearchableList<Match> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Match> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Match>>() {
+                @Override
+                public SearchableList<Match> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
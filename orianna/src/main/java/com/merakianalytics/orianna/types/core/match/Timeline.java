@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.joda.time.Duration;
 
@@ -13,6 +14,7 @@ import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.AscensionType;
 import com.merakianalytics.orianna.types.common.BuildingType;
@@ -28,6 +30,7 @@ import com.merakianalytics.orianna.types.common.Skill;
 import com.merakianalytics.orianna.types.common.TurretType;
 import com.merakianalytics.orianna.types.common.WardType;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.core.staticdata.Item;
@@ -55,6 +58,15 @@ public class Timeline extends GhostObject.ListProxy<Frame, com.merakianalytics.o
             return Orianna.getSettings().getPipeline().get(Timeline.class, builder.build());
         }
 
+        public ListenableFuture<Timeline> getAsync() {
+            return GhostObjects.getAsync(new Callable<Timeline>() {
+                @Override
+                public Timeline call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -379,7 +391,7 @@ public class Timeline extends GhostObject.ListProxy<Frame, com.merakianalytics.o
     });
 
     public Timeline(final com.merakianalytics.orianna.types.data.match.Timeline coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,15 +2,19 @@ package com.merakianalytics.orianna.types.core.match;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -38,6 +42,15 @@ public class TournamentMatches extends GhostObject.ListProxy<Match, Long, com.me
             return Orianna.getSettings().getPipeline().get(TournamentMatches.class, builder.build());
         }
 
+        public ListenableFuture<TournamentMatches> getAsync() {
+            return GhostObjects.getAsync(new Callable<TournamentMatches>() {
+                @Override
+                public TournamentMatches call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -75,6 +88,24 @@ public class TournamentMatches extends GhostObject.ListProxy<Match, Long, com.me
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<TournamentMatches>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<TournamentMatches>>() {
+                @Override
+                public SearchableList<TournamentMatches> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<TournamentMatches> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<TournamentMatches>>() {
+                @Override
+                public SearchableList<TournamentMatches> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public ManyBuilder streaming() {
             streaming = true;
             return this;
@@ -106,7 +137,7 @@ public class TournamentMatches extends GhostObject.ListProxy<Match, Long, com.me
     }
 
     public TournamentMatches(final com.merakianalytics.orianna.types.data.match.TournamentMatches coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
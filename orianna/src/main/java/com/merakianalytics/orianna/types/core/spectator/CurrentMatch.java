@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 import org.joda.time.Duration;
@@ -11,6 +12,7 @@ import org.joda.time.Duration;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.GameMode;
 import com.merakianalytics.orianna.types.common.GameType;
@@ -20,6 +22,7 @@ import com.merakianalytics.orianna.types.common.Queue;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Side;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -43,6 +46,15 @@ public class CurrentMatch extends GhostObject<com.merakianalytics.orianna.types.
 
             return Orianna.getSettings().getPipeline().get(CurrentMatch.class, builder.build());
         }
+
+        public ListenableFuture<CurrentMatch> getAsync() {
+            return GhostObjects.getAsync(new Callable<CurrentMatch>() {
+                @Override
+                public CurrentMatch call() {
+                    return get();
+                }
+            });
+        }
     }
 
     public class Player extends com.merakianalytics.orianna.types.core.spectator.Player {
@@ -284,7 +296,7 @@ public class CurrentMatch extends GhostObject<com.merakianalytics.orianna.types.
     });
 
     public CurrentMatch(final com.merakianalytics.orianna.types.data.spectator.CurrentMatch coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
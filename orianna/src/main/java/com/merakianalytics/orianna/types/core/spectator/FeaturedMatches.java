@@ -3,17 +3,21 @@ package com.merakianalytics.orianna.types.core.spectator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.joda.time.Duration;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -37,6 +41,15 @@ public class FeaturedMatches extends GhostObject.ListProxy<FeaturedMatch, com.me
             return Orianna.getSettings().getPipeline().get(FeaturedMatches.class, builder.build());
         }
 
+        public ListenableFuture<FeaturedMatches> getAsync() {
+            return GhostObjects.getAsync(new Callable<FeaturedMatches>() {
+                @Override
+                public FeaturedMatches call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -63,6 +76,24 @@ public class FeaturedMatches extends GhostObject.ListProxy<FeaturedMatch, com.me
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<FeaturedMatches>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<FeaturedMatches>>() {
+                @Override
+                public SearchableList<FeaturedMatches> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<FeaturedMatches> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<FeaturedMatches>>() {
+                @Override
+                public SearchableList<FeaturedMatches> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public ManyBuilder streaming() {
             streaming = true;
             return this;
@@ -108,7 +139,7 @@ public class FeaturedMatches extends GhostObject.ListProxy<FeaturedMatch, com.me
     }
 
     public FeaturedMatches(final com.merakianalytics.orianna.types.data.spectator.FeaturedMatches coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
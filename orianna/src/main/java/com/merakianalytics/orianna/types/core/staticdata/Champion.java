@@ -5,16 +5,19 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -81,6 +84,15 @@ public class Champion extends GhostObject<ChampionData> {
             return Orianna.getSettings().getPipeline().get(Champion.class, builder.build());
         }
 
+        public ListenableFuture<Champion> getAsync() {
+            return GhostObjects.getAsync(new Callable<Champion>() {
+                @Override
+                public Champion call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -286,7 +298,7 @@ public class Champion extends GhostObject<ChampionData> {
     });
 
     public Champion(final ChampionData coreData) {
-        super(coreData, 2);
+        super(coreData);
     }
 
     @Override
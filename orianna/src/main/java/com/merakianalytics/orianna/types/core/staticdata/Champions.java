@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
@@ -13,12 +14,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 import com.merakianalytics.orianna.types.core.staticdata.Champion.ChampionData;
@@ -61,6 +65,15 @@ public class Champions extends GhostObject.ListProxy<com.merakianalytics.orianna
             return Orianna.getSettings().getPipeline().get(Champions.class, builder.build());
         }
 
+        public ListenableFuture<Champions> getAsync() {
+            return GhostObjects.getAsync(new Callable<Champions>() {
+                @Override
+                public Champions call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -188,6 +201,24 @@ public class Champions extends GhostObject.ListProxy<com.merakianalytics.orianna
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<com.merakianalytics.orianna.types.core.staticdata.Champion>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<com.merakianalytics.orianna.types.core.staticdata.Champion>>() {
+                @Override
+                public SearchableList<com.merakianalytics.orianna.types.core.staticdata.Champion> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<com.merakianalytics.orianna.types.core.staticdata.Champion> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<com.merakianalytics.orianna.types.core.staticdata.Champion>>() {
+                @Override
+                public SearchableList<com.merakianalytics.orianna.types.core.staticdata.Champion> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -293,7 +324,7 @@ public class Champions extends GhostObject.ListProxy<com.merakianalytics.orianna
     });
 
     public Champions(final com.merakianalytics.orianna.types.data.staticdata.Champions coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
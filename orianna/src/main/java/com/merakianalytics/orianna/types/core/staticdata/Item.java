@@ -6,16 +6,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -73,6 +76,15 @@ public class Item extends GhostObject<com.merakianalytics.orianna.types.data.sta
             return Orianna.getSettings().getPipeline().get(Item.class, builder.build());
         }
 
+        public ListenableFuture<Item> getAsync() {
+            return GhostObjects.getAsync(new Callable<Item>() {
+                @Override
+                public Item call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -233,7 +245,7 @@ public class Item extends GhostObject<com.merakianalytics.orianna.types.data.sta
     });
 
     public Item(final com.merakianalytics.orianna.types.data.staticdata.Item coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
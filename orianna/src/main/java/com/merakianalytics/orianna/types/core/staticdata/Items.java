@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
@@ -12,12 +13,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -57,6 +61,15 @@ public class Items extends GhostObject.ListProxy<Item, com.merakianalytics.orian
             return Orianna.getSettings().getPipeline().get(Items.class, builder.build());
         }
 
+        public ListenableFuture<Items> getAsync() {
+            return GhostObjects.getAsync(new Callable<Items>() {
+                @Override
+                public Items call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -140,6 +153,24 @@ public class Items extends GhostObject.ListProxy<Item, com.merakianalytics.orian
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Item>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Item>>() {
+                @Override
+                public SearchableList<Item> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Item> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Item>>() {
+                @Override
+                public SearchableList<Item> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -267,7 +298,7 @@ public class Items extends GhostObject.ListProxy<Item, com.merakianalytics.orian
     });
 
     public Items(final com.merakianalytics.orianna.types.data.staticdata.Items coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,12 +2,15 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class LanguageStrings extends GhostObject.MapProxy<String, String, String, String, com.merakianalytics.orianna.types.data.staticdata.LanguageStrings> {
     public static class Builder {
@@ -40,6 +43,15 @@ public class LanguageStrings extends GhostObject.MapProxy<String, String, String
             return Orianna.getSettings().getPipeline().get(LanguageStrings.class, builder.build());
         }
 
+        public ListenableFuture<LanguageStrings> getAsync() {
+            return GhostObjects.getAsync(new Callable<LanguageStrings>() {
+                @Override
+                public LanguageStrings call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -84,7 +96,7 @@ public class LanguageStrings extends GhostObject.MapProxy<String, String, String
     }
 
     public LanguageStrings(final com.merakianalytics.orianna.types.data.staticdata.LanguageStrings coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,13 +2,16 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Functions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class Languages extends GhostObject.ListProxy<String, String, com.merakianalytics.orianna.types.data.staticdata.Languages> {
     public static class Builder {
@@ -29,6 +32,15 @@ public class Languages extends GhostObject.ListProxy<String, String, com.merakia
             return Orianna.getSettings().getPipeline().get(Languages.class, builder.build());
         }
 
+        public ListenableFuture<Languages> getAsync() {
+            return GhostObjects.getAsync(new Callable<Languages>() {
+                @Override
+                public Languages call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -55,7 +67,7 @@ public class Languages extends GhostObject.ListProxy<String, String, com.merakia
     }
 
     public Languages(final com.merakianalytics.orianna.types.data.staticdata.Languages coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,14 +2,17 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -62,6 +65,15 @@ public class Map extends GhostObject<com.merakianalytics.orianna.types.data.stat
             return Orianna.getSettings().getPipeline().get(Map.class, builder.build());
         }
 
+        public ListenableFuture<Map> getAsync() {
+            return GhostObjects.getAsync(new Callable<Map>() {
+                @Override
+                public Map call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -118,7 +130,7 @@ public class Map extends GhostObject<com.merakianalytics.orianna.types.data.stat
     });
 
     public Map(final com.merakianalytics.orianna.types.data.staticdata.Map coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
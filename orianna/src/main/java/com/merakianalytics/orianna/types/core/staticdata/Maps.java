@@ -3,15 +3,19 @@ package com.merakianalytics.orianna.types.core.staticdata;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -46,6 +50,15 @@ public class Maps extends GhostObject.ListProxy<Map, com.merakianalytics.orianna
             return Orianna.getSettings().getPipeline().get(Maps.class, builder.build());
         }
 
+        public ListenableFuture<Maps> getAsync() {
+            return GhostObjects.getAsync(new Callable<Maps>() {
+                @Override
+                public Maps call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -114,6 +127,24 @@ public class Maps extends GhostObject.ListProxy<Map, com.merakianalytics.orianna
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Map>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Map>>() {
+                @Override
+                public SearchableList<Map> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Map> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Map>>() {
+                @Override
+                public SearchableList<Map> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -183,7 +214,7 @@ public class Maps extends GhostObject.ListProxy<Map, com.merakianalytics.orianna
     }
 
     public Maps(final com.merakianalytics.orianna.types.data.staticdata.Maps coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
@@ -12,12 +13,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -57,6 +61,15 @@ public class Masteries extends GhostObject.ListProxy<Mastery, com.merakianalytic
             return Orianna.getSettings().getPipeline().get(Masteries.class, builder.build());
         }
 
+        public ListenableFuture<Masteries> getAsync() {
+            return GhostObjects.getAsync(new Callable<Masteries>() {
+                @Override
+                public Masteries call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -140,6 +153,24 @@ public class Masteries extends GhostObject.ListProxy<Mastery, com.merakianalytic
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Mastery>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Mastery>>() {
+                @Override
+                public SearchableList<Mastery> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Mastery> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Mastery>>() {
+                @Override
+                public SearchableList<Mastery> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -248,7 +279,7 @@ public class Masteries extends GhostObject.ListProxy<Mastery, com.merakianalytic
     });
 
     public Masteries(final com.merakianalytics.orianna.types.data.staticdata.Masteries coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
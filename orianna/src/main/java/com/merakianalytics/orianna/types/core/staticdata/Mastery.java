@@ -4,17 +4,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.MasteryTree;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 
 public class Mastery extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.Mastery> {
@@ -70,6 +73,15 @@ public class Mastery extends GhostObject<com.merakianalytics.orianna.types.data.
             return Orianna.getSettings().getPipeline().get(Mastery.class, builder.build());
         }
 
+        public ListenableFuture<Mastery> getAsync() {
+            return GhostObjects.getAsync(new Callable<Mastery>() {
+                @Override
+                public Mastery call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -168,7 +180,7 @@ public class Mastery extends GhostObject<com.merakianalytics.orianna.types.data.
     });
 
     public Mastery(final com.merakianalytics.orianna.types.data.staticdata.Mastery coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
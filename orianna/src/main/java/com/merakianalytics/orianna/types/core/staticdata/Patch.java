@@ -2,15 +2,18 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Season;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class Patch extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.Patch> {
     public static class Builder {
@@ -36,6 +39,15 @@ public class Patch extends GhostObject<com.merakianalytics.orianna.types.data.st
             return Orianna.getSettings().getPipeline().get(Patch.class, builder.build());
         }
 
+        public ListenableFuture<Patch> getAsync() {
+            return GhostObjects.getAsync(new Callable<Patch>() {
+                @Override
+                public Patch call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder named(final String name) {
             this.name = name;
             return this;
@@ -72,7 +84,7 @@ public class Patch extends GhostObject<com.merakianalytics.orianna.types.data.st
     }
 
     public Patch(final com.merakianalytics.orianna.types.data.staticdata.Patch coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
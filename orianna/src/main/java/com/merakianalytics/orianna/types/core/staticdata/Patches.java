@@ -2,15 +2,19 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -34,6 +38,15 @@ public class Patches extends GhostObject.ListProxy<Patch, com.merakianalytics.or
             return Orianna.getSettings().getPipeline().get(Patches.class, builder.build());
         }
 
+        public ListenableFuture<Patches> getAsync() {
+            return GhostObjects.getAsync(new Callable<Patches>() {
+                @Override
+                public Patches call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -69,6 +82,24 @@ public class Patches extends GhostObject.ListProxy<Patch, com.merakianalytics.or
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Patch>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Patch>>() {
+                @Override
+                public SearchableList<Patch> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Patch> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Patch>>() {
+                @Override
+                public SearchableList<Patch> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -108,7 +139,7 @@ public class Patches extends GhostObject.ListProxy<Patch, com.merakianalytics.or
     }
 
     public Patches(final com.merakianalytics.orianna.types.data.staticdata.Patches coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,14 +2,17 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 
 public class ProfileIcon extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.ProfileIcon> {
@@ -47,6 +50,15 @@ public class ProfileIcon extends GhostObject<com.merakianalytics.orianna.types.d
             return Orianna.getSettings().getPipeline().get(ProfileIcon.class, builder.build());
         }
 
+        public ListenableFuture<ProfileIcon> getAsync() {
+            return GhostObjects.getAsync(new Callable<ProfileIcon>() {
+                @Override
+                public ProfileIcon call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -86,7 +98,7 @@ public class ProfileIcon extends GhostObject<com.merakianalytics.orianna.types.d
     });
 
     public ProfileIcon(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcon coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
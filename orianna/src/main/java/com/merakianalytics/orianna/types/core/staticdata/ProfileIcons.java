@@ -3,15 +3,19 @@ package com.merakianalytics.orianna.types.core.staticdata;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -46,6 +50,15 @@ public class ProfileIcons extends GhostObject.ListProxy<ProfileIcon, com.merakia
             return Orianna.getSettings().getPipeline().get(ProfileIcons.class, builder.build());
         }
 
+        public ListenableFuture<ProfileIcons> getAsync() {
+            return GhostObjects.getAsync(new Callable<ProfileIcons>() {
+                @Override
+                public ProfileIcons call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -103,6 +116,24 @@ public class ProfileIcons extends GhostObject.ListProxy<ProfileIcon, com.merakia
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<ProfileIcon>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<ProfileIcon>>() {
+                @Override
+                public SearchableList<ProfileIcon> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<ProfileIcon> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<ProfileIcon>>() {
+                @Override
+                public SearchableList<ProfileIcon> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -164,7 +195,7 @@ public class ProfileIcons extends GhostObject.ListProxy<ProfileIcon, com.merakia
     }
 
     public ProfileIcons(final com.merakianalytics.orianna.types.data.staticdata.ProfileIcons coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -4,14 +4,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class Realm extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.Realm> {
     public static class Builder {
@@ -32,6 +35,15 @@ public class Realm extends GhostObject<com.merakianalytics.orianna.types.data.st
             return Orianna.getSettings().getPipeline().get(Realm.class, builder.build());
         }
 
+        public ListenableFuture<Realm> getAsync() {
+            return GhostObjects.getAsync(new Callable<Realm>() {
+                @Override
+                public Realm call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -70,7 +82,7 @@ public class Realm extends GhostObject<com.merakianalytics.orianna.types.data.st
     });
 
     public Realm(final com.merakianalytics.orianna.types.data.staticdata.Realm coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,13 +2,16 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.RunePath;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 
 public class ReforgedRune extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.ReforgedRune> {
@@ -65,6 +68,15 @@ public class ReforgedRune extends GhostObject<com.merakianalytics.orianna.types.
             return Orianna.getSettings().getPipeline().get(ReforgedRune.class, builder.build());
         }
 
+        public ListenableFuture<ReforgedRune> getAsync() {
+            return GhostObjects.getAsync(new Callable<ReforgedRune>() {
+                @Override
+                public ReforgedRune call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -102,7 +114,7 @@ public class ReforgedRune extends GhostObject<com.merakianalytics.orianna.types.
     }
 
     public ReforgedRune(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRune coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
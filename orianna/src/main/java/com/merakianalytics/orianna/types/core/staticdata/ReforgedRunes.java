@@ -3,17 +3,21 @@ package com.merakianalytics.orianna.types.core.staticdata;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -48,6 +52,15 @@ public class ReforgedRunes extends GhostObject.ListProxy<ReforgedRune, com.merak
             return Orianna.getSettings().getPipeline().get(ReforgedRunes.class, builder.build());
         }
 
+        public ListenableFuture<ReforgedRunes> getAsync() {
+            return GhostObjects.getAsync(new Callable<ReforgedRunes>() {
+                @Override
+                public ReforgedRunes call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withLocale(final String locale) {
             this.locale = locale;
             return this;
@@ -122,6 +135,24 @@ public class ReforgedRunes extends GhostObject.ListProxy<ReforgedRune, com.merak
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune>>() {
+                @Override
+                public SearchableList<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune>>() {
+                @Override
+                public SearchableList<com.merakianalytics.orianna.types.core.staticdata.ReforgedRune> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -210,7 +241,7 @@ public class ReforgedRunes extends GhostObject.ListProxy<ReforgedRune, com.merak
     });
 
     public ReforgedRunes(final com.merakianalytics.orianna.types.data.staticdata.ReforgedRunes coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -4,17 +4,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.RuneType;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 
 public class Rune extends GhostObject<com.merakianalytics.orianna.types.data.staticdata.Rune> {
@@ -70,6 +73,15 @@ public class Rune extends GhostObject<com.merakianalytics.orianna.types.data.sta
             return Orianna.getSettings().getPipeline().get(Rune.class, builder.build());
         }
 
+        public ListenableFuture<Rune> getAsync() {
+            return GhostObjects.getAsync(new Callable<Rune>() {
+                @Override
+                public Rune call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -157,7 +169,7 @@ public class Rune extends GhostObject<com.merakianalytics.orianna.types.data.sta
     });
 
     public Rune(final com.merakianalytics.orianna.types.data.staticdata.Rune coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
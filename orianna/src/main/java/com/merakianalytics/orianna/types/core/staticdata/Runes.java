@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
@@ -12,12 +13,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -57,6 +61,15 @@ public class Runes extends GhostObject.ListProxy<Rune, com.merakianalytics.orian
             return Orianna.getSettings().getPipeline().get(Runes.class, builder.build());
         }
 
+        public ListenableFuture<Runes> getAsync() {
+            return GhostObjects.getAsync(new Callable<Runes>() {
+                @Override
+                public Runes call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -141,6 +154,24 @@ public class Runes extends GhostObject.ListProxy<Rune, com.merakianalytics.orian
                 : SearchableLists.unmodifiableFrom(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Rune>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Rune>>() {
+                @Override
+                public SearchableList<Rune> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Rune> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Rune>>() {
+                @Override
+                public SearchableList<Rune> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -238,7 +269,7 @@ public class Runes extends GhostObject.ListProxy<Rune, com.merakianalytics.orian
     });
 
     public Runes(final com.merakianalytics.orianna.types.data.staticdata.Runes coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
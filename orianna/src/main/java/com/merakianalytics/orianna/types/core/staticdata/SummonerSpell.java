@@ -6,17 +6,20 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.GameMode;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.searchable.Searchable;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
@@ -74,6 +77,15 @@ public class SummonerSpell extends GhostObject<com.merakianalytics.orianna.types
             return Orianna.getSettings().getPipeline().get(SummonerSpell.class, builder.build());
         }
 
+        public ListenableFuture<SummonerSpell> getAsync() {
+            return GhostObjects.getAsync(new Callable<SummonerSpell>() {
+                @Override
+                public SummonerSpell call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -238,7 +250,7 @@ public class SummonerSpell extends GhostObject<com.merakianalytics.orianna.types
     });
 
     public SummonerSpell(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpell coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Function;
 import com.google.common.base.Supplier;
@@ -12,12 +13,15 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -57,6 +61,15 @@ public class SummonerSpells extends GhostObject.ListProxy<SummonerSpell, com.mer
             return Orianna.getSettings().getPipeline().get(SummonerSpells.class, builder.build());
         }
 
+        public ListenableFuture<SummonerSpells> getAsync() {
+            return GhostObjects.getAsync(new Callable<SummonerSpells>() {
+                @Override
+                public SummonerSpells call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withIncludedData(final Iterable<String> includedData) {
             this.includedData = Sets.newHashSet(includedData);
             return this;
@@ -140,6 +153,24 @@ public class SummonerSpells extends GhostObject.ListProxy<SummonerSpell, com.mer
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<SummonerSpell>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<SummonerSpell>>() {
+                @Override
+                public SearchableList<SummonerSpell> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<SummonerSpell> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<SummonerSpell>>() {
+                @Override
+                public SearchableList<SummonerSpell> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public SubsetBuilder streaming() {
             streaming = true;
             return this;
@@ -237,7 +268,7 @@ public class SummonerSpells extends GhostObject.ListProxy<SummonerSpell, com.mer
     });
 
     public SummonerSpells(final com.merakianalytics.orianna.types.data.staticdata.SummonerSpells coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
@@ -2,13 +2,16 @@ package com.merakianalytics.orianna.types.core.staticdata;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Functions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class Versions extends GhostObject.ListProxy<String, String, com.merakianalytics.orianna.types.data.staticdata.Versions> {
     public static class Builder {
@@ -29,6 +32,15 @@ public class Versions extends GhostObject.ListProxy<String, String, com.merakian
             return Orianna.getSettings().getPipeline().get(Versions.class, builder.build());
         }
 
+        public ListenableFuture<Versions> getAsync() {
+            return GhostObjects.getAsync(new Callable<Versions>() {
+                @Override
+                public Versions call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -55,7 +67,7 @@ public class Versions extends GhostObject.ListProxy<String, String, com.merakian
     }
 
     public Versions(final com.merakianalytics.orianna.types.data.staticdata.Versions coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
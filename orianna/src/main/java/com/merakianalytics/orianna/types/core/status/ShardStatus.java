@@ -4,14 +4,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 
 public class ShardStatus extends GhostObject<com.merakianalytics.orianna.types.data.status.ShardStatus> {
     public static class Builder {
@@ -33,6 +36,15 @@ public class ShardStatus extends GhostObject<com.merakianalytics.orianna.types.d
             return Orianna.getSettings().getPipeline().get(ShardStatus.class, builder.build());
         }
 
+        public ListenableFuture<ShardStatus> getAsync() {
+            return GhostObjects.getAsync(new Callable<ShardStatus>() {
+                @Override
+                public ShardStatus call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -86,7 +98,7 @@ public class ShardStatus extends GhostObject<com.merakianalytics.orianna.types.d
     });
 
     public ShardStatus(final com.merakianalytics.orianna.types.data.status.ShardStatus coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
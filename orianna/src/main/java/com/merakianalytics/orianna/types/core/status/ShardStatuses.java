@@ -3,13 +3,17 @@ package com.merakianalytics.orianna.types.core.status;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -29,6 +33,24 @@ public abstract class ShardStatuses {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<ShardStatus>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<ShardStatus>>() {
+                @Override
+                public SearchableList<ShardStatus> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<ShardStatus> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<ShardStatus>>() {
+                @Override
+                public SearchableList<ShardStatus> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
@@ -3,12 +3,14 @@ package com.merakianalytics.orianna.types.core.summoner;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.joda.time.DateTime;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Queue;
@@ -16,6 +18,7 @@ import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.common.Season;
 import com.merakianalytics.orianna.types.common.Tier;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMasteries;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMastery;
 import com.merakianalytics.orianna.types.core.championmastery.ChampionMasteryScore;
@@ -77,6 +80,15 @@ public class Summoner extends GhostObject<com.merakianalytics.orianna.types.data
             return Orianna.getSettings().getPipeline().get(Summoner.class, builder.build());
         }
 
+        public ListenableFuture<Summoner> getAsync() {
+            return GhostObjects.getAsync(new Callable<Summoner>() {
+                @Override
+                public Summoner call() {
+                    return get();
+                }
+            });
+        }
+
         public Builder withPlatform(final Platform platform) {
             this.platform = platform;
             return this;
@@ -115,7 +127,7 @@ public class Summoner extends GhostObject<com.merakianalytics.orianna.types.data
     });
 
     public Summoner(final com.merakianalytics.orianna.types.data.summoner.Summoner coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
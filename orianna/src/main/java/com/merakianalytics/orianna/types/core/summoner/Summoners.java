@@ -3,13 +3,17 @@ package com.merakianalytics.orianna.types.core.summoner;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.datapipelines.iterators.CloseableIterator;
 import com.merakianalytics.datapipelines.iterators.CloseableIterators;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
+import com.merakianalytics.orianna.types.core.GhostObjects;
+import com.merakianalytics.orianna.types.core.Publisher;
 import com.merakianalytics.orianna.types.core.searchable.SearchableList;
 import com.merakianalytics.orianna.types.core.searchable.SearchableLists;
 
@@ -59,6 +63,24 @@ public abstract class Summoners {
             return streaming ? SearchableLists.from(CloseableIterators.toLazyList(result)) : SearchableLists.from(CloseableIterators.toList(result));
         }
 
+        public ListenableFuture<SearchableList<Summoner>> getAsync() {
+            return GhostObjects.getAsync(new Callable<SearchableList<Summoner>>() {
+                @Override
+                public SearchableList<Summoner> call() {
+                    return get();
+                }
+            });
+        }
+
+        public Publisher<Summoner> publish() {
+            return GhostObjects.publish(new Callable<SearchableList<Summoner>>() {
+                @Override
+                public SearchableList<Summoner> call() {
+                    return streaming().get();
+                }
+            });
+        }
+
         public Builder streaming() {
             streaming = true;
             return this;
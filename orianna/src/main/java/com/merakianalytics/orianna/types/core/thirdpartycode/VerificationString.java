@@ -2,12 +2,15 @@ package com.merakianalytics.orianna.types.core.thirdpartycode;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.merakianalytics.orianna.Orianna;
 import com.merakianalytics.orianna.types.common.Platform;
 import com.merakianalytics.orianna.types.common.Region;
 import com.merakianalytics.orianna.types.core.GhostObject;
+import com.merakianalytics.orianna.types.core.GhostObjects;
 import com.merakianalytics.orianna.types.core.summoner.Summoner;
 
 public class VerificationString extends GhostObject<com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString> {
@@ -24,6 +27,15 @@ public class VerificationString extends GhostObject<com.merakianalytics.orianna.
 
             return Orianna.getSettings().getPipeline().get(VerificationString.class, builder.build());
         }
+
+        public ListenableFuture<VerificationString> getAsync() {
+            return GhostObjects.getAsync(new Callable<VerificationString>() {
+                @Override
+                public VerificationString call() {
+                    return get();
+                }
+            });
+        }
     }
 
     private static final long serialVersionUID = -7674629544327997718L;
@@ -34,7 +46,7 @@ public class VerificationString extends GhostObject<com.merakianalytics.orianna.
     }
 
     public VerificationString(final com.merakianalytics.orianna.types.data.thirdpartycode.VerificationString coreData) {
-        super(coreData, 1);
+        super(coreData);
     }
 
     @Override
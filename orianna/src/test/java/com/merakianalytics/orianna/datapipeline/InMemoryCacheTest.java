@@ -0,0 +1,97 @@
+package com.merakianalytics.orianna.datapipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.core.status.ShardStatus;
+
+public class InMemoryCacheTest {
+    private static final ImmutableMap<String, Object> QUERY = ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA);
+
+    private final List<InMemoryCache> caches = new ArrayList<>();
+    private File directory;
+
+    private static ShardStatus status() {
+        final com.merakianalytics.orianna.types.data.status.ShardStatus data = new com.merakianalytics.orianna.types.data.status.ShardStatus();
+        data.setPlatform(Platform.NORTH_AMERICA.getTag());
+        data.setName("North America");
+        data.setHostname("status.na1.lol.riotgames.com");
+        final ShardStatus status = new ShardStatus(data);
+        status.markAsGhostLoaded();
+        return status;
+    }
+
+    private InMemoryCache cache() {
+        final InMemoryCache.Configuration config = new InMemoryCache.Configuration();
+        config.setSnapshotFile(new File(directory, "cache.snapshot").getPath());
+        final InMemoryCache cache = new InMemoryCache(config);
+        caches.add(cache);
+        return cache;
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        for(final InMemoryCache cache : caches) {
+            cache.close();
+        }
+        for(final File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void invalidSnapshotsStartEmpty() throws IOException {
+        Files.write(new File(directory, "cache.snapshot").toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(cache().getShardStatus(QUERY, null));
+    }
+
+    @Test
+    public void newCacheTakesOverSnapshotFile() {
+        final ShardStatus status = status();
+        cache().putShardStatus(status, null);
+
+        // The first cache snapshots and stops before the second restores
+        final ShardStatus restored = cache().getShardStatus(QUERY, null);
+        assertNotNull(restored);
+        assertEquals(status.getCoreData(), restored.getCoreData());
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("orianna-cache-test").toFile();
+    }
+
+    @Test
+    public void snapshotRoundTrip() {
+        final ShardStatus status = status();
+        final InMemoryCache first = cache();
+        first.putShardStatus(status, null);
+        first.snapshot();
+        first.close();
+
+        final ShardStatus restored = cache().getShardStatus(QUERY, null);
+        assertNotNull(restored);
+        assertEquals(status.getCoreData(), restored.getCoreData());
+        assertTrue(restored.isLoaded());
+
+        // Snapshots are written to a temp file and moved into place, so nothing else is left behind
+        assertEquals(1, directory.listFiles().length);
+    }
+}
@@ -0,0 +1,144 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+    private static final long OPEN_DURATION = 50L;
+    private static final long WINDOW = 200L;
+
+    // Opens at half of at least four requests, probes once per hour so only the first probe of a half open period gets through
+    private static CircuitBreaker breaker() {
+        final CircuitBreaker.Configuration config = new CircuitBreaker.Configuration();
+        config.setMinimumRequests(4);
+        config.setErrorRate(0.5);
+        config.setWindow(WINDOW);
+        config.setWindowUnit(TimeUnit.MILLISECONDS);
+        config.setOpenDuration(OPEN_DURATION);
+        config.setOpenDurationUnit(TimeUnit.MILLISECONDS);
+        config.setProbeInterval(1L);
+        config.setProbeIntervalUnit(TimeUnit.HOURS);
+        return new CircuitBreaker(config);
+    }
+
+    private static void fail(final CircuitBreaker breaker, final int times) {
+        for(int i = 0; i < times; i++) {
+            breaker.failed(breaker.allow());
+        }
+    }
+
+    // Returns the probe ticket
+    private static CircuitBreaker.Ticket halfOpen(final CircuitBreaker breaker) throws InterruptedException {
+        Thread.sleep(OPEN_DURATION + 10L);
+        final CircuitBreaker.Ticket probe = breaker.allow();
+        assertNotNull(probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        return probe;
+    }
+
+    private static CircuitBreaker open() {
+        final CircuitBreaker breaker = breaker();
+        fail(breaker, 4);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+
+    @Test
+    public void failedProbeReopens() throws InterruptedException {
+        final CircuitBreaker breaker = open();
+        breaker.failed(halfOpen(breaker));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.allow());
+    }
+
+    @Test
+    public void halfOpenLetsOneProbeThrough() throws InterruptedException {
+        final CircuitBreaker breaker = open();
+        halfOpen(breaker);
+
+        assertNull(breaker.allow());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    public void lateResultsDontDecideTheProbe() throws InterruptedException {
+        final CircuitBreaker breaker = breaker();
+        final CircuitBreaker.Ticket late = breaker.allow();
+        fail(breaker, 4);
+        final CircuitBreaker.Ticket probe = halfOpen(breaker);
+
+        // Requests let through before it opened finish while the probe is out
+        breaker.succeeded(late);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.failed(late);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.succeeded(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void opensAtErrorRate() {
+        final CircuitBreaker breaker = breaker();
+        breaker.succeeded(breaker.allow());
+        breaker.succeeded(breaker.allow());
+        fail(breaker, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.allow());
+    }
+
+    @Test
+    public void oldWindowsAreForgotten() throws InterruptedException {
+        final CircuitBreaker breaker = breaker();
+        fail(breaker, 3);
+        Thread.sleep(WINDOW + 10L);
+
+        fail(breaker, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.allow());
+    }
+
+    @Test
+    public void openStaysOpenForOpenDuration() {
+        final CircuitBreaker breaker = breaker();
+        final CircuitBreaker.Ticket late = breaker.allow();
+        fail(breaker, 4);
+
+        assertNull(breaker.allow());
+        // Late results from requests let through before it opened don't change anything
+        breaker.succeeded(late);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertNull(breaker.allow());
+    }
+
+    @Test
+    public void staysClosedBelowMinimumRequests() {
+        final CircuitBreaker breaker = breaker();
+        fail(breaker, 3);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.allow());
+    }
+
+    @Test
+    public void successfulProbeCloses() throws InterruptedException {
+        final CircuitBreaker breaker = open();
+        breaker.succeeded(halfOpen(breaker));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNotNull(breaker.allow());
+
+        // The counts start over, so it needs the minimum number of requests again before it can reopen
+        fail(breaker, 3);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
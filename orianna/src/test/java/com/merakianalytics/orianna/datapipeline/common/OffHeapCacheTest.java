@@ -0,0 +1,99 @@
+package com.merakianalytics.orianna.datapipeline.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.types.UniqueKeys;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.core.OriannaObject;
+import com.merakianalytics.orianna.types.core.staticdata.Image;
+
+public class OffHeapCacheTest {
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final int PER_SLAB = 10;
+
+    private static Image image(final String name) {
+        final com.merakianalytics.orianna.types.data.staticdata.Image data = new com.merakianalytics.orianna.types.data.staticdata.Image();
+        data.setFull(name + ".png");
+        data.setGroup("champion");
+        data.setVersion("8.15.1");
+        return new Image(data);
+    }
+
+    private static UniqueKeys.Key key(final int id) {
+        return UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", id));
+    }
+
+    // Two slabs with room for exactly PER_SLAB entries each. Every entry is the same size, since the names are all the same length.
+    private static OffHeapCache twoSlabs() {
+        final int length = image("Entry00").getCoreData().toBytes().length;
+        return new OffHeapCache(2L * PER_SLAB * length);
+    }
+
+    @Test
+    public void expiredEntriesAreDropped() {
+        final OffHeapCache cache = new OffHeapCache(1024L * 1024L);
+        cache.put(key(1), image("Orianna"), System.currentTimeMillis() - 1L);
+
+        assertFalse(cache.containsKey(key(1)));
+        assertNull(cache.get(key(1)));
+    }
+
+    @Test
+    public void oldestSlabIsReusedWhenFull() {
+        final OffHeapCache cache = twoSlabs();
+        for(int i = 0; i <= 2 * PER_SLAB; i++) {
+            cache.put(key(i), image(String.format("Entry%02d", i)), NEVER);
+        }
+
+        // The last put didn't fit in either slab, so the first slab's entries made room for it
+        for(int i = 0; i < PER_SLAB; i++) {
+            assertFalse(cache.containsKey(key(i)));
+            assertNull(cache.get(key(i)));
+        }
+        for(int i = PER_SLAB; i <= 2 * PER_SLAB; i++) {
+            assertTrue(cache.containsKey(key(i)));
+        }
+    }
+
+    @Test
+    public void readEntriesAreCopiedForward() {
+        final OffHeapCache cache = twoSlabs();
+        final Image read = image("Entry00");
+        cache.put(key(0), read, NEVER);
+        cache.put(key(1), image("Entry01"), NEVER);
+        assertNotNull(cache.get(key(0)));
+
+        for(int i = 2; i <= 2 * PER_SLAB; i++) {
+            cache.put(key(i), image(String.format("Entry%02d", i)), NEVER);
+        }
+
+        final OriannaObject<?> survivor = cache.get(key(0));
+        assertNotNull(survivor);
+        assertEquals(read.getCoreData(), survivor.getCoreData());
+        assertEquals(NEVER, cache.getExpiration(key(0)));
+        assertFalse(cache.containsKey(key(1)));
+        assertTrue(cache.containsKey(key(2 * PER_SLAB)));
+    }
+
+    @Test
+    public void storedObjectsRebuildEqual() {
+        final OffHeapCache cache = new OffHeapCache(1024L * 1024L);
+        final Image image = image("Orianna");
+        final long expiration = System.currentTimeMillis() + 60000L;
+        cache.put(key(1), image, expiration);
+
+        final OriannaObject<?> rebuilt = cache.get(key(1));
+        assertTrue(rebuilt instanceof Image);
+        assertEquals(image.getCoreData(), rebuilt.getCoreData());
+        assertEquals(expiration, cache.getExpiration(key(1)));
+        assertNull(cache.get(key(2)));
+        assertEquals(0L, cache.getExpiration(key(2)));
+    }
+}
@@ -0,0 +1,258 @@
+package com.merakianalytics.orianna.datapipeline.common.rates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.types.common.Priority;
+
+public class FixedWindowRateLimiterTest {
+    /**
+     * Keeps its own clock, which only moves when a test advances it, running whatever tasks fall due on the way.
+     */
+    private static class ManualScheduler extends Scheduler {
+        private static class ManualTask implements Task {
+            private volatile boolean cancelled = false;
+            private final long due;
+            private final Runnable runnable;
+            private final long sequence;
+
+            public ManualTask(final Runnable runnable, final long due, final long sequence) {
+                this.runnable = runnable;
+                this.due = due;
+                this.sequence = sequence;
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        }
+
+        private long now = 0L;
+        private long scheduled = 0L;
+        private final PriorityQueue<ManualTask> tasks = new PriorityQueue<>(11, new Comparator<ManualTask>() {
+            @Override
+            public int compare(final ManualTask one, final ManualTask other) {
+                final int byDue = Long.compare(one.due, other.due);
+                return byDue != 0 ? byDue : Long.compare(one.sequence, other.sequence);
+            }
+        });
+
+        public void advance(final long millis) {
+            final long until = currentTimeMillis() + millis;
+            while(true) {
+                final ManualTask next;
+                synchronized(this) {
+                    next = tasks.isEmpty() || tasks.peek().due > until ? null : tasks.poll();
+                    now = next == null ? until : next.due;
+                }
+                // Tasks take the limiter's locks, so they run without holding the scheduler's
+                if(next == null) {
+                    return;
+                } else if(!next.cancelled) {
+                    next.runnable.run();
+                }
+            }
+        }
+
+        /**
+         * Waits for the given number of tasks to have been scheduled in total, which is how a test knows a request has started waiting.
+         */
+        public synchronized void awaitScheduled(final long count) throws InterruptedException {
+            while(scheduled < count) {
+                wait();
+            }
+        }
+
+        @Override
+        public synchronized long currentTimeMillis() {
+            return now;
+        }
+
+        @Override
+        public synchronized Task schedule(final Runnable runnable, final long delay, final TimeUnit unit) {
+            final ManualTask task = new ManualTask(runnable, now + unit.toMillis(delay), scheduled++);
+            tasks.add(task);
+            notifyAll();
+            return task;
+        }
+
+        public synchronized long scheduled() {
+            return scheduled;
+        }
+    }
+
+    private static final long EPOCH = TimeUnit.HOURS.toMillis(1L);
+    private static final int PERMITS = 10;
+
+    private static boolean acquire(final FixedWindowRateLimiter limiter, final Priority priority, final long timeout) throws InterruptedException {
+        try(Priority.Scope scope = Priority.enter(priority)) {
+            return limiter.acquire(timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Only ever tries once per permit, so it never has to wait on the scheduler
+    private static int acquireAll(final FixedWindowRateLimiter limiter, final Priority priority) throws InterruptedException {
+        try(Priority.Scope scope = Priority.enter(priority)) {
+            int acquired = 0;
+            for(RateLimiter.ReservedPermit permit = limiter.reserve(0L, TimeUnit.MILLISECONDS); permit != null; permit = limiter.reserve(0L,
+                TimeUnit.MILLISECONDS)) {
+                permit.acquire();
+                acquired++;
+            }
+            return acquired;
+        }
+    }
+
+    private static Future<Boolean> acquireLater(final ExecutorService executor, final FixedWindowRateLimiter limiter, final Priority priority,
+        final long timeout) {
+        return executor.submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws InterruptedException {
+                return acquire(limiter, priority, timeout);
+            }
+        });
+    }
+
+    private static FixedWindowRateLimiter limiter(final ManualScheduler scheduler) {
+        return new FixedWindowRateLimiter(PERMITS, EPOCH, TimeUnit.MILLISECONDS, scheduler);
+    }
+
+    @Test
+    public void lowerPrioritiesLeaveReservedPermits() throws InterruptedException {
+        final FixedWindowRateLimiter limiter = limiter(new ManualScheduler());
+        limiter.setReserves(ImmutableMap.of(Priority.INTERACTIVE, 0.2, Priority.NORMAL, 0.3));
+
+        assertEquals(5, acquireAll(limiter, Priority.BULK));
+        assertEquals(3, acquireAll(limiter, Priority.NORMAL));
+        assertEquals(2, acquireAll(limiter, Priority.INTERACTIVE));
+    }
+
+    @Test
+    public void queuedHigherPriorityGoesFirst() throws Exception {
+        final ManualScheduler scheduler = new ManualScheduler();
+        final FixedWindowRateLimiter limiter = limiter(scheduler);
+        limiter.setReserves(ImmutableMap.of(Priority.NORMAL, 0.2));
+        assertEquals(PERMITS, acquireAll(limiter, Priority.NORMAL));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Each waiting request schedules its starvation timer and its timeout, so the bulk one queues first
+            long scheduled = scheduler.scheduled();
+            final Future<Boolean> bulk = acquireLater(executor, limiter, Priority.BULK, 500L);
+            scheduler.awaitScheduled(scheduled + 2L);
+            scheduled = scheduler.scheduled();
+            final Future<Boolean> normal = acquireLater(executor, limiter, Priority.NORMAL, 500L);
+            scheduler.awaitScheduled(scheduled + 2L);
+
+            // One more permit, which the normal request gets even though the bulk one has waited longer
+            limiter.setPermits(PERMITS + 1);
+            assertTrue(normal.get());
+            assertFalse(bulk.isDone());
+
+            scheduler.advance(500L);
+            assertFalse(bulk.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void reconcileNeverGivesPermitsBack() throws InterruptedException {
+        final FixedWindowRateLimiter limiter = limiter(new ManualScheduler());
+        for(int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        limiter.reconcile(PERMITS, 2);
+        assertEquals(5, limiter.availablePermits());
+    }
+
+    @Test
+    public void reconcileTakesPermitsTheServerCounted() {
+        final FixedWindowRateLimiter limiter = limiter(new ManualScheduler());
+
+        limiter.reconcile(PERMITS, 4);
+        assertEquals(6, limiter.availablePermits());
+
+        limiter.reconcile(PERMITS, PERMITS + 5);
+        assertEquals(0, limiter.availablePermits());
+    }
+
+    @Test
+    public void reconcileWithServerWindowStartRealignsReset() throws InterruptedException {
+        final ManualScheduler scheduler = new ManualScheduler();
+        final FixedWindowRateLimiter limiter = limiter(scheduler);
+        limiter.acquire();
+        limiter.reconcile(PERMITS, 8);
+        assertEquals(2, limiter.availablePermits());
+
+        // A count of 1 means the server's window just started, so ours is reset on the server's schedule instead of draining on our own
+        limiter.reconcile(PERMITS, 1);
+        scheduler.advance(EPOCH);
+        assertEquals(PERMITS - 1, limiter.availablePermits());
+
+        limiter.release();
+        scheduler.advance(EPOCH);
+        assertEquals(PERMITS, limiter.availablePermits());
+    }
+
+    @Test
+    public void starvedRequestsTakeReservedPermits() throws Exception {
+        final ManualScheduler scheduler = new ManualScheduler();
+        final FixedWindowRateLimiter limiter = limiter(scheduler);
+        limiter.setReserves(ImmutableMap.of(Priority.INTERACTIVE, 0.2));
+        assertEquals(PERMITS - 2, acquireAll(limiter, Priority.NORMAL));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final long scheduled = scheduler.scheduled();
+            final Future<Boolean> normal = acquireLater(executor, limiter, Priority.NORMAL, 2 * EPOCH);
+            scheduler.awaitScheduled(scheduled + 2L);
+
+            // The window drains at the end of the epoch, so the permit that frees up next would be reserved if the request hadn't waited that long
+            scheduler.advance(EPOCH);
+            assertFalse(normal.isDone());
+            limiter.setPermits(PERMITS + 1);
+            assertTrue(normal.get());
+            assertEquals(0, limiter.availablePermits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void timedOutRequestsLeaveTheQueue() throws Exception {
+        final ManualScheduler scheduler = new ManualScheduler();
+        final FixedWindowRateLimiter limiter = limiter(scheduler);
+        limiter.setReserves(ImmutableMap.of(Priority.NORMAL, 0.2));
+        assertEquals(PERMITS, acquireAll(limiter, Priority.NORMAL));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final long scheduled = scheduler.scheduled();
+            final Future<Boolean> normal = acquireLater(executor, limiter, Priority.NORMAL, 100L);
+            scheduler.awaitScheduled(scheduled + 2L);
+            scheduler.advance(100L);
+            assertFalse(normal.get());
+
+            // It doesn't hold the next permit back from lower priorities once it's gone
+            limiter.setPermits(PERMITS + 3);
+            assertEquals(1, acquireAll(limiter, Priority.BULK));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.merakianalytics.orianna.datapipeline.proxy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import com.google.common.collect.ImmutableMap;
+import com.merakianalytics.orianna.datapipeline.common.QueryValidationException;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.dto.status.ShardStatus;
+
+public class ProxyProtocolTest {
+    private static ShardStatus status(final String name) {
+        final ShardStatus status = new ShardStatus();
+        status.setName(name);
+        status.setPlatform(Platform.NORTH_AMERICA.getTag());
+        status.setLocales(Arrays.asList("en_US"));
+        return status;
+    }
+
+    @Test
+    public void equalQueriesEncodeEqually() {
+        final Set<Long> ascending = new LinkedHashSet<>();
+        final Set<Long> descending = new LinkedHashSet<>();
+        for(long i = 0L; i < 50L; i++) {
+            ascending.add(i * 7919L);
+            descending.add((49L - i) * 7919L);
+        }
+
+        final Map<String, Object> first = new LinkedHashMap<>();
+        first.put("platform", Platform.NORTH_AMERICA);
+        first.put("ids", ascending);
+        final Map<String, Object> second = new LinkedHashMap<>();
+        second.put("ids", descending);
+        second.put("platform", Platform.NORTH_AMERICA);
+
+        assertArrayEquals(ProxyProtocol.encodeRequest(ShardStatus.class, first), ProxyProtocol.encodeRequest(ShardStatus.class, second));
+    }
+
+    @Test
+    public void onlyDtoTypesAreDecoded() {
+        final byte[] core = ProxyProtocol.encodeRequest(com.merakianalytics.orianna.types.core.status.ShardStatus.class,
+            ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA));
+        assertThrows(QueryValidationException.class, new Executable() {
+            @Override
+            public void execute() {
+                ProxyProtocol.decodeRequest(core);
+            }
+        });
+
+        final byte[] other = ProxyProtocol.encodeRequest(String.class, ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA));
+        assertThrows(QueryValidationException.class, new Executable() {
+            @Override
+            public void execute() {
+                ProxyProtocol.decodeRequest(other);
+            }
+        });
+    }
+
+    @Test
+    public void requestsRoundTrip() {
+        final Map<String, Object> query = new HashMap<>();
+        query.put("platform", Platform.KOREA);
+        query.put("id", 12345L);
+        query.put("count", 7);
+        query.put("name", "Faker");
+        query.put("ranked", true);
+        query.put("ratio", 0.75);
+        query.put("ids", new HashSet<>(Arrays.asList(3L, 1L, 2L)));
+        query.put("names", Arrays.asList("b", "a"));
+        query.put("missing", null);
+
+        final ProxyProtocol.Request request = ProxyProtocol.decodeRequest(ProxyProtocol.encodeRequest(ShardStatus.class, query));
+        assertSame(ShardStatus.class, request.getType());
+        assertEquals(query, request.getQuery());
+        // Lists keep their order
+        assertEquals(Arrays.asList("b", "a"), request.getQuery().get("names"));
+    }
+
+    @Test
+    public void resultsRoundTrip() {
+        final ShardStatus first = status("North America");
+        final ShardStatus third = status("Also North America");
+
+        final List<ShardStatus> results = ProxyProtocol.decodeResults(ShardStatus.class,
+            ProxyProtocol.encodeResults(Arrays.asList(first, null, third).iterator()));
+        assertEquals(3, results.size());
+        assertEquals(first, results.get(0));
+        assertNull(results.get(1));
+        assertEquals(third, results.get(2));
+    }
+
+    @Test
+    public void unsupportedValuesAreRejected() {
+        assertThrows(QueryValidationException.class, new Executable() {
+            @Override
+            public void execute() {
+                ProxyProtocol.encodeRequest(ShardStatus.class, ImmutableMap.<String, Object> of("platform", new Object()));
+            }
+        });
+        assertThrows(QueryValidationException.class, new Executable() {
+            @Override
+            public void execute() {
+                ProxyProtocol.decodeRequest(new byte[] {(byte)0xc1});
+            }
+        });
+    }
+}
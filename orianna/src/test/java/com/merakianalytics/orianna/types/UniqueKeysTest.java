@@ -0,0 +1,105 @@
+package com.merakianalytics.orianna.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.merakianalytics.orianna.types.common.Platform;
+import com.merakianalytics.orianna.types.dto.status.ShardStatus;
+
+public class UniqueKeysTest {
+    private static Map<String, Object> championQuery(final Set<String> includedData) {
+        final Map<String, Object> query = new HashMap<>();
+        query.put("platform", Platform.NORTH_AMERICA);
+        query.put("version", "8.15.1");
+        query.put("locale", "en_US");
+        query.put("id", 61);
+        query.put("includedData", includedData);
+        return query;
+    }
+
+    @Test
+    public void differentQueriesGiveDifferentKeys() {
+        final UniqueKeys.Key key = UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", 1L));
+
+        assertNotEquals(key, UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", 2L)));
+        assertNotEquals(key, UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.EUROPE_WEST, "id", 1L)));
+        assertNotEquals(key, UniqueKeys.forSummonerQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", 1L)));
+        assertNotEquals(UniqueKeys.forChampionDtoQuery(championQuery(ImmutableSet.of("all"))),
+            UniqueKeys.forChampionDtoQuery(championQuery(ImmutableSet.of("image"))));
+    }
+
+    @Test
+    public void equalSetsGiveEqualKeys() {
+        final Set<String> reversed = new LinkedHashSet<>();
+        reversed.add("stats");
+        reversed.add("image");
+        reversed.add("allytips");
+        final ImmutableSet<String> set = ImmutableSet.of("allytips", "image", "stats");
+
+        final UniqueKeys.Key key = UniqueKeys.forChampionDtoQuery(championQuery(set));
+        assertEquals(key, UniqueKeys.forChampionDtoQuery(championQuery(reversed)));
+        // The second lookup of the same set comes from the set hash cache
+        assertEquals(key, UniqueKeys.forChampionDtoQuery(championQuery(set)));
+        assertEquals(key, UniqueKeys.forChampionDtoQuery(championQuery(ImmutableSet.of("stats", "allytips", "image"))));
+    }
+
+    @Test
+    public void intAndLongIdsGiveEqualKeys() {
+        final UniqueKeys.Key intKey = UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", 12345));
+        final UniqueKeys.Key longKey = UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA, "id", 12345L));
+
+        assertEquals(intKey, longKey);
+        assertEquals(intKey.hashCode(), longKey.hashCode());
+    }
+
+    @Test
+    public void keysAreOnlyEqualToKeys() {
+        final UniqueKeys.Key key = UniqueKeys.forShardStatusDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA));
+
+        assertFalse(key.equals(null));
+        assertFalse(key.equals(key.toString()));
+    }
+
+    @Test
+    public void objectAndQueryGiveEqualKeys() {
+        final ShardStatus status = new ShardStatus();
+        status.setPlatform(Platform.NORTH_AMERICA.getTag());
+
+        assertEquals(UniqueKeys.forShardStatusDto(status),
+            UniqueKeys.forShardStatusDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.NORTH_AMERICA)));
+    }
+
+    @Test
+    public void writtenKeysReadBackEqual() throws IOException {
+        final UniqueKeys.Key key = UniqueKeys.forSummonerDtoQuery(ImmutableMap.<String, Object> of("platform", Platform.KOREA, "name", "Faker"));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(DataOutputStream out = new DataOutputStream(bytes)) {
+            key.write(out);
+        }
+        assertEquals(16, bytes.size());
+
+        final UniqueKeys.Key read;
+        try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = UniqueKeys.Key.read(in);
+        }
+        assertEquals(key, read);
+        assertEquals(key.hashCode(), read.hashCode());
+        assertEquals(key.toString(), read.toString());
+    }
+}